@@ -0,0 +1,118 @@
+package jadx.cli;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import jadx.api.JadxArgs;
+import jadx.api.JadxDecompiler;
+import jadx.api.impl.NoOpCodeCache;
+import jadx.core.utils.exceptions.JadxRuntimeException;
+import jadx.core.utils.files.FileUtils;
+import jadx.plugins.tools.JadxExternalPluginsLoader;
+
+/**
+ * Decompile many inputs in one JVM.
+ * Plugins loaded only once and threads count from args used as a global budget:
+ * it is split between inputs processed at the same time.
+ */
+public class CorpusMode {
+	private static final Logger LOG = LoggerFactory.getLogger(CorpusMode.class);
+
+	public static int process(JadxCLIArgs cliArgs, List<File> inputs, File outDir, int parallelInputs) {
+		if (inputs.isEmpty()) {
+			LOG.error("No inputs for corpus mode");
+			return 1;
+		}
+		int threads = cliArgs.getThreadsCount();
+		int inputsThreads = Math.max(1, Math.min(Math.min(parallelInputs, threads), inputs.size()));
+		int threadsPerInput = Math.max(1, threads / inputsThreads);
+		LOG.info("Processing {} inputs, parallel inputs: {}, threads per input: {}",
+				inputs.size(), inputsThreads, threadsPerInput);
+
+		List<File> outDirs = makeOutDirs(inputs, outDir);
+		SharedPluginsLoader pluginsLoader = new SharedPluginsLoader(new JadxExternalPluginsLoader());
+		ExecutorService executor = Executors.newFixedThreadPool(inputsThreads);
+		try {
+			List<Future<Boolean>> futures = new ArrayList<>(inputs.size());
+			for (int i = 0; i < inputs.size(); i++) {
+				File input = inputs.get(i);
+				File inputOutDir = outDirs.get(i);
+				futures.add(executor.submit(() -> processInput(cliArgs, pluginsLoader, input, inputOutDir, threadsPerInput)));
+			}
+			int failed = 0;
+			for (Future<Boolean> future : futures) {
+				if (!future.get()) {
+					failed++;
+				}
+			}
+			if (failed != 0) {
+				LOG.error("Corpus processing finished, failed inputs: {} of {}", failed, inputs.size());
+				return 1;
+			}
+			LOG.info("done");
+			return 0;
+		} catch (Exception e) {
+			throw new JadxRuntimeException("Corpus processing failed", e);
+		} finally {
+			executor.shutdownNow();
+			pluginsLoader.closeShared();
+		}
+	}
+
+	private static boolean processInput(JadxCLIArgs cliArgs, SharedPluginsLoader pluginsLoader,
+			File input, File outDir, int threadsCount) {
+		try {
+			JadxArgs jadxArgs = cliArgs.toJadxArgs();
+			jadxArgs.setInputFile(input);
+			jadxArgs.setRootDir(outDir);
+			jadxArgs.setThreadsCount(threadsCount);
+			jadxArgs.setCodeCache(new NoOpCodeCache());
+			jadxArgs.setPluginLoader(pluginsLoader);
+			JadxCLI.initCodeWriterProvider(jadxArgs);
+			try (JadxDecompiler jadx = new JadxDecompiler(jadxArgs)) {
+				jadx.load();
+				if (JadxCLI.checkForErrors(jadx)) {
+					return false;
+				}
+				jadx.save();
+				int errorsCount = jadx.getErrorsCount();
+				if (errorsCount != 0) {
+					LOG.warn("Input processed with errors, count: {}, input: {}", errorsCount, input);
+				} else {
+					LOG.info("Input processed: {}", input);
+				}
+			}
+			return true;
+		} catch (Exception e) {
+			LOG.error("Failed to process input: {}", input, e);
+			return false;
+		}
+	}
+
+	/**
+	 * Use input file name as output dir name, add index for duplicated names
+	 */
+	private static List<File> makeOutDirs(List<File> inputs, File outDir) {
+		List<File> outDirs = new ArrayList<>(inputs.size());
+		Set<String> usedNames = new HashSet<>();
+		for (File input : inputs) {
+			String baseName = FileUtils.getPathBaseName(input.toPath());
+			String name = baseName;
+			int k = 1;
+			while (!usedNames.add(name)) {
+				name = baseName + '-' + k++;
+			}
+			outDirs.add(new File(outDir, name));
+		}
+		return outDirs;
+	}
+}
@@ -88,6 +88,10 @@ public List<String> getUnknownOptions() {
 		return jc.getUnknownOptions();
 	}
 
+	public JadxCLIArgs getArgsObj() {
+		return argsObj;
+	}
+
 	public void printUsage() {
 		LogHelper.setLogLevel(LogHelper.LogLevelEnum.ERROR); // mute logger while printing help
 
@@ -121,6 +125,7 @@ public void printUsage() {
 		out.println("  jadx --rename-flags \"valid, printable\" classes.dex");
 		out.println("  jadx --log-level ERROR app.apk");
 		out.println("  jadx -Pdex-input.verify-checksum=no app.apk");
+		out.println("  jadx -j 16 corpus -p 4 -d out --list apks.txt");
 	}
 
 	public void printUsage(JCommander subCommander) {
@@ -1,5 +1,7 @@
 package jadx.cli;
 
+import java.nio.file.Paths;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -52,10 +54,19 @@ private static int processAndSave(JadxCLIArgs cliArgs) {
 			if (checkForErrors(jadx)) {
 				return 1;
 			}
+			String saveLibSignatures = cliArgs.getSaveLibSignatures();
+			if (saveLibSignatures != null) {
+				jadx.saveLibrarySignatures(Paths.get(saveLibSignatures));
+				return 0;
+			}
 			LogHelper.setLogLevelsForDecompileStage();
 			if (!SingleClassMode.process(jadx, cliArgs)) {
 				save(jadx);
 			}
+			String metricsFile = cliArgs.getMetricsFile();
+			if (metricsFile != null) {
+				jadx.saveMetrics(Paths.get(metricsFile));
+			}
 			int errorsCount = jadx.getErrorsCount();
 			if (errorsCount != 0) {
 				jadx.printErrorsReport();
@@ -67,7 +78,7 @@ private static int processAndSave(JadxCLIArgs cliArgs) {
 		return 0;
 	}
 
-	private static void initCodeWriterProvider(JadxArgs jadxArgs) {
+	static void initCodeWriterProvider(JadxArgs jadxArgs) {
 		switch (jadxArgs.getOutputFormat()) {
 			case JAVA:
 				jadxArgs.setCodeWriterProvider(SimpleCodeWriter::new);
@@ -79,7 +90,7 @@ private static void initCodeWriterProvider(JadxArgs jadxArgs) {
 		}
 	}
 
-	private static boolean checkForErrors(JadxDecompiler jadx) {
+	static boolean checkForErrors(JadxDecompiler jadx) {
 		if (jadx.getRoot().getClasses().isEmpty()) {
 			if (jadx.getArgs().isSkipResources()) {
 				LOG.error("Load failed! No classes for decompile!");
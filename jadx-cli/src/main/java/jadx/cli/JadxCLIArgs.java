@@ -61,6 +61,35 @@ public class JadxCLIArgs {
 	@Parameter(names = { "--output-format" }, description = "can be 'java' or 'json'")
 	protected String outputFormat = "java";
 
+	@Parameter(names = { "--json-compact" }, description = "write compact json (without indents and new lines)")
+	protected boolean jsonCompact = false;
+
+	@Parameter(
+			names = { "--code-cache-dir" },
+			description = "dir for persistent decompilation results cache, can be shared between runs and projects"
+					+ " (only for 'java' output format)"
+	)
+	protected String codeCacheDir;
+
+	@Parameter(
+			names = { "--lib-signatures" },
+			description = "files with signatures of known library classes (comma separated), matched classes will be skipped"
+	)
+	protected List<String> libSignatures = new ArrayList<>();
+
+	@Parameter(
+			names = { "--save-lib-signatures" },
+			description = "save signatures of input classes to file and exit (use library jars/aars as input to build signatures file)"
+	)
+	protected String saveLibSignatures;
+
+	@Parameter(
+			names = { "--metrics-file" },
+			description = "save per class decompilation metrics (time, memory, reloads, failures) to file,"
+					+ " format selected by extension: '.csv' or '.json'"
+	)
+	protected String metricsFile;
+
 	@Parameter(names = { "-e", "--export-gradle" }, description = "save as android gradle project")
 	protected boolean exportAsGradleProject = false;
 
@@ -169,6 +198,9 @@ public class JadxCLIArgs {
 	@Parameter(names = { "--deobf-use-sourcename" }, description = "use source file name as class name alias")
 	protected boolean deobfuscationUseSourceNameAsAlias = false;
 
+	@Parameter(names = { "--deobf-parallel" }, description = "check names and prepare aliases in parallel, result is same")
+	protected boolean deobfuscationParallel = false;
+
 	@Parameter(
 			names = { "--deobf-res-name-source" },
 			description = "better name source for resources:"
@@ -305,6 +337,9 @@ public JadxArgs toJadxArgs() {
 		args.setOutDirSrc(FileUtils.toFile(outDirSrc));
 		args.setOutDirRes(FileUtils.toFile(outDirRes));
 		args.setOutputFormat(JadxArgs.OutputFormatEnum.valueOf(outputFormat.toUpperCase()));
+		args.setJsonCompact(jsonCompact);
+		args.setSharedCodeCacheDir(FileUtils.toFile(codeCacheDir));
+		args.setLibrarySignaturesFiles(FileUtils.toFiles(FileUtils.fileNamesToPaths(libSignatures)));
 		args.setThreadsCount(threadsCount);
 		args.setSkipSources(skipSources);
 		args.setSkipResources(skipResources);
@@ -328,6 +363,7 @@ public JadxArgs toJadxArgs() {
 		args.setDeobfuscationMaxLength(deobfuscationMaxLength);
 		args.setDeobfuscationWhitelist(Arrays.asList(deobfuscationWhitelistStr.split(" ")));
 		args.setUseSourceNameAsClassAlias(deobfuscationUseSourceNameAsAlias);
+		args.setDeobfuscationParallel(deobfuscationParallel);
 		args.setUseKotlinMethodsForVarNames(useKotlinMethodsForVarNames);
 		args.setResourceNameSource(resourceNameSource);
 		args.setEscapeUnicode(escapeUnicode);
@@ -471,6 +507,10 @@ public boolean isDeobfuscationUseSourceNameAsAlias() {
 		return deobfuscationUseSourceNameAsAlias;
 	}
 
+	public boolean isDeobfuscationParallel() {
+		return deobfuscationParallel;
+	}
+
 	public ResourceNameSource getResourceNameSource() {
 		return resourceNameSource;
 	}
@@ -503,6 +543,26 @@ public boolean isRespectBytecodeAccessModifiers() {
 		return respectBytecodeAccessModifiers;
 	}
 
+	public boolean isJsonCompact() {
+		return jsonCompact;
+	}
+
+	public String getCodeCacheDir() {
+		return codeCacheDir;
+	}
+
+	public List<String> getLibSignatures() {
+		return libSignatures;
+	}
+
+	public String getSaveLibSignatures() {
+		return saveLibSignatures;
+	}
+
+	public String getMetricsFile() {
+		return metricsFile;
+	}
+
 	public boolean isExportAsGradleProject() {
 		return exportAsGradleProject;
 	}
@@ -5,6 +5,7 @@
 
 import com.beust.jcommander.JCommander;
 
+import jadx.cli.commands.CommandCorpus;
 import jadx.cli.commands.CommandPlugins;
 import jadx.cli.commands.ICommand;
 import jadx.core.utils.exceptions.JadxArgsValidateException;
@@ -14,6 +15,7 @@ public class JadxCLICommands {
 
 	static {
 		JadxCLICommands.register(new CommandPlugins());
+		JadxCLICommands.register(new CommandCorpus());
 	}
 
 	public static void register(ICommand command) {
@@ -0,0 +1,57 @@
+package jadx.cli;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import jadx.api.plugins.JadxPlugin;
+import jadx.api.plugins.loader.JadxPluginLoader;
+import jadx.core.utils.exceptions.JadxRuntimeException;
+
+/**
+ * Load plugins classes once and create new plugins instances for every decompiler.
+ * Plugins jars stay opened until {@link #closeShared()} call,
+ * {@link #close()} from decompiler args is ignored.
+ */
+public class SharedPluginsLoader implements JadxPluginLoader {
+	private final JadxPluginLoader loader;
+	private List<Class<? extends JadxPlugin>> pluginClasses;
+
+	public SharedPluginsLoader(JadxPluginLoader loader) {
+		this.loader = loader;
+	}
+
+	@Override
+	public synchronized List<JadxPlugin> load() {
+		if (pluginClasses == null) {
+			List<JadxPlugin> plugins = loader.load();
+			List<Class<? extends JadxPlugin>> classes = new ArrayList<>(plugins.size());
+			for (JadxPlugin plugin : plugins) {
+				classes.add(plugin.getClass());
+			}
+			pluginClasses = classes;
+			return plugins;
+		}
+		List<JadxPlugin> list = new ArrayList<>(pluginClasses.size());
+		for (Class<? extends JadxPlugin> pluginCls : pluginClasses) {
+			try {
+				list.add(pluginCls.getDeclaredConstructor().newInstance());
+			} catch (Exception e) {
+				throw new JadxRuntimeException("Failed to create plugin instance: " + pluginCls.getName(), e);
+			}
+		}
+		return list;
+	}
+
+	@Override
+	public void close() {
+		// loaded classes used by other decompilers
+	}
+
+	public synchronized void closeShared() {
+		try {
+			loader.close();
+		} catch (Exception e) {
+			throw new JadxRuntimeException("Failed to close plugins loader", e);
+		}
+	}
+}
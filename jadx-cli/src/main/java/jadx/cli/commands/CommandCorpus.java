@@ -0,0 +1,92 @@
+package jadx.cli.commands;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.beust.jcommander.JCommander;
+import com.beust.jcommander.Parameter;
+import com.beust.jcommander.Parameters;
+
+import jadx.cli.CorpusMode;
+import jadx.cli.JCommanderWrapper;
+import jadx.cli.JadxCLIArgs;
+import jadx.cli.LogHelper;
+import jadx.core.utils.exceptions.JadxArgsValidateException;
+import jadx.core.utils.exceptions.JadxRuntimeException;
+
+@Parameters(commandDescription = "decompile many inputs in one process (set decompilation options before command)")
+public class CommandCorpus implements ICommand {
+
+	@Parameter(description = "<input files> (.apk, .dex, .jar, .class, .smali, .zip, .aar, .arsc, .aab, .xapk, .jadx.kts)")
+	protected List<String> files = new ArrayList<>();
+
+	@Parameter(names = { "-l", "--list" }, description = "file with inputs paths, one per line")
+	protected String listFile;
+
+	@Parameter(names = { "-d", "--output-dir" }, description = "output directory, every input saved into sub directory with input name")
+	protected String outDir;
+
+	@Parameter(
+			names = { "-p", "--parallel-inputs" },
+			description = "inputs processed at the same time, threads count ('-j' option) split between them"
+	)
+	protected int parallelInputs = 1;
+
+	@Parameter(names = { "-h", "--help" }, description = "print this help", help = true)
+	protected boolean printHelp = false;
+
+	@Override
+	public String name() {
+		return "corpus";
+	}
+
+	@Override
+	public void process(JCommanderWrapper<?> jcw, JCommander subCommander) {
+		if (printHelp) {
+			jcw.printUsage(subCommander);
+			return;
+		}
+		JadxCLIArgs cliArgs = jcw.getArgsObj();
+		if (outDir == null) {
+			throw new JadxArgsValidateException("Output directory not set");
+		}
+		if (cliArgs.getThreadsCount() <= 0) {
+			throw new JadxArgsValidateException("Threads count must be positive, got: " + cliArgs.getThreadsCount());
+		}
+		if (parallelInputs <= 0) {
+			throw new JadxArgsValidateException("Parallel inputs count must be positive, got: " + parallelInputs);
+		}
+		LogHelper.initLogLevel(cliArgs);
+		LogHelper.setLogLevelsForDecompileStage();
+		int result = CorpusMode.process(cliArgs, collectInputs(), new File(outDir), parallelInputs);
+		if (result != 0) {
+			// non-zero exit code for failed inputs
+			throw new JadxRuntimeException("Some inputs failed, check log for details");
+		}
+	}
+
+	private List<File> collectInputs() {
+		List<File> inputs = new ArrayList<>();
+		for (String file : files) {
+			inputs.add(new File(file));
+		}
+		if (listFile != null) {
+			try {
+				for (String line : Files.readAllLines(Paths.get(listFile), StandardCharsets.UTF_8)) {
+					String path = line.trim();
+					if (!path.isEmpty() && !path.startsWith("#")) {
+						inputs.add(new File(path));
+					}
+				}
+			} catch (IOException e) {
+				throw new JadxArgsValidateException("Failed to read inputs list file: " + listFile);
+			}
+		}
+		return inputs;
+	}
+}
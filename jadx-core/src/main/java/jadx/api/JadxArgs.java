@@ -27,6 +27,8 @@
 import jadx.api.deobf.IRenameCondition;
 import jadx.api.impl.AnnotatedCodeWriter;
 import jadx.api.impl.InMemoryCodeCache;
+import jadx.api.override.IOverrideInfoCache;
+import jadx.api.override.impl.EmptyOverrideInfoCache;
 import jadx.api.plugins.loader.JadxBasePluginLoader;
 import jadx.api.plugins.loader.JadxPluginLoader;
 import jadx.api.usage.IUsageInfoCache;
@@ -57,12 +59,24 @@ public class JadxArgs implements Closeable {
 
 	private ICodeCache codeCache = new InMemoryCodeCache();
 
+	/**
+	 * Dir for persistent decompilation results cache, can be shared between runs and projects.
+	 * Set {@code null} to disable.
+	 * Works only with code writer without metadata support (like {@link jadx.api.impl.SimpleCodeWriter}).
+	 */
+	private File sharedCodeCacheDir = null;
+
 	/**
 	 * Usage data cache. Saves use places of classes, methods and fields between code reloads.
 	 * Can be set to {@link jadx.api.usage.impl.EmptyUsageInfoCache} if code reload not needed.
 	 */
 	private IUsageInfoCache usageInfoCache = new InMemoryUsageInfoCache();
 
+	/**
+	 * Methods override data cache. Allow to skip override pass on next load of same inputs.
+	 */
+	private IOverrideInfoCache overrideInfoCache = new EmptyOverrideInfoCache();
+
 	private Function<JadxArgs, ICodeWriter> codeWriterProvider = AnnotatedCodeWriter::new;
 
 	private int threadsCount = DEFAULT_THREADS_COUNT;
@@ -94,6 +108,12 @@ public class JadxArgs implements Closeable {
 	 */
 	private boolean includeDependencies = false;
 
+	/**
+	 * Files with signatures of known library classes (see {@link jadx.core.dex.nodes.utils.LibrarySignatures}).
+	 * Matched classes will not be saved.
+	 */
+	private List<File> librarySignaturesFiles = new ArrayList<>();
+
 	private Path userRenamesMappingsPath = null;
 	private UserRenamesMappingsMode userRenamesMappingsMode = UserRenamesMappingsMode.getDefault();
 
@@ -112,6 +132,13 @@ public class JadxArgs implements Closeable {
 	 */
 	private List<String> deobfuscationWhitelist = DeobfWhitelist.DEFAULT_LIST;
 
+	/**
+	 * Check rename conditions and prepare aliases for classes in parallel.
+	 * Indexes still assigned in classes order, so result is same as in sequential mode.
+	 * Rename condition should be thread-safe and don't depend on other nodes renames.
+	 */
+	private boolean deobfuscationParallel = false;
+
 	/**
 	 * Nodes alias provider for deobfuscator and rename visitor
 	 */
@@ -142,6 +169,7 @@ public enum OutputFormatEnum {
 	}
 
 	private OutputFormatEnum outputFormat = OutputFormatEnum.JAVA;
+	private boolean jsonCompact = false;
 
 	private DecompilationMode decompilationMode = DecompilationMode.AUTO;
 
@@ -194,6 +222,9 @@ public void close() {
 			if (usageInfoCache != null) {
 				usageInfoCache.close();
 			}
+			if (overrideInfoCache != null) {
+				overrideInfoCache.close();
+			}
 			if (pluginLoader != null) {
 				pluginLoader.close();
 			}
@@ -202,6 +233,7 @@ public void close() {
 		} finally {
 			codeCache = null;
 			usageInfoCache = null;
+			overrideInfoCache = null;
 		}
 	}
 
@@ -375,6 +407,14 @@ public boolean isIncludeDependencies() {
 		return includeDependencies;
 	}
 
+	public List<File> getLibrarySignaturesFiles() {
+		return librarySignaturesFiles;
+	}
+
+	public void setLibrarySignaturesFiles(List<File> librarySignaturesFiles) {
+		this.librarySignaturesFiles = librarySignaturesFiles;
+	}
+
 	public Predicate<String> getClassFilter() {
 		return classFilter;
 	}
@@ -457,6 +497,14 @@ public void setDeobfuscationWhitelist(List<String> deobfuscationWhitelist) {
 		this.deobfuscationWhitelist = deobfuscationWhitelist;
 	}
 
+	public boolean isDeobfuscationParallel() {
+		return deobfuscationParallel;
+	}
+
+	public void setDeobfuscationParallel(boolean deobfuscationParallel) {
+		this.deobfuscationParallel = deobfuscationParallel;
+	}
+
 	public File getGeneratedRenamesMappingFile() {
 		return generatedRenamesMappingFile;
 	}
@@ -589,6 +637,17 @@ public void setOutputFormat(OutputFormatEnum outputFormat) {
 		this.outputFormat = outputFormat;
 	}
 
+	public boolean isJsonCompact() {
+		return jsonCompact;
+	}
+
+	/**
+	 * Write json output without indents and new lines
+	 */
+	public void setJsonCompact(boolean jsonCompact) {
+		this.jsonCompact = jsonCompact;
+	}
+
 	public DecompilationMode getDecompilationMode() {
 		return decompilationMode;
 	}
@@ -605,6 +664,14 @@ public void setCodeCache(ICodeCache codeCache) {
 		this.codeCache = codeCache;
 	}
 
+	public File getSharedCodeCacheDir() {
+		return sharedCodeCacheDir;
+	}
+
+	public void setSharedCodeCacheDir(File sharedCodeCacheDir) {
+		this.sharedCodeCacheDir = sharedCodeCacheDir;
+	}
+
 	public Function<JadxArgs, ICodeWriter> getCodeWriterProvider() {
 		return codeWriterProvider;
 	}
@@ -621,6 +688,14 @@ public void setUsageInfoCache(IUsageInfoCache usageInfoCache) {
 		this.usageInfoCache = usageInfoCache;
 	}
 
+	public IOverrideInfoCache getOverrideInfoCache() {
+		return overrideInfoCache;
+	}
+
+	public void setOverrideInfoCache(IOverrideInfoCache overrideInfoCache) {
+		this.overrideInfoCache = overrideInfoCache;
+	}
+
 	public ICodeData getCodeData() {
 		return codeData;
 	}
@@ -749,6 +824,7 @@ public String toString() {
 				+ ", skipResources=" + skipResources
 				+ ", skipSources=" + skipSources
 				+ ", includeDependencies=" + includeDependencies
+				+ ", librarySignaturesFiles=" + librarySignaturesFiles
 				+ ", userRenamesMappingsPath=" + userRenamesMappingsPath
 				+ ", userRenamesMappingsMode=" + userRenamesMappingsMode
 				+ ", deobfuscationOn=" + deobfuscationOn
@@ -762,6 +838,7 @@ public String toString() {
 				+ ", deobfuscationMinLength=" + deobfuscationMinLength
 				+ ", deobfuscationMaxLength=" + deobfuscationMaxLength
 				+ ", deobfuscationWhitelist=" + deobfuscationWhitelist
+				+ ", deobfuscationParallel=" + deobfuscationParallel
 				+ ", escapeUnicode=" + escapeUnicode
 				+ ", replaceConsts=" + replaceConsts
 				+ ", respectBytecodeAccModifiers=" + respectBytecodeAccModifiers
@@ -770,8 +847,10 @@ public String toString() {
 				+ ", fsCaseSensitive=" + fsCaseSensitive
 				+ ", renameFlags=" + renameFlags
 				+ ", outputFormat=" + outputFormat
+				+ ", jsonCompact=" + jsonCompact
 				+ ", commentsLevel=" + commentsLevel
 				+ ", codeCache=" + codeCache
+				+ ", sharedCodeCacheDir=" + sharedCodeCacheDir
 				+ ", codeWriter=" + codeWriterProvider.apply(this).getClass().getSimpleName()
 				+ ", useDxInput=" + useDxInput
 				+ ", pluginOptions=" + pluginOptions
@@ -20,11 +20,13 @@
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import jadx.api.impl.SharedDiskCodeCache;
 import jadx.api.metadata.ICodeAnnotation;
 import jadx.api.metadata.ICodeNodeRef;
 import jadx.api.metadata.annotations.NodeDeclareRef;
 import jadx.api.metadata.annotations.VarNode;
 import jadx.api.metadata.annotations.VarRef;
+import jadx.api.metrics.DecompileMetrics;
 import jadx.api.plugins.CustomResourcesLoader;
 import jadx.api.plugins.JadxPlugin;
 import jadx.api.plugins.events.IJadxEvents;
@@ -41,6 +43,8 @@
 import jadx.core.dex.nodes.MethodNode;
 import jadx.core.dex.nodes.PackageNode;
 import jadx.core.dex.nodes.RootNode;
+import jadx.core.dex.nodes.utils.ClassesReloader;
+import jadx.core.dex.nodes.utils.LibrarySignatures;
 import jadx.core.dex.visitors.SaveCode;
 import jadx.core.export.ExportGradleTask;
 import jadx.core.plugins.JadxPluginManager;
@@ -93,6 +97,7 @@ public final class JadxDecompiler implements Closeable {
 	private List<ResourceFile> resources;
 
 	private BinaryXMLParser binaryXmlParser;
+	private @Nullable ClassesReloader classesReloader;
 
 	private final IDecompileScheduler decompileScheduler = new DecompilerScheduler();
 	private final JadxEventsImpl events = new JadxEventsImpl();
@@ -122,10 +127,12 @@ public void load() {
 		root.setDecompilerRef(this);
 		root.mergePasses(customPasses);
 		root.loadClasses(loadedInputs);
+		markLibraryClasses();
 		root.initClassPath();
 		root.loadResources(resourcesLoader, getResources());
 		root.runPreDecompileStage();
 		root.initPasses();
+		initSharedCodeCache();
 		loadFinished();
 	}
 
@@ -141,6 +148,56 @@ public void reloadPasses() {
 		loadFinished();
 	}
 
+	/**
+	 * Load input files again and update only changed classes, without full reload.
+	 * Changed classes and its users are unloaded and removed from code cache,
+	 * other classes are kept as is.
+	 * <br>
+	 * Only changes in methods code are supported.
+	 *
+	 * @return updated top level classes or {@code null} if full reload ({@link #load()}) is required
+	 */
+	public synchronized @Nullable List<JavaClass> reloadChangedClasses() {
+		if (root == null) {
+			return null;
+		}
+		List<ICodeLoader> prevInputs = new ArrayList<>(loadedInputs);
+		loadInputFiles();
+		List<ClassNode> updated;
+		try {
+			if (classesReloader == null) {
+				classesReloader = new ClassesReloader(root);
+			}
+			updated = classesReloader.reload(prevInputs, loadedInputs);
+		} catch (Exception e) {
+			LOG.warn("Failed to reload changed classes", e);
+			updated = null;
+		}
+		// custom loaders are same in both lists
+		prevInputs.removeAll(customCodeLoaders);
+		if (updated == null || updated.isEmpty()) {
+			// new inputs not used
+			loadedInputs.removeAll(customCodeLoaders);
+			closeInputs();
+			loadedInputs.addAll(prevInputs);
+			loadedInputs.addAll(customCodeLoaders);
+			return updated == null ? null : Collections.emptyList();
+		}
+		// unchanged classes still reference data from previous inputs, keep only used inputs
+		Set<ICodeLoader> usedInputs = classesReloader.getUsedInputs();
+		List<ICodeLoader> allInputs = new ArrayList<>(prevInputs);
+		allInputs.addAll(loadedInputs);
+		loadedInputs.clear();
+		for (ICodeLoader input : allInputs) {
+			if (usedInputs.contains(input) || customCodeLoaders.contains(input)) {
+				loadedInputs.add(input);
+			} else {
+				closeInput(input);
+			}
+		}
+		return Utils.collectionMap(updated, this::convertClassNode);
+	}
+
 	private void loadInputFiles() {
 		loadedInputs.clear();
 		List<Path> inputPaths = Utils.collectionMap(args.getInputFiles(), File::toPath);
@@ -166,6 +223,7 @@ private void loadInputFiles() {
 
 	private void reset() {
 		root = null;
+		classesReloader = null;
 		classes = null;
 		resources = null;
 		binaryXmlParser = null;
@@ -181,16 +239,18 @@ public void close() {
 	}
 
 	private void closeInputs() {
-		loadedInputs.forEach(load -> {
-			try {
-				load.close();
-			} catch (Exception e) {
-				LOG.error("Failed to close input", e);
-			}
-		});
+		loadedInputs.forEach(JadxDecompiler::closeInput);
 		loadedInputs.clear();
 	}
 
+	private static void closeInput(ICodeLoader input) {
+		try {
+			input.close();
+		} catch (Exception e) {
+			LOG.error("Failed to close input", e);
+		}
+	}
+
 	private void closeLoaders() {
 		for (CustomResourcesLoader resourcesLoader : customResourcesLoaders) {
 			try {
@@ -216,6 +276,43 @@ private void loadPlugins() {
 		}
 	}
 
+	private void markLibraryClasses() {
+		List<File> files = args.getLibrarySignaturesFiles();
+		if (files != null && !files.isEmpty()) {
+			LibrarySignatures.markLibraryClasses(root, Utils.collectionMap(files, File::toPath));
+		}
+	}
+
+	/**
+	 * Save signatures of loaded classes, can be used to build known libraries database
+	 * for {@link JadxArgs#setLibrarySignaturesFiles(List)}
+	 */
+	public void saveLibrarySignatures(Path file) {
+		LibrarySignatures.save(root, file);
+	}
+
+	private void initSharedCodeCache() {
+		ICodeCache codeCache = args.getCodeCache();
+		if (codeCache instanceof SharedDiskCodeCache) {
+			// drop cache from previous load
+			codeCache = ((SharedDiskCodeCache) codeCache).getBackCache();
+			args.setCodeCache(codeCache);
+		}
+		File cacheDir = args.getSharedCodeCacheDir();
+		if (cacheDir == null) {
+			return;
+		}
+		if (args.getOutputFormat() != JadxArgs.OutputFormatEnum.JAVA) {
+			LOG.warn("Shared code cache disabled: supported only for 'java' output format");
+			return;
+		}
+		if (root.makeCodeWriter().isMetadataSupported()) {
+			LOG.warn("Shared code cache disabled: not supported for code writer with metadata");
+			return;
+		}
+		args.setCodeCache(new SharedDiskCodeCache(root, cacheDir.toPath(), codeCache));
+	}
+
 	private void loadFinished() {
 		LOG.debug("Load finished");
 		List<JadxPass> list = customPasses.get(JadxAfterLoadPass.TYPE);
@@ -388,6 +485,10 @@ private List<JavaClass> filterClasses(List<JavaClass> classes) {
 			if (clsNode.contains(AFlag.DONT_GENERATE)) {
 				continue;
 			}
+			if (clsNode.contains(AFlag.LIBRARY_CLASS)) {
+				clsNode.add(AFlag.DONT_GENERATE);
+				continue;
+			}
 			if (classFilter != null && !classFilter.test(clsNode.getClassInfo().getFullName())) {
 				if (!args.isIncludeDependencies()) {
 					clsNode.add(AFlag.DONT_GENERATE);
@@ -451,6 +552,23 @@ public int getWarnsCount() {
 		return root.getErrorsCounter().getWarnsCount();
 	}
 
+	/**
+	 * Per class decompilation metrics collected since last load
+	 */
+	public DecompileMetrics getMetrics() {
+		if (root == null) {
+			return new DecompileMetrics();
+		}
+		return root.getMetrics();
+	}
+
+	/**
+	 * Save decompilation metrics to file, use '.csv' extension for CSV format, JSON used for others
+	 */
+	public void saveMetrics(Path file) {
+		getMetrics().save(file);
+	}
+
 	public void printErrorsReport() {
 		if (root == null) {
 			return;
@@ -532,28 +650,19 @@ synchronized JavaPackage convertPackageNode(PackageNode pkg) {
 
 	@Nullable
 	public JavaClass searchJavaClassByOrigFullName(String fullName) {
-		return getRoot().getClasses().stream()
-				.filter(cls -> cls.getClassInfo().getFullName().equals(fullName))
-				.findFirst()
-				.map(this::convertClassNode)
-				.orElse(null);
+		ClassNode node = searchClassNodeByOrigFullName(fullName);
+		return node == null ? null : convertClassNode(node);
 	}
 
 	@Nullable
 	public ClassNode searchClassNodeByOrigFullName(String fullName) {
-		return getRoot().getClasses().stream()
-				.filter(cls -> cls.getClassInfo().getFullName().equals(fullName))
-				.findFirst()
-				.orElse(null);
+		return getRoot().getNamesIndex().getClassByOrigFullName(fullName);
 	}
 
 	// returns parent if class contains DONT_GENERATE flag.
 	@Nullable
 	public JavaClass searchJavaClassOrItsParentByOrigFullName(String fullName) {
-		ClassNode node = getRoot().getClasses().stream()
-				.filter(cls -> cls.getClassInfo().getFullName().equals(fullName))
-				.findFirst()
-				.orElse(null);
+		ClassNode node = searchClassNodeByOrigFullName(fullName);
 		if (node != null) {
 			if (node.contains(AFlag.DONT_GENERATE)) {
 				return convertClassNode(node.getTopParentClass());
@@ -566,11 +675,8 @@ public JavaClass searchJavaClassOrItsParentByOrigFullName(String fullName) {
 
 	@Nullable
 	public JavaClass searchJavaClassByAliasFullName(String fullName) {
-		return getRoot().getClasses().stream()
-				.filter(cls -> cls.getClassInfo().getAliasFullName().equals(fullName))
-				.findFirst()
-				.map(this::convertClassNode)
-				.orElse(null);
+		ClassNode node = getRoot().getNamesIndex().getClassByAliasFullName(fullName);
+		return node == null ? null : convertClassNode(node);
 	}
 
 	@Nullable
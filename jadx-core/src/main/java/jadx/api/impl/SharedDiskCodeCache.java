@@ -0,0 +1,609 @@
+package jadx.api.impl;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import jadx.api.ICodeCache;
+import jadx.api.ICodeInfo;
+import jadx.api.data.ICodeComment;
+import jadx.api.data.ICodeData;
+import jadx.api.plugins.input.data.IClassData;
+import jadx.core.Jadx;
+import jadx.core.dex.info.ConstStorage;
+import jadx.core.dex.info.FieldInfo;
+import jadx.core.dex.info.MethodInfo;
+import jadx.core.dex.instructions.args.ArgType;
+import jadx.core.dex.nodes.ClassNode;
+import jadx.core.dex.nodes.FieldNode;
+import jadx.core.dex.nodes.IFieldInfoRef;
+import jadx.core.dex.nodes.MethodNode;
+import jadx.core.dex.nodes.RootNode;
+import jadx.core.utils.files.FileUtils;
+
+/**
+ * Persistent decompilation results cache, can be shared between runs and projects.
+ * <br>
+ * Code stored by content key: hash of class data (with inner classes), dependencies data,
+ * classes names (including aliases), jadx version and code options.
+ * So identical classes (i.e. same library used in different apps) reuse cached code.
+ * Constant fields lookups depend on all loaded classes and resources, so such lookups are recorded
+ * on decompilation and checked again before cached code is used.
+ * <br>
+ * Only code string is stored (without metadata), so cache can be used only with {@link SimpleCodeWriter}
+ * and 'java' output format.
+ * Code for classes with errors is not stored.
+ */
+public class SharedDiskCodeCache extends DelegateCodeCache {
+	private static final Logger LOG = LoggerFactory.getLogger(SharedDiskCodeCache.class);
+
+	private static final int DATA_FORMAT_VERSION = 1;
+	private static final byte[] FILE_HEADER = "jadxcc".getBytes(StandardCharsets.US_ASCII);
+
+	private final RootNode root;
+	private final Path baseDir;
+	private final String argsHash;
+	private final Map<ClassNode, List<String>> commentsMap;
+
+	private final Map<ClassNode, String> contentHashes = new ConcurrentHashMap<>();
+	private final Map<ClassNode, Set<ConstLookup>> constLookups = new ConcurrentHashMap<>();
+	private final Set<ClassNode> unsupportedLookups = ConcurrentHashMap.newKeySet();
+	/**
+	 * Keys for classes not found in cache, used to store code after decompilation,
+	 * because aliases can be changed by decompilation passes
+	 */
+	private final Map<String, String> pendingKeys = new ConcurrentHashMap<>();
+
+	public SharedDiskCodeCache(RootNode root, Path cacheDir, ICodeCache backCache) {
+		super(backCache);
+		this.root = root;
+		this.baseDir = cacheDir;
+		this.argsHash = DATA_FORMAT_VERSION
+				+ ":" + Jadx.getVersion()
+				+ ":" + root.getArgs().getOutputFormat()
+				+ ":" + root.getArgs().makeCodeArgsHash(root.getDecompiler());
+		this.commentsMap = buildCommentsMap(root);
+		root.getConstValues().setLookupListener(this::onConstLookup);
+		LOG.debug("Shared code cache dir: {}", cacheDir.toAbsolutePath());
+	}
+
+	public ICodeCache getBackCache() {
+		return backCache;
+	}
+
+	@Override
+	public @NotNull ICodeInfo get(String clsFullName) {
+		ICodeInfo codeInfo = backCache.get(clsFullName);
+		if (codeInfo != ICodeInfo.EMPTY) {
+			return codeInfo;
+		}
+		ClassNode cls = root.resolveRawClass(clsFullName);
+		if (cls == null) {
+			return ICodeInfo.EMPTY;
+		}
+		String key = buildKey(cls);
+		if (key == null) {
+			return ICodeInfo.EMPTY;
+		}
+		String code = load(cls, key);
+		if (code == null) {
+			pendingKeys.put(clsFullName, key);
+			return ICodeInfo.EMPTY;
+		}
+		constLookups.remove(cls);
+		ICodeInfo cachedCode = new SimpleCodeInfo(code);
+		backCache.add(clsFullName, cachedCode);
+		return cachedCode;
+	}
+
+	@Override
+	public @Nullable String getCode(String clsFullName) {
+		ICodeInfo codeInfo = get(clsFullName);
+		if (codeInfo == ICodeInfo.EMPTY) {
+			return null;
+		}
+		return codeInfo.getCodeStr();
+	}
+
+	@Override
+	public boolean contains(String clsFullName) {
+		return get(clsFullName) != ICodeInfo.EMPTY;
+	}
+
+	@Override
+	public void add(String clsFullName, ICodeInfo codeInfo) {
+		backCache.add(clsFullName, codeInfo);
+		String pendingKey = pendingKeys.remove(clsFullName);
+		ClassNode cls = root.resolveRawClass(clsFullName);
+		if (cls == null || codeInfo.hasMetadata()) {
+			return;
+		}
+		Set<ConstLookup> lookups = constLookups.remove(cls);
+		if (unsupportedLookups.remove(cls) || hasErrors(cls)) {
+			return;
+		}
+		String key = pendingKey != null ? pendingKey : buildKey(cls);
+		if (key != null) {
+			save(key, lookups == null ? Collections.emptySet() : lookups, codeInfo.getCodeStr());
+		}
+	}
+
+	@Override
+	public void remove(String clsFullName) {
+		backCache.remove(clsFullName);
+		pendingKeys.remove(clsFullName);
+		ClassNode cls = root.resolveRawClass(clsFullName);
+		if (cls != null) {
+			// class data can be changed (i.e. on reload)
+			for (ClassNode innerCls : collectClasses(cls)) {
+				contentHashes.remove(innerCls);
+			}
+			constLookups.remove(cls);
+			unsupportedLookups.remove(cls);
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		root.getConstValues().setLookupListener(null);
+		contentHashes.clear();
+		constLookups.clear();
+		unsupportedLookups.clear();
+		pendingKeys.clear();
+		super.close();
+	}
+
+	private @Nullable String buildKey(ClassNode cls) {
+		StringBuilder sb = new StringBuilder();
+		sb.append(argsHash).append('\n');
+		if (!appendClassState(sb, cls)) {
+			return null;
+		}
+		appendUsage(sb, cls);
+		for (String comment : commentsMap.getOrDefault(cls, Collections.emptyList())) {
+			sb.append(comment).append('\n');
+		}
+		for (ClassNode dep : collectDependencies(cls)) {
+			if (!appendClassState(sb, dep)) {
+				return null;
+			}
+		}
+		return FileUtils.md5Sum(sb.toString());
+	}
+
+	/**
+	 * Access modifiers and anonymous classes inlining depend on usage from other classes,
+	 * add only such usage flags to not depend on actual users
+	 */
+	private static void appendUsage(StringBuilder sb, ClassNode topCls) {
+		String pkg = topCls.getPackage();
+		for (ClassNode cls : collectClasses(topCls)) {
+			boolean outside = false;
+			boolean otherPkg = false;
+			for (ClassNode useCls : cls.getUseIn()) {
+				ClassNode useTopCls = useCls.getTopParentClass();
+				if (useTopCls != topCls) {
+					outside = true;
+					otherPkg |= !useTopCls.getPackage().equals(pkg);
+				}
+			}
+			sb.append("use:").append(outside).append(':').append(otherPkg);
+			for (MethodNode mth : cls.getMethods()) {
+				for (MethodNode useMth : mth.getUseIn()) {
+					if (useMth.getParentClass().getTopParentClass() != topCls) {
+						sb.append(':').append(mth.getMethodInfo().getShortId());
+						break;
+					}
+				}
+			}
+			sb.append('\n');
+		}
+	}
+
+	/**
+	 * Dependencies with all its super types
+	 */
+	private Set<ClassNode> collectDependencies(ClassNode cls) {
+		Set<ClassNode> deps = new TreeSet<>();
+		deps.add(cls);
+		List<ClassNode> queue = new ArrayList<>();
+		for (ClassNode innerCls : collectClasses(cls)) {
+			queue.addAll(innerCls.getDependencies());
+			queue.addAll(innerCls.getCodegenDeps());
+			addSuperType(queue, innerCls.getSuperClass());
+			for (ArgType interfaceType : innerCls.getInterfaces()) {
+				addSuperType(queue, interfaceType);
+			}
+		}
+		while (!queue.isEmpty()) {
+			ClassNode depCls = queue.remove(queue.size() - 1).getTopParentClass();
+			if (!deps.add(depCls)) {
+				continue;
+			}
+			for (ClassNode innerCls : collectClasses(depCls)) {
+				addSuperType(queue, innerCls.getSuperClass());
+				for (ArgType interfaceType : innerCls.getInterfaces()) {
+					addSuperType(queue, interfaceType);
+				}
+			}
+		}
+		deps.remove(cls);
+		return deps;
+	}
+
+	private void addSuperType(List<ClassNode> queue, @Nullable ArgType type) {
+		if (type != null) {
+			ClassNode superCls = root.resolveClass(type);
+			if (superCls != null) {
+				queue.add(superCls);
+			}
+		}
+	}
+
+	private boolean appendClassState(StringBuilder sb, ClassNode topCls) {
+		for (ClassNode cls : collectClasses(topCls)) {
+			String contentHash = getContentHash(cls);
+			if (contentHash == null) {
+				return false;
+			}
+			sb.append("cls:").append(cls.getRawName())
+					.append(':').append(contentHash)
+					.append(':').append(cls.getClassInfo().getAliasFullName());
+			// members order can be changed by decompilation, so use sorted renames
+			Set<String> renames = new TreeSet<>();
+			for (FieldNode fld : cls.getFields()) {
+				FieldInfo fieldInfo = fld.getFieldInfo();
+				if (fieldInfo.hasAlias()) {
+					renames.add(fieldInfo.getShortId() + '=' + fieldInfo.getAlias());
+				}
+			}
+			for (MethodNode mth : cls.getMethods()) {
+				MethodInfo mthInfo = mth.getMethodInfo();
+				if (mthInfo.hasAlias()) {
+					renames.add(mthInfo.getShortId() + '=' + mthInfo.getAlias());
+				}
+			}
+			for (String rename : renames) {
+				sb.append(':').append(rename);
+			}
+			sb.append('\n');
+		}
+		return true;
+	}
+
+	private @Nullable String getContentHash(ClassNode cls) {
+		String hash = contentHashes.get(cls);
+		if (hash != null) {
+			return hash;
+		}
+		IClassData clsData = cls.getClsData();
+		if (clsData == null) {
+			// class created by jadx or plugin
+			return null;
+		}
+		try {
+			hash = FileUtils.md5Sum(clsData.getDisassembledCode());
+		} catch (Exception e) {
+			LOG.debug("Failed to build content hash for class: {}", cls, e);
+			return null;
+		}
+		contentHashes.put(cls, hash);
+		return hash;
+	}
+
+	private void onConstLookup(ClassNode cls, Object value, boolean searchGlobal, @Nullable IFieldInfoRef result) {
+		ClassNode topCls = cls.getTopParentClass();
+		if (ConstLookup.getValueType(value) == 0) {
+			// constants stored only for primitives and strings, so other values (like enum fields) never found
+			if (result != null) {
+				unsupportedLookups.add(topCls);
+			}
+			return;
+		}
+		constLookups.computeIfAbsent(topCls, c -> ConcurrentHashMap.newKeySet())
+				.add(new ConstLookup(cls.getRawName(), value, searchGlobal, fieldName(result)));
+	}
+
+	private boolean checkConstLookups(List<ConstLookup> lookups) {
+		ConstStorage constStorage = root.getConstValues();
+		for (ConstLookup lookup : lookups) {
+			ClassNode cls = root.resolveRawClass(lookup.getClsRawName());
+			if (cls == null) {
+				return false;
+			}
+			IFieldInfoRef field = constStorage.getConstField(cls, lookup.getValue(), lookup.isSearchGlobal());
+			if (!fieldName(field).equals(lookup.getResult())) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private @Nullable String load(ClassNode cls, String key) {
+		Path file = getFile(key);
+		if (!Files.exists(file)) {
+			return null;
+		}
+		try (InputStream fileInput = Files.newInputStream(file);
+				DataInputStream in = new DataInputStream(new BufferedInputStream(new GZIPInputStream(fileInput)))) {
+			byte[] header = new byte[FILE_HEADER.length];
+			in.readFully(header);
+			if (!Arrays.equals(header, FILE_HEADER)) {
+				LOG.warn("Unexpected shared code cache file header, file: {}", file);
+				return null;
+			}
+			int count = in.readInt();
+			List<ConstLookup> lookups = new ArrayList<>(count);
+			for (int i = 0; i < count; i++) {
+				lookups.add(ConstLookup.read(in));
+			}
+			if (!checkConstLookups(lookups)) {
+				LOG.debug("Constants changed, skip cached code for class: {}", cls);
+				return null;
+			}
+			return readString(in);
+		} catch (Exception e) {
+			LOG.warn("Failed to read shared code cache for class: {}, file: {}", cls, file, e);
+			return null;
+		}
+	}
+
+	private void save(String key, Set<ConstLookup> lookups, String code) {
+		Path file = getFile(key);
+		// write into temp file to not expose partial content to other processes
+		Path tmpFile = file.resolveSibling(key + '.' + Thread.currentThread().getId() + ".tmp");
+		try {
+			FileUtils.makeDirsForFile(tmpFile);
+			try (OutputStream fileOutput = Files.newOutputStream(tmpFile);
+					DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new GZIPOutputStream(fileOutput)))) {
+				out.write(FILE_HEADER);
+				out.writeInt(lookups.size());
+				for (ConstLookup lookup : lookups) {
+					lookup.write(out);
+				}
+				writeString(out, code);
+			}
+			Files.move(tmpFile, file, StandardCopyOption.REPLACE_EXISTING);
+		} catch (Exception e) {
+			LOG.warn("Failed to write shared code cache file: {}", file, e);
+			try {
+				Files.deleteIfExists(tmpFile);
+			} catch (IOException ex) {
+				// ignore
+			}
+		}
+	}
+
+	private Path getFile(String key) {
+		// all entries divided between 256 top level folders
+		return baseDir.resolve(key.substring(0, 2)).resolve(key + ".jcc");
+	}
+
+	private static Set<ClassNode> collectClasses(ClassNode topCls) {
+		Set<ClassNode> set = new LinkedHashSet<>();
+		set.add(topCls);
+		topCls.getInnerAndInlinedClassesRecursive(set);
+		return set;
+	}
+
+	/**
+	 * Errors not stored in cache, so decompile such classes every time to keep errors report
+	 */
+	private boolean hasErrors(ClassNode topCls) {
+		// error attributes can be removed on class unload, so check errors counter
+		return root.getErrorsCounter().hasErrors(topCls);
+	}
+
+	private static String fieldName(@Nullable IFieldInfoRef field) {
+		if (field == null) {
+			return "";
+		}
+		FieldInfo fieldInfo = field.getFieldInfo();
+		return fieldInfo.getDeclClass().getAliasFullName() + '.' + fieldInfo.getAlias();
+	}
+
+	private static Map<ClassNode, List<String>> buildCommentsMap(RootNode root) {
+		ICodeData codeData = root.getArgs().getCodeData();
+		if (codeData == null || codeData.isEmpty()) {
+			return Collections.emptyMap();
+		}
+		Map<ClassNode, List<String>> map = new HashMap<>();
+		for (ICodeComment comment : codeData.getComments()) {
+			ClassNode cls = root.resolveRawClass(comment.getNodeRef().getDeclaringClass());
+			if (cls != null) {
+				map.computeIfAbsent(cls.getTopParentClass(), c -> new ArrayList<>()).add(comment.toString());
+			}
+		}
+		return map;
+	}
+
+	private static void writeString(DataOutputStream out, String str) throws IOException {
+		byte[] bytes = str.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+
+	private static String readString(DataInputStream in) throws IOException {
+		byte[] bytes = new byte[in.readInt()];
+		in.readFully(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	private static final class ConstLookup {
+		private final String clsRawName;
+		private final Object value;
+		private final boolean searchGlobal;
+		private final String result;
+
+		ConstLookup(String clsRawName, Object value, boolean searchGlobal, String result) {
+			this.clsRawName = clsRawName;
+			this.value = value;
+			this.searchGlobal = searchGlobal;
+			this.result = result;
+		}
+
+		public String getClsRawName() {
+			return clsRawName;
+		}
+
+		public Object getValue() {
+			return value;
+		}
+
+		public boolean isSearchGlobal() {
+			return searchGlobal;
+		}
+
+		public String getResult() {
+			return result;
+		}
+
+		/**
+		 * @return type char for supported values or zero
+		 */
+		static char getValueType(Object value) {
+			if (value instanceof String) {
+				return 'T';
+			}
+			if (value instanceof Integer) {
+				return 'I';
+			}
+			if (value instanceof Long) {
+				return 'J';
+			}
+			if (value instanceof Boolean) {
+				return 'Z';
+			}
+			if (value instanceof Character) {
+				return 'C';
+			}
+			if (value instanceof Byte) {
+				return 'B';
+			}
+			if (value instanceof Short) {
+				return 'S';
+			}
+			if (value instanceof Float) {
+				return 'F';
+			}
+			if (value instanceof Double) {
+				return 'D';
+			}
+			return 0;
+		}
+
+		void write(DataOutputStream out) throws IOException {
+			writeString(out, clsRawName);
+			out.writeBoolean(searchGlobal);
+			writeString(out, result);
+			char type = getValueType(value);
+			out.writeChar(type);
+			switch (type) {
+				case 'T':
+					writeString(out, (String) value);
+					break;
+				case 'Z':
+					out.writeBoolean((Boolean) value);
+					break;
+				case 'C':
+					out.writeChar((Character) value);
+					break;
+				case 'F':
+					out.writeFloat((Float) value);
+					break;
+				case 'D':
+					out.writeDouble((Double) value);
+					break;
+				default:
+					out.writeLong(((Number) value).longValue());
+					break;
+			}
+		}
+
+		static ConstLookup read(DataInputStream in) throws IOException {
+			String clsRawName = readString(in);
+			boolean searchGlobal = in.readBoolean();
+			String result = readString(in);
+			char type = in.readChar();
+			Object value;
+			switch (type) {
+				case 'T':
+					value = readString(in);
+					break;
+				case 'Z':
+					value = in.readBoolean();
+					break;
+				case 'C':
+					value = in.readChar();
+					break;
+				case 'F':
+					value = in.readFloat();
+					break;
+				case 'D':
+					value = in.readDouble();
+					break;
+				case 'I':
+					value = (int) in.readLong();
+					break;
+				case 'J':
+					value = in.readLong();
+					break;
+				case 'B':
+					value = (byte) in.readLong();
+					break;
+				case 'S':
+					value = (short) in.readLong();
+					break;
+				default:
+					throw new IOException("Unknown constant type: " + type);
+			}
+			return new ConstLookup(clsRawName, value, searchGlobal, result);
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (!(o instanceof ConstLookup)) {
+				return false;
+			}
+			ConstLookup other = (ConstLookup) o;
+			return searchGlobal == other.searchGlobal
+					&& clsRawName.equals(other.clsRawName)
+					&& value.equals(other.value)
+					&& result.equals(other.result);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(clsRawName, value, searchGlobal, result);
+		}
+	}
+}
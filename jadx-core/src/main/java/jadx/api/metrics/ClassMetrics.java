@@ -0,0 +1,133 @@
+package jadx.api.metrics;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Decompilation metrics for top level class (inner classes included).
+ * <br>
+ * Values updated concurrently without locks, so read of several values is not atomic.
+ */
+public final class ClassMetrics {
+	private final String clsName;
+	private final int insnsCount;
+
+	private final AtomicInteger decompileCount = new AtomicInteger();
+	private final LongAdder totalTimeNs = new LongAdder();
+	private final AtomicLong lastTimeNs = new AtomicLong();
+	private final AtomicLong maxTimeNs = new AtomicLong();
+	private final LongAdder allocatedBytes = new LongAdder();
+	private final AtomicInteger outputSize = new AtomicInteger();
+	private final AtomicInteger reloadCount = new AtomicInteger();
+	private final AtomicInteger codegenFailures = new AtomicInteger();
+	private final AtomicInteger passFailuresCount = new AtomicInteger();
+	private final Set<String> failedPasses = ConcurrentHashMap.newKeySet();
+
+	ClassMetrics(String clsName, int insnsCount) {
+		this.clsName = clsName;
+		this.insnsCount = insnsCount;
+	}
+
+	void addDecompile(long timeNs, long allocated, int codeSize, boolean failed) {
+		decompileCount.incrementAndGet();
+		totalTimeNs.add(timeNs);
+		lastTimeNs.set(timeNs);
+		maxTimeNs.accumulateAndGet(timeNs, Math::max);
+		if (allocated > 0) {
+			allocatedBytes.add(allocated);
+		}
+		outputSize.set(codeSize);
+		if (failed) {
+			codegenFailures.incrementAndGet();
+		}
+	}
+
+	void addReload() {
+		reloadCount.incrementAndGet();
+	}
+
+	void addPassFailure(String passName) {
+		passFailuresCount.incrementAndGet();
+		failedPasses.add(passName);
+	}
+
+	/**
+	 * Class raw full name
+	 */
+	public String getClsName() {
+		return clsName;
+	}
+
+	/**
+	 * Raw instructions count in all methods of class and its inner classes
+	 */
+	public int getInsnsCount() {
+		return insnsCount;
+	}
+
+	public int getDecompileCount() {
+		return decompileCount.get();
+	}
+
+	/**
+	 * Sum of all decompilation times in milliseconds, including processing of dependencies
+	 */
+	public long getTotalTimeMs() {
+		return totalTimeNs.sum() / 1_000_000;
+	}
+
+	public long getLastTimeMs() {
+		return lastTimeNs.get() / 1_000_000;
+	}
+
+	public long getMaxTimeMs() {
+		return maxTimeNs.get() / 1_000_000;
+	}
+
+	/**
+	 * Memory allocated by decompilation thread in bytes (summed for all decompilations).
+	 * Zero if allocation measurement not supported by JVM.
+	 */
+	public long getAllocatedBytes() {
+		return allocatedBytes.sum();
+	}
+
+	/**
+	 * Length of last generated code
+	 */
+	public int getOutputSize() {
+		return outputSize.get();
+	}
+
+	public int getReloadCount() {
+		return reloadCount.get();
+	}
+
+	public int getCodegenFailures() {
+		return codegenFailures.get();
+	}
+
+	public int getPassFailuresCount() {
+		return passFailuresCount.get();
+	}
+
+	public Set<String> getFailedPasses() {
+		return Collections.unmodifiableSet(failedPasses);
+	}
+
+	@Override
+	public String toString() {
+		return "ClassMetrics{" + clsName
+				+ ", time: " + getTotalTimeMs() + "ms"
+				+ ", decompiles: " + getDecompileCount()
+				+ ", reloads: " + getReloadCount()
+				+ ", insns: " + insnsCount
+				+ ", output: " + getOutputSize()
+				+ ", pass failures: " + getPassFailuresCount()
+				+ '}';
+	}
+}
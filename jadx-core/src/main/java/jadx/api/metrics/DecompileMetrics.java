@@ -0,0 +1,199 @@
+package jadx.api.metrics;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.gson.stream.JsonWriter;
+
+import jadx.core.dex.nodes.ClassNode;
+import jadx.core.dex.nodes.MethodNode;
+import jadx.core.utils.exceptions.JadxRuntimeException;
+import jadx.core.utils.files.FileUtils;
+
+/**
+ * Per class decompilation metrics: time, memory, reloads, failures, instructions count and output size.
+ * <br>
+ * Metrics collected for top level classes (inner classes included into parent).
+ * Aggregation is lock-free, so can be used from all decompilation threads.
+ */
+public final class DecompileMetrics {
+	private static final Logger LOG = LoggerFactory.getLogger(DecompileMetrics.class);
+
+	private static final String CSV_HEADER = "class,insns,decompiles,total_ms,last_ms,max_ms,allocated_bytes,"
+			+ "output_size,reloads,codegen_failures,pass_failures,failed_passes";
+
+	private final Map<String, ClassMetrics> metricsMap = new ConcurrentHashMap<>();
+
+	@ApiStatus.Internal
+	public void addDecompile(ClassNode cls, long timeNs, long allocatedBytes, int outputSize, boolean failed) {
+		getOrCreate(cls).addDecompile(timeNs, allocatedBytes, outputSize, failed);
+	}
+
+	@ApiStatus.Internal
+	public void addReload(ClassNode cls) {
+		getOrCreate(cls).addReload();
+	}
+
+	@ApiStatus.Internal
+	public void addPassFailure(ClassNode cls, String passName) {
+		getOrCreate(cls).addPassFailure(passName);
+	}
+
+	private ClassMetrics getOrCreate(ClassNode cls) {
+		ClassNode topCls = cls.getTopParentClass();
+		return metricsMap.computeIfAbsent(topCls.getRawName(), name -> new ClassMetrics(name, countInsns(topCls)));
+	}
+
+	private static int countInsns(ClassNode cls) {
+		int count = 0;
+		for (MethodNode mth : cls.getMethods()) {
+			count += mth.getInsnsCount();
+		}
+		for (ClassNode innerCls : cls.getInnerClasses()) {
+			count += countInsns(innerCls);
+		}
+		return count;
+	}
+
+	@Nullable
+	public ClassMetrics get(String clsRawName) {
+		return metricsMap.get(clsRawName);
+	}
+
+	/**
+	 * Snapshot of collected metrics, sorted by total decompilation time (slowest first)
+	 */
+	public List<ClassMetrics> getAll() {
+		List<ClassMetrics> list = new ArrayList<>(metricsMap.values());
+		list.sort(Comparator.comparingLong(ClassMetrics::getTotalTimeMs).reversed()
+				.thenComparing(ClassMetrics::getClsName));
+		return list;
+	}
+
+	public int size() {
+		return metricsMap.size();
+	}
+
+	public void reset() {
+		metricsMap.clear();
+	}
+
+	/**
+	 * Save metrics to file, format selected by file extension: '.csv' or JSON for others
+	 */
+	public void save(Path file) {
+		FileUtils.makeDirsForFile(file);
+		try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+			if (file.getFileName().toString().toLowerCase().endsWith(".csv")) {
+				writeCsv(writer);
+			} else {
+				writeJson(writer);
+			}
+		} catch (Exception e) {
+			throw new JadxRuntimeException("Failed to save metrics to file: " + file.toAbsolutePath(), e);
+		}
+		LOG.info("Decompile metrics for {} classes saved to {}", metricsMap.size(), file.toAbsolutePath());
+	}
+
+	public void writeJson(Writer writer) throws IOException {
+		JsonWriter out = new JsonWriter(writer);
+		out.setIndent("  ");
+		out.beginArray();
+		for (ClassMetrics m : getAll()) {
+			out.beginObject();
+			out.name("class").value(m.getClsName());
+			out.name("insns").value(m.getInsnsCount());
+			out.name("decompiles").value(m.getDecompileCount());
+			out.name("totalMs").value(m.getTotalTimeMs());
+			out.name("lastMs").value(m.getLastTimeMs());
+			out.name("maxMs").value(m.getMaxTimeMs());
+			out.name("allocatedBytes").value(m.getAllocatedBytes());
+			out.name("outputSize").value(m.getOutputSize());
+			out.name("reloads").value(m.getReloadCount());
+			out.name("codegenFailures").value(m.getCodegenFailures());
+			out.name("passFailures").value(m.getPassFailuresCount());
+			out.name("failedPasses").beginArray();
+			for (String pass : m.getFailedPasses()) {
+				out.value(pass);
+			}
+			out.endArray();
+			out.endObject();
+		}
+		out.endArray();
+		out.flush();
+	}
+
+	public void writeCsv(Writer writer) throws IOException {
+		writer.write(CSV_HEADER);
+		writer.write('\n');
+		StringBuilder sb = new StringBuilder();
+		for (ClassMetrics m : getAll()) {
+			sb.setLength(0);
+			sb.append(m.getClsName())
+					.append(',').append(m.getInsnsCount())
+					.append(',').append(m.getDecompileCount())
+					.append(',').append(m.getTotalTimeMs())
+					.append(',').append(m.getLastTimeMs())
+					.append(',').append(m.getMaxTimeMs())
+					.append(',').append(m.getAllocatedBytes())
+					.append(',').append(m.getOutputSize())
+					.append(',').append(m.getReloadCount())
+					.append(',').append(m.getCodegenFailures())
+					.append(',').append(m.getPassFailuresCount())
+					.append(',').append(String.join(" ", m.getFailedPasses()))
+					.append('\n');
+			writer.write(sb.toString());
+		}
+	}
+
+	/**
+	 * Bytes allocated by current thread or -1 if not supported
+	 */
+	@ApiStatus.Internal
+	public static long getThreadAllocatedBytes() {
+		if (!AllocationCounter.SUPPORTED) {
+			return -1;
+		}
+		return AllocationCounter.get();
+	}
+
+	/**
+	 * Isolate usage of 'com.sun.management' classes, these can be missing in some runtimes
+	 */
+	private static final class AllocationCounter {
+		static final boolean SUPPORTED = checkSupport();
+
+		private static boolean checkSupport() {
+			try {
+				java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+				if (bean instanceof com.sun.management.ThreadMXBean) {
+					com.sun.management.ThreadMXBean sunBean = (com.sun.management.ThreadMXBean) bean;
+					return sunBean.isThreadAllocatedMemorySupported() && sunBean.isThreadAllocatedMemoryEnabled();
+				}
+				return false;
+			} catch (Throwable e) {
+				LOG.debug("Thread allocated memory measurement not supported", e);
+				return false;
+			}
+		}
+
+		static long get() {
+			com.sun.management.ThreadMXBean bean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+			return bean.getThreadAllocatedBytes(Thread.currentThread().getId());
+		}
+	}
+}
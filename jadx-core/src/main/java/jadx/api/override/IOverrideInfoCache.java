@@ -0,0 +1,19 @@
+package jadx.api.override;
+
+import java.io.Closeable;
+
+import org.jetbrains.annotations.Nullable;
+
+import jadx.core.dex.nodes.RootNode;
+
+/**
+ * Storage for methods override data collected by {@link jadx.core.dex.visitors.OverrideMethodVisitor}.
+ * Allow to skip class hierarchy traversal on next load of same inputs.
+ */
+public interface IOverrideInfoCache extends Closeable {
+
+	@Nullable
+	OverrideInfoData get(RootNode root);
+
+	void set(RootNode root, OverrideInfoData data);
+}
@@ -0,0 +1,123 @@
+package jadx.api.override;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.jetbrains.annotations.Nullable;
+
+import jadx.core.dex.instructions.args.ArgType;
+
+/**
+ * Override pass results for one method
+ */
+public final class MthOverrideInfo {
+	private final OverrideMthRef mth;
+
+	/**
+	 * Override attribute data, {@code null} if method don't override anything
+	 */
+	private @Nullable List<OverrideMthRef> overrideList;
+	private List<OverrideMthRef> baseMethods;
+	private int relatedGroup = -1;
+	private boolean dontRename;
+
+	/**
+	 * Types fixed to match base method, {@code null} if not changed
+	 */
+	private @Nullable ArgType returnType;
+	private @Nullable List<ArgType> argTypes;
+
+	/**
+	 * Method signature collision resolution
+	 */
+	private @Nullable OverrideMthRef bridgeMth;
+	private @Nullable String collisionAlias;
+	private boolean collisionWarn;
+
+	/**
+	 * Debug comments with possible override methods
+	 */
+	private List<String> debugComments = Collections.emptyList();
+
+	public MthOverrideInfo(OverrideMthRef mth) {
+		this.mth = mth;
+	}
+
+	public OverrideMthRef getMth() {
+		return mth;
+	}
+
+	public @Nullable List<OverrideMthRef> getOverrideList() {
+		return overrideList;
+	}
+
+	public List<OverrideMthRef> getBaseMethods() {
+		return baseMethods;
+	}
+
+	public int getRelatedGroup() {
+		return relatedGroup;
+	}
+
+	public void setOverride(List<OverrideMthRef> overrideList, List<OverrideMthRef> baseMethods, int relatedGroup) {
+		this.overrideList = overrideList;
+		this.baseMethods = baseMethods;
+		this.relatedGroup = relatedGroup;
+	}
+
+	public boolean isDontRename() {
+		return dontRename;
+	}
+
+	public void setDontRename(boolean dontRename) {
+		this.dontRename = dontRename;
+	}
+
+	public @Nullable ArgType getReturnType() {
+		return returnType;
+	}
+
+	public void setReturnType(@Nullable ArgType returnType) {
+		this.returnType = returnType;
+	}
+
+	public @Nullable List<ArgType> getArgTypes() {
+		return argTypes;
+	}
+
+	public void setArgTypes(@Nullable List<ArgType> argTypes) {
+		this.argTypes = argTypes;
+	}
+
+	public @Nullable OverrideMthRef getBridgeMth() {
+		return bridgeMth;
+	}
+
+	public void setBridgeMth(@Nullable OverrideMthRef bridgeMth) {
+		this.bridgeMth = bridgeMth;
+	}
+
+	public @Nullable String getCollisionAlias() {
+		return collisionAlias;
+	}
+
+	public void setCollisionAlias(@Nullable String collisionAlias) {
+		this.collisionAlias = collisionAlias;
+	}
+
+	public boolean isCollisionWarn() {
+		return collisionWarn;
+	}
+
+	public void setCollisionWarn(boolean collisionWarn) {
+		this.collisionWarn = collisionWarn;
+	}
+
+	public List<String> getDebugComments() {
+		return debugComments;
+	}
+
+	public void setDebugComments(List<String> debugComments) {
+		this.debugComments = debugComments;
+	}
+}
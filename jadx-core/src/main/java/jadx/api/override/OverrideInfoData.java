@@ -0,0 +1,25 @@
+package jadx.api.override;
+
+import java.util.List;
+
+/**
+ * Snapshot of methods override data for all classes.
+ * Related methods sets stored once in groups list and referenced by index from methods data.
+ */
+public final class OverrideInfoData {
+	private final List<MthOverrideInfo> methods;
+	private final List<List<OverrideMthRef>> relatedGroups;
+
+	public OverrideInfoData(List<MthOverrideInfo> methods, List<List<OverrideMthRef>> relatedGroups) {
+		this.methods = methods;
+		this.relatedGroups = relatedGroups;
+	}
+
+	public List<MthOverrideInfo> getMethods() {
+		return methods;
+	}
+
+	public List<List<OverrideMthRef>> getRelatedGroups() {
+		return relatedGroups;
+	}
+}
@@ -0,0 +1,52 @@
+package jadx.api.override;
+
+/**
+ * Reference to app method (by class raw name and short id) or to method from classpath
+ */
+public final class OverrideMthRef {
+	private final String cls;
+	private final String shortId;
+	private final boolean clsp;
+
+	public OverrideMthRef(String cls, String shortId, boolean clsp) {
+		this.cls = cls;
+		this.shortId = shortId;
+		this.clsp = clsp;
+	}
+
+	public String getCls() {
+		return cls;
+	}
+
+	public String getShortId() {
+		return shortId;
+	}
+
+	public boolean isClsp() {
+		return clsp;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (!(o instanceof OverrideMthRef)) {
+			return false;
+		}
+		OverrideMthRef other = (OverrideMthRef) o;
+		return clsp == other.clsp
+				&& cls.equals(other.cls)
+				&& shortId.equals(other.shortId);
+	}
+
+	@Override
+	public int hashCode() {
+		return 31 * (31 * cls.hashCode() + shortId.hashCode()) + (clsp ? 1 : 0);
+	}
+
+	@Override
+	public String toString() {
+		return cls + '.' + shortId + (clsp ? " (clsp)" : "");
+	}
+}
@@ -0,0 +1,22 @@
+package jadx.api.override.impl;
+
+import org.jetbrains.annotations.Nullable;
+
+import jadx.api.override.IOverrideInfoCache;
+import jadx.api.override.OverrideInfoData;
+import jadx.core.dex.nodes.RootNode;
+
+public class EmptyOverrideInfoCache implements IOverrideInfoCache {
+	@Override
+	public @Nullable OverrideInfoData get(RootNode root) {
+		return null;
+	}
+
+	@Override
+	public void set(RootNode root, OverrideInfoData data) {
+	}
+
+	@Override
+	public void close() {
+	}
+}
@@ -0,0 +1,34 @@
+package jadx.api.override.impl;
+
+import org.jetbrains.annotations.Nullable;
+
+import jadx.api.override.IOverrideInfoCache;
+import jadx.api.override.OverrideInfoData;
+import jadx.core.dex.nodes.RootNode;
+
+public class InMemoryOverrideInfoCache implements IOverrideInfoCache {
+
+	private OverrideInfoData data;
+
+	/**
+	 * Data can be applied only to same root node, keep hash to reset cache on change
+	 */
+	private int rootNodeHash;
+
+	@Override
+	public @Nullable OverrideInfoData get(RootNode root) {
+		return rootNodeHash == root.hashCode() ? data : null;
+	}
+
+	@Override
+	public void set(RootNode root, OverrideInfoData data) {
+		this.rootNodeHash = root.hashCode();
+		this.data = data;
+	}
+
+	@Override
+	public void close() {
+		this.rootNodeHash = 0;
+		this.data = null;
+	}
+}
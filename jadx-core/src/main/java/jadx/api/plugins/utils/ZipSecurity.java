@@ -1,14 +1,22 @@
 package jadx.api.plugins.utils;
 
 import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
 import java.io.File;
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.Enumeration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
+import java.util.zip.ZipInputStream;
 
 import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
@@ -36,6 +44,11 @@ public class ZipSecurity {
 
 	private static final int MAX_ENTRIES_COUNT = Utils.getEnvVarInt("JADX_ZIP_MAX_ENTRIES_COUNT", 100_000);
 
+	/**
+	 * Don't start additional threads for small zip files
+	 */
+	private static final int PARALLEL_MIN_ENTRIES_PER_THREAD = 16;
+
 	private ZipSecurity() {
 	}
 
@@ -150,6 +163,129 @@ public static <R> R visitZipEntries(File file, BiFunction<ZipFile, ZipEntry, R>
 		return null;
 	}
 
+	@FunctionalInterface
+	public interface ZipEntryReader<R> {
+		@Nullable
+		R read(ZipEntry entry, InputStream in) throws Exception;
+	}
+
+	/**
+	 * Read valid file entries in parallel using one shared zip file handle,
+	 * entries data inflated in worker threads.
+	 * Reader should be thread safe.
+	 *
+	 * @param maxThreads threads count limit, should be taken from {@link jadx.api.JadxArgs#getThreadsCount()}
+	 * @return not null reader results in zip entries order
+	 */
+	public static <R> List<R> readZipEntriesParallel(File file, int maxThreads, ZipEntryReader<R> reader) {
+		try (ZipFile zip = new ZipFile(file)) {
+			List<ZipEntry> entries = collectValidFileEntries(zip);
+			int count = entries.size();
+			int threads = Math.min(count / PARALLEL_MIN_ENTRIES_PER_THREAD, maxThreads);
+			if (threads <= 1) {
+				return readEntries(zip, entries, reader);
+			}
+			// split into bigger chunks to reduce scheduling overhead for zips with many small entries
+			int chunkSize = Math.max(1, count / (threads * 4));
+			ExecutorService executor = Executors.newFixedThreadPool(threads);
+			try {
+				List<Future<List<R>>> futures = new ArrayList<>();
+				for (int start = 0; start < count; start += chunkSize) {
+					List<ZipEntry> chunk = entries.subList(start, Math.min(start + chunkSize, count));
+					futures.add(executor.submit(() -> readEntries(zip, chunk, reader)));
+				}
+				List<R> results = new ArrayList<>(count);
+				for (Future<List<R>> future : futures) {
+					results.addAll(future.get());
+				}
+				return results;
+			} finally {
+				executor.shutdownNow();
+			}
+		} catch (Exception e) {
+			throw new JadxRuntimeException("Failed to process zip file: " + file.getAbsolutePath(), e);
+		}
+	}
+
+	private static List<ZipEntry> collectValidFileEntries(ZipFile zip) {
+		List<ZipEntry> list = new ArrayList<>();
+		Enumeration<? extends ZipEntry> entries = zip.entries();
+		while (entries.hasMoreElements()) {
+			ZipEntry entry = entries.nextElement();
+			if (!entry.isDirectory() && isValidZipEntry(entry)) {
+				list.add(entry);
+				if (!DISABLE_CHECKS && list.size() > MAX_ENTRIES_COUNT) {
+					throw new JadxRuntimeException("Zip entries count limit exceeded: " + MAX_ENTRIES_COUNT
+							+ ", last entry: " + entry.getName());
+				}
+			}
+		}
+		return list;
+	}
+
+	private static <R> List<R> readEntries(ZipFile zip, List<ZipEntry> entries, ZipEntryReader<R> reader) {
+		List<R> results = new ArrayList<>();
+		for (ZipEntry entry : entries) {
+			try (InputStream in = getInputStreamForEntry(zip, entry)) {
+				R result = reader.read(entry, in);
+				if (result != null) {
+					results.add(result);
+				}
+			} catch (Exception e) {
+				throw new JadxRuntimeException("Failed to process zip entry: " + entry.getName(), e);
+			}
+		}
+		return results;
+	}
+
+	/**
+	 * Read valid file entries from zip archive loaded into memory (i.e. nested archive).
+	 * Entries sizes can be unknown in zip stream, so uncompressed data limited by archive size.
+	 */
+	public static void readZipEntries(byte[] zipContent, String name, BiConsumer<ZipEntry, InputStream> visitor) {
+		long maxEntrySize = Math.max(ZIP_BOMB_MIN_UNCOMPRESSED_SIZE, (long) zipContent.length * ZIP_BOMB_DETECTION_FACTOR);
+		try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(zipContent))) {
+			int entriesProcessed = 0;
+			while (true) {
+				ZipEntry entry = zip.getNextEntry();
+				if (entry == null) {
+					break;
+				}
+				if (entry.isDirectory() || !isValidZipEntryName(entry.getName())) {
+					continue;
+				}
+				InputStream entryIn = new EntryInputStream(zip);
+				InputStream in = DISABLE_CHECKS ? entryIn : new LimitedInputStream(entryIn, maxEntrySize);
+				try {
+					visitor.accept(entry, in);
+				} catch (Exception e) {
+					throw new JadxRuntimeException("Failed to process zip entry: " + entry.getName(), e);
+				}
+				entriesProcessed++;
+				if (!DISABLE_CHECKS && entriesProcessed > MAX_ENTRIES_COUNT) {
+					throw new JadxRuntimeException("Zip entries count limit exceeded: " + MAX_ENTRIES_COUNT
+							+ ", last entry: " + entry.getName());
+				}
+			}
+		} catch (Exception e) {
+			throw new JadxRuntimeException("Failed to process zip: " + name, e);
+		}
+	}
+
+	/**
+	 * Prevent closing of whole zip stream by entry visitor
+	 */
+	private static final class EntryInputStream extends FilterInputStream {
+		private EntryInputStream(ZipInputStream in) {
+			super(in);
+		}
+
+		@Override
+		public void close() {
+			// ignore
+		}
+	}
+
 	public static void readZipEntries(File file, BiConsumer<ZipEntry, InputStream> visitor) {
 		visitZipEntries(file, (zip, entry) -> {
 			if (!entry.isDirectory()) {
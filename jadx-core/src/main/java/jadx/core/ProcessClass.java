@@ -12,6 +12,7 @@
 import jadx.api.impl.SimpleCodeInfo;
 import jadx.core.codegen.CodeGen;
 import jadx.core.dex.attributes.AFlag;
+import jadx.core.dex.attributes.AType;
 import jadx.core.dex.nodes.ClassNode;
 import jadx.core.dex.nodes.LoadStage;
 import jadx.core.dex.nodes.RootNode;
@@ -107,7 +108,9 @@ public ICodeInfo generateCode(ClassNode cls) {
 				return NOT_GENERATED;
 			}
 			for (ClassNode depCls : cls.getDependencies()) {
-				process(depCls, false);
+				if (!isSummaryAvailable(depCls)) {
+					process(depCls, false);
+				}
 			}
 			if (!cls.getCodegenDeps().isEmpty()) {
 				process(cls, false);
@@ -125,6 +128,21 @@ public ICodeInfo generateCode(ClassNode cls) {
 		}
 	}
 
+	/**
+	 * Check if class already processed and unloaded after codegen,
+	 * but information used by dependent classes is still available.
+	 * Such information stored in pinned attributes (kept on unload), like
+	 * inlined methods bodies ({@link AType#METHOD_INLINE}), enum maps ({@link AType#ENUM_MAP}, {@link AType#ENUM_FIELDS}),
+	 * fields init values ({@link AType#FIELD_INIT_INSN}) and anonymous classes info ({@link AType#ANONYMOUS_CLASS}).
+	 * <br>
+	 * Note: codegen dependencies always processed, because their code included into dependent class.
+	 */
+	private static boolean isSummaryAvailable(ClassNode cls) {
+		return cls.getState() == GENERATED_AND_UNLOADED
+				&& !cls.contains(AFlag.CLASS_DEEP_RELOAD)
+				&& !cls.contains(AFlag.CLASS_UNLOADED);
+	}
+
 	public void initPasses(RootNode root) {
 		for (IDexTreeVisitor pass : passes) {
 			try {
@@ -2,11 +2,13 @@
 
 import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.lang.ref.SoftReference;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
@@ -51,6 +53,8 @@ public class ClsSet {
 	private static final ArgType[] EMPTY_ARGTYPE_ARRAY = new ArgType[0];
 	private static final ArgType[] OBJECT_ARGTYPE_ARRAY = new ArgType[] { ArgType.OBJECT };
 
+	private static SoftReference<byte[]> clstDataRef = new SoftReference<>(null);
+
 	private final RootNode root;
 
 	private int androidApiLevel;
@@ -73,12 +77,7 @@ private enum TypeEnum {
 
 	public void loadFromClstFile() throws IOException, DecodeException {
 		long startTime = System.currentTimeMillis();
-		try (InputStream input = ClsSet.class.getResourceAsStream(CLST_PATH)) {
-			if (input == null) {
-				throw new JadxRuntimeException("Can't load classpath file: " + CLST_PATH);
-			}
-			load(input);
-		}
+		load(new ByteArrayInputStream(getClstData()));
 		if (LOG.isDebugEnabled()) {
 			long time = System.currentTimeMillis() - startTime;
 			int methodsCount = Stream.of(classes).mapToInt(clspClass -> clspClass.getMethodsMap().size()).sum();
@@ -87,6 +86,25 @@ public void loadFromClstFile() throws IOException, DecodeException {
 		}
 	}
 
+	/**
+	 * Keep bundled file content in memory, so several decompiler instances in one JVM
+	 * (like CLI corpus mode or project reload in GUI) don't read it from resources again.
+	 * Parsed classes can't be shared because they reference root specific class and method info.
+	 */
+	private static synchronized byte[] getClstData() throws IOException {
+		byte[] data = clstDataRef.get();
+		if (data == null) {
+			try (InputStream input = ClsSet.class.getResourceAsStream(CLST_PATH)) {
+				if (input == null) {
+					throw new JadxRuntimeException("Can't load classpath file: " + CLST_PATH);
+				}
+				data = input.readAllBytes();
+			}
+			clstDataRef = new SoftReference<>(data);
+		}
+		return data;
+	}
+
 	public void loadFrom(RootNode root) {
 		List<ClassNode> list = root.getClasses(true);
 		Map<String, ClspClass> names = new HashMap<>(list.size());
@@ -1,15 +1,14 @@
 package jadx.core.codegen.json;
 
-import java.util.ArrayList;
+import java.io.IOException;
+import java.io.StringWriter;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
 import org.jetbrains.annotations.Nullable;
 
-import com.google.gson.FieldNamingPolicy;
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
+import com.google.gson.stream.JsonWriter;
 
 import jadx.api.ICodeInfo;
 import jadx.api.ICodeWriter;
@@ -20,10 +19,6 @@
 import jadx.api.metadata.annotations.InsnCodeOffset;
 import jadx.core.codegen.ClassGen;
 import jadx.core.codegen.MethodGen;
-import jadx.core.codegen.json.cls.JsonClass;
-import jadx.core.codegen.json.cls.JsonCodeLine;
-import jadx.core.codegen.json.cls.JsonField;
-import jadx.core.codegen.json.cls.JsonMethod;
 import jadx.core.codegen.utils.CodeGenUtils;
 import jadx.core.dex.attributes.AFlag;
 import jadx.core.dex.info.ClassInfo;
@@ -35,14 +30,16 @@
 import jadx.core.utils.Utils;
 import jadx.core.utils.exceptions.JadxRuntimeException;
 
+/**
+ * Write class info and code in json format.
+ * <br>
+ * Json is written by {@link JsonWriter} while code generated, without building intermediate objects tree.
+ * Result is collected into a string, because it stored in code cache and saved like java code.
+ * Keys order: own properties, nested arrays (fields, methods, inner classes, imports)
+ * and common node properties (name, alias, declaration, access flags) at the end.
+ */
 public class JsonCodeGen {
 
-	private static final Gson GSON = new GsonBuilder()
-			.setPrettyPrinting()
-			.setFieldNamingPolicy(FieldNamingPolicy.LOWER_CASE_WITH_DASHES)
-			.disableHtmlEscaping()
-			.create();
-
 	private final ClassNode cls;
 	private final JadxArgs args;
 	private final RootNode root;
@@ -54,11 +51,22 @@ public JsonCodeGen(ClassNode cls) {
 	}
 
 	public String process() {
-		JsonClass jsonCls = processCls(cls, null);
-		return GSON.toJson(jsonCls);
+		StringWriter sw = new StringWriter();
+		try {
+			JsonWriter out = new JsonWriter(sw);
+			if (!args.isJsonCompact()) {
+				out.setIndent("  ");
+			}
+			out.setHtmlSafe(false);
+			processCls(out, cls, null);
+			out.flush();
+		} catch (IOException e) {
+			throw new JadxRuntimeException("Json write error", e);
+		}
+		return sw.toString();
 	}
 
-	private JsonClass processCls(ClassNode cls, @Nullable ClassGen parentCodeGen) {
+	private void processCls(JsonWriter out, ClassNode cls, @Nullable ClassGen parentCodeGen) throws IOException {
 		ClassGen classGen;
 		if (parentCodeGen == null) {
 			classGen = new ClassGen(cls, args);
@@ -67,108 +75,116 @@ private JsonClass processCls(ClassNode cls, @Nullable ClassGen parentCodeGen) {
 		}
 		ClassInfo classInfo = cls.getClassInfo();
 
-		JsonClass jsonCls = new JsonClass();
-		jsonCls.setPkg(classInfo.getAliasPkg());
-		jsonCls.setDex(cls.getInputFileName());
-		jsonCls.setName(classInfo.getFullName());
-		if (classInfo.hasAlias()) {
-			jsonCls.setAlias(classInfo.getAliasFullName());
-		}
-		jsonCls.setType(getClassTypeStr(cls));
-		jsonCls.setAccessFlags(cls.getAccessFlags().rawValue());
+		out.beginObject();
+		out.name("package").value(classInfo.getAliasPkg());
+		out.name("type").value(getClassTypeStr(cls));
 		ArgType superClass = cls.getSuperClass();
 		if (superClass != null
 				&& !superClass.equals(ArgType.OBJECT)
 				&& !cls.contains(AFlag.REMOVE_SUPER_CLASS)) {
-			jsonCls.setSuperClass(getTypeAlias(classGen, superClass));
+			out.name("extends").value(getTypeAlias(classGen, superClass));
 		}
 		if (!cls.getInterfaces().isEmpty()) {
-			jsonCls.setInterfaces(Utils.collectionMap(cls.getInterfaces(), clsType -> getTypeAlias(classGen, clsType)));
+			out.name("implements");
+			writeStrings(out, Utils.collectionMap(cls.getInterfaces(), clsType -> getTypeAlias(classGen, clsType)));
 		}
+		writeOptional(out, "dex", cls.getInputFileName());
 
 		ICodeWriter cw = new SimpleCodeWriter(args);
 		CodeGenUtils.addErrorsAndComments(cw, cls);
 		classGen.addClassDeclaration(cw);
-		jsonCls.setDeclaration(cw.getCodeStr());
+		String declaration = cw.getCodeStr();
 
-		addFields(cls, jsonCls, classGen);
-		addMethods(cls, jsonCls, classGen);
-		addInnerClasses(cls, jsonCls, classGen);
+		addFields(out, cls, classGen);
+		addMethods(out, cls, classGen);
+		addInnerClasses(out, cls, classGen);
 
 		if (!cls.getClassInfo().isInner()) {
 			List<String> imports = Utils.collectionMap(classGen.getImports(), ClassInfo::getAliasFullName);
 			Collections.sort(imports);
-			jsonCls.setImports(imports);
+			out.name("imports");
+			writeStrings(out, imports);
+		}
+		out.name("name").value(classInfo.getFullName());
+		if (classInfo.hasAlias()) {
+			out.name("alias").value(classInfo.getAliasFullName());
 		}
-		return jsonCls;
+		out.name("declaration").value(declaration);
+		out.name("access-flags").value(cls.getAccessFlags().rawValue());
+		out.endObject();
 	}
 
-	private void addInnerClasses(ClassNode cls, JsonClass jsonCls, ClassGen classGen) {
+	private void addInnerClasses(JsonWriter out, ClassNode cls, ClassGen classGen) throws IOException {
 		List<ClassNode> innerClasses = cls.getInnerClasses();
 		if (innerClasses.isEmpty()) {
 			return;
 		}
-		jsonCls.setInnerClasses(new ArrayList<>(innerClasses.size()));
+		out.name("inner-classes").beginArray();
 		for (ClassNode innerCls : innerClasses) {
 			if (innerCls.contains(AFlag.DONT_GENERATE)) {
 				continue;
 			}
-			JsonClass innerJsonCls = processCls(innerCls, classGen);
-			jsonCls.getInnerClasses().add(innerJsonCls);
+			processCls(out, innerCls, classGen);
 		}
+		out.endArray();
 	}
 
-	private void addFields(ClassNode cls, JsonClass jsonCls, ClassGen classGen) {
-		jsonCls.setFields(new ArrayList<>());
+	private void addFields(JsonWriter out, ClassNode cls, ClassGen classGen) throws IOException {
+		out.name("fields").beginArray();
 		for (FieldNode field : cls.getFields()) {
 			if (field.contains(AFlag.DONT_GENERATE)) {
 				continue;
 			}
-			JsonField jsonField = new JsonField();
-			jsonField.setName(field.getName());
-			if (field.getFieldInfo().hasAlias()) {
-				jsonField.setAlias(field.getAlias());
-			}
-
 			ICodeWriter cw = new SimpleCodeWriter(args);
 			classGen.addField(cw, field);
-			jsonField.setDeclaration(cw.getCodeStr());
-			jsonField.setAccessFlags(field.getAccessFlags().rawValue());
-			jsonCls.getFields().add(jsonField);
+
+			out.beginObject();
+			out.name("name").value(field.getName());
+			if (field.getFieldInfo().hasAlias()) {
+				out.name("alias").value(field.getAlias());
+			}
+			out.name("declaration").value(cw.getCodeStr());
+			out.name("access-flags").value(field.getAccessFlags().rawValue());
+			out.endObject();
 		}
+		out.endArray();
 	}
 
-	private void addMethods(ClassNode cls, JsonClass jsonCls, ClassGen classGen) {
-		jsonCls.setMethods(new ArrayList<>());
+	private void addMethods(JsonWriter out, ClassNode cls, ClassGen classGen) throws IOException {
+		out.name("methods").beginArray();
 		for (MethodNode mth : cls.getMethods()) {
 			if (mth.contains(AFlag.DONT_GENERATE)) {
 				continue;
 			}
-			JsonMethod jsonMth = new JsonMethod();
-			jsonMth.setName(mth.getName());
-			if (mth.getMethodInfo().hasAlias()) {
-				jsonMth.setAlias(mth.getAlias());
-			}
-			jsonMth.setSignature(mth.getMethodInfo().getShortId());
-			jsonMth.setReturnType(getTypeAlias(classGen, mth.getReturnType()));
-			jsonMth.setArguments(Utils.collectionMap(mth.getMethodInfo().getArgumentsTypes(), clsType -> getTypeAlias(classGen, clsType)));
-
 			MethodGen mthGen = new MethodGen(classGen, mth);
 			ICodeWriter cw = new AnnotatedCodeWriter(args);
 			mthGen.addDefinition(cw);
-			jsonMth.setDeclaration(cw.getCodeStr());
-			jsonMth.setAccessFlags(mth.getAccessFlags().rawValue());
-			jsonMth.setLines(fillMthCode(mth, mthGen));
-			jsonMth.setOffset("0x" + Long.toHexString(mth.getMethodCodeOffset()));
-			jsonCls.getMethods().add(jsonMth);
+			String declaration = cw.getCodeStr();
+
+			out.beginObject();
+			out.name("signature").value(mth.getMethodInfo().getShortId());
+			out.name("return-type").value(getTypeAlias(classGen, mth.getReturnType()));
+			out.name("arguments");
+			writeStrings(out, Utils.collectionMap(mth.getMethodInfo().getArgumentsTypes(), clsType -> getTypeAlias(classGen, clsType)));
+			out.name("lines").beginArray();
+			writeMthCode(out, mth, mthGen);
+			out.endArray();
+			out.name("offset").value("0x" + Long.toHexString(mth.getMethodCodeOffset()));
+			out.name("name").value(mth.getName());
+			if (mth.getMethodInfo().hasAlias()) {
+				out.name("alias").value(mth.getAlias());
+			}
+			out.name("declaration").value(declaration);
+			out.name("access-flags").value(mth.getAccessFlags().rawValue());
+			out.endObject();
 		}
+		out.endArray();
 	}
 
-	private List<JsonCodeLine> fillMthCode(MethodNode mth, MethodGen mthGen) {
+	private void writeMthCode(JsonWriter out, MethodNode mth, MethodGen mthGen) throws IOException {
 		if (mth.isNoCode()) {
-			return Collections.emptyList();
+			return;
 		}
-
 		ICodeWriter cw = mth.root().makeCodeWriter();
 		try {
 			mthGen.addInstructions(cw);
@@ -177,34 +193,56 @@ private List<JsonCodeLine> fillMthCode(MethodNode mth, MethodGen mthGen) {
 		}
 		ICodeInfo code = cw.finish();
 		String codeStr = code.getCodeStr();
-		if (codeStr.isEmpty()) {
-			return Collections.emptyList();
+		String newLine = args.getCodeNewLineStr();
+		int newLineLen = newLine.length();
+		// skip trailing empty lines
+		int codeEnd = codeStr.length();
+		while (codeEnd >= newLineLen && codeStr.startsWith(newLine, codeEnd - newLineLen)) {
+			codeEnd -= newLineLen;
+		}
+		if (codeEnd == 0) {
+			return;
 		}
-
-		String[] lines = codeStr.split(args.getCodeNewLineStr());
-		Map<Integer, Integer> lineMapping = code.getCodeMetadata().getLineMapping();
 		ICodeMetadata metadata = code.getCodeMetadata();
+		Map<Integer, Integer> lineMapping = metadata.getLineMapping();
 		long mthCodeOffset = mth.getMethodCodeOffset() + 16;
 
-		int linesCount = lines.length;
-		List<JsonCodeLine> codeLines = new ArrayList<>(linesCount);
+		int line = 2;
 		int lineStartPos = 0;
-		int newLineLen = args.getCodeNewLineStr().length();
-		for (int i = 0; i < linesCount; i++) {
-			String codeLine = lines[i];
-			int line = i + 2;
-			JsonCodeLine jsonCodeLine = new JsonCodeLine();
-			jsonCodeLine.setCode(codeLine);
-			jsonCodeLine.setSourceLine(lineMapping.get(line));
+		while (lineStartPos <= codeEnd) {
+			int lineEnd = codeStr.indexOf(newLine, lineStartPos);
+			if (lineEnd == -1 || lineEnd > codeEnd) {
+				lineEnd = codeEnd;
+			}
+			out.beginObject();
+			out.name("code").value(codeStr.substring(lineStartPos, lineEnd));
 			Object obj = metadata.getAt(lineStartPos);
 			if (obj instanceof InsnCodeOffset) {
 				long offset = ((InsnCodeOffset) obj).getOffset();
-				jsonCodeLine.setOffset("0x" + Long.toHexString(mthCodeOffset + offset * 2));
+				out.name("offset").value("0x" + Long.toHexString(mthCodeOffset + offset * 2));
+			}
+			Integer sourceLine = lineMapping.get(line);
+			if (sourceLine != null) {
+				out.name("source-line").value(sourceLine);
 			}
-			codeLines.add(jsonCodeLine);
-			lineStartPos += codeLine.length() + newLineLen;
+			out.endObject();
+			line++;
+			lineStartPos = lineEnd + newLineLen;
+		}
+	}
+
+	private static void writeStrings(JsonWriter out, List<String> list) throws IOException {
+		out.beginArray();
+		for (String str : list) {
+			out.value(str);
+		}
+		out.endArray();
+	}
+
+	private static void writeOptional(JsonWriter out, String name, @Nullable String value) throws IOException {
+		if (value != null) {
+			out.name(name).value(value);
 		}
-		return codeLines;
 	}
 
 	private String getTypeAlias(ClassGen classGen, ArgType clsType) {
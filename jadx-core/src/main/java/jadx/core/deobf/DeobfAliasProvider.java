@@ -9,6 +9,7 @@
 import jadx.core.dex.nodes.PackageNode;
 import jadx.core.dex.nodes.RootNode;
 import jadx.core.utils.StringUtils;
+import jadx.core.utils.exceptions.JadxRuntimeException;
 
 public class DeobfAliasProvider implements IAliasProvider {
 
@@ -39,19 +40,49 @@ public String forPackage(PackageNode pkg) {
 
 	@Override
 	public String forClass(ClassNode cls) {
-		String prefix = makeClsPrefix(cls);
-		return String.format("%sC%04d%s", prefix, clsIndex++, prepareNamePart(cls.getName()));
+		return makeAlias(prepareForClass(cls));
 	}
 
 	@Override
 	public String forField(FieldNode fld) {
-		return String.format("f%d%s", fldIndex++, prepareNamePart(fld.getName()));
+		return makeAlias(prepareForField(fld));
 	}
 
 	@Override
 	public String forMethod(MethodNode mth) {
+		return makeAlias(prepareForMethod(mth));
+	}
+
+	/**
+	 * Prepare alias parts without index. Don't change provider state, so can be called concurrently.
+	 */
+	public PreparedAlias prepareForClass(ClassNode cls) {
+		return new PreparedAlias(AliasKind.CLASS, makeClsPrefix(cls), prepareNamePart(cls.getName()));
+	}
+
+	public PreparedAlias prepareForField(FieldNode fld) {
+		return new PreparedAlias(AliasKind.FIELD, "f", prepareNamePart(fld.getName()));
+	}
+
+	public PreparedAlias prepareForMethod(MethodNode mth) {
 		String prefix = mth.contains(AType.METHOD_OVERRIDE) ? "mo" : "m";
-		return String.format("%s%d%s", prefix, mthIndex++, prepareNamePart(mth.getName()));
+		return new PreparedAlias(AliasKind.METHOD, prefix, prepareNamePart(mth.getName()));
+	}
+
+	/**
+	 * Add next index to prepared alias. Must be called in nodes order to get stable names.
+	 */
+	public String makeAlias(PreparedAlias alias) {
+		switch (alias.kind) {
+			case CLASS:
+				return String.format("%sC%04d%s", alias.prefix, clsIndex++, alias.namePart);
+			case FIELD:
+				return String.format("%s%d%s", alias.prefix, fldIndex++, alias.namePart);
+			case METHOD:
+				return String.format("%s%d%s", alias.prefix, mthIndex++, alias.namePart);
+			default:
+				throw new JadxRuntimeException("Unexpected alias kind: " + alias.kind);
+		}
 	}
 
 	private String prepareNamePart(String name) {
@@ -119,4 +150,20 @@ private static String getClsName(String name) {
 		String clsName = name.substring(pgkEnd + 1);
 		return StringUtils.removeChar(clsName, '$');
 	}
+
+	private enum AliasKind {
+		CLASS, FIELD, METHOD
+	}
+
+	public static final class PreparedAlias {
+		private final AliasKind kind;
+		private final String prefix;
+		private final String namePart;
+
+		private PreparedAlias(AliasKind kind, String prefix, String namePart) {
+			this.kind = kind;
+			this.prefix = prefix;
+			this.namePart = namePart;
+		}
+	}
 }
@@ -1,14 +1,25 @@
 package jadx.core.deobf;
 
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.jetbrains.annotations.Nullable;
+
 import jadx.api.JadxArgs;
 import jadx.api.deobf.IAliasProvider;
 import jadx.api.deobf.IRenameCondition;
+import jadx.core.deobf.DeobfAliasProvider.PreparedAlias;
 import jadx.core.dex.nodes.ClassNode;
 import jadx.core.dex.nodes.FieldNode;
 import jadx.core.dex.nodes.MethodNode;
 import jadx.core.dex.nodes.PackageNode;
 import jadx.core.dex.nodes.RootNode;
 import jadx.core.dex.visitors.AbstractVisitor;
+import jadx.core.utils.ListUtils;
 import jadx.core.utils.exceptions.JadxException;
 
 public class DeobfuscatorVisitor extends AbstractVisitor {
@@ -28,10 +39,19 @@ public void init(RootNode root) throws JadxException {
 		IAliasProvider aliasProvider = args.getAliasProvider();
 		IRenameCondition renameCondition = args.getRenameCondition();
 		mapping.initIndexes(aliasProvider);
-		process(root, renameCondition, aliasProvider);
+		if (args.isDeobfuscationParallel() && aliasProvider instanceof DeobfAliasProvider) {
+			processParallel(root, renameCondition, (DeobfAliasProvider) aliasProvider);
+		} else {
+			process(root, renameCondition, aliasProvider);
+		}
 	}
 
 	public static void process(RootNode root, IRenameCondition renameCondition, IAliasProvider aliasProvider) {
+		processPackages(root, renameCondition, aliasProvider);
+		processClasses(root, renameCondition, aliasProvider);
+	}
+
+	private static void processPackages(RootNode root, IRenameCondition renameCondition, IAliasProvider aliasProvider) {
 		boolean pkgUpdated = false;
 		for (PackageNode pkg : root.getPackages()) {
 			if (renameCondition.shouldRename(pkg)) {
@@ -45,7 +65,9 @@ public static void process(RootNode root, IRenameCondition renameCondition, IAli
 		if (pkgUpdated) {
 			root.runPackagesUpdate();
 		}
+	}
 
+	private static void processClasses(RootNode root, IRenameCondition renameCondition, IAliasProvider aliasProvider) {
 		for (ClassNode cls : root.getClasses()) {
 			if (renameCondition.shouldRename(cls)) {
 				String clsAlias = aliasProvider.forClass(cls);
@@ -72,6 +94,92 @@ public static void process(RootNode root, IRenameCondition renameCondition, IAli
 		}
 	}
 
+	/**
+	 * Same as {@link #process(RootNode, IRenameCondition, IAliasProvider)},
+	 * but rename conditions checked and alias parts prepared concurrently for every top class.
+	 * Indexes added in a final pass over nodes in original order, so aliases are same as in sequential mode.
+	 * <br>
+	 * In sequential mode, node alias can be set by previous renames (outer class or related override method),
+	 * such nodes are rejected by base condition. So alias presence checked again before rename.
+	 */
+	public static void processParallel(RootNode root, IRenameCondition renameCondition, DeobfAliasProvider aliasProvider) {
+		processPackages(root, renameCondition, aliasProvider);
+
+		// group by top class, so node changes made by conditions (like R class flag) stay in one thread
+		Map<ClassNode, List<ClassNode>> clsGroups = new LinkedHashMap<>();
+		for (ClassNode cls : root.getClasses()) {
+			clsGroups.computeIfAbsent(cls.getTopParentClass(), c -> new ArrayList<>()).add(cls);
+		}
+		Map<ClassNode, PreparedClsAliases> preparedMap = new IdentityHashMap<>(root.getClasses().size());
+		clsGroups.values().parallelStream()
+				.map(group -> ListUtils.map(group, cls -> prepareClsAliases(cls, renameCondition, aliasProvider)))
+				.collect(Collectors.toList())
+				.forEach(list -> list.forEach(prepared -> preparedMap.put(prepared.cls, prepared)));
+
+		for (ClassNode cls : root.getClasses()) {
+			PreparedClsAliases prepared = preparedMap.get(cls);
+			if (prepared.clsAlias != null && !cls.getClassInfo().hasAlias()) {
+				cls.rename(aliasProvider.makeAlias(prepared.clsAlias));
+			}
+			List<FieldNode> fields = cls.getFields();
+			for (int i = 0; i < fields.size(); i++) {
+				PreparedAlias fldAlias = prepared.fldAliases[i];
+				FieldNode fld = fields.get(i);
+				if (fldAlias != null && !fld.getFieldInfo().hasAlias()) {
+					fld.rename(aliasProvider.makeAlias(fldAlias));
+				}
+			}
+			List<MethodNode> methods = cls.getMethods();
+			for (int i = 0; i < methods.size(); i++) {
+				PreparedAlias mthAlias = prepared.mthAliases[i];
+				MethodNode mth = methods.get(i);
+				if (mthAlias != null && !mth.getMethodInfo().hasAlias()) {
+					mth.rename(aliasProvider.makeAlias(mthAlias));
+				}
+			}
+		}
+	}
+
+	private static PreparedClsAliases prepareClsAliases(ClassNode cls, IRenameCondition renameCondition,
+			DeobfAliasProvider aliasProvider) {
+		PreparedAlias clsAlias = null;
+		if (renameCondition.shouldRename(cls)) {
+			clsAlias = aliasProvider.prepareForClass(cls);
+		}
+		List<FieldNode> fields = cls.getFields();
+		PreparedAlias[] fldAliases = new PreparedAlias[fields.size()];
+		for (int i = 0; i < fields.size(); i++) {
+			FieldNode fld = fields.get(i);
+			if (renameCondition.shouldRename(fld)) {
+				fldAliases[i] = aliasProvider.prepareForField(fld);
+			}
+		}
+		List<MethodNode> methods = cls.getMethods();
+		PreparedAlias[] mthAliases = new PreparedAlias[methods.size()];
+		for (int i = 0; i < methods.size(); i++) {
+			MethodNode mth = methods.get(i);
+			if (renameCondition.shouldRename(mth)) {
+				mthAliases[i] = aliasProvider.prepareForMethod(mth);
+			}
+		}
+		return new PreparedClsAliases(cls, clsAlias, fldAliases, mthAliases);
+	}
+
+	private static final class PreparedClsAliases {
+		private final ClassNode cls;
+		private final @Nullable PreparedAlias clsAlias;
+		private final PreparedAlias[] fldAliases;
+		private final PreparedAlias[] mthAliases;
+
+		private PreparedClsAliases(ClassNode cls, @Nullable PreparedAlias clsAlias,
+				PreparedAlias[] fldAliases, PreparedAlias[] mthAliases) {
+			this.cls = cls;
+			this.clsAlias = clsAlias;
+			this.fldAliases = fldAliases;
+			this.mthAliases = mthAliases;
+		}
+	}
+
 	@Override
 	public String getName() {
 		return "DeobfuscatorVisitor";
@@ -52,6 +52,11 @@ public enum AFlag {
 	 */
 	ANDROID_R_CLASS,
 
+	/**
+	 * Top level class matched with known library signature (see {@link jadx.core.dex.nodes.utils.LibrarySignatures})
+	 */
+	LIBRARY_CLASS,
+
 	/**
 	 * RegisterArg attribute for method arguments
 	 */
@@ -1,13 +1,14 @@
 package jadx.core.dex.attributes;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
-import java.util.EnumSet;
 import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
-import java.util.function.Consumer;
+import java.util.function.BiPredicate;
+
+import org.jetbrains.annotations.Nullable;
 
 import jadx.api.plugins.input.data.annotations.IAnnotation;
 import jadx.api.plugins.input.data.attributes.IJadxAttrType;
@@ -21,39 +22,66 @@
  * Storage for different attribute types:
  * 1. flags - boolean attribute (set or not)
  * 2. attribute - class instance associated with attribute type.
+ * <br>
+ * Flags packed into one long and attributes stored in small inline array,
+ * which promoted to map only for nodes with many attributes.
  */
 public class AttributeStorage {
 
+	private static final AFlag[] FLAGS = AFlag.values();
+
 	static {
-		int flagsCount = AFlag.values().length;
+		int flagsCount = FLAGS.length;
 		if (flagsCount >= 64) {
-			throw new JadxRuntimeException("Try to reduce flags count to 64 for use one long in EnumSet, now " + flagsCount);
+			throw new JadxRuntimeException("Try to reduce flags count to 64 for use one long for flags, now " + flagsCount);
 		}
 	}
 
-	private final Set<AFlag> flags;
-	private Map<IJadxAttrType<?>, IJadxAttribute> attributes;
+	/**
+	 * Max attributes count in inline array
+	 */
+	private static final int INLINE_ATTRS_LIMIT = 8;
+
+	private static final Object[] EMPTY_ATTRS = new Object[0];
+
+	/**
+	 * Flags bit set, bit index is a flag ordinal
+	 */
+	private long flags;
+
+	/**
+	 * Attribute types and values pairs: [type0, attr0, type1, attr1, ...].
+	 * Array filled before publish and replaced on every change,
+	 * so readers without lock always see consistent pairs.
+	 */
+	private volatile Object[] attrs = EMPTY_ATTRS;
+
+	/**
+	 * Used instead of inline array after attributes count exceed {@link #INLINE_ATTRS_LIMIT}.
+	 * Set before inline array cleared, readers check it after reading inline array.
+	 * Map changes done under lock, but reads without lock are racy (same as before promotion to map).
+	 */
+	private volatile @Nullable Map<IJadxAttrType<?>, IJadxAttribute> attrsMap;
 
 	public AttributeStorage() {
-		flags = EnumSet.noneOf(AFlag.class);
-		attributes = Collections.emptyMap();
 	}
 
 	public AttributeStorage(List<IJadxAttribute> attributesList) {
-		this();
 		add(attributesList);
 	}
 
 	public void add(AFlag flag) {
-		flags.add(flag);
+		flags |= flagBit(flag);
 	}
 
-	public void add(IJadxAttribute attr) {
-		writeAttributes(map -> map.put(attr.getAttrType(), attr));
+	public synchronized void add(IJadxAttribute attr) {
+		put(attr.getAttrType(), attr);
 	}
 
-	public void add(List<IJadxAttribute> list) {
-		writeAttributes(map -> list.forEach(attr -> map.put(attr.getAttrType(), attr)));
+	public synchronized void add(List<IJadxAttribute> list) {
+		for (IJadxAttribute attr : list) {
+			put(attr.getAttrType(), attr);
+		}
 	}
 
 	public <T> void add(IJadxAttrType<AttrList<T>> type, T obj) {
@@ -66,23 +94,24 @@ public <T> void add(IJadxAttrType<AttrList<T>> type, T obj) {
 	}
 
 	public void addAll(AttributeStorage otherList) {
-		flags.addAll(otherList.flags);
-		if (!otherList.attributes.isEmpty()) {
-			writeAttributes(m -> m.putAll(otherList.attributes));
+		flags |= otherList.flags;
+		List<IJadxAttribute> otherAttrs = otherList.getAttributes();
+		if (!otherAttrs.isEmpty()) {
+			add(otherAttrs);
 		}
 	}
 
 	public boolean contains(AFlag flag) {
-		return flags.contains(flag);
+		return (flags & flagBit(flag)) != 0;
 	}
 
 	public <T extends IJadxAttribute> boolean contains(IJadxAttrType<T> type) {
-		return attributes.containsKey(type);
+		return find(type) != null;
 	}
 
 	@SuppressWarnings("unchecked")
 	public <T extends IJadxAttribute> T get(IJadxAttrType<T> type) {
-		return (T) attributes.get(type);
+		return (T) find(type);
 	}
 
 	public IAnnotation getAnnotation(String cls) {
@@ -99,66 +128,153 @@ public <T> List<T> getAll(IJadxAttrType<AttrList<T>> type) {
 	}
 
 	public void remove(AFlag flag) {
-		flags.remove(flag);
+		flags &= ~flagBit(flag);
 	}
 
 	public void clearFlags() {
-		flags.clear();
+		flags = 0;
 	}
 
 	public <T extends IJadxAttribute> void remove(IJadxAttrType<T> type) {
-		if (!attributes.isEmpty()) {
-			writeAttributes(map -> map.remove(type));
+		if (attrsCount() != 0) {
+			removeAttrs((t, a) -> t == type);
 		}
 	}
 
 	public void remove(IJadxAttribute attr) {
-		if (!attributes.isEmpty()) {
-			writeAttributes(map -> {
-				IJadxAttrType<? extends IJadxAttribute> type = attr.getAttrType();
-				IJadxAttribute a = map.get(type);
-				if (a == attr) {
-					map.remove(type);
-				}
-			});
+		if (attrsCount() != 0) {
+			IJadxAttrType<? extends IJadxAttribute> type = attr.getAttrType();
+			removeAttrs((t, a) -> t == type && a == attr);
 		}
 	}
 
-	private void writeAttributes(Consumer<Map<IJadxAttrType<?>, IJadxAttribute>> mapConsumer) {
-		if (attributes.isEmpty()) {
-			attributes = new IdentityHashMap<>(5);
+	public void unloadAttributes() {
+		if (attrsCount() != 0) {
+			removeAttrs((t, a) -> !a.keepLoaded());
 		}
-		synchronized (this) {
-			mapConsumer.accept(attributes);
+	}
+
+	private static long flagBit(AFlag flag) {
+		return 1L << flag.ordinal();
+	}
+
+	private @Nullable IJadxAttribute find(IJadxAttrType<?> type) {
+		Object[] arr = attrs;
+		for (int i = 0; i < arr.length; i += 2) {
+			if (arr[i] == type) {
+				return (IJadxAttribute) arr[i + 1];
+			}
 		}
+		Map<IJadxAttrType<?>, IJadxAttribute> map = attrsMap;
+		if (map != null) {
+			return map.get(type);
+		}
+		return null;
 	}
 
-	public void unloadAttributes() {
-		if (attributes.isEmpty()) {
+	/**
+	 * Must be called with lock on this
+	 */
+	private void put(IJadxAttrType<?> type, IJadxAttribute attr) {
+		Map<IJadxAttrType<?>, IJadxAttribute> map = attrsMap;
+		if (map != null) {
+			map.put(type, attr);
+			return;
+		}
+		Object[] arr = attrs;
+		int len = arr.length;
+		for (int i = 0; i < len; i += 2) {
+			if (arr[i] == type) {
+				Object[] newArr = arr.clone();
+				newArr[i + 1] = attr;
+				attrs = newArr;
+				return;
+			}
+		}
+		if (len / 2 >= INLINE_ATTRS_LIMIT) {
+			Map<IJadxAttrType<?>, IJadxAttribute> newMap = new IdentityHashMap<>(len);
+			for (int i = 0; i < len; i += 2) {
+				newMap.put((IJadxAttrType<?>) arr[i], (IJadxAttribute) arr[i + 1]);
+			}
+			newMap.put(type, attr);
+			attrsMap = newMap;
+			attrs = EMPTY_ATTRS;
+			return;
+		}
+		Object[] newArr = Arrays.copyOf(arr, len + 2);
+		newArr[len] = type;
+		newArr[len + 1] = attr;
+		attrs = newArr;
+	}
+
+	private synchronized void removeAttrs(BiPredicate<IJadxAttrType<?>, IJadxAttribute> filter) {
+		Map<IJadxAttrType<?>, IJadxAttribute> map = attrsMap;
+		if (map != null) {
+			map.entrySet().removeIf(entry -> filter.test(entry.getKey(), entry.getValue()));
 			return;
 		}
-		synchronized (this) {
-			attributes.entrySet().removeIf(entry -> !entry.getValue().keepLoaded());
+		Object[] arr = attrs;
+		int len = arr.length;
+		Object[] newArr = new Object[len];
+		int k = 0;
+		for (int i = 0; i < len; i += 2) {
+			if (!filter.test((IJadxAttrType<?>) arr[i], (IJadxAttribute) arr[i + 1])) {
+				newArr[k++] = arr[i];
+				newArr[k++] = arr[i + 1];
+			}
 		}
+		if (k != len) {
+			attrs = k == 0 ? EMPTY_ATTRS : Arrays.copyOf(newArr, k);
+		}
+	}
+
+	private int attrsCount() {
+		Object[] arr = attrs;
+		if (arr.length != 0) {
+			return arr.length / 2;
+		}
+		Map<IJadxAttrType<?>, IJadxAttribute> map = attrsMap;
+		return map != null ? map.size() : 0;
+	}
+
+	private List<IJadxAttribute> getAttributes() {
+		Object[] arr = attrs;
+		if (arr.length == 0) {
+			Map<IJadxAttrType<?>, IJadxAttribute> map = attrsMap;
+			if (map == null) {
+				return Collections.emptyList();
+			}
+			synchronized (this) {
+				return new ArrayList<>(map.values());
+			}
+		}
+		List<IJadxAttribute> list = new ArrayList<>(arr.length / 2);
+		for (int i = 1; i < arr.length; i += 2) {
+			list.add((IJadxAttribute) arr[i]);
+		}
+		return list;
 	}
 
 	public List<String> getAttributeStrings() {
-		int size = flags.size() + attributes.size();
+		List<IJadxAttribute> attrList = getAttributes();
+		int size = Long.bitCount(flags) + attrList.size();
 		if (size == 0) {
 			return Collections.emptyList();
 		}
 		List<String> list = new ArrayList<>(size);
-		for (AFlag a : flags) {
-			list.add(a.toString());
+		long flagsBits = flags;
+		while (flagsBits != 0) {
+			list.add(FLAGS[Long.numberOfTrailingZeros(flagsBits)].toString());
+			flagsBits &= flagsBits - 1;
 		}
-		for (IJadxAttribute a : attributes.values()) {
+		for (IJadxAttribute a : attrList) {
 			list.add(a.toAttrString());
 		}
 		return list;
 	}
 
 	public boolean isEmpty() {
-		return flags.isEmpty() && attributes.isEmpty();
+		return flags == 0 && attrsCount() == 0;
 	}
 
 	@Override
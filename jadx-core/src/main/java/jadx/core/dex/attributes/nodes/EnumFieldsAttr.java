@@ -0,0 +1,34 @@
+package jadx.core.dex.attributes.nodes;
+
+import java.util.List;
+
+import jadx.api.plugins.input.data.attributes.PinnedAttribute;
+import jadx.core.dex.attributes.AType;
+import jadx.core.dex.nodes.FieldNode;
+
+/**
+ * Enum fields in ordinal order.
+ * Compact version of {@link EnumClassAttr} for use in other classes, kept after class unload.
+ */
+public class EnumFieldsAttr extends PinnedAttribute {
+
+	private final List<FieldNode> fields;
+
+	public EnumFieldsAttr(List<FieldNode> fields) {
+		this.fields = fields;
+	}
+
+	public List<FieldNode> getFields() {
+		return fields;
+	}
+
+	@Override
+	public AType<EnumFieldsAttr> getAttrType() {
+		return AType.ENUM_FIELDS;
+	}
+
+	@Override
+	public String toString() {
+		return "Enum fields: " + fields;
+	}
+}
@@ -5,11 +5,14 @@
 
 import org.jetbrains.annotations.Nullable;
 
-import jadx.api.plugins.input.data.attributes.IJadxAttribute;
+import jadx.api.plugins.input.data.attributes.PinnedAttribute;
 import jadx.core.dex.attributes.AType;
 import jadx.core.dex.nodes.FieldNode;
 
-public class EnumMapAttr implements IJadxAttribute {
+/**
+ * Switch map from synthetic class, kept after class unload for use in other classes
+ */
+public class EnumMapAttr extends PinnedAttribute {
 
 	public static class KeyValueMap {
 		private final Map<Object, Object> map = new HashMap<>();
@@ -69,6 +69,8 @@ void removeForCls(ClassNode cls) {
 
 	private Map<Integer, String> resourcesNames = new HashMap<>();
 
+	private volatile @Nullable ILookupListener lookupListener;
+
 	public ConstStorage(JadxArgs args) {
 		this.replaceEnabled = args.isReplaceConsts();
 	}
@@ -106,6 +108,15 @@ private ValueStorage getClsValues(ClassNode cls) {
 		if (!replaceEnabled) {
 			return null;
 		}
+		IFieldInfoRef field = searchConstField(cls, value, searchGlobal);
+		ILookupListener listener = lookupListener;
+		if (listener != null) {
+			listener.onLookup(cls, value, searchGlobal, field);
+		}
+		return field;
+	}
+
+	private @Nullable IFieldInfoRef searchConstField(ClassNode cls, Object value, boolean searchGlobal) {
 		RootNode root = cls.root();
 		if (value instanceof Integer) {
 			FieldNode rField = getResourceField((Integer) value, root);
@@ -215,4 +226,15 @@ public Map<Object, IFieldInfoRef> getGlobalConstFields() {
 	public boolean isReplaceEnabled() {
 		return replaceEnabled;
 	}
+
+	/**
+	 * Set listener for all const fields lookups, {@code null} to remove
+	 */
+	public void setLookupListener(@Nullable ILookupListener lookupListener) {
+		this.lookupListener = lookupListener;
+	}
+
+	public interface ILookupListener {
+		void onLookup(ClassNode cls, Object value, boolean searchGlobal, @Nullable IFieldInfoRef result);
+	}
 }
@@ -24,6 +24,7 @@
 import jadx.api.impl.SimpleCodeWriter;
 import jadx.api.metadata.ICodeAnnotation;
 import jadx.api.metadata.annotations.NodeDeclareRef;
+import jadx.api.metrics.DecompileMetrics;
 import jadx.api.plugins.input.data.IClassData;
 import jadx.api.plugins.input.data.IFieldData;
 import jadx.api.plugins.input.data.IMethodData;
@@ -62,7 +63,7 @@ public class ClassNode extends NotificationAttrNode
 	private static final Logger LOG = LoggerFactory.getLogger(ClassNode.class);
 
 	private final RootNode root;
-	private final IClassData clsData;
+	private IClassData clsData;
 
 	private final ClassInfo clsInfo;
 	private PackageNode packageNode;
@@ -339,6 +340,7 @@ public ICodeInfo getCode() {
 	}
 
 	public ICodeInfo reloadCode() {
+		root.getMetrics().addReload(this);
 		add(AFlag.CLASS_DEEP_RELOAD);
 		return decompile(false);
 	}
@@ -347,9 +349,23 @@ public void unloadCode() {
 		if (state == NOT_LOADED) {
 			return;
 		}
-		add(AFlag.CLASS_UNLOADED);
+		root.getMetrics().addReload(this);
 		unloadFromCache();
 		deepUnload();
+		// set after deep unload, because all attributes removed there
+		add(AFlag.CLASS_UNLOADED);
+	}
+
+	/**
+	 * Replace class data with updated version (only methods code can be changed).
+	 * Class should be unloaded by {@link #unloadCode()} to apply changes.
+	 */
+	public void updateClassData(IClassData newClsData) {
+		if (clsData == null) {
+			throw new JadxRuntimeException("Can't update class data for manually added class: " + this);
+		}
+		this.clsData = newClsData.copy();
+		this.smali = null;
 	}
 
 	public void deepUnload() {
@@ -357,10 +373,15 @@ public void deepUnload() {
 			// manually added class
 			return;
 		}
+		List<MethodNode> oldMethods = methods;
+		List<FieldNode> oldFields = fields;
 		clearAttributes();
 		unload();
 		root().getConstValues().removeForClass(this);
 		load(clsData, true);
+		// methods and fields recreated
+		root().getNamesIndex().updateClassMembers(this, oldMethods, oldFields);
+		root().getClassHierarchy().invalidate(this);
 
 		innerClasses.forEach(ClassNode::deepUnload);
 	}
@@ -393,17 +414,26 @@ private synchronized ICodeInfo decompile(boolean searchInCache) {
 	}
 
 	private ICodeInfo generateClassCode() {
+		long startTime = System.nanoTime();
+		long startAllocated = DecompileMetrics.getThreadAllocatedBytes();
+		ICodeInfo codeInfo;
+		boolean failed;
 		try {
 			if (Consts.DEBUG) {
 				LOG.debug("Decompiling class: {}", this);
 			}
-			ICodeInfo codeInfo = root.getProcessClasses().generateCode(this);
+			codeInfo = root.getProcessClasses().generateCode(this);
 			processDefinitionAnnotations(codeInfo);
-			return codeInfo;
+			failed = false;
 		} catch (Throwable e) {
 			addError("Code generation failed", e);
-			return new SimpleCodeInfo(Utils.getStackTrace(e));
+			codeInfo = new SimpleCodeInfo(Utils.getStackTrace(e));
+			failed = true;
 		}
+		long allocated = startAllocated == -1 ? 0 : DecompileMetrics.getThreadAllocatedBytes() - startAllocated;
+		int outputSize = failed ? 0 : codeInfo.getCodeStr().length();
+		root.getMetrics().addDecompile(this, System.nanoTime() - startTime, allocated, outputSize, failed);
+		return codeInfo;
 	}
 
 	/**
@@ -611,6 +641,7 @@ public void rename(String newName) {
 		int lastDot = newName.lastIndexOf('.');
 		if (lastDot == -1) {
 			clsInfo.changeShortName(newName);
+			root.getNamesIndex().invalidateAliases();
 			return;
 		}
 		if (clsInfo.isInner()) {
@@ -625,6 +656,7 @@ public void rename(String newName) {
 		} else {
 			clsInfo.changeShortName(newShortName);
 		}
+		root.getNamesIndex().invalidateAliases();
 	}
 
 	private boolean changeClassNodePackage(String fullPkg) {
@@ -645,6 +677,7 @@ public void removeAlias() {
 			changeClassNodePackage(clsInfo.getPackage());
 		}
 		clsInfo.removeAlias();
+		root.getNamesIndex().invalidateAliases();
 	}
 
 	@Override
@@ -653,6 +686,7 @@ public void onParentPackageUpdate(PackageNode updatedPkg) {
 			return;
 		}
 		clsInfo.changePkg(packageNode.getAliasPkgInfo().getFullName());
+		root.getNamesIndex().invalidateAliases();
 	}
 
 	public PackageNode getPackageNode() {
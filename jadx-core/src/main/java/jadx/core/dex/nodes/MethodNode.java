@@ -641,6 +641,7 @@ public void rename(String newName) {
 		} else {
 			mthInfo.setAlias(newName);
 		}
+		root().getNamesIndex().invalidateAliases();
 	}
 
 	/**
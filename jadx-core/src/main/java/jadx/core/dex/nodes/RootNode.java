@@ -23,6 +23,7 @@
 import jadx.api.data.ICodeData;
 import jadx.api.impl.passes.DecompilePassWrapper;
 import jadx.api.impl.passes.PreparePassWrapper;
+import jadx.api.metrics.DecompileMetrics;
 import jadx.api.plugins.input.ICodeLoader;
 import jadx.api.plugins.input.data.IClassData;
 import jadx.api.plugins.pass.JadxPass;
@@ -40,7 +41,9 @@
 import jadx.core.dex.info.MethodInfo;
 import jadx.core.dex.info.PackageInfo;
 import jadx.core.dex.instructions.args.ArgType;
+import jadx.core.dex.nodes.utils.ClassHierarchy;
 import jadx.core.dex.nodes.utils.MethodUtils;
+import jadx.core.dex.nodes.utils.NamesIndex;
 import jadx.core.dex.nodes.utils.TypeUtils;
 import jadx.core.dex.visitors.DepthTraversal;
 import jadx.core.dex.visitors.IDexTreeVisitor;
@@ -69,12 +72,15 @@ public class RootNode {
 
 	private final ProcessClass processClasses;
 	private final ErrorsCounter errorsCounter = new ErrorsCounter();
+	private final DecompileMetrics metrics = new DecompileMetrics();
 	private final StringUtils stringUtils;
 	private final ConstStorage constValues;
 	private final InfoStorage infoStorage = new InfoStorage();
 	private final CacheStorage cacheStorage = new CacheStorage();
 	private final TypeUpdate typeUpdate;
 	private final MethodUtils methodUtils;
+	private final NamesIndex namesIndex;
+	private final ClassHierarchy classHierarchy;
 	private final TypeUtils typeUtils;
 	private final AttributeStorage attributes = new AttributeStorage();
 
@@ -106,6 +112,8 @@ public RootNode(JadxArgs args) {
 		this.constValues = new ConstStorage(args);
 		this.typeUpdate = new TypeUpdate(this);
 		this.methodUtils = new MethodUtils(this);
+		this.namesIndex = new NamesIndex(this);
+		this.classHierarchy = new ClassHierarchy(this);
 		this.typeUtils = new TypeUtils(this);
 	}
 
@@ -149,6 +157,8 @@ public void loadClasses(List<ICodeLoader> loadedInputs) {
 		}
 		// sort packages
 		Collections.sort(packages);
+		namesIndex.invalidate();
+		classHierarchy.invalidate();
 	}
 
 	private void addDummyClass(IClassData classData, Exception exc) {
@@ -198,6 +208,8 @@ public void addClassNode(ClassNode clsNode) {
 		classes.add(clsNode);
 		clsMap.put(clsNode.getClassInfo(), clsNode);
 		rawClsMap.put(clsNode.getRawName(), clsNode);
+		namesIndex.invalidate();
+		classHierarchy.invalidate();
 	}
 
 	public void loadResources(ResourcesLoader resLoader, List<ResourceFile> resources) {
@@ -342,6 +354,8 @@ public void runPreDecompileStage() {
 				LOG.debug("Prepare pass: '{}' - {}ms", pass, System.currentTimeMillis() - start);
 			}
 		}
+		// passes can rename nodes
+		namesIndex.invalidateAliases();
 	}
 
 	public void runPreDecompileStageForClass(ClassNode cls) {
@@ -476,20 +490,14 @@ public ClassNode resolveRawClass(String rawFullName) {
 
 	/**
 	 * Searches for ClassNode by its full name (original or alias name)
-	 * <br>
-	 * Warning: This method has a runtime of O(n) (n = number of classes).
-	 * If you need to call it more than once consider {@link #buildFullAliasClassCache()} instead
 	 */
 	@Nullable
 	public ClassNode searchClassByFullAlias(String fullName) {
-		for (ClassNode cls : classes) {
-			ClassInfo classInfo = cls.getClassInfo();
-			if (classInfo.getFullName().equals(fullName)
-					|| classInfo.getAliasFullName().equals(fullName)) {
-				return cls;
-			}
+		ClassNode cls = namesIndex.getClassByOrigFullName(fullName);
+		if (cls != null) {
+			return cls;
 		}
-		return null;
+		return namesIndex.getClassByAliasFullName(fullName);
 	}
 
 	public Map<String, ClassNode> buildFullAliasClassCache() {
@@ -507,13 +515,7 @@ public Map<String, ClassNode> buildFullAliasClassCache() {
 	}
 
 	public List<ClassNode> searchClassByShortName(String shortName) {
-		List<ClassNode> list = new ArrayList<>();
-		for (ClassNode cls : classes) {
-			if (cls.getClassInfo().getShortName().equals(shortName)) {
-				list.add(cls);
-			}
-		}
-		return list;
+		return new ArrayList<>(namesIndex.getClassesByShortName(shortName));
 	}
 
 	@Nullable
@@ -640,6 +642,7 @@ public void registerCodeDataUpdateListener(ICodeDataUpdateListener listener) {
 	public void notifyCodeDataListeners() {
 		ICodeData codeData = args.getCodeData();
 		codeDataUpdateListeners.forEach(l -> l.updated(codeData));
+		namesIndex.invalidateAliases();
 	}
 
 	public ClspGraph getClsp() {
@@ -650,6 +653,10 @@ public ErrorsCounter getErrorsCounter() {
 		return errorsCounter;
 	}
 
+	public DecompileMetrics getMetrics() {
+		return metrics;
+	}
+
 	@Nullable
 	public String getAppPackage() {
 		return appPackage;
@@ -704,6 +711,14 @@ public MethodUtils getMethodUtils() {
 		return methodUtils;
 	}
 
+	public NamesIndex getNamesIndex() {
+		return namesIndex;
+	}
+
+	public ClassHierarchy getClassHierarchy() {
+		return classHierarchy;
+	}
+
 	public TypeUtils getTypeUtils() {
 		return typeUtils;
 	}
@@ -0,0 +1,335 @@
+package jadx.core.dex.nodes.utils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import jadx.core.clsp.ClspClass;
+import jadx.core.clsp.ClspMethod;
+import jadx.core.dex.instructions.args.ArgType;
+import jadx.core.dex.nodes.ClassNode;
+import jadx.core.dex.nodes.MethodNode;
+import jadx.core.dex.nodes.RootNode;
+import jadx.core.utils.exceptions.JadxRuntimeException;
+
+/**
+ * Project-wide class hierarchy index: super types closure, methods signature tables and sub types.
+ * <br>
+ * All data computed once on first request (or in parallel by {@link #build()}) and shared between passes.
+ * Class declarations don't change after load, so data reset only on classes list or methods update.
+ * On single class reload only data for that class updated, see {@link #invalidate(ClassNode)}.
+ */
+public class ClassHierarchy {
+	private static final Logger LOG = LoggerFactory.getLogger(ClassHierarchy.class);
+
+	private static final SuperTypes NO_SUPER_TYPES = new SuperTypes(Collections.emptyList(), Collections.emptySet());
+
+	private final RootNode root;
+
+	private final Map<ClassNode, SuperTypes> superTypesMap = new ConcurrentHashMap<>();
+	private final Map<ClassNode, MethodsTable> methodsTables = new ConcurrentHashMap<>();
+	private final Map<String, Map<String, ClspMethod>> clspSignatures = new ConcurrentHashMap<>();
+
+	private volatile @Nullable Map<String, List<ClassNode>> subTypesMap;
+
+	public ClassHierarchy(RootNode root) {
+		this.root = root;
+	}
+
+	/**
+	 * Reset all data, should be called on classes list or methods update
+	 */
+	public void invalidate() {
+		superTypesMap.clear();
+		methodsTables.clear();
+		subTypesMap = null;
+	}
+
+	/**
+	 * Reset data for one class, should be called after class methods recreated (i.e. class reload)
+	 */
+	public void invalidate(ClassNode cls) {
+		methodsTables.remove(cls);
+		SuperTypes oldSuperTypes = superTypesMap.remove(cls);
+		Map<String, List<ClassNode>> map = subTypesMap;
+		if (map == null) {
+			return;
+		}
+		synchronized (this) {
+			if (subTypesMap != map) {
+				// map rebuilt with actual data
+				return;
+			}
+			List<ArgType> oldList = oldSuperTypes == null || oldSuperTypes == NO_SUPER_TYPES
+					? Collections.emptyList()
+					: oldSuperTypes.getList();
+			List<ArgType> newList;
+			try {
+				SuperTypes newSuperTypes = getSuperTypes(cls);
+				newList = newSuperTypes == null ? Collections.emptyList() : newSuperTypes.getList();
+			} catch (Exception e) {
+				newList = Collections.emptyList();
+			}
+			if (oldList.equals(newList)) {
+				// usual case, keep sub types order
+				return;
+			}
+			// lists replaced to not break concurrent readers
+			for (ArgType superType : oldList) {
+				map.computeIfPresent(superType.getObject(), (k, list) -> {
+					List<ClassNode> newSubTypes = new ArrayList<>(list);
+					newSubTypes.remove(cls);
+					return newSubTypes.isEmpty() ? null : newSubTypes;
+				});
+			}
+			for (ArgType superType : newList) {
+				map.compute(superType.getObject(), (k, list) -> {
+					List<ClassNode> newSubTypes = list == null ? new ArrayList<>(1) : new ArrayList<>(list);
+					newSubTypes.add(cls);
+					return newSubTypes;
+				});
+			}
+		}
+	}
+
+	/**
+	 * Compute super types and methods tables for all classes in parallel
+	 */
+	public void build() {
+		long start = System.currentTimeMillis();
+		root.getClasses().parallelStream().forEach(cls -> {
+			try {
+				getSuperTypes(cls);
+				getMethodsTable(cls);
+			} catch (Exception e) {
+				// error will be reported on next request from pass
+				LOG.debug("Failed to collect hierarchy data for class: {}", cls, e);
+			}
+		});
+		if (LOG.isDebugEnabled()) {
+			LOG.debug("Class hierarchy built for {} classes in {}ms", root.getClasses().size(), System.currentTimeMillis() - start);
+		}
+	}
+
+	/**
+	 * All super types (classes and interfaces, excluding {@code Object}) from class and classpath hierarchy.
+	 *
+	 * @return {@code null} if class don't have super types
+	 */
+	@Nullable
+	public SuperTypes getSuperTypes(ClassNode cls) {
+		SuperTypes superTypes = superTypesMap.computeIfAbsent(cls, this::collectSuperTypes);
+		return superTypes == NO_SUPER_TYPES ? null : superTypes;
+	}
+
+	public MethodsTable getMethodsTable(ClassNode cls) {
+		MethodsTable table = methodsTables.get(cls);
+		if (table != null && table.methodsCount == cls.getMethods().size()) {
+			return table;
+		}
+		// methods can be added by passes, rebuild on count change
+		MethodsTable newTable = new MethodsTable(cls.getMethods());
+		methodsTables.put(cls, newTable);
+		return newTable;
+	}
+
+	/**
+	 * Search classpath method by signature without return type
+	 */
+	@Nullable
+	public ClspMethod getClspMethodBySignature(ClspClass clsDetails, String signature) {
+		return clspSignatures.computeIfAbsent(clsDetails.getName(), n -> buildClspSignatures(clsDetails)).get(signature);
+	}
+
+	/**
+	 * All app classes which extend or implement provided class (directly or through other types)
+	 */
+	public List<ClassNode> getSubTypes(ClassNode cls) {
+		List<ClassNode> list = getSubTypesMap().get(cls.getType().getObject());
+		return list == null ? Collections.emptyList() : list;
+	}
+
+	/**
+	 * Not static methods from sub types with same signature as provided method
+	 */
+	public List<MethodNode> getOverridingMethods(MethodNode mth) {
+		if (mth.isConstructor() || mth.getAccessFlags().isStatic() || mth.getAccessFlags().isPrivate()) {
+			return Collections.emptyList();
+		}
+		String signature = mth.getMethodInfo().makeSignature(false);
+		List<MethodNode> result = new ArrayList<>();
+		for (ClassNode subCls : getSubTypes(mth.getParentClass())) {
+			result.addAll(getMethodsTable(subCls).getBySignature(signature));
+		}
+		return result;
+	}
+
+	private Map<String, List<ClassNode>> getSubTypesMap() {
+		Map<String, List<ClassNode>> map = subTypesMap;
+		if (map != null) {
+			return map;
+		}
+		synchronized (this) {
+			map = subTypesMap;
+			if (map == null) {
+				map = buildSubTypesMap();
+				subTypesMap = map;
+			}
+			return map;
+		}
+	}
+
+	private Map<String, List<ClassNode>> buildSubTypesMap() {
+		Map<String, List<ClassNode>> map = new ConcurrentHashMap<>();
+		for (ClassNode cls : root.getClasses()) {
+			SuperTypes superTypes;
+			try {
+				superTypes = getSuperTypes(cls);
+			} catch (Exception e) {
+				continue;
+			}
+			if (superTypes != null) {
+				for (ArgType superType : superTypes.getList()) {
+					map.computeIfAbsent(superType.getObject(), k -> new ArrayList<>()).add(cls);
+				}
+			}
+		}
+		return map;
+	}
+
+	private static Map<String, ClspMethod> buildClspSignatures(ClspClass clsDetails) {
+		Map<String, ClspMethod> map = new HashMap<>();
+		for (Map.Entry<String, ClspMethod> entry : clsDetails.getMethodsMap().entrySet()) {
+			String mthShortId = entry.getKey();
+			String signature = mthShortId.substring(0, mthShortId.lastIndexOf(')') + 1);
+			map.putIfAbsent(signature, entry.getValue());
+		}
+		return map;
+	}
+
+	private SuperTypes collectSuperTypes(ClassNode cls) {
+		Set<ArgType> superTypes = new LinkedHashSet<>();
+		Set<String> endTypes = new HashSet<>();
+		collectSuperTypes(cls, superTypes, endTypes);
+		if (superTypes.isEmpty()) {
+			return NO_SUPER_TYPES;
+		}
+		if (endTypes.isEmpty()) {
+			throw new JadxRuntimeException("No end types in class hierarchy: " + cls);
+		}
+		return new SuperTypes(new ArrayList<>(superTypes), endTypes);
+	}
+
+	private void collectSuperTypes(ClassNode cls, Set<ArgType> superTypes, Set<String> endTypes) {
+		int k = 0;
+		ArgType superClass = cls.getSuperClass();
+		if (superClass != null) {
+			k += addSuperType(superTypes, endTypes, superClass);
+		}
+		for (ArgType iface : cls.getInterfaces()) {
+			k += addSuperType(superTypes, endTypes, iface);
+		}
+		if (k == 0) {
+			endTypes.add(cls.getType().getObject());
+		}
+	}
+
+	private int addSuperType(Set<ArgType> superTypes, Set<String> endTypes, ArgType superType) {
+		if (Objects.equals(superType, ArgType.OBJECT)) {
+			return 0;
+		}
+		if (!superTypes.add(superType)) {
+			// found 'super' loop, stop processing
+			return 0;
+		}
+		ClassNode classNode = root.resolveClass(superType);
+		if (classNode != null) {
+			collectSuperTypes(classNode, superTypes, endTypes);
+			return 1;
+		}
+		ClspClass clsDetails = root.getClsp().getClsDetails(superType);
+		if (clsDetails != null) {
+			int k = 0;
+			for (ArgType parentType : clsDetails.getParents()) {
+				k += addSuperType(superTypes, endTypes, parentType);
+			}
+			if (k == 0) {
+				endTypes.add(superType.getObject());
+			}
+			return 1;
+		}
+		// no info found => treat as hierarchy end
+		endTypes.add(superType.getObject());
+		return 1;
+	}
+
+	public static final class SuperTypes {
+		private final List<ArgType> list;
+		private final Set<String> endTypes;
+
+		private SuperTypes(List<ArgType> list, Set<String> endTypes) {
+			this.list = Collections.unmodifiableList(list);
+			this.endTypes = Collections.unmodifiableSet(endTypes);
+		}
+
+		/**
+		 * Super types in depth-first order: super class with its parents first, interfaces after
+		 */
+		public List<ArgType> getList() {
+			return list;
+		}
+
+		/**
+		 * Types without known parents (hierarchy roots)
+		 */
+		public Set<String> getEndTypes() {
+			return endTypes;
+		}
+	}
+
+	/**
+	 * Not static methods of class indexed by short id and by signature without return type
+	 */
+	public static final class MethodsTable {
+		private final int methodsCount;
+		private final Map<String, MethodNode> byShortId;
+		private final Map<String, List<MethodNode>> bySignature;
+
+		private MethodsTable(List<MethodNode> methods) {
+			this.methodsCount = methods.size();
+			this.byShortId = new HashMap<>(methods.size());
+			this.bySignature = new HashMap<>(methods.size());
+			for (MethodNode mth : methods) {
+				if (mth.getAccessFlags().isStatic()) {
+					continue;
+				}
+				byShortId.putIfAbsent(mth.getMethodInfo().getShortId(), mth);
+				bySignature.computeIfAbsent(mth.getMethodInfo().makeSignature(false), s -> new ArrayList<>(1)).add(mth);
+			}
+		}
+
+		@Nullable
+		public MethodNode getByShortId(String shortId) {
+			return byShortId.get(shortId);
+		}
+
+		/**
+		 * Methods with same name and arguments, in class declaration order
+		 */
+		public List<MethodNode> getBySignature(String signature) {
+			List<MethodNode> list = bySignature.get(signature);
+			return list == null ? Collections.emptyList() : list;
+		}
+	}
+}
@@ -0,0 +1,205 @@
+package jadx.core.dex.nodes.utils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import jadx.api.plugins.input.ICodeLoader;
+import jadx.api.plugins.input.data.IClassData;
+import jadx.api.plugins.input.data.IFieldData;
+import jadx.api.plugins.input.data.IMethodData;
+import jadx.api.plugins.input.data.IMethodRef;
+import jadx.core.dex.attributes.AFlag;
+import jadx.core.dex.nodes.ClassNode;
+import jadx.core.dex.nodes.RootNode;
+import jadx.core.dex.visitors.usage.UsageInfoVisitor;
+import jadx.core.utils.files.FileUtils;
+
+/**
+ * Apply changes from reloaded inputs to already loaded classes.
+ * <br>
+ * Classes compared by content hash (disassembled code), changed classes updated in place
+ * and unloaded together with its users, so other classes and caches are kept.
+ * Only code changes supported: if class added, removed or class declaration changed
+ * (super types, fields or methods list) full reload is required.
+ */
+public class ClassesReloader {
+	private static final Logger LOG = LoggerFactory.getLogger(ClassesReloader.class);
+
+	private final RootNode root;
+	/**
+	 * Content hash for current class data, calculated on first reload
+	 */
+	private final Map<String, String> hashCache = new HashMap<>();
+	/**
+	 * Input used to load current class data, filled on first reload
+	 */
+	private final Map<String, ICodeLoader> classInputs = new HashMap<>();
+
+	public ClassesReloader(RootNode root) {
+		this.root = root;
+	}
+
+	/**
+	 * @param curInputs inputs used for current classes data
+	 * @param newInputs reloaded inputs
+	 * @return updated top level classes (changed and its users) or {@code null} if full reload is required
+	 */
+	public @Nullable List<ClassNode> reload(List<ICodeLoader> curInputs, List<ICodeLoader> newInputs) {
+		long start = System.currentTimeMillis();
+		Map<String, ICodeLoader> newClassInputs = new HashMap<>();
+		Map<String, IClassData> newClasses = collectClasses(newInputs, newClassInputs);
+		if (newClasses == null) {
+			return null;
+		}
+		if (classInputs.isEmpty()) {
+			for (ICodeLoader input : curInputs) {
+				input.visitClasses(cls -> classInputs.put(cls.getType(), input));
+			}
+		}
+		Map<String, ClassNode> curClasses = new HashMap<>();
+		for (ClassNode cls : root.getClasses()) {
+			IClassData clsData = cls.getClsData();
+			if (clsData != null) {
+				curClasses.put(clsData.getType(), cls);
+			}
+		}
+		if (!curClasses.keySet().equals(newClasses.keySet())) {
+			LOG.debug("Classes added or removed, full reload required");
+			return null;
+		}
+		Map<ClassNode, IClassData> changed = new HashMap<>();
+		Map<String, String> newHashes = new HashMap<>(newClasses.size());
+		for (Map.Entry<String, IClassData> entry : newClasses.entrySet()) {
+			String type = entry.getKey();
+			IClassData newData = entry.getValue();
+			ClassNode cls = curClasses.get(type);
+			String newHash = FileUtils.md5Sum(newData.getDisassembledCode());
+			newHashes.put(type, newHash);
+			if (newHash.equals(getHash(type, cls.getClsData()))) {
+				continue;
+			}
+			if (!buildDeclaration(newData).equals(buildDeclaration(cls.getClsData()))) {
+				LOG.debug("Class declaration changed: {}, full reload required", cls);
+				return null;
+			}
+			changed.put(cls, newData);
+		}
+		hashCache.clear();
+		hashCache.putAll(newHashes);
+		for (ClassNode cls : changed.keySet()) {
+			String type = cls.getClsData().getType();
+			classInputs.put(type, newClassInputs.get(type));
+		}
+		if (changed.isEmpty()) {
+			LOG.debug("No changed classes found, time: {}ms", System.currentTimeMillis() - start);
+			return new ArrayList<>();
+		}
+		List<ClassNode> updated = applyChanges(changed);
+		LOG.info("Reloaded {} changed classes, updated top classes (with users): {}, time: {}ms",
+				changed.size(), updated.size(), System.currentTimeMillis() - start);
+		return updated;
+	}
+
+	/**
+	 * Inputs referenced by current classes data, other inputs can be closed
+	 */
+	public Set<ICodeLoader> getUsedInputs() {
+		return new HashSet<>(classInputs.values());
+	}
+
+	private List<ClassNode> applyChanges(Map<ClassNode, IClassData> changed) {
+		changed.forEach(ClassNode::updateClassData);
+		Set<ClassNode> changedTopClasses = new LinkedHashSet<>();
+		for (ClassNode cls : changed.keySet()) {
+			changedTopClasses.add(cls.getTopParentClass());
+		}
+		Set<ClassNode> updated = new LinkedHashSet<>();
+		// users before changes
+		for (ClassNode cls : changedTopClasses) {
+			updated.add(cls);
+			updated.addAll(cls.getUseIn());
+		}
+		for (ClassNode cls : changedTopClasses) {
+			// class can be not loaded (code from cache or not decompiled yet),
+			// but methods data still need update, so unload anyway
+			cls.unloadFromCache();
+			cls.deepUnload();
+			// run pre-decompile passes again on next process
+			cls.add(AFlag.CLASS_UNLOADED);
+		}
+		// methods code changed, collect usage info again
+		UsageInfoVisitor.rebuild(root);
+		// users after changes
+		for (ClassNode cls : changedTopClasses) {
+			updated.addAll(cls.getUseIn());
+		}
+		for (ClassNode cls : updated) {
+			if (!changedTopClasses.contains(cls)) {
+				cls.unloadCode();
+				// code can be served from cache without class load
+				cls.unloadFromCache();
+			}
+		}
+		return new ArrayList<>(updated);
+	}
+
+	private @Nullable Map<String, IClassData> collectClasses(List<ICodeLoader> inputs, Map<String, ICodeLoader> clsInputs) {
+		Map<String, IClassData> map = new HashMap<>();
+		boolean[] duplicated = new boolean[1];
+		for (ICodeLoader codeLoader : inputs) {
+			codeLoader.visitClasses(cls -> {
+				// class data object can be reused by loader
+				IClassData clsData = cls.copy();
+				String type = clsData.getType();
+				if (map.put(type, clsData) != null) {
+					duplicated[0] = true;
+				}
+				clsInputs.put(type, codeLoader);
+			});
+		}
+		if (duplicated[0]) {
+			LOG.debug("Found duplicated classes, full reload required");
+			return null;
+		}
+		return map;
+	}
+
+	private String getHash(String type, IClassData clsData) {
+		return hashCache.computeIfAbsent(type, t -> FileUtils.md5Sum(clsData.getDisassembledCode()));
+	}
+
+	/**
+	 * Class declaration without methods code
+	 */
+	private static String buildDeclaration(IClassData clsData) {
+		StringBuilder sb = new StringBuilder();
+		sb.append(clsData.getAccessFlags()).append(' ').append(clsData.getType());
+		sb.append(" : ").append(clsData.getSuperType());
+		sb.append(' ').append(clsData.getInterfacesTypes());
+		sb.append('\n');
+		clsData.visitFieldsAndMethods(
+				(IFieldData fld) -> sb.append(fld.getAccessFlags())
+						.append(' ').append(fld.getName())
+						.append(':').append(fld.getType())
+						.append('\n'),
+				(IMethodData mth) -> {
+					IMethodRef mthRef = mth.getMethodRef();
+					mthRef.load();
+					sb.append(mth.getAccessFlags())
+							.append(' ').append(mthRef.getName())
+							.append(mthRef.getArgTypes()).append(mthRef.getReturnType())
+							.append(mth.getCodeReader() == null ? " no code" : "")
+							.append('\n');
+				});
+		return sb.toString();
+	}
+}
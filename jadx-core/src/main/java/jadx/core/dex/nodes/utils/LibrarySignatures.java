@@ -0,0 +1,211 @@
+package jadx.core.dex.nodes.utils;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import jadx.api.plugins.input.data.ICodeReader;
+import jadx.api.plugins.input.data.IFieldRef;
+import jadx.api.plugins.input.data.IMethodRef;
+import jadx.api.plugins.input.insns.Opcode;
+import jadx.api.plugins.input.insns.custom.ICustomPayload;
+import jadx.core.dex.attributes.AFlag;
+import jadx.core.dex.instructions.args.ArgType;
+import jadx.core.dex.nodes.ClassNode;
+import jadx.core.dex.nodes.FieldNode;
+import jadx.core.dex.nodes.MethodNode;
+import jadx.core.dex.nodes.RootNode;
+import jadx.core.utils.exceptions.JadxRuntimeException;
+import jadx.core.utils.files.FileUtils;
+
+/**
+ * Fingerprints of known library classes.
+ * <br>
+ * Signature is a hash of class declaration: names and types of class, super types, fields and methods,
+ * and code shape: fields and methods referenced from every method code.
+ * Access flags, synthetic members and instructions are not included, so signatures collected from library jars
+ * can be applied to classes from dex files, but classes with patched methods code will not match.
+ * Renamed (obfuscated) library classes will not match.
+ */
+public class LibrarySignatures {
+	private static final Logger LOG = LoggerFactory.getLogger(LibrarySignatures.class);
+
+	private static final String HEADER = "# jadx library signatures v2";
+
+	/**
+	 * Mark top level classes (with all inner classes) found in signature files with {@link AFlag#LIBRARY_CLASS}
+	 *
+	 * @return marked classes count
+	 */
+	public static int markLibraryClasses(RootNode root, List<Path> signatureFiles) {
+		if (signatureFiles.isEmpty()) {
+			return 0;
+		}
+		long start = System.currentTimeMillis();
+		Set<String> signatures = new HashSet<>();
+		for (Path file : signatureFiles) {
+			load(file, signatures);
+		}
+		int count = 0;
+		for (ClassNode cls : root.getClassesWithoutInner()) {
+			if (matchClass(cls, signatures)) {
+				cls.add(AFlag.LIBRARY_CLASS);
+				count++;
+				LOG.debug("Library class skipped: {}", cls);
+			}
+		}
+		LOG.info("Library classes found: {}, signatures loaded: {}, time: {}ms",
+				count, signatures.size(), System.currentTimeMillis() - start);
+		return count;
+	}
+
+	/**
+	 * Save signatures for all loaded classes
+	 */
+	public static void save(RootNode root, Path file) {
+		Set<String> signatures = new TreeSet<>();
+		for (ClassNode cls : root.getClasses()) {
+			signatures.add(buildSignature(cls));
+		}
+		FileUtils.makeDirsForFile(file);
+		try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+			writer.write(HEADER);
+			writer.newLine();
+			for (String signature : signatures) {
+				writer.write(signature);
+				writer.newLine();
+			}
+		} catch (Exception e) {
+			throw new JadxRuntimeException("Failed to save library signatures to file: " + file, e);
+		}
+		LOG.info("Library signatures saved: {}, file: {}", signatures.size(), file);
+	}
+
+	private static void load(Path file, Set<String> signatures) {
+		try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+			String header = reader.readLine();
+			if (!HEADER.equals(header)) {
+				LOG.warn("Unsupported library signatures file format, expected header: '{}', file: {}", HEADER, file);
+				return;
+			}
+			String line;
+			while ((line = reader.readLine()) != null) {
+				String signature = line.trim();
+				if (!signature.isEmpty() && !signature.startsWith("#")) {
+					signatures.add(signature);
+				}
+			}
+		} catch (Exception e) {
+			throw new JadxRuntimeException("Failed to load library signatures from file: " + file, e);
+		}
+	}
+
+	private static boolean matchClass(ClassNode cls, Set<String> signatures) {
+		if (!signatures.contains(buildSignature(cls))) {
+			return false;
+		}
+		for (ClassNode innerCls : cls.getInnerClasses()) {
+			if (!matchClass(innerCls, signatures)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	static String buildSignature(ClassNode cls) {
+		StringBuilder sb = new StringBuilder();
+		sb.append(cls.getClassInfo().getRawName());
+		ArgType superClass = cls.getSuperClass();
+		sb.append(" : ").append(superClass == null ? "" : rawType(superClass));
+		List<String> interfaces = new ArrayList<>();
+		for (ArgType interfaceType : cls.getInterfaces()) {
+			interfaces.add(rawType(interfaceType));
+		}
+		interfaces.sort(String::compareTo);
+		sb.append(' ').append(interfaces);
+		sb.append('\n');
+		Set<String> fields = new TreeSet<>();
+		for (FieldNode fld : cls.getFields()) {
+			if (!fld.getAccessFlags().isSynthetic()) {
+				fields.add(fld.getFieldInfo().getShortId());
+			}
+		}
+		sb.append(fields).append('\n');
+		Map<String, Set<String>> methods = new TreeMap<>();
+		for (MethodNode mth : cls.getMethods()) {
+			if (!mth.getAccessFlags().isSynthetic() && !mth.getMethodInfo().isClassInit()) {
+				methods.put(mth.getMethodInfo().getShortId(), collectCodeRefs(mth));
+			}
+		}
+		sb.append(methods);
+		return FileUtils.md5Sum(sb.toString());
+	}
+
+	/**
+	 * Code shape: fields and methods referenced from method code.
+	 * Instructions differ for java bytecode and dex, so only references are used.
+	 * Synthetic methods and classes (accessors, lambdas) and string concatenation
+	 * depend on compiler and skipped.
+	 */
+	private static Set<String> collectCodeRefs(MethodNode mth) {
+		ICodeReader codeReader = mth.getCodeReader();
+		if (codeReader == null) {
+			return Collections.emptySet();
+		}
+		Set<String> refs = new TreeSet<>();
+		codeReader.visitInstructions(insnData -> {
+			if (insnData.getOpcode() == Opcode.UNKNOWN) {
+				return;
+			}
+			switch (insnData.getIndexType()) {
+				case FIELD_REF: {
+					insnData.decode();
+					IFieldRef fldRef = insnData.getIndexAsField();
+					addCodeRef(refs, fldRef.getParentClassType(), fldRef.getName());
+					break;
+				}
+				case METHOD_REF: {
+					insnData.decode();
+					ICustomPayload payload = insnData.getPayload();
+					IMethodRef mthRef = payload != null ? (IMethodRef) payload : insnData.getIndexAsMethod();
+					mthRef.load();
+					addCodeRef(refs, mthRef.getParentClassType(), mthRef.getName() + mthRef.getArgTypes());
+					break;
+				}
+				default:
+					break;
+			}
+		});
+		return refs;
+	}
+
+	private static void addCodeRef(Set<String> refs, String clsType, String name) {
+		if (clsType.contains("$$")
+				|| clsType.equals("Ljava/lang/StringBuilder;")
+				|| name.startsWith("access$")
+				|| name.startsWith("lambda$")) {
+			return;
+		}
+		refs.add(clsType + "->" + name);
+	}
+
+	/**
+	 * Generic types can be resolved later from class signature, use only raw object name
+	 */
+	private static String rawType(ArgType type) {
+		return type.isObject() ? type.getObject() : type.toString();
+	}
+}
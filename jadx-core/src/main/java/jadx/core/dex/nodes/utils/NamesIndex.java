@@ -0,0 +1,387 @@
+package jadx.core.dex.nodes.utils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+import org.jetbrains.annotations.Nullable;
+
+import jadx.core.dex.info.ClassInfo;
+import jadx.core.dex.info.FieldInfo;
+import jadx.core.dex.info.MethodInfo;
+import jadx.core.dex.nodes.ClassNode;
+import jadx.core.dex.nodes.FieldNode;
+import jadx.core.dex.nodes.MethodNode;
+import jadx.core.dex.nodes.RootNode;
+
+/**
+ * Indexes for fast lookup of classes, methods and fields by name.
+ * <br>
+ * Original names change only on classes load, so these indexes built once and reset on classes list update.
+ * Alias indexes reset on any rename and rebuilt lazily on next request.
+ * Some aliases can be changed without notification (i.e. by decompilation passes),
+ * so every result checked against actual node names before return.
+ * <br>
+ * Every index store generation at build start, so index built concurrently with invalidate
+ * will be rejected on next request.
+ * <br>
+ * On class reload only entries for class methods and fields replaced, see {@link #updateClassMembers}.
+ * Members lists in these maps are never changed after publication, update put new list copy.
+ */
+public class NamesIndex {
+	private final RootNode root;
+
+	private final AtomicInteger origGeneration = new AtomicInteger();
+	private final AtomicInteger aliasGeneration = new AtomicInteger();
+
+	private volatile @Nullable OrigNames origNames;
+	private volatile @Nullable AliasNames aliasNames;
+
+	public NamesIndex(RootNode root) {
+		this.root = root;
+	}
+
+	/**
+	 * Reset all indexes, should be called on classes list or methods update
+	 */
+	public void invalidate() {
+		origGeneration.incrementAndGet();
+		aliasGeneration.incrementAndGet();
+		origNames = null;
+		aliasNames = null;
+	}
+
+	/**
+	 * Replace methods and fields of one class in built indexes, should be called after class members recreated
+	 * (i.e. class reload)
+	 */
+	public synchronized void updateClassMembers(ClassNode cls, List<MethodNode> oldMethods, List<FieldNode> oldFields) {
+		OrigNames orig = origNames;
+		if (orig != null && orig.generation == origGeneration.get()) {
+			for (MethodNode mth : oldMethods) {
+				MethodInfo mthInfo = mth.getMethodInfo();
+				remove(orig.mthByShortId, mthInfo.getShortId(), mth);
+				removeLower(orig.mthByLowerName, mthInfo.getName(), mth);
+			}
+			for (FieldNode fld : oldFields) {
+				FieldInfo fldInfo = fld.getFieldInfo();
+				remove(orig.fldByShortId, fldInfo.getShortId(), fld);
+				removeLower(orig.fldByLowerName, fldInfo.getName(), fld);
+			}
+			for (MethodNode mth : cls.getMethods()) {
+				MethodInfo mthInfo = mth.getMethodInfo();
+				addCopy(orig.mthByShortId, mthInfo.getShortId(), mth);
+				addLowerCopy(orig.mthByLowerName, mthInfo.getName(), mth);
+			}
+			for (FieldNode fld : cls.getFields()) {
+				FieldInfo fldInfo = fld.getFieldInfo();
+				addCopy(orig.fldByShortId, fldInfo.getShortId(), fld);
+				addLowerCopy(orig.fldByLowerName, fldInfo.getName(), fld);
+			}
+		}
+		AliasNames alias = aliasNames;
+		if (alias != null && alias.generation == aliasGeneration.get()) {
+			for (MethodNode mth : oldMethods) {
+				MethodInfo mthInfo = mth.getMethodInfo();
+				if (mthInfo.hasAlias() && !removeLower(alias.mthByLowerName, mthInfo.getAlias(), mth)) {
+					// alias changed without notification
+					invalidateAliases();
+					return;
+				}
+			}
+			for (FieldNode fld : oldFields) {
+				FieldInfo fldInfo = fld.getFieldInfo();
+				if (fldInfo.hasAlias() && !removeLower(alias.fldByLowerName, fldInfo.getAlias(), fld)) {
+					invalidateAliases();
+					return;
+				}
+			}
+			for (MethodNode mth : cls.getMethods()) {
+				MethodInfo mthInfo = mth.getMethodInfo();
+				if (mthInfo.hasAlias()) {
+					addLowerCopy(alias.mthByLowerName, mthInfo.getAlias(), mth);
+				}
+			}
+			for (FieldNode fld : cls.getFields()) {
+				FieldInfo fldInfo = fld.getFieldInfo();
+				if (fldInfo.hasAlias()) {
+					addLowerCopy(alias.fldByLowerName, fldInfo.getAlias(), fld);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Reset alias indexes, should be called on rename
+	 */
+	public void invalidateAliases() {
+		aliasGeneration.incrementAndGet();
+		aliasNames = null;
+	}
+
+	@Nullable
+	public ClassNode getClassByOrigFullName(String fullName) {
+		ClassNode cls = getOrigNames().clsByFullName.get(fullName);
+		if (cls != null && cls.getClassInfo().getFullName().equals(fullName)) {
+			return cls;
+		}
+		return null;
+	}
+
+	@Nullable
+	public ClassNode getClassByAliasFullName(String fullName) {
+		ClassNode cls = getAliasNames().clsByFullName.get(fullName);
+		if (cls != null) {
+			if (cls.getClassInfo().getAliasFullName().equals(fullName)) {
+				return cls;
+			}
+			// alias changed without notification
+			invalidateAliases();
+			cls = getAliasNames().clsByFullName.get(fullName);
+		}
+		return cls;
+	}
+
+	public List<ClassNode> getClassesByShortName(String shortName) {
+		return getOrigNames().clsByShortName.getOrDefault(shortName, Collections.emptyList());
+	}
+
+	/**
+	 * Search methods by short id (original name with signature) in all classes
+	 */
+	public List<MethodNode> getMethodsByShortId(String shortId) {
+		return getOrigNames().mthByShortId.getOrDefault(shortId, Collections.emptyList());
+	}
+
+	/**
+	 * Search fields by short id (original name with type) in all classes
+	 */
+	public List<FieldNode> getFieldsByShortId(String shortId) {
+		return getOrigNames().fldByShortId.getOrDefault(shortId, Collections.emptyList());
+	}
+
+	/**
+	 * Search classes by prefix of short or full name (original or alias)
+	 */
+	public List<ClassNode> searchClassesByPrefix(String prefix, boolean ignoreCase) {
+		Set<ClassNode> result = new LinkedHashSet<>();
+		String key = prefix.toLowerCase(Locale.ROOT);
+		collectByPrefix(result, getOrigNames().clsByLowerName, key);
+		collectByPrefix(result, getAliasNames().clsByLowerName, key);
+		return filter(result, cls -> {
+			ClassInfo clsInfo = cls.getClassInfo();
+			return startsWith(clsInfo.getShortName(), prefix, ignoreCase)
+					|| startsWith(clsInfo.getFullName(), prefix, ignoreCase)
+					|| startsWith(clsInfo.getAliasShortName(), prefix, ignoreCase)
+					|| startsWith(clsInfo.getAliasFullName(), prefix, ignoreCase);
+		});
+	}
+
+	/**
+	 * Search methods by prefix of name (original or alias)
+	 */
+	public List<MethodNode> searchMethodsByPrefix(String prefix, boolean ignoreCase) {
+		Set<MethodNode> result = new LinkedHashSet<>();
+		String key = prefix.toLowerCase(Locale.ROOT);
+		collectByPrefix(result, getOrigNames().mthByLowerName, key);
+		collectByPrefix(result, getAliasNames().mthByLowerName, key);
+		return filter(result, mth -> {
+			MethodInfo mthInfo = mth.getMethodInfo();
+			return startsWith(mthInfo.getName(), prefix, ignoreCase)
+					|| startsWith(mthInfo.getAlias(), prefix, ignoreCase);
+		});
+	}
+
+	/**
+	 * Search fields by prefix of name (original or alias)
+	 */
+	public List<FieldNode> searchFieldsByPrefix(String prefix, boolean ignoreCase) {
+		Set<FieldNode> result = new LinkedHashSet<>();
+		String key = prefix.toLowerCase(Locale.ROOT);
+		collectByPrefix(result, getOrigNames().fldByLowerName, key);
+		collectByPrefix(result, getAliasNames().fldByLowerName, key);
+		return filter(result, fld -> {
+			FieldInfo fldInfo = fld.getFieldInfo();
+			return startsWith(fldInfo.getName(), prefix, ignoreCase)
+					|| startsWith(fldInfo.getAlias(), prefix, ignoreCase);
+		});
+	}
+
+	private OrigNames getOrigNames() {
+		OrigNames names = origNames;
+		if (names != null && names.generation == origGeneration.get()) {
+			return names;
+		}
+		synchronized (this) {
+			int generation = origGeneration.get();
+			names = origNames;
+			if (names == null || names.generation != generation) {
+				names = new OrigNames(generation, root.getClasses());
+				origNames = names;
+			}
+			return names;
+		}
+	}
+
+	private AliasNames getAliasNames() {
+		AliasNames names = aliasNames;
+		if (names != null && names.generation == aliasGeneration.get()) {
+			return names;
+		}
+		synchronized (this) {
+			int generation = aliasGeneration.get();
+			names = aliasNames;
+			if (names == null || names.generation != generation) {
+				names = new AliasNames(generation, root.getClasses());
+				aliasNames = names;
+			}
+			return names;
+		}
+	}
+
+	private static final class OrigNames {
+		private final int generation;
+		private final Map<String, ClassNode> clsByFullName;
+		private final Map<String, List<ClassNode>> clsByShortName;
+		private final NavigableMap<String, List<ClassNode>> clsByLowerName = new TreeMap<>();
+		private final Map<String, List<MethodNode>> mthByShortId = new ConcurrentHashMap<>();
+		private final NavigableMap<String, List<MethodNode>> mthByLowerName = new ConcurrentSkipListMap<>();
+		private final Map<String, List<FieldNode>> fldByShortId = new ConcurrentHashMap<>();
+		private final NavigableMap<String, List<FieldNode>> fldByLowerName = new ConcurrentSkipListMap<>();
+
+		OrigNames(int generation, List<ClassNode> classes) {
+			this.generation = generation;
+			int clsCount = classes.size();
+			clsByFullName = new HashMap<>(clsCount);
+			clsByShortName = new HashMap<>(clsCount);
+			for (ClassNode cls : classes) {
+				ClassInfo clsInfo = cls.getClassInfo();
+				String fullName = clsInfo.getFullName();
+				String shortName = clsInfo.getShortName();
+				// keep first class for duplicated names
+				clsByFullName.putIfAbsent(fullName, cls);
+				add(clsByShortName, shortName, cls);
+				addLower(clsByLowerName, shortName, cls);
+				addLower(clsByLowerName, fullName, cls);
+				for (MethodNode mth : cls.getMethods()) {
+					MethodInfo mthInfo = mth.getMethodInfo();
+					add(mthByShortId, mthInfo.getShortId(), mth);
+					addLower(mthByLowerName, mthInfo.getName(), mth);
+				}
+				for (FieldNode fld : cls.getFields()) {
+					FieldInfo fldInfo = fld.getFieldInfo();
+					add(fldByShortId, fldInfo.getShortId(), fld);
+					addLower(fldByLowerName, fldInfo.getName(), fld);
+				}
+			}
+		}
+	}
+
+	private static final class AliasNames {
+		private final int generation;
+		private final Map<String, ClassNode> clsByFullName;
+		private final NavigableMap<String, List<ClassNode>> clsByLowerName = new TreeMap<>();
+		private final NavigableMap<String, List<MethodNode>> mthByLowerName = new ConcurrentSkipListMap<>();
+		private final NavigableMap<String, List<FieldNode>> fldByLowerName = new ConcurrentSkipListMap<>();
+
+		AliasNames(int generation, List<ClassNode> classes) {
+			this.generation = generation;
+			clsByFullName = new HashMap<>(classes.size());
+			for (ClassNode cls : classes) {
+				ClassInfo clsInfo = cls.getClassInfo();
+				String aliasFullName = clsInfo.getAliasFullName();
+				clsByFullName.putIfAbsent(aliasFullName, cls);
+				if (clsInfo.hasAlias() || clsInfo.hasAliasPkg()) {
+					addLower(clsByLowerName, clsInfo.getAliasShortName(), cls);
+					addLower(clsByLowerName, aliasFullName, cls);
+				}
+				for (MethodNode mth : cls.getMethods()) {
+					MethodInfo mthInfo = mth.getMethodInfo();
+					if (mthInfo.hasAlias()) {
+						addLower(mthByLowerName, mthInfo.getAlias(), mth);
+					}
+				}
+				for (FieldNode fld : cls.getFields()) {
+					FieldInfo fldInfo = fld.getFieldInfo();
+					if (fldInfo.hasAlias()) {
+						addLower(fldByLowerName, fldInfo.getAlias(), fld);
+					}
+				}
+			}
+		}
+	}
+
+	private static <T> void add(Map<String, List<T>> map, String key, T value) {
+		map.computeIfAbsent(key, k -> new ArrayList<>(1)).add(value);
+	}
+
+	private static <T> void addLower(Map<String, List<T>> map, String key, T value) {
+		add(map, key.toLowerCase(Locale.ROOT), value);
+	}
+
+	private static <T> void addCopy(Map<String, List<T>> map, String key, T value) {
+		map.compute(key, (k, list) -> {
+			List<T> newList = list == null ? new ArrayList<>(1) : new ArrayList<>(list);
+			newList.add(value);
+			return newList;
+		});
+	}
+
+	private static <T> void addLowerCopy(Map<String, List<T>> map, String key, T value) {
+		addCopy(map, key.toLowerCase(Locale.ROOT), value);
+	}
+
+	/**
+	 * @return false if value not found
+	 */
+	private static <T> boolean remove(Map<String, List<T>> map, String key, T value) {
+		List<T> list = map.get(key);
+		if (list == null || !list.contains(value)) {
+			return false;
+		}
+		map.computeIfPresent(key, (k, l) -> {
+			List<T> newList = new ArrayList<>(l);
+			newList.remove(value);
+			return newList.isEmpty() ? null : newList;
+		});
+		return true;
+	}
+
+	private static <T> boolean removeLower(Map<String, List<T>> map, String key, T value) {
+		return remove(map, key.toLowerCase(Locale.ROOT), value);
+	}
+
+	private static <T> void collectByPrefix(Set<T> result, NavigableMap<String, List<T>> map, String prefix) {
+		for (Map.Entry<String, List<T>> entry : map.tailMap(prefix, true).entrySet()) {
+			if (!entry.getKey().startsWith(prefix)) {
+				break;
+			}
+			result.addAll(entry.getValue());
+		}
+	}
+
+	private static <T> List<T> filter(Set<T> set, Predicate<T> filter) {
+		List<T> list = new ArrayList<>(set.size());
+		for (T t : set) {
+			if (filter.test(t)) {
+				list.add(t);
+			}
+		}
+		return list;
+	}
+
+	private static boolean startsWith(String str, String prefix, boolean ignoreCase) {
+		return str.regionMatches(ignoreCase, 0, prefix, 0, prefix.length());
+	}
+}
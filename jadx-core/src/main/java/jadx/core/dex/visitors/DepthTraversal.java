@@ -15,6 +15,7 @@ public static void visit(IDexTreeVisitor visitor, ClassNode cls) {
 			}
 		} catch (StackOverflowError | Exception e) {
 			cls.addError(e.getClass().getSimpleName() + " in pass: " + visitor.getClass().getSimpleName(), e);
+			cls.root().getMetrics().addPassFailure(cls, visitor.getName());
 		}
 	}
 
@@ -29,6 +30,7 @@ public static void visit(IDexTreeVisitor visitor, MethodNode mth) {
 			}
 		} catch (StackOverflowError | Exception e) {
 			mth.addError(e.getClass().getSimpleName() + " in pass: " + visitor.getClass().getSimpleName(), e);
+			mth.root().getMetrics().addPassFailure(mth.getParentClass(), visitor.getName());
 		}
 	}
 
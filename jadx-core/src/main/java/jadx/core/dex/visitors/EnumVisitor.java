@@ -18,6 +18,7 @@
 import jadx.core.dex.attributes.AType;
 import jadx.core.dex.attributes.nodes.EnumClassAttr;
 import jadx.core.dex.attributes.nodes.EnumClassAttr.EnumField;
+import jadx.core.dex.attributes.nodes.EnumFieldsAttr;
 import jadx.core.dex.attributes.nodes.RenameReasonAttr;
 import jadx.core.dex.attributes.nodes.SkipMethodArgsAttr;
 import jadx.core.dex.info.AccessInfo;
@@ -49,6 +50,7 @@
 import jadx.core.utils.BlockUtils;
 import jadx.core.utils.InsnRemover;
 import jadx.core.utils.InsnUtils;
+import jadx.core.utils.ListUtils;
 import jadx.core.utils.Utils;
 import jadx.core.utils.exceptions.JadxException;
 import jadx.core.utils.exceptions.JadxRuntimeException;
@@ -160,6 +162,7 @@ private boolean convertToEnum(ClassNode cls) {
 		EnumClassAttr attr = new EnumClassAttr(enumFields);
 		attr.setStaticMethod(classInitMth);
 		cls.addAttr(attr);
+		cls.addAttr(new EnumFieldsAttr(ListUtils.map(enumFields, EnumField::getField)));
 
 		for (EnumField enumField : attr.getFields()) {
 			ConstructorInsn co = enumField.getConstrInsn();
@@ -9,7 +9,7 @@
 
 import jadx.core.dex.attributes.AFlag;
 import jadx.core.dex.attributes.AType;
-import jadx.core.dex.attributes.nodes.EnumClassAttr;
+import jadx.core.dex.attributes.nodes.EnumFieldsAttr;
 import jadx.core.dex.attributes.nodes.EnumMapAttr;
 import jadx.core.dex.attributes.nodes.RegionRefAttr;
 import jadx.core.dex.info.AccessInfo;
@@ -115,18 +115,18 @@ private static boolean processDirectEnumSwitch(MethodNode mth, SwitchInsn swInsn
 		if (enumCls == null) {
 			return false;
 		}
-		EnumClassAttr enumClassAttr = enumCls.get(AType.ENUM_CLASS);
-		if (enumClassAttr == null) {
+		EnumFieldsAttr enumFieldsAttr = enumCls.get(AType.ENUM_FIELDS);
+		if (enumFieldsAttr == null) {
 			return false;
 		}
-		FieldNode[] casesReplaceArr = mapToCases(swInsn, enumClassAttr.getFields());
+		FieldNode[] casesReplaceArr = mapToCases(swInsn, enumFieldsAttr.getFields());
 		if (casesReplaceArr == null) {
 			return false;
 		}
 		return executeReplace(swInsn, arg, invVar, i -> casesReplaceArr[i]);
 	}
 
-	private static @Nullable FieldNode[] mapToCases(SwitchInsn swInsn, List<EnumClassAttr.EnumField> fields) {
+	private static @Nullable FieldNode[] mapToCases(SwitchInsn swInsn, List<FieldNode> fields) {
 		int caseCount = swInsn.getKeys().length;
 		if (fields.size() < caseCount) {
 			return null;
@@ -137,7 +137,7 @@ private static boolean processDirectEnumSwitch(MethodNode mth, SwitchInsn swInsn
 			if (key instanceof Integer) {
 				int ordinal = (Integer) key;
 				try {
-					casesMap[ordinal] = fields.get(ordinal).getField();
+					casesMap[ordinal] = fields.get(ordinal);
 				} catch (Exception e) {
 					return null;
 				}
@@ -0,0 +1,270 @@
+package jadx.core.dex.visitors;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+import org.jetbrains.annotations.Nullable;
+
+import jadx.api.CommentsLevel;
+import jadx.api.override.MthOverrideInfo;
+import jadx.api.override.OverrideInfoData;
+import jadx.api.override.OverrideMthRef;
+import jadx.core.clsp.ClspClass;
+import jadx.core.clsp.ClspMethod;
+import jadx.core.dex.attributes.AFlag;
+import jadx.core.dex.attributes.AType;
+import jadx.core.dex.attributes.nodes.JadxCommentsAttr;
+import jadx.core.dex.attributes.nodes.MethodBridgeAttr;
+import jadx.core.dex.attributes.nodes.MethodOverrideAttr;
+import jadx.core.dex.attributes.nodes.RenameReasonAttr;
+import jadx.core.dex.instructions.args.ArgType;
+import jadx.core.dex.nodes.ClassNode;
+import jadx.core.dex.nodes.IMethodDetails;
+import jadx.core.dex.nodes.MethodNode;
+import jadx.core.dex.nodes.RootNode;
+import jadx.core.utils.exceptions.JadxRuntimeException;
+
+/**
+ * Collect and restore all changes made by {@link OverrideMethodVisitor}:
+ * override attributes, fixed method types, collision renames and comments.
+ */
+final class OverrideInfoSnapshot {
+
+	static OverrideInfoData collect(RootNode root) {
+		List<MthOverrideInfo> methods = new ArrayList<>();
+		Map<SortedSet<MethodNode>, Integer> groupsMap = new IdentityHashMap<>();
+		List<List<OverrideMthRef>> groups = new ArrayList<>();
+		for (ClassNode cls : root.getClasses()) {
+			for (MethodNode mth : cls.getMethods()) {
+				MthOverrideInfo mthInfo = collectMthInfo(mth, groupsMap, groups);
+				if (mthInfo != null) {
+					methods.add(mthInfo);
+				}
+			}
+		}
+		return new OverrideInfoData(methods, groups);
+	}
+
+	@Nullable
+	private static MthOverrideInfo collectMthInfo(MethodNode mth,
+			Map<SortedSet<MethodNode>, Integer> groupsMap, List<List<OverrideMthRef>> groups) {
+		MethodOverrideAttr overrideAttr = mth.get(AType.METHOD_OVERRIDE);
+		MethodBridgeAttr bridgeAttr = mth.get(AType.BRIDGED_BY);
+		List<String> debugComments = collectComments(mth, CommentsLevel.DEBUG, OverrideMethodVisitor.POSSIBLE_OVERRIDE_COMMENT);
+		boolean collisionWarn = !collectComments(mth, CommentsLevel.WARN, OverrideMethodVisitor.COLLISION_WARN).isEmpty();
+		if (overrideAttr == null && bridgeAttr == null && debugComments.isEmpty() && !collisionWarn) {
+			return null;
+		}
+		MthOverrideInfo info = new MthOverrideInfo(makeRef(mth));
+		if (overrideAttr != null) {
+			SortedSet<MethodNode> relatedMthNodes = overrideAttr.getRelatedMthNodes();
+			Integer group = groupsMap.get(relatedMthNodes);
+			if (group == null) {
+				group = groups.size();
+				groupsMap.put(relatedMthNodes, group);
+				groups.add(makeRefs(relatedMthNodes));
+			}
+			info.setOverride(makeRefs(overrideAttr.getOverrideList()), makeRefs(overrideAttr.getBaseMethods()), group);
+			info.setDontRename(mth.contains(AFlag.DONT_RENAME));
+			if (!mth.getReturnType().equals(mth.getMethodInfo().getReturnType())) {
+				info.setReturnType(mth.getReturnType());
+			}
+			if (mth.containsGenericArgs()) {
+				info.setArgTypes(mth.getArgTypes());
+			}
+		}
+		if (bridgeAttr != null) {
+			info.setBridgeMth(makeRef(bridgeAttr.getBridgeMth()));
+			// rename passes not yet executed, so only rename from collision check is possible here
+			if (mth.contains(AType.RENAME_REASON) && !mth.getAlias().equals(mth.getName())) {
+				info.setCollisionAlias(mth.getAlias());
+			}
+		}
+		info.setDebugComments(debugComments);
+		info.setCollisionWarn(collisionWarn);
+		return info;
+	}
+
+	private static List<String> collectComments(MethodNode mth, CommentsLevel level, String prefix) {
+		JadxCommentsAttr commentsAttr = mth.get(AType.JADX_COMMENTS);
+		if (commentsAttr == null) {
+			return Collections.emptyList();
+		}
+		List<String> comments = commentsAttr.getComments().get(level);
+		if (comments == null) {
+			return Collections.emptyList();
+		}
+		List<String> result = new ArrayList<>();
+		for (String comment : comments) {
+			if (comment.startsWith(prefix)) {
+				result.add(comment);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Apply cached data. All references resolved before any node change,
+	 * so failed resolve not leave partially applied data.
+	 */
+	static void apply(RootNode root, OverrideInfoData data) {
+		MethodsResolver resolver = new MethodsResolver(root);
+		List<SortedSet<MethodNode>> groups = new ArrayList<>(data.getRelatedGroups().size());
+		for (List<OverrideMthRef> groupRefs : data.getRelatedGroups()) {
+			SortedSet<MethodNode> set = new TreeSet<>();
+			for (OverrideMthRef ref : groupRefs) {
+				set.add(resolver.resolveMethodNode(ref));
+			}
+			groups.add(set);
+		}
+		List<ResolvedMthInfo> resolvedList = new ArrayList<>(data.getMethods().size());
+		for (MthOverrideInfo info : data.getMethods()) {
+			resolvedList.add(new ResolvedMthInfo(info, resolver, groups));
+		}
+		for (ResolvedMthInfo resolved : resolvedList) {
+			resolved.apply();
+		}
+	}
+
+	private static OverrideMthRef makeRef(IMethodDetails mthDetails) {
+		if (mthDetails instanceof MethodNode) {
+			MethodNode mth = (MethodNode) mthDetails;
+			return new OverrideMthRef(mth.getParentClass().getRawName(), mth.getMethodInfo().getShortId(), false);
+		}
+		if (mthDetails instanceof ClspMethod) {
+			ClspMethod clspMth = (ClspMethod) mthDetails;
+			return new OverrideMthRef(clspMth.getMethodInfo().getDeclClass().getRawName(),
+					clspMth.getMethodInfo().getShortId(), true);
+		}
+		throw new JadxRuntimeException("Unexpected method details type: " + mthDetails.getClass());
+	}
+
+	private static List<OverrideMthRef> makeRefs(Collection<? extends IMethodDetails> methods) {
+		List<OverrideMthRef> list = new ArrayList<>(methods.size());
+		for (IMethodDetails mth : methods) {
+			list.add(makeRef(mth));
+		}
+		return list;
+	}
+
+	private static final class ResolvedMthInfo {
+		private final MthOverrideInfo info;
+		private final MethodNode mth;
+		private final @Nullable List<IMethodDetails> overrideList;
+		private final @Nullable Set<IMethodDetails> baseMethods;
+		private final @Nullable SortedSet<MethodNode> relatedMthNodes;
+		private final @Nullable MethodNode bridgeMth;
+
+		private ResolvedMthInfo(MthOverrideInfo info, MethodsResolver resolver, List<SortedSet<MethodNode>> groups) {
+			this.info = info;
+			this.mth = resolver.resolveMethodNode(info.getMth());
+			List<OverrideMthRef> overrideRefs = info.getOverrideList();
+			if (overrideRefs != null) {
+				this.overrideList = resolver.resolveAll(overrideRefs);
+				this.baseMethods = new HashSet<>(resolver.resolveAll(info.getBaseMethods()));
+				this.relatedMthNodes = groups.get(info.getRelatedGroup());
+			} else {
+				this.overrideList = null;
+				this.baseMethods = null;
+				this.relatedMthNodes = null;
+			}
+			OverrideMthRef bridgeRef = info.getBridgeMth();
+			this.bridgeMth = bridgeRef != null ? resolver.resolveMethodNode(bridgeRef) : null;
+		}
+
+		private void apply() {
+			if (overrideList != null) {
+				mth.addAttr(new MethodOverrideAttr(overrideList, relatedMthNodes, baseMethods));
+				if (info.isDontRename()) {
+					mth.add(AFlag.DONT_RENAME);
+				}
+			}
+			ArgType returnType = info.getReturnType();
+			if (returnType != null && !returnType.equals(mth.getReturnType())) {
+				mth.addDebugComment(OverrideMethodVisitor.makeReturnTypeFixComment(mth.getReturnType()));
+				mth.updateReturnType(returnType);
+			}
+			List<ArgType> argTypes = info.getArgTypes();
+			if (argTypes != null && !argTypes.equals(mth.getArgTypes())) {
+				mth.updateArgTypes(new ArrayList<>(argTypes), OverrideMethodVisitor.ARG_TYPES_FIX_COMMENT);
+			}
+			String collisionAlias = info.getCollisionAlias();
+			if (collisionAlias != null) {
+				mth.getMethodInfo().setAlias(collisionAlias);
+				mth.addAttr(new RenameReasonAttr(OverrideMethodVisitor.COLLISION_RENAME_REASON));
+			}
+			if (info.isCollisionWarn()) {
+				mth.addWarnComment(OverrideMethodVisitor.COLLISION_WARN);
+			}
+			if (bridgeMth != null) {
+				mth.addAttr(new MethodBridgeAttr(bridgeMth));
+			}
+			for (String comment : info.getDebugComments()) {
+				mth.addDebugComment(comment);
+			}
+		}
+	}
+
+	private static final class MethodsResolver {
+		private final RootNode root;
+		private final Map<ClassNode, Map<String, MethodNode>> methodsMap = new HashMap<>();
+
+		private MethodsResolver(RootNode root) {
+			this.root = root;
+		}
+
+		private List<IMethodDetails> resolveAll(List<OverrideMthRef> refs) {
+			List<IMethodDetails> list = new ArrayList<>(refs.size());
+			for (OverrideMthRef ref : refs) {
+				list.add(resolve(ref));
+			}
+			return list;
+		}
+
+		private IMethodDetails resolve(OverrideMthRef ref) {
+			if (!ref.isClsp()) {
+				return resolveMethodNode(ref);
+			}
+			ClspClass clsDetails = root.getClsp().getClsDetails(ArgType.object(ref.getCls()));
+			if (clsDetails != null) {
+				ClspMethod clspMth = clsDetails.getMethodsMap().get(ref.getShortId());
+				if (clspMth != null) {
+					return clspMth;
+				}
+			}
+			throw new JadxRuntimeException("Classpath method not found: " + ref);
+		}
+
+		private MethodNode resolveMethodNode(OverrideMthRef ref) {
+			ClassNode cls = root.resolveRawClass(ref.getCls());
+			if (cls != null) {
+				Map<String, MethodNode> methods = methodsMap.computeIfAbsent(cls, MethodsResolver::buildMethodsMap);
+				MethodNode mth = methods.get(ref.getShortId());
+				if (mth != null) {
+					return mth;
+				}
+			}
+			throw new JadxRuntimeException("Method not found: " + ref);
+		}
+
+		private static Map<String, MethodNode> buildMethodsMap(ClassNode cls) {
+			Map<String, MethodNode> map = new HashMap<>(cls.getMethods().size());
+			for (MethodNode mth : cls.getMethods()) {
+				map.putIfAbsent(mth.getMethodInfo().getShortId(), mth);
+			}
+			return map;
+		}
+	}
+
+	private OverrideInfoSnapshot() {
+	}
+}
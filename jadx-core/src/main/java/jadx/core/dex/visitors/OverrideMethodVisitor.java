@@ -1,10 +1,10 @@
 package jadx.core.dex.visitors;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
-import java.util.LinkedHashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.SortedSet;
@@ -13,7 +13,11 @@
 
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import jadx.api.override.IOverrideInfoCache;
+import jadx.api.override.OverrideInfoData;
 import jadx.core.clsp.ClspClass;
 import jadx.core.clsp.ClspMethod;
 import jadx.core.dex.attributes.AFlag;
@@ -28,6 +32,8 @@
 import jadx.core.dex.nodes.IMethodDetails;
 import jadx.core.dex.nodes.MethodNode;
 import jadx.core.dex.nodes.RootNode;
+import jadx.core.dex.nodes.utils.ClassHierarchy;
+import jadx.core.dex.nodes.utils.ClassHierarchy.SuperTypes;
 import jadx.core.dex.visitors.rename.RenameVisitor;
 import jadx.core.dex.visitors.typeinference.TypeCompare;
 import jadx.core.dex.visitors.typeinference.TypeCompareEnum;
@@ -45,19 +51,68 @@
 		}
 )
 public class OverrideMethodVisitor extends AbstractVisitor {
+	private static final Logger LOG = LoggerFactory.getLogger(OverrideMethodVisitor.class);
+
+	static final String POSSIBLE_OVERRIDE_COMMENT = "Possible override for method ";
+	static final String ARG_TYPES_FIX_COMMENT = "Method arguments types fixed to match base method";
+	static final String COLLISION_RENAME_REASON = "avoid collision after fix types in other method";
+	static final String COLLISION_WARN = "Can't rename method to resolve collision";
+
+	/**
+	 * Classes processed in init or restored from cache.
+	 * Deep unload keeps class nodes, so unloaded classes checked by {@link AFlag#CLASS_UNLOADED} flag.
+	 */
+	private final Set<ClassNode> processedClasses = Collections.newSetFromMap(new IdentityHashMap<>());
+	private boolean failed;
+
+	@Override
+	public void init(RootNode root) {
+		processedClasses.clear();
+		IOverrideInfoCache overrideCache = root.getArgs().getOverrideInfoCache();
+		OverrideInfoData cachedData = overrideCache.get(root);
+		if (cachedData != null) {
+			try {
+				OverrideInfoSnapshot.apply(root, cachedData);
+				processedClasses.addAll(root.getClasses());
+				return;
+			} catch (Exception e) {
+				LOG.error("Failed to apply cached override data", e);
+			}
+		}
+		root.getClassHierarchy().build();
+		// process all classes here to collect results for cache
+		failed = false;
+		for (ClassNode cls : root.getClasses()) {
+			if (!cls.isInner()) {
+				DepthTraversal.visit(this, cls);
+			}
+		}
+		if (!failed) {
+			overrideCache.set(root, OverrideInfoSnapshot.collect(root));
+		}
+	}
 
 	@Override
 	public boolean visit(ClassNode cls) throws JadxException {
-		SuperTypesData superData = collectSuperTypes(cls);
-		if (superData != null) {
-			for (MethodNode mth : cls.getMethods()) {
-				processMth(mth, superData);
+		if (!processedClasses.add(cls) && !cls.getTopParentClass().contains(AFlag.CLASS_UNLOADED)) {
+			// attributes already set and not removed by class reload
+			return false;
+		}
+		try {
+			SuperTypes superData = cls.root().getClassHierarchy().getSuperTypes(cls);
+			if (superData != null) {
+				for (MethodNode mth : cls.getMethods()) {
+					processMth(mth, superData);
+				}
 			}
+		} catch (Exception e) {
+			failed = true;
+			throw e;
 		}
 		return true;
 	}
 
-	private void processMth(MethodNode mth, SuperTypesData superData) {
+	private void processMth(MethodNode mth, SuperTypes superData) {
 		if (mth.isConstructor() || mth.getAccessFlags().isStatic() || mth.getAccessFlags().isPrivate()) {
 			return;
 		}
@@ -79,7 +134,7 @@ private void processMth(MethodNode mth, SuperTypesData superData) {
 		}
 	}
 
-	private MethodOverrideAttr processOverrideMethods(MethodNode mth, SuperTypesData superData) {
+	private MethodOverrideAttr processOverrideMethods(MethodNode mth, SuperTypes superData) {
 		MethodOverrideAttr result = mth.get(AType.METHOD_OVERRIDE);
 		if (result != null) {
 			return result;
@@ -88,7 +143,7 @@ private MethodOverrideAttr processOverrideMethods(MethodNode mth, SuperTypesData
 		String signature = mth.getMethodInfo().makeSignature(false);
 		List<IMethodDetails> overrideList = new ArrayList<>();
 		Set<IMethodDetails> baseMethods = new HashSet<>();
-		for (ArgType superType : superData.getSuperTypes()) {
+		for (ArgType superType : superData.getList()) {
 			ClassNode classNode = mth.root().resolveClass(superType);
 			if (classNode != null) {
 				MethodNode ovrdMth = searchOverriddenMethod(classNode, mth, signature);
@@ -105,15 +160,11 @@ private MethodOverrideAttr processOverrideMethods(MethodNode mth, SuperTypesData
 			} else {
 				ClspClass clsDetails = mth.root().getClsp().getClsDetails(superType);
 				if (clsDetails != null) {
-					Map<String, ClspMethod> methodsMap = clsDetails.getMethodsMap();
-					for (Map.Entry<String, ClspMethod> entry : methodsMap.entrySet()) {
-						String mthShortId = entry.getKey();
-						// do not check full signature, classpath methods can be trusted
-						// i.e. doesn't contain methods with same signature in one class
-						if (mthShortId.startsWith(signature)) {
-							overrideList.add(entry.getValue());
-							break;
-						}
+					// do not check full signature, classpath methods can be trusted
+					// i.e. doesn't contain methods with same signature in one class
+					ClspMethod clspMth = mth.root().getClassHierarchy().getClspMethodBySignature(clsDetails, signature);
+					if (clspMth != null) {
+						overrideList.add(clspMth);
 					}
 				}
 			}
@@ -122,7 +173,7 @@ private MethodOverrideAttr processOverrideMethods(MethodNode mth, SuperTypesData
 		return buildOverrideAttr(mth, overrideList, baseMethods, null);
 	}
 
-	private void addBaseMethod(SuperTypesData superData, List<IMethodDetails> overrideList, Set<IMethodDetails> baseMethods,
+	private void addBaseMethod(SuperTypes superData, List<IMethodDetails> overrideList, Set<IMethodDetails> baseMethods,
 			ArgType superType) {
 		if (superData.getEndTypes().contains(superType.getObject())) {
 			IMethodDetails last = Utils.last(overrideList);
@@ -136,25 +187,22 @@ private void addBaseMethod(SuperTypesData superData, List<IMethodDetails> overri
 	private MethodNode searchOverriddenMethod(ClassNode cls, MethodNode mth, String signature) {
 		// search by exact full signature (with return value) to fight obfuscation (see test
 		// 'TestOverrideWithSameName')
-		String shortId = mth.getMethodInfo().getShortId();
-		for (MethodNode supMth : cls.getMethods()) {
-			if (supMth.getMethodInfo().getShortId().equals(shortId) && !supMth.getAccessFlags().isStatic()) {
-				return supMth;
-			}
+		ClassHierarchy.MethodsTable methodsTable = cls.root().getClassHierarchy().getMethodsTable(cls);
+		MethodNode sameMth = methodsTable.getByShortId(mth.getMethodInfo().getShortId());
+		if (sameMth != null) {
+			return sameMth;
 		}
 		// search by signature without return value and check if return value is wider type
-		for (MethodNode supMth : cls.getMethods()) {
-			if (supMth.getMethodInfo().getShortId().startsWith(signature) && !supMth.getAccessFlags().isStatic()) {
-				TypeCompare typeCompare = cls.root().getTypeCompare();
-				ArgType supRetType = supMth.getMethodInfo().getReturnType();
-				ArgType mthRetType = mth.getMethodInfo().getReturnType();
-				TypeCompareEnum res = typeCompare.compareTypes(supRetType, mthRetType);
-				if (res.isWider()) {
-					return supMth;
-				}
-				if (res == TypeCompareEnum.UNKNOWN || res == TypeCompareEnum.CONFLICT) {
-					mth.addDebugComment("Possible override for method " + supMth.getMethodInfo().getFullId());
-				}
+		for (MethodNode supMth : methodsTable.getBySignature(signature)) {
+			TypeCompare typeCompare = cls.root().getTypeCompare();
+			ArgType supRetType = supMth.getMethodInfo().getReturnType();
+			ArgType mthRetType = mth.getMethodInfo().getReturnType();
+			TypeCompareEnum res = typeCompare.compareTypes(supRetType, mthRetType);
+			if (res.isWider()) {
+				return supMth;
+			}
+			if (res == TypeCompareEnum.UNKNOWN || res == TypeCompareEnum.CONFLICT) {
+				mth.addDebugComment(POSSIBLE_OVERRIDE_COMMENT + supMth.getMethodInfo().getFullId());
 			}
 		}
 		return null;
@@ -262,95 +310,23 @@ private boolean isMethodVisibleInCls(MethodNode superMth, ClassNode cls) {
 		return Objects.equals(superMth.getParentClass().getPackage(), cls.getPackage());
 	}
 
-	private static final class SuperTypesData {
-		private final List<ArgType> superTypes;
-		private final Set<String> endTypes;
-
-		private SuperTypesData(List<ArgType> superTypes, Set<String> endTypes) {
-			this.superTypes = superTypes;
-			this.endTypes = endTypes;
-		}
-
-		public List<ArgType> getSuperTypes() {
-			return superTypes;
-		}
-
-		public Set<String> getEndTypes() {
-			return endTypes;
-		}
-	}
-
-	@Nullable
-	private SuperTypesData collectSuperTypes(ClassNode cls) {
-		Set<ArgType> superTypes = new LinkedHashSet<>();
-		Set<String> endTypes = new HashSet<>();
-		collectSuperTypes(cls, superTypes, endTypes);
-		if (superTypes.isEmpty()) {
-			return null;
-		}
-		if (endTypes.isEmpty()) {
-			throw new JadxRuntimeException("No end types in class hierarchy: " + cls);
-		}
-		return new SuperTypesData(new ArrayList<>(superTypes), endTypes);
-	}
-
-	private void collectSuperTypes(ClassNode cls, Set<ArgType> superTypes, Set<String> endTypes) {
-		RootNode root = cls.root();
-		int k = 0;
-		ArgType superClass = cls.getSuperClass();
-		if (superClass != null) {
-			k += addSuperType(root, superTypes, endTypes, superClass);
-		}
-		for (ArgType iface : cls.getInterfaces()) {
-			k += addSuperType(root, superTypes, endTypes, iface);
-		}
-		if (k == 0) {
-			endTypes.add(cls.getType().getObject());
-		}
-	}
-
-	private int addSuperType(RootNode root, Set<ArgType> superTypes, Set<String> endTypes, ArgType superType) {
-		if (Objects.equals(superType, ArgType.OBJECT)) {
-			return 0;
-		}
-		if (!superTypes.add(superType)) {
-			// found 'super' loop, stop processing
-			return 0;
-		}
-		ClassNode classNode = root.resolveClass(superType);
-		if (classNode != null) {
-			collectSuperTypes(classNode, superTypes, endTypes);
-			return 1;
-		}
-		ClspClass clsDetails = root.getClsp().getClsDetails(superType);
-		if (clsDetails != null) {
-			int k = 0;
-			for (ArgType parentType : clsDetails.getParents()) {
-				k += addSuperType(root, superTypes, endTypes, parentType);
-			}
-			if (k == 0) {
-				endTypes.add(superType.getObject());
-			}
-			return 1;
-		}
-		// no info found => treat as hierarchy end
-		endTypes.add(superType.getObject());
-		return 1;
-	}
-
-	private boolean fixMethodReturnType(MethodNode mth, IMethodDetails baseMth, SuperTypesData superData) {
+	private boolean fixMethodReturnType(MethodNode mth, IMethodDetails baseMth, SuperTypes superData) {
 		ArgType returnType = mth.getReturnType();
 		if (returnType == ArgType.VOID) {
 			return false;
 		}
 		boolean updated = updateReturnType(mth, baseMth, superData);
 		if (updated) {
-			mth.addDebugComment("Return type fixed from '" + returnType + "' to match base method");
+			mth.addDebugComment(makeReturnTypeFixComment(returnType));
 		}
 		return updated;
 	}
 
-	private boolean updateReturnType(MethodNode mth, IMethodDetails baseMth, SuperTypesData superData) {
+	static String makeReturnTypeFixComment(ArgType originalType) {
+		return "Return type fixed from '" + originalType + "' to match base method";
+	}
+
+	private boolean updateReturnType(MethodNode mth, IMethodDetails baseMth, SuperTypes superData) {
 		ArgType baseReturnType = baseMth.getReturnType();
 		if (mth.getReturnType().equals(baseReturnType)) {
 			return false;
@@ -360,7 +336,7 @@ private boolean updateReturnType(MethodNode mth, IMethodDetails baseMth, SuperTy
 		}
 		TypeCompare typeCompare = mth.root().getTypeUpdate().getTypeCompare();
 		ArgType baseCls = baseMth.getMethodInfo().getDeclClass().getType();
-		for (ArgType superType : superData.getSuperTypes()) {
+		for (ArgType superType : superData.getList()) {
 			TypeCompareEnum compareResult = typeCompare.compareTypes(superType, baseCls);
 			if (compareResult == TypeCompareEnum.NARROW_BY_GENERIC) {
 				ArgType targetRetType = mth.root().getTypeUtils().replaceClassGenerics(superType, baseReturnType);
@@ -375,7 +351,7 @@ private boolean updateReturnType(MethodNode mth, IMethodDetails baseMth, SuperTy
 		return false;
 	}
 
-	private boolean fixMethodArgTypes(MethodNode mth, IMethodDetails baseMth, SuperTypesData superData) {
+	private boolean fixMethodArgTypes(MethodNode mth, IMethodDetails baseMth, SuperTypes superData) {
 		List<ArgType> mthArgTypes = mth.getArgTypes();
 		List<ArgType> baseArgTypes = baseMth.getArgTypes();
 		if (mthArgTypes.equals(baseArgTypes)) {
@@ -397,12 +373,12 @@ private boolean fixMethodArgTypes(MethodNode mth, IMethodDetails baseMth, SuperT
 			}
 		}
 		if (changed) {
-			mth.updateArgTypes(newArgTypes, "Method arguments types fixed to match base method");
+			mth.updateArgTypes(newArgTypes, ARG_TYPES_FIX_COMMENT);
 		}
 		return changed;
 	}
 
-	private ArgType updateArgType(MethodNode mth, IMethodDetails baseMth, SuperTypesData superData, int argNum) {
+	private ArgType updateArgType(MethodNode mth, IMethodDetails baseMth, SuperTypes superData, int argNum) {
 		ArgType arg = mth.getArgTypes().get(argNum);
 		ArgType baseArg = baseMth.getArgTypes().get(argNum);
 		if (arg.equals(baseArg)) {
@@ -413,7 +389,7 @@ private ArgType updateArgType(MethodNode mth, IMethodDetails baseMth, SuperTypes
 		}
 		TypeCompare typeCompare = mth.root().getTypeUpdate().getTypeCompare();
 		ArgType baseCls = baseMth.getMethodInfo().getDeclClass().getType();
-		for (ArgType superType : superData.getSuperTypes()) {
+		for (ArgType superType : superData.getList()) {
 			TypeCompareEnum compareResult = typeCompare.compareTypes(superType, baseCls);
 			if (compareResult == TypeCompareEnum.NARROW_BY_GENERIC) {
 				ArgType targetArgType = mth.root().getTypeUtils().replaceClassGenerics(superType, baseArg);
@@ -437,10 +413,10 @@ private void checkMethodSignatureCollisions(MethodNode mth, boolean rename) {
 				if (otherSignature.equals(newSignature)) {
 					if (rename) {
 						if (otherMth.contains(AFlag.DONT_RENAME) || otherMth.contains(AType.METHOD_OVERRIDE)) {
-							otherMth.addWarnComment("Can't rename method to resolve collision");
+							otherMth.addWarnComment(COLLISION_WARN);
 						} else {
 							otherMth.getMethodInfo().setAlias(makeNewAlias(otherMth));
-							otherMth.addAttr(new RenameReasonAttr("avoid collision after fix types in other method"));
+							otherMth.addAttr(new RenameReasonAttr(COLLISION_RENAME_REASON));
 						}
 					}
 					otherMth.addAttr(new MethodBridgeAttr(mth));
@@ -57,13 +57,20 @@ private static void processBlocksTree(MethodNode mth) {
 		}
 		updateCleanSuccessors(mth);
 
+		// modifications are cheap (no full dominators recompute), so allow more for big methods
+		int modLimit = Math.max(100, mth.getBasicBlocks().size());
 		int i = 0;
+		boolean modified = false;
 		while (modifyBlocksTree(mth)) {
-			computeDominators(mth);
-			if (i++ > 100) {
+			modified = true;
+			if (i++ > modLimit) {
 				throw new JadxRuntimeException("CFG modification limit reached, blocks count: " + mth.getBasicBlocks().size());
 			}
 		}
+		if (modified) {
+			// only immediate dominators updated on modifications, compute full info for final blocks tree
+			computeDominators(mth);
+		}
 		checkForUnreachableBlocks(mth);
 
 		DominatorTree.computeDominanceFrontier(mth);
@@ -205,17 +212,33 @@ private static InsnNode getInsnsFromEnd(BlockNode block, int number) {
 	}
 
 	private static void computeDominators(MethodNode mth) {
-		clearBlocksState(mth);
+		clearBlocksState(mth, false);
 		DominatorTree.compute(mth);
 		markLoops(mth);
 	}
 
+	/**
+	 * Rebuild loops after blocks tree modification.
+	 * Dominators sets not computed, loops detection use only immediate dominators.
+	 *
+	 * @param computeIDoms false if immediate dominators already updated for modification
+	 */
+	private static void updateLoops(MethodNode mth, boolean computeIDoms) {
+		clearBlocksState(mth, true);
+		if (computeIDoms) {
+			DominatorTree.computeIDoms(mth);
+		} else {
+			DominatorTree.sortBlocksKeepIDoms(mth);
+		}
+		markLoops(mth);
+	}
+
 	private static void markLoops(MethodNode mth) {
 		mth.getBasicBlocks().forEach(block -> {
 			// Every successor that dominates its predecessor is a header of a loop,
 			// block -> successor is a back edge.
 			block.getSuccessors().forEach(successor -> {
-				if (block.getDoms().get(successor.getId()) || block == successor) {
+				if (DominatorTree.isDominator(successor, block)) {
 					successor.add(AFlag.LOOP_START);
 					block.add(AFlag.LOOP_END);
 
@@ -265,13 +288,16 @@ private static void processNestedLoops(MethodNode mth) {
 	private static boolean modifyBlocksTree(MethodNode mth) {
 		for (BlockNode block : mth.getBasicBlocks()) {
 			if (checkLoops(mth, block)) {
+				// loops modifications only insert blocks, immediate dominators already updated
+				updateLoops(mth, false);
 				return true;
 			}
 		}
-		if (mergeConstReturn(mth)) {
+		if (mergeConstReturn(mth) || splitExitBlocks(mth)) {
+			updateLoops(mth, true);
 			return true;
 		}
-		return splitExitBlocks(mth);
+		return false;
 	}
 
 	private static boolean mergeConstReturn(MethodNode mth) {
@@ -346,6 +372,7 @@ private static boolean simplifyLoopEnd(MethodNode mth, LoopInfo loop) {
 			BlockNode loopStart = loop.getStart();
 			BlockSplitter.replaceConnection(loopEnd, loopStart, newLoopEnd);
 			BlockSplitter.connect(newLoopEnd, loopStart);
+			DominatorTree.updateForInsertedBlock(newLoopEnd, loopStart);
 			return true;
 		}
 		return false;
@@ -398,6 +425,7 @@ private static boolean insertPreHeader(MethodNode mth, LoopInfo loop) {
 			mth.setEnterBlock(newEnterBlock);
 			start.remove(AFlag.MTH_ENTER_BLOCK);
 			BlockSplitter.connect(newEnterBlock, start);
+			DominatorTree.updateForInsertedBlock(newEnterBlock, start);
 			return true;
 		}
 		// multiple predecessors
@@ -407,6 +435,7 @@ private static boolean insertPreHeader(MethodNode mth, LoopInfo loop) {
 			BlockSplitter.replaceConnection(pred, start, preHeader);
 		}
 		BlockSplitter.connect(preHeader, start);
+		DominatorTree.updateForInsertedBlock(preHeader, start);
 		return true;
 	}
 
@@ -421,7 +450,8 @@ private static boolean insertBlocksForBreak(MethodNode mth, LoopInfo loop) {
 				BlockNode target = edge.getTarget();
 				BlockNode source = edge.getSource();
 				if (!target.contains(AFlag.SYNTHETIC) && !source.contains(AFlag.SYNTHETIC)) {
-					BlockSplitter.insertBlockBetween(mth, source, target);
+					BlockNode newBlock = BlockSplitter.insertBlockBetween(mth, source, target);
+					DominatorTree.updateForInsertedBlock(newBlock, target);
 					change = true;
 				}
 			}
@@ -439,7 +469,8 @@ private static boolean insertBlocksForContinue(MethodNode mth, LoopInfo loop) {
 		if (preds.size() > 1) {
 			for (BlockNode pred : new ArrayList<>(preds)) {
 				if (!pred.contains(AFlag.SYNTHETIC)) {
-					BlockSplitter.insertBlockBetween(mth, pred, loopEnd);
+					BlockNode newBlock = BlockSplitter.insertBlockBetween(mth, pred, loopEnd);
+					DominatorTree.updateForInsertedBlock(newBlock, loopEnd);
 					change = true;
 				}
 			}
@@ -459,6 +490,7 @@ private static boolean insertBlockForPredecessors(MethodNode mth, LoopInfo loop)
 			BlockNode first = blocks.remove(0);
 			BlockNode preHeader = BlockSplitter.insertBlockBetween(mth, first, loopHeader);
 			blocks.forEach(block -> BlockSplitter.replaceConnection(block, loopHeader, preHeader));
+			DominatorTree.updateForInsertedBlock(preHeader, loopHeader);
 			return true;
 		}
 		return false;
@@ -480,6 +512,7 @@ private static boolean splitLoops(MethodNode mth, BlockNode block, List<LoopInfo
 			for (LoopInfo la : loops) {
 				BlockSplitter.replaceConnection(la.getEnd(), block, newLoopEnd);
 			}
+			DominatorTree.updateForInsertedBlock(newLoopEnd, block);
 			return true;
 		}
 		return false;
@@ -680,13 +713,15 @@ private static void removeFromMethod(Set<BlockNode> toRemove, MethodNode mth) {
 		mth.getBasicBlocks().removeAll(toRemove);
 	}
 
-	private static void clearBlocksState(MethodNode mth) {
+	private static void clearBlocksState(MethodNode mth, boolean keepIDoms) {
 		mth.getBasicBlocks().forEach(block -> {
 			block.remove(AType.LOOP);
 			block.remove(AFlag.LOOP_START);
 			block.remove(AFlag.LOOP_END);
 			block.setDoms(null);
-			block.setIDom(null);
+			if (!keepIDoms) {
+				block.setIDom(null);
+			}
 			block.setDomFrontier(null);
 			block.getDominatesOn().clear();
 		});
@@ -2,9 +2,13 @@
 
 import java.util.ArrayList;
 import java.util.BitSet;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Function;
 
+import org.jetbrains.annotations.Nullable;
+
 import jadx.core.dex.nodes.BlockNode;
 import jadx.core.dex.nodes.MethodNode;
 import jadx.core.utils.BlockUtils;
@@ -26,6 +30,105 @@ public static void compute(MethodNode mth) {
 		apply(sorted, doms);
 	}
 
+	/**
+	 * Compute only immediate dominators without dominators sets.
+	 * Enough for dominance checks by {@link #isDominator(BlockNode, BlockNode)}
+	 * and can be updated incrementally with {@link #updateForInsertedBlock(BlockNode, BlockNode)}.
+	 */
+	public static void computeIDoms(MethodNode mth) {
+		List<BlockNode> sorted = sortBlocks(mth);
+		BlockNode[] doms = build(sorted, BlockNode::getPredecessors);
+		sorted.get(0).setIDom(null);
+		int blocksCount = sorted.size();
+		for (int i = 1; i < blocksCount; i++) {
+			sorted.get(i).setIDom(doms[i]);
+		}
+	}
+
+	/**
+	 * Update immediate dominators after new block inserted before target block:
+	 * new block connected only to target and some of target predecessors moved to new block.
+	 * In this case immediate dominators of other blocks not changed.
+	 * <br>
+	 * Blocks ids not used, so several insertions can be done before blocks sorting.
+	 */
+	public static void updateForInsertedBlock(BlockNode newBlock, BlockNode target) {
+		BlockNode idom = commonDominator(newBlock.getPredecessors());
+		newBlock.setIDom(idom);
+		if (idom != null && isDominatorByIDoms(target, idom)) {
+			// new block reachable only through target (i.e. on back edge)
+			return;
+		}
+		for (BlockNode pred : target.getPredecessors()) {
+			if (pred != newBlock && !isDominatorByIDoms(target, pred)) {
+				// other entry to target exists
+				return;
+			}
+		}
+		target.setIDom(newBlock);
+	}
+
+	/**
+	 * Sort blocks in DFS order and update ids, immediate dominators are kept
+	 */
+	public static void sortBlocksKeepIDoms(MethodNode mth) {
+		sortBlocks(mth);
+	}
+
+	/**
+	 * Check dominance using immediate dominators.
+	 * Blocks ids should be in DFS order (dominator id always less than id of dominated block).
+	 *
+	 * @return true if 'dom' block dominates 'block' or same block
+	 */
+	public static boolean isDominator(BlockNode dom, BlockNode block) {
+		int domId = dom.getId();
+		BlockNode current = block;
+		while (current != null && current.getId() > domId) {
+			current = current.getIDom();
+		}
+		return current == dom;
+	}
+
+	private static boolean isDominatorByIDoms(BlockNode dom, BlockNode block) {
+		BlockNode current = block;
+		while (current != null) {
+			if (current == dom) {
+				return true;
+			}
+			current = current.getIDom();
+		}
+		return false;
+	}
+
+	private static @Nullable BlockNode commonDominator(List<BlockNode> blocks) {
+		int count = blocks.size();
+		if (count == 0) {
+			return null;
+		}
+		BlockNode dom = blocks.get(0);
+		for (int i = 1; i < count; i++) {
+			dom = commonDominator(dom, blocks.get(i));
+		}
+		return dom;
+	}
+
+	private static BlockNode commonDominator(BlockNode first, BlockNode second) {
+		if (first == second) {
+			return first;
+		}
+		Set<BlockNode> firstDoms = new HashSet<>();
+		for (BlockNode b = first; b != null; b = b.getIDom()) {
+			firstDoms.add(b);
+		}
+		for (BlockNode b = second; b != null; b = b.getIDom()) {
+			if (firstDoms.contains(b)) {
+				return b;
+			}
+		}
+		throw new JadxRuntimeException("No common dominator for blocks: " + first + " and " + second);
+	}
+
 	private static List<BlockNode> sortBlocks(MethodNode mth) {
 		int blocksCount = mth.getBasicBlocks().size();
 		List<BlockNode> sorted = new ArrayList<>(blocksCount);
@@ -1,6 +1,8 @@
 package jadx.core.dex.visitors.blocks;
 
+import java.util.ArrayDeque;
 import java.util.Arrays;
+import java.util.Deque;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -104,13 +106,26 @@ private static void detectSpecialEdges(MethodNode mth) {
 		colorDFS(mth, colors, mth.getEnterBlock());
 	}
 
-	// TODO: transform to non-recursive form
-	private static void colorDFS(MethodNode mth, BlockColor[] colors, BlockNode block) {
-		colors[block.getId()] = BlockColor.GRAY;
-		for (BlockNode v : block.getSuccessors()) {
+	private static void colorDFS(MethodNode mth, BlockColor[] colors, BlockNode enterBlock) {
+		// iterative DFS to not overflow stack on big methods, successor index saved for every block in stack
+		Deque<BlockNode> stack = new ArrayDeque<>();
+		int[] nextSuccessor = new int[colors.length];
+		colors[enterBlock.getId()] = BlockColor.GRAY;
+		stack.push(enterBlock);
+		while (!stack.isEmpty()) {
+			BlockNode block = stack.peek();
+			int blockId = block.getId();
+			List<BlockNode> successors = block.getSuccessors();
+			if (nextSuccessor[blockId] == successors.size()) {
+				colors[blockId] = BlockColor.BLACK;
+				stack.pop();
+				continue;
+			}
+			BlockNode v = successors.get(nextSuccessor[blockId]++);
 			switch (colors[v.getId()]) {
 				case WHITE:
-					colorDFS(mth, colors, v);
+					colors[v.getId()] = BlockColor.GRAY;
+					stack.push(v);
 					break;
 				case GRAY:
 					mth.addAttr(AType.SPECIAL_EDGE, new SpecialEdgeAttr(SpecialEdgeType.BACK_EDGE, block, v));
@@ -120,6 +135,5 @@ private static void colorDFS(MethodNode mth, BlockColor[] colors, BlockNode bloc
 					break;
 			}
 		}
-		colors[block.getId()] = BlockColor.BLACK;
 	}
 }
@@ -1,6 +1,8 @@
 package jadx.core.dex.visitors.ssa;
 
+import java.util.ArrayDeque;
 import java.util.BitSet;
+import java.util.Deque;
 import java.util.List;
 
 import org.slf4j.Logger;
@@ -13,13 +15,22 @@
 import jadx.core.dex.nodes.MethodNode;
 import jadx.core.utils.exceptions.JadxRuntimeException;
 
+/**
+ * Registers liveness analysis (live-in sets for every block).
+ * <br>
+ * Solved by worklist in post order, live-in sets only grow, so updated in place.
+ * Uses and defs stored as register lists and bit sets allocated without size hint,
+ * to keep memory usage low for methods with many registers.
+ */
 public class LiveVarAnalysis {
 	private static final Logger LOG = LoggerFactory.getLogger(LiveVarAnalysis.class);
 
+	private static final int[] EMPTY_REGS = new int[0];
+
 	private final MethodNode mth;
 
-	private BitSet[] uses;
-	private BitSet[] defs;
+	private int[][] uses;
+	private int[][] defs;
 	private BitSet[] liveIn;
 	private BitSet[] assignBlocks;
 
@@ -30,15 +41,19 @@ public LiveVarAnalysis(MethodNode mth) {
 	public void runAnalysis() {
 		int bbCount = mth.getBasicBlocks().size();
 		int regsCount = mth.getRegsCount();
-		this.uses = initBitSetArray(bbCount, regsCount);
-		this.defs = initBitSetArray(bbCount, regsCount);
-		this.assignBlocks = initBitSetArray(regsCount, bbCount);
+		this.uses = new int[bbCount][];
+		this.defs = new int[bbCount][];
+		this.assignBlocks = new BitSet[regsCount];
 		fillBasicBlockInfo();
 		processLiveInfo();
 	}
 
 	public BitSet getAssignBlocks(int regNum) {
-		return assignBlocks[regNum];
+		BitSet blocks = assignBlocks[regNum];
+		if (blocks == null) {
+			return new BitSet(0);
+		}
+		return blocks;
 	}
 
 	public boolean isLive(int blockId, int regNum) {
@@ -54,10 +69,12 @@ public boolean isLive(BlockNode block, int regNum) {
 	}
 
 	private void fillBasicBlockInfo() {
+		BitSet gen = new BitSet();
+		BitSet kill = new BitSet();
 		for (BlockNode block : mth.getBasicBlocks()) {
 			int blockId = block.getId();
-			BitSet gen = uses[blockId];
-			BitSet kill = defs[blockId];
+			gen.clear();
+			kill.clear();
 			for (InsnNode insn : block.getInstructions()) {
 				for (InsnArg arg : insn.getArguments()) {
 					if (arg.isRegister()) {
@@ -71,50 +88,110 @@ private void fillBasicBlockInfo() {
 				if (result != null) {
 					int regNum = result.getRegNum();
 					kill.set(regNum);
-					assignBlocks[regNum].set(blockId);
+					BitSet regAssigns = assignBlocks[regNum];
+					if (regAssigns == null) {
+						regAssigns = new BitSet();
+						assignBlocks[regNum] = regAssigns;
+					}
+					regAssigns.set(blockId);
 				}
 			}
+			uses[blockId] = toArray(gen);
+			defs[blockId] = toArray(kill);
 		}
 	}
 
 	private void processLiveInfo() {
-		int bbCount = mth.getBasicBlocks().size();
-		int regsCount = mth.getRegsCount();
-		BitSet[] liveInBlocks = initBitSetArray(bbCount, regsCount);
 		List<BlockNode> blocks = mth.getBasicBlocks();
 		int blocksCount = blocks.size();
-		int iterationsLimit = blocksCount * 10;
-		boolean changed;
-		int k = 0;
-		do {
-			changed = false;
-			for (BlockNode block : blocks) {
-				int blockId = block.getId();
-				BitSet prevIn = liveInBlocks[blockId];
-				BitSet newIn = new BitSet(regsCount);
-				for (BlockNode successor : block.getSuccessors()) {
-					newIn.or(liveInBlocks[successor.getId()]);
-				}
-				newIn.andNot(defs[blockId]);
-				newIn.or(uses[blockId]);
-				if (!prevIn.equals(newIn)) {
-					changed = true;
-					liveInBlocks[blockId] = newIn;
+		BitSet[] liveInBlocks = new BitSet[blocksCount];
+		for (int i = 0; i < blocksCount; i++) {
+			liveInBlocks[i] = new BitSet();
+		}
+		// process successors before predecessors to reduce number of visits
+		BlockNode[] order = buildPostOrder(blocks);
+		int[] orderIndex = new int[blocksCount];
+		for (int i = 0; i < blocksCount; i++) {
+			orderIndex[order[i].getId()] = i;
+		}
+		// every live-in set can change at most 'regsCount' times
+		long visitsLimit = (long) blocksCount * (mth.getRegsCount() + 2);
+		long visits = 0;
+		BitSet workList = new BitSet(blocksCount);
+		workList.set(0, blocksCount);
+		BitSet newIn = new BitSet();
+		for (int i = workList.nextSetBit(0); i >= 0; i = workList.nextSetBit(0)) {
+			workList.clear(i);
+			BlockNode block = order[i];
+			int blockId = block.getId();
+			newIn.clear();
+			for (BlockNode successor : block.getSuccessors()) {
+				newIn.or(liveInBlocks[successor.getId()]);
+			}
+			for (int regNum : defs[blockId]) {
+				newIn.clear(regNum);
+			}
+			for (int regNum : uses[blockId]) {
+				newIn.set(regNum);
+			}
+			BitSet prevIn = liveInBlocks[blockId];
+			newIn.andNot(prevIn);
+			if (!newIn.isEmpty()) {
+				prevIn.or(newIn);
+				for (BlockNode predecessor : block.getPredecessors()) {
+					workList.set(orderIndex[predecessor.getId()]);
 				}
 			}
-			if (k++ > iterationsLimit) {
+			if (++visits > visitsLimit) {
 				throw new JadxRuntimeException("Live variable analysis reach iterations limit, blocks count: " + blocksCount);
 			}
-		} while (changed);
-
+		}
 		this.liveIn = liveInBlocks;
 	}
 
-	private static BitSet[] initBitSetArray(int length, int bitsCount) {
-		BitSet[] array = new BitSet[length];
-		for (int i = 0; i < length; i++) {
-			array[i] = new BitSet(bitsCount);
+	/**
+	 * Blocks in post order from enter block, unreachable blocks added at the end
+	 */
+	private BlockNode[] buildPostOrder(List<BlockNode> blocks) {
+		int blocksCount = blocks.size();
+		BlockNode[] order = new BlockNode[blocksCount];
+		int pos = 0;
+		BitSet visited = new BitSet(blocksCount);
+		// next successor index to visit for blocks in stack
+		int[] nextSuccessor = new int[blocksCount];
+		Deque<BlockNode> stack = new ArrayDeque<>();
+		BlockNode enterBlock = mth.getEnterBlock();
+		if (enterBlock != null) {
+			visited.set(enterBlock.getId());
+			stack.push(enterBlock);
+		}
+		while (!stack.isEmpty()) {
+			BlockNode block = stack.peek();
+			List<BlockNode> successors = block.getSuccessors();
+			int next = nextSuccessor[block.getId()]++;
+			if (next < successors.size()) {
+				BlockNode successor = successors.get(next);
+				if (!visited.get(successor.getId())) {
+					visited.set(successor.getId());
+					stack.push(successor);
+				}
+			} else {
+				stack.pop();
+				order[pos++] = block;
+			}
+		}
+		for (BlockNode block : blocks) {
+			if (!visited.get(block.getId())) {
+				order[pos++] = block;
+			}
+		}
+		return order;
+	}
+
+	private static int[] toArray(BitSet regs) {
+		if (regs.isEmpty()) {
+			return EMPTY_REGS;
 		}
-		return array;
+		return regs.stream().toArray();
 	}
 }
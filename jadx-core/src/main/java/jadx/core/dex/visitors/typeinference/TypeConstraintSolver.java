@@ -0,0 +1,360 @@
+package jadx.core.dex.visitors.typeinference;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import jadx.core.Consts;
+import jadx.core.dex.instructions.InsnType;
+import jadx.core.dex.instructions.args.ArgType;
+import jadx.core.dex.instructions.args.InsnArg;
+import jadx.core.dex.instructions.args.RegisterArg;
+import jadx.core.dex.instructions.args.SSAVar;
+import jadx.core.dex.nodes.InsnNode;
+
+/**
+ * Multi-variable type search using constraints propagation.
+ * <p>
+ * Stages description:
+ * - group variables linked by PHI into equivalence classes (all variables in class must have same type)
+ * - intersect candidate types of variables in every class
+ * - remove candidates without support in MOVE constraints between classes (worklist propagation)
+ * - run depth-first search for remaining candidates with early constraints check
+ * <p>
+ * Candidates removed by propagation can't be a part of any solution and search checks types
+ * in same order as full enumeration, so result is same as in plain enumerative search.
+ */
+final class TypeConstraintSolver {
+	private static final Logger LOG = LoggerFactory.getLogger(TypeConstraintSolver.class);
+
+	private final TypeSearchState state;
+	private final TypeCompare typeCompare;
+	private final List<TypeSearchVarInfo> vars;
+	private final int iterationsLimit;
+
+	private final Map<SSAVar, Integer> varIndex = new HashMap<>();
+	private final List<TypeSearchVarInfo> allVars = new ArrayList<>();
+	private final List<MoveEdge> moveEdges = new ArrayList<>();
+	private int[] parent;
+
+	/**
+	 * Allowed types for every equivalence class (indexed by class root)
+	 */
+	private final Map<Integer, List<ArgType>> domains = new HashMap<>();
+
+	private int iterations;
+
+	TypeConstraintSolver(TypeSearchState state, TypeCompare typeCompare, List<TypeSearchVarInfo> vars, int iterationsLimit) {
+		this.state = state;
+		this.typeCompare = typeCompare;
+		this.vars = vars;
+		this.iterationsLimit = iterationsLimit;
+	}
+
+	/**
+	 * @return true if types for all variables found, variables marked as resolved in that case
+	 */
+	boolean solve() {
+		buildClasses();
+		if (!initDomains()) {
+			if (Consts.DEBUG_TYPE_INFERENCE) {
+				LOG.debug(" > conflict in PHI equivalence classes");
+			}
+			return false;
+		}
+		if (!propagate()) {
+			if (Consts.DEBUG_TYPE_INFERENCE) {
+				LOG.debug(" > conflict found by constraints propagation");
+			}
+			return false;
+		}
+		boolean success = search();
+		if (Consts.DEBUG_TYPE_INFERENCE) {
+			LOG.debug(" > search {} after {} iterations", success ? "done" : "failed", iterations);
+		}
+		if (success) {
+			for (TypeSearchVarInfo var : vars) {
+				var.setTypeResolved(true);
+			}
+		}
+		return success;
+	}
+
+	private void buildClasses() {
+		for (TypeSearchVarInfo var : vars) {
+			addVar(var.getVar());
+		}
+		List<InsnNode> phiInsns = new ArrayList<>();
+		Set<InsnNode> processed = Collections.newSetFromMap(new IdentityHashMap<>());
+		for (TypeSearchVarInfo var : vars) {
+			for (ITypeConstraint constraint : var.getConstraints()) {
+				if (!(constraint instanceof AbstractTypeConstraint)) {
+					continue;
+				}
+				InsnNode insn = ((AbstractTypeConstraint) constraint).insn;
+				if (!processed.add(insn)) {
+					continue;
+				}
+				if (insn.getType() == InsnType.PHI) {
+					addVar(insn.getResult().getSVar());
+					for (InsnArg arg : insn.getArguments()) {
+						addVar(((RegisterArg) arg).getSVar());
+					}
+					phiInsns.add(insn);
+				} else if (insn.getType() == InsnType.MOVE && insn.getArg(0).isRegister()) {
+					int res = addVar(insn.getResult().getSVar());
+					int arg = addVar(((RegisterArg) insn.getArg(0)).getSVar());
+					moveEdges.add(new MoveEdge(res, arg));
+				}
+			}
+		}
+		int count = allVars.size();
+		parent = new int[count];
+		for (int i = 0; i < count; i++) {
+			parent[i] = i;
+		}
+		for (InsnNode phi : phiInsns) {
+			int res = varIndex.get(phi.getResult().getSVar());
+			for (InsnArg arg : phi.getArguments()) {
+				union(res, varIndex.get(((RegisterArg) arg).getSVar()));
+			}
+		}
+	}
+
+	private int addVar(SSAVar ssaVar) {
+		Integer idx = varIndex.get(ssaVar);
+		if (idx != null) {
+			return idx;
+		}
+		int newIdx = allVars.size();
+		varIndex.put(ssaVar, newIdx);
+		allVars.add(state.getVarInfo(ssaVar));
+		return newIdx;
+	}
+
+	private int find(int i) {
+		int root = i;
+		while (parent[root] != root) {
+			root = parent[root];
+		}
+		// path compression
+		while (parent[i] != root) {
+			int next = parent[i];
+			parent[i] = root;
+			i = next;
+		}
+		return root;
+	}
+
+	private void union(int a, int b) {
+		int rootA = find(a);
+		int rootB = find(b);
+		if (rootA != rootB) {
+			parent[rootB] = rootA;
+		}
+	}
+
+	private boolean initDomains() {
+		int count = allVars.size();
+		for (int i = 0; i < count; i++) {
+			TypeSearchVarInfo var = allVars.get(i);
+			List<ArgType> varTypes = var.isTypeResolved()
+					? Collections.singletonList(var.getCurrentType())
+					: var.getCandidateTypes();
+			int root = find(i);
+			List<ArgType> domain = domains.get(root);
+			if (domain == null) {
+				domains.put(root, new ArrayList<>(varTypes));
+			} else {
+				domain.retainAll(varTypes);
+				if (domain.isEmpty()) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	private boolean propagate() {
+		if (moveEdges.isEmpty()) {
+			return true;
+		}
+		Map<Integer, List<MoveEdge>> edgesByClass = new HashMap<>();
+		for (MoveEdge edge : moveEdges) {
+			edge.res = find(edge.res);
+			edge.arg = find(edge.arg);
+			edgesByClass.computeIfAbsent(edge.res, k -> new ArrayList<>()).add(edge);
+			if (edge.arg != edge.res) {
+				edgesByClass.computeIfAbsent(edge.arg, k -> new ArrayList<>()).add(edge);
+			}
+		}
+		Deque<MoveEdge> queue = new ArrayDeque<>(moveEdges);
+		for (MoveEdge edge : moveEdges) {
+			edge.queued = true;
+		}
+		while (!queue.isEmpty()) {
+			MoveEdge edge = queue.poll();
+			edge.queued = false;
+			List<ArgType> resDomain = domains.get(edge.res);
+			List<ArgType> argDomain = domains.get(edge.arg);
+			boolean resChanged = resDomain.removeIf(resType -> !hasSupport(resType, argDomain, true));
+			boolean argChanged = argDomain.removeIf(argType -> !hasSupport(argType, resDomain, false));
+			if (resDomain.isEmpty() || argDomain.isEmpty()) {
+				return false;
+			}
+			if (resChanged) {
+				enqueueEdges(queue, edgesByClass.get(edge.res));
+			}
+			if (argChanged) {
+				enqueueEdges(queue, edgesByClass.get(edge.arg));
+			}
+		}
+		return true;
+	}
+
+	private boolean hasSupport(ArgType type, List<ArgType> otherDomain, boolean isResult) {
+		for (ArgType other : otherDomain) {
+			if (isResult ? checkMove(type, other) : checkMove(other, type)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private boolean checkMove(ArgType resType, ArgType argType) {
+		return typeCompare.compareTypes(resType, argType).isWiderOrEqual();
+	}
+
+	private static void enqueueEdges(Deque<MoveEdge> queue, List<MoveEdge> edges) {
+		for (MoveEdge edge : edges) {
+			if (!edge.queued) {
+				edge.queued = true;
+				queue.add(edge);
+			}
+		}
+	}
+
+	/**
+	 * Depth-first search in same order as full enumeration: last variable is the most significant.
+	 * Constraints checked as soon as all related variables get type.
+	 */
+	private boolean search() {
+		int len = vars.size();
+		List<TypeSearchVarInfo> order = new ArrayList<>(vars);
+		Collections.reverse(order);
+
+		Map<SSAVar, Integer> depthMap = new HashMap<>(len);
+		for (int i = 0; i < len; i++) {
+			depthMap.put(order.get(i).getVar(), i);
+		}
+		List<List<ArgType>> values = new ArrayList<>(len);
+		List<List<ITypeConstraint>> checks = new ArrayList<>(len);
+		int[] roots = new int[len];
+		for (int i = 0; i < len; i++) {
+			TypeSearchVarInfo var = order.get(i);
+			int root = find(varIndex.get(var.getVar()));
+			roots[i] = root;
+			List<ArgType> domain = domains.get(root);
+			List<ArgType> varValues = new ArrayList<>(var.getCandidateTypes());
+			varValues.retainAll(domain);
+			values.add(varValues);
+			checks.add(new ArrayList<>());
+		}
+		for (int i = 0; i < len; i++) {
+			for (ITypeConstraint constraint : order.get(i).getConstraints()) {
+				// check constraint at depth of last assigned variable
+				int depth = i;
+				for (SSAVar relatedVar : constraint.getRelatedVars()) {
+					Integer relatedDepth = depthMap.get(relatedVar);
+					if (relatedDepth != null && relatedDepth > depth) {
+						depth = relatedDepth;
+					}
+				}
+				checks.get(depth).add(constraint);
+			}
+		}
+
+		Map<Integer, ArgType> classTypes = new HashMap<>();
+		int[] classOwner = new int[len];
+		int[] valueIdx = new int[len];
+		int depth = 0;
+		valueIdx[0] = -1;
+		while (depth >= 0) {
+			TypeSearchVarInfo var = order.get(depth);
+			if (classOwner[depth] == 1) {
+				classTypes.remove(roots[depth]);
+				classOwner[depth] = 0;
+			}
+			ArgType nextType = nextValue(values.get(depth), valueIdx, depth, classTypes.get(roots[depth]));
+			if (nextType == null) {
+				depth--;
+				continue;
+			}
+			if (++iterations > iterationsLimit) {
+				if (Consts.DEBUG_TYPE_INFERENCE) {
+					LOG.debug(" > iterations limit reached: {}", iterationsLimit);
+				}
+				return false;
+			}
+			var.setCurrentType(nextType);
+			if (!classTypes.containsKey(roots[depth])) {
+				classTypes.put(roots[depth], nextType);
+				classOwner[depth] = 1;
+			}
+			if (checkAll(checks.get(depth))) {
+				depth++;
+				if (depth == len) {
+					return true;
+				}
+				valueIdx[depth] = -1;
+			}
+		}
+		return false;
+	}
+
+	private static ArgType nextValue(List<ArgType> varValues, int[] valueIdx, int depth, ArgType classType) {
+		int size = varValues.size();
+		for (int i = valueIdx[depth] + 1; i < size; i++) {
+			ArgType type = varValues.get(i);
+			if (classType == null || classType.equals(type)) {
+				valueIdx[depth] = i;
+				return type;
+			}
+		}
+		valueIdx[depth] = size;
+		return null;
+	}
+
+	int getIterations() {
+		return iterations;
+	}
+
+	private boolean checkAll(List<ITypeConstraint> constraints) {
+		for (ITypeConstraint constraint : constraints) {
+			if (!constraint.check(state)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static final class MoveEdge {
+		private int res;
+		private int arg;
+		private boolean queued;
+
+		private MoveEdge(int res, int arg) {
+			this.res = res;
+			this.arg = arg;
+		}
+	}
+}
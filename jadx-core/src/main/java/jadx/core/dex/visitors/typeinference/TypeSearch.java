@@ -23,17 +23,19 @@
 import jadx.core.dex.nodes.MethodNode;
 
 /**
- * Slow and memory consuming multi-variable type search algorithm.
+ * Multi-variable type search algorithm.
  * Used only if fast type propagation is failed for some variables.
  * <p>
  * Stages description:
  * - find all possible candidate types within bounds
  * - build dynamic constraint list for every variable
- * - run search by checking all candidates
+ * - resolve variables without dependencies
+ * - run constraints solver for remaining variables (see {@link TypeConstraintSolver})
  */
 public class TypeSearch {
 	private static final Logger LOG = LoggerFactory.getLogger(TypeSearch.class);
 
+	private static final int SSA_VARS_LIMIT = 50_000;
 	private static final int VARS_PROCESS_LIMIT = 5_000;
 	private static final int CANDIDATES_COUNT_LIMIT = 10;
 	private static final int SEARCH_ITERATION_LIMIT = 1_000_000;
@@ -51,9 +53,11 @@ public TypeSearch(MethodNode mth) {
 	}
 
 	public boolean run() {
-		if (mth.getSVars().size() > VARS_PROCESS_LIMIT) {
-			mth.addWarnComment("Multi-variable search skipped. Vars limit reached: " + mth.getSVars().size()
-					+ " (expected less than " + VARS_PROCESS_LIMIT + ")");
+		int ssaVarsCount = mth.getSVars().size();
+		if (ssaVarsCount > SSA_VARS_LIMIT) {
+			// skip candidates collection for huge methods
+			mth.addWarnComment("Multi-variable search skipped. SSA vars limit reached: " + ssaVarsCount
+					+ " (expected less than " + SSA_VARS_LIMIT + ")");
 			return false;
 		}
 		mth.getSVars().forEach(this::fillTypeCandidates);
@@ -64,6 +68,11 @@ public boolean run() {
 
 		boolean searchSuccess;
 		List<TypeSearchVarInfo> vars = state.getUnresolvedVars();
+		if (vars.size() > VARS_PROCESS_LIMIT) {
+			mth.addWarnComment("Multi-variable search skipped. Vars limit reached: " + vars.size()
+					+ " (expected less than " + VARS_PROCESS_LIMIT + ")");
+			return false;
+		}
 		if (vars.isEmpty()) {
 			searchSuccess = true;
 		} else {
@@ -121,50 +130,7 @@ private boolean search(List<TypeSearchVarInfo> vars) {
 			sb.append(" = ").append(count);
 			LOG.debug(" max iterations count = {}", sb);
 		}
-
-		// prepare vars
-		for (TypeSearchVarInfo var : vars) {
-			var.reset();
-		}
-		// check all types combinations
-		int n = 0;
-		int i = 0;
-		while (!fullCheck(vars)) {
-			TypeSearchVarInfo first = vars.get(i);
-			if (first.nextType()) {
-				int k = i + 1;
-				if (k >= len) {
-					return false;
-				}
-				TypeSearchVarInfo next = vars.get(k);
-				while (true) {
-					if (next.nextType()) {
-						k++;
-						if (k >= len) {
-							return false;
-						}
-						next = vars.get(k);
-					} else {
-						break;
-					}
-				}
-			}
-			n++;
-			if (n > SEARCH_ITERATION_LIMIT) {
-				if (Consts.DEBUG_TYPE_INFERENCE) {
-					LOG.debug(" > iterations limit reached: {}", SEARCH_ITERATION_LIMIT);
-				}
-				return false;
-			}
-		}
-		if (Consts.DEBUG_TYPE_INFERENCE) {
-			LOG.debug(" > done after {} iterations", n);
-		}
-		// mark all vars as resolved
-		for (TypeSearchVarInfo var : vars) {
-			var.setTypeResolved(true);
-		}
-		return true;
+		return new TypeConstraintSolver(state, typeCompare, vars, SEARCH_ITERATION_LIMIT).solve();
 	}
 
 	private boolean resolveIndependentVariables(TypeSearchVarInfo varInfo) {
@@ -338,9 +304,9 @@ private void collectConstraints(SSAVar var) {
 			return;
 		}
 		varInfo.setConstraints(new ArrayList<>());
-		addConstraint(varInfo, makeConstraint(var.getAssign()));
+		addConstraint(varInfo, makeConstraint(typeCompare, var.getAssign()));
 		for (RegisterArg regArg : var.getUseList()) {
-			addConstraint(varInfo, makeConstraint(regArg));
+			addConstraint(varInfo, makeConstraint(typeCompare, regArg));
 		}
 	}
 
@@ -351,14 +317,14 @@ private void addConstraint(TypeSearchVarInfo varInfo, ITypeConstraint constraint
 	}
 
 	@Nullable
-	private ITypeConstraint makeConstraint(RegisterArg arg) {
+	static ITypeConstraint makeConstraint(TypeCompare typeCompare, RegisterArg arg) {
 		InsnNode insn = arg.getParentInsn();
 		if (insn == null || arg.isTypeImmutable()) {
 			return null;
 		}
 		switch (insn.getType()) {
 			case MOVE:
-				return makeMoveConstraint(insn, arg);
+				return makeMoveConstraint(typeCompare, insn, arg);
 
 			case PHI:
 				return makePhiConstraint(insn, arg);
@@ -369,7 +335,7 @@ private ITypeConstraint makeConstraint(RegisterArg arg) {
 	}
 
 	@Nullable
-	private ITypeConstraint makeMoveConstraint(InsnNode insn, RegisterArg arg) {
+	private static ITypeConstraint makeMoveConstraint(TypeCompare typeCompare, InsnNode insn, RegisterArg arg) {
 		if (!insn.getArg(0).isRegister()) {
 			return null;
 		}
@@ -384,7 +350,7 @@ public boolean check(TypeSearchState state) {
 		};
 	}
 
-	private ITypeConstraint makePhiConstraint(InsnNode insn, RegisterArg arg) {
+	private static ITypeConstraint makePhiConstraint(InsnNode insn, RegisterArg arg) {
 		return new AbstractTypeConstraint(insn, arg) {
 			@Override
 			public boolean check(TypeSearchState state) {
@@ -57,6 +57,23 @@ public void init(RootNode root) {
 		apply(collectedInfoData);
 	}
 
+	/**
+	 * Collect usage info again for all classes (i.e. after methods code update)
+	 */
+	public static void rebuild(RootNode root) {
+		IUsageInfoData collectedInfoData = buildUsageData(root);
+		root.getArgs().getUsageInfoCache().set(root, collectedInfoData);
+		// usage data applied only for used nodes, reset old data first
+		for (ClassNode cls : root.getClasses()) {
+			cls.setDependencies(Collections.emptyList());
+			cls.setUseIn(Collections.emptyList());
+			cls.setUseInMth(Collections.emptyList());
+			cls.getFields().forEach(fld -> fld.setUseIn(Collections.emptyList()));
+			cls.getMethods().forEach(mth -> mth.setUseIn(Collections.emptyList()));
+		}
+		apply(collectedInfoData);
+	}
+
 	private static void apply(IUsageInfoData usageInfoData) {
 		long start = System.currentTimeMillis();
 		usageInfoData.apply();
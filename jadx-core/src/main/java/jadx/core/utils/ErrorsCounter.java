@@ -2,9 +2,10 @@
 
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
@@ -14,6 +15,8 @@
 import jadx.core.dex.attributes.AType;
 import jadx.core.dex.attributes.IAttributeNode;
 import jadx.core.dex.attributes.nodes.JadxError;
+import jadx.core.dex.nodes.ClassNode;
+import jadx.core.dex.nodes.FieldNode;
 import jadx.core.dex.nodes.IDexNode;
 import jadx.core.dex.nodes.MethodNode;
 import jadx.core.utils.exceptions.JadxOverflowException;
@@ -22,10 +25,11 @@ public class ErrorsCounter {
 	private static final Logger LOG = LoggerFactory.getLogger(ErrorsCounter.class);
 	private static final boolean PRINT_MTH_SIZE = Consts.DEBUG;
 
-	private final Set<IAttributeNode> errorNodes = new HashSet<>();
-	private int errorsCount;
-	private final Set<IAttributeNode> warnNodes = new HashSet<>();
-	private int warnsCount;
+	private final Set<IAttributeNode> errorNodes = ConcurrentHashMap.newKeySet();
+	private final Set<ClassNode> errorTopClasses = ConcurrentHashMap.newKeySet();
+	private final AtomicInteger errorsCount = new AtomicInteger();
+	private final Set<IAttributeNode> warnNodes = ConcurrentHashMap.newKeySet();
+	private final AtomicInteger warnsCount = new AtomicInteger();
 
 	public static <N extends IDexNode & IAttributeNode> String error(N node, String warnMsg, Throwable th) {
 		return node.root().getErrorsCounter().addError(node, warnMsg, th);
@@ -39,9 +43,13 @@ public static String formatMsg(IDexNode node, String msg) {
 		return msg + " in " + node.typeName() + ": " + node + ", file: " + node.getInputFileName();
 	}
 
-	private synchronized <N extends IDexNode & IAttributeNode> String addError(N node, String error, @Nullable Throwable e) {
+	private <N extends IDexNode & IAttributeNode> String addError(N node, String error, @Nullable Throwable e) {
 		errorNodes.add(node);
-		errorsCount++;
+		errorsCount.incrementAndGet();
+		ClassNode topCls = getTopClass(node);
+		if (topCls != null) {
+			errorTopClasses.add(topCls);
+		}
 
 		String msg = formatMsg(node, error);
 		if (PRINT_MTH_SIZE && node instanceof MethodNode) {
@@ -69,12 +77,33 @@ private synchronized <N extends IDexNode & IAttributeNode> String addError(N nod
 		return msg;
 	}
 
-	private synchronized <N extends IDexNode & IAttributeNode> void addWarning(N node, String warn) {
+	private <N extends IDexNode & IAttributeNode> void addWarning(N node, String warn) {
 		warnNodes.add(node);
-		warnsCount++;
+		warnsCount.incrementAndGet();
 		LOG.warn(formatMsg(node, warn));
 	}
 
+	@Nullable
+	private static ClassNode getTopClass(IAttributeNode node) {
+		if (node instanceof ClassNode) {
+			return ((ClassNode) node).getTopParentClass();
+		}
+		if (node instanceof MethodNode) {
+			return ((MethodNode) node).getParentClass().getTopParentClass();
+		}
+		if (node instanceof FieldNode) {
+			return ((FieldNode) node).getParentClass().getTopParentClass();
+		}
+		return null;
+	}
+
+	/**
+	 * Check if errors reported for top class or any of its inner classes, methods and fields
+	 */
+	public boolean hasErrors(ClassNode topCls) {
+		return errorTopClasses.contains(topCls);
+	}
+
 	public void printReport() {
 		if (getErrorCount() > 0) {
 			LOG.error("{} errors occurred in following nodes:", getErrorCount());
@@ -94,11 +123,11 @@ public void printReport() {
 	}
 
 	public int getErrorCount() {
-		return errorsCount;
+		return errorsCount.get();
 	}
 
 	public int getWarnsCount() {
-		return warnsCount;
+		return warnsCount.get();
 	}
 
 	public Set<IAttributeNode> getErrorNodes() {
@@ -57,8 +57,6 @@ public class BinaryXMLParser extends CommonBinaryParser {
 	private final RootNode rootNode;
 	private String appPackageName;
 
-	private Map<String, ClassNode> classNameCache;
-
 	private final boolean attrNewLine;
 
 	public BinaryXMLParser(RootNode rootNode) {
@@ -88,7 +86,6 @@ public synchronized ICodeInfo parse(InputStream inputStream) throws IOException
 		nsMap = null;
 		definedNamespaces = null;
 		ICodeInfo codeInfo = writer.finish();
-		this.classNameCache = null; // reset class name cache
 		return codeInfo;
 	}
 
@@ -515,10 +512,7 @@ private void attachClassNode(ICodeWriter writer, String attrFullName, String cls
 		} else {
 			clsFullName = clsName;
 		}
-		if (classNameCache == null) {
-			classNameCache = rootNode.buildFullAliasClassCache();
-		}
-		ClassNode classNode = classNameCache.get(clsFullName);
+		ClassNode classNode = rootNode.searchClassByFullAlias(clsFullName);
 		if (classNode != null) {
 			writer.attachAnnotation(classNode);
 		}
@@ -5,14 +5,22 @@
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
 
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Test;
 
+import jadx.api.impl.InMemoryCodeCache;
+import jadx.core.dex.nodes.ClassNode;
+import jadx.core.dex.nodes.MethodNode;
 import jadx.core.utils.files.FileUtils;
 import jadx.plugins.input.dex.DexInputPlugin;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.notNullValue;
 
 public class JadxDecompilerTest {
@@ -56,6 +64,73 @@ public void testDirectDexInput() throws IOException {
 		}
 	}
 
+	@Test
+	public void testNamesIndex() throws IOException {
+		try (JadxDecompiler jadx = new JadxDecompiler();
+				InputStream in = new FileInputStream(getFileFromSampleDir("hello.dex"))) {
+			jadx.addCustomCodeLoader(new DexInputPlugin().loadDexFromInputStream(in, "input"));
+			jadx.load();
+			JavaClass cls = jadx.searchJavaClassByOrigFullName("HelloWorld");
+			assertThat(cls, notNullValue());
+			assertThat(jadx.searchJavaClassByOrigFullName("HelloWorld2"), Matchers.nullValue());
+			assertThat(jadx.getRoot().searchClassByShortName("HelloWorld"), Matchers.contains(cls.getClassNode()));
+			assertThat(jadx.getRoot().getNamesIndex().getMethodsByShortId("main([Ljava/lang/String;)V"), Matchers.hasSize(1));
+
+			cls.getClassNode().rename("Renamed");
+			assertThat(jadx.searchJavaClassByAliasFullName("Renamed"), Matchers.is(cls));
+			assertThat(jadx.searchJavaClassByAliasFullName("HelloWorld"), Matchers.nullValue());
+			assertThat(jadx.searchJavaClassByOrigFullName("HelloWorld"), Matchers.is(cls));
+			assertThat(jadx.getRoot().getNamesIndex().searchClassesByPrefix("ren", true), Matchers.contains(cls.getClassNode()));
+			assertThat(jadx.getRoot().getNamesIndex().searchClassesByPrefix("ren", false), Matchers.empty());
+		}
+	}
+
+	@Test
+	public void testReloadCacheServedClass() throws IOException {
+		Path smaliFile = FileUtils.createTempDir("jadx-reload-test").resolve("ReloadTest.smali");
+		Files.write(smaliFile, buildReloadTestSmali(1).getBytes(StandardCharsets.UTF_8));
+
+		JadxArgs args = new JadxArgs();
+		args.getInputFiles().add(smaliFile.toFile());
+		args.setCodeCache(new InMemoryCodeCache());
+		try (JadxDecompiler jadx = new JadxDecompiler(args)) {
+			jadx.load();
+			JavaClass cls = jadx.searchJavaClassByOrigFullName("ReloadTest");
+			assertThat(cls, notNullValue());
+			ClassNode clsNode = cls.getClassNode();
+			String code = clsNode.getCode().getCodeStr();
+			assertThat(code, containsString("return 1;"));
+			assertThat(code, containsString("@Override"));
+			assertThat(jadx.getRoot().getNamesIndex().getMethodsByShortId("getAsInt()I"), Matchers.hasSize(1));
+			// keep code only in cache
+			clsNode.unload();
+
+			Files.write(smaliFile, buildReloadTestSmali(2).getBytes(StandardCharsets.UTF_8));
+			List<JavaClass> updated = jadx.reloadChangedClasses();
+			assertThat(updated, Matchers.contains(cls));
+			String reloadedCode = clsNode.getCode().getCodeStr();
+			assertThat(reloadedCode, containsString("return 2;"));
+			// override info restored by pre-decompile passes
+			assertThat(reloadedCode, containsString("@Override"));
+			// names index updated with recreated method
+			MethodNode mth = clsNode.searchMethodByShortId("getAsInt()I");
+			assertThat(jadx.getRoot().getNamesIndex().getMethodsByShortId("getAsInt()I"), Matchers.contains(mth));
+			assertThat(jadx.getRoot().getNamesIndex().searchMethodsByPrefix("getas", true), Matchers.contains(mth));
+		}
+	}
+
+	private static String buildReloadTestSmali(int value) {
+		return ".class public LReloadTest;\n"
+				+ ".super Ljava/lang/Object;\n"
+				+ ".implements Ljava/util/function/IntSupplier;\n"
+				+ "\n"
+				+ ".method public getAsInt()I\n"
+				+ "    .registers 2\n"
+				+ "    const/4 v0, " + value + "\n"
+				+ "    return v0\n"
+				+ ".end method\n";
+	}
+
 	private static final String TEST_SAMPLES_DIR = "test-samples/";
 
 	public static File getFileFromSampleDir(String fileName) {
@@ -0,0 +1,60 @@
+package jadx.api.impl;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import jadx.api.ICodeInfo;
+import jadx.api.JadxArgs;
+import jadx.core.dex.nodes.ClassNode;
+import jadx.tests.api.IntegrationTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SharedDiskCodeCacheTest extends IntegrationTest {
+
+	@TempDir
+	public Path tempDir;
+
+	@Test
+	public void test() throws IOException {
+		disableCompilation();
+		getArgs().setCodeCache(NoOpCodeCache.INSTANCE);
+		getArgs().setCodeWriterProvider(SimpleCodeWriter::new);
+		ClassNode clsNode = getClassNode(SharedDiskCodeCacheTest.class);
+		ICodeInfo codeInfo = clsNode.getCode();
+		String clsKey = clsNode.getRawName();
+
+		SharedDiskCodeCache cache = new SharedDiskCodeCache(clsNode.root(), tempDir, NoOpCodeCache.INSTANCE);
+		assertThat(cache.get(clsKey)).isSameAs(ICodeInfo.EMPTY);
+		cache.add(clsKey, codeInfo);
+		cache.close();
+
+		// new cache instance should load code from disk
+		SharedDiskCodeCache newCache = new SharedDiskCodeCache(clsNode.root(), tempDir, NoOpCodeCache.INSTANCE);
+		assertThat(newCache.contains(clsKey)).isTrue();
+		assertThat(newCache.getCode(clsKey)).isEqualTo(codeInfo.getCodeStr());
+		newCache.close();
+	}
+
+	@Test
+	public void testOutputFormatChange() throws IOException {
+		disableCompilation();
+		getArgs().setCodeCache(NoOpCodeCache.INSTANCE);
+		getArgs().setCodeWriterProvider(SimpleCodeWriter::new);
+		ClassNode clsNode = getClassNode(SharedDiskCodeCacheTest.class);
+		String clsKey = clsNode.getRawName();
+
+		SharedDiskCodeCache cache = new SharedDiskCodeCache(clsNode.root(), tempDir, NoOpCodeCache.INSTANCE);
+		cache.add(clsKey, clsNode.getCode());
+		cache.close();
+
+		// code saved for 'java' output format should not be used for 'json'
+		clsNode.root().getArgs().setOutputFormat(JadxArgs.OutputFormatEnum.JSON);
+		SharedDiskCodeCache jsonCache = new SharedDiskCodeCache(clsNode.root(), tempDir, NoOpCodeCache.INSTANCE);
+		assertThat(jsonCache.get(clsKey)).isSameAs(ICodeInfo.EMPTY);
+		jsonCache.close();
+	}
+}
@@ -0,0 +1,83 @@
+package jadx.core.dex.nodes.utils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import jadx.api.JadxArgs;
+import jadx.api.JadxDecompiler;
+import jadx.core.dex.attributes.AFlag;
+import jadx.core.dex.nodes.ClassNode;
+import jadx.core.dex.nodes.RootNode;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LibrarySignaturesTest {
+
+	@TempDir
+	Path tempDir;
+
+	@Test
+	public void testSaveAndMatch() throws IOException {
+		Path signaturesFile = tempDir.resolve("lib.sig");
+		try (JadxDecompiler jadx = loadSmali("lib", buildSmali("length"))) {
+			LibrarySignatures.save(jadx.getRoot(), signaturesFile);
+		}
+		try (JadxDecompiler jadx = loadSmali("same", buildSmali("length"))) {
+			RootNode root = jadx.getRoot();
+			assertThat(LibrarySignatures.markLibraryClasses(root, Collections.singletonList(signaturesFile))).isEqualTo(1);
+			assertThat(getTestCls(root).contains(AFlag.LIBRARY_CLASS)).isTrue();
+		}
+	}
+
+	@Test
+	public void testPatchedCodeNotMatch() throws IOException {
+		Path signaturesFile = tempDir.resolve("lib.sig");
+		String signature;
+		try (JadxDecompiler jadx = loadSmali("lib", buildSmali("length"))) {
+			signature = LibrarySignatures.buildSignature(getTestCls(jadx.getRoot()));
+			LibrarySignatures.save(jadx.getRoot(), signaturesFile);
+		}
+		// same declaration, but other method called in code
+		try (JadxDecompiler jadx = loadSmali("patched", buildSmali("hashCode"))) {
+			RootNode root = jadx.getRoot();
+			assertThat(LibrarySignatures.buildSignature(getTestCls(root))).isNotEqualTo(signature);
+			assertThat(LibrarySignatures.markLibraryClasses(root, Collections.singletonList(signaturesFile))).isZero();
+			assertThat(getTestCls(root).contains(AFlag.LIBRARY_CLASS)).isFalse();
+		}
+	}
+
+	private JadxDecompiler loadSmali(String dirName, String smali) throws IOException {
+		Path dir = Files.createDirectories(tempDir.resolve(dirName));
+		Path smaliFile = dir.resolve("LibCls.smali");
+		Files.write(smaliFile, smali.getBytes(StandardCharsets.UTF_8));
+		JadxArgs args = new JadxArgs();
+		args.getInputFiles().add(smaliFile.toFile());
+		JadxDecompiler jadx = new JadxDecompiler(args);
+		jadx.load();
+		return jadx;
+	}
+
+	private static ClassNode getTestCls(RootNode root) {
+		ClassNode cls = root.resolveClass("lib.LibCls");
+		assertThat(cls).isNotNull();
+		return cls;
+	}
+
+	private static String buildSmali(String calledMethod) {
+		return ".class public Llib/LibCls;\n"
+				+ ".super Ljava/lang/Object;\n"
+				+ "\n"
+				+ ".method public static get(Ljava/lang/String;)I\n"
+				+ "    .registers 2\n"
+				+ "    invoke-virtual {p0}, Ljava/lang/String;->" + calledMethod + "()I\n"
+				+ "    move-result v0\n"
+				+ "    return v0\n"
+				+ ".end method\n";
+	}
+}
@@ -0,0 +1,325 @@
+package jadx.core.dex.visitors.typeinference;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jadx.api.JadxArgs;
+import jadx.core.dex.instructions.InsnType;
+import jadx.core.dex.instructions.args.ArgType;
+import jadx.core.dex.instructions.args.InsnArg;
+import jadx.core.dex.instructions.args.RegisterArg;
+import jadx.core.dex.instructions.args.SSAVar;
+import jadx.core.dex.nodes.InsnNode;
+import jadx.core.dex.nodes.MethodNode;
+import jadx.core.dex.nodes.RootNode;
+import jadx.core.utils.Utils;
+
+import static jadx.core.dex.instructions.args.ArgType.BOOLEAN;
+import static jadx.core.dex.instructions.args.ArgType.CLASS;
+import static jadx.core.dex.instructions.args.ArgType.EXCEPTION;
+import static jadx.core.dex.instructions.args.ArgType.FLOAT;
+import static jadx.core.dex.instructions.args.ArgType.INT;
+import static jadx.core.dex.instructions.args.ArgType.OBJECT;
+import static jadx.core.dex.instructions.args.ArgType.STRING;
+import static jadx.core.dex.instructions.args.ArgType.THROWABLE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class TypeConstraintSolverTest {
+	private static final List<ArgType> TYPES_POOL = Arrays.asList(INT, BOOLEAN, FLOAT, OBJECT, STRING, CLASS, THROWABLE, EXCEPTION);
+
+	private TypeCompare compare;
+	private List<SSAVar> sVars;
+	private List<ArgType[]> candidates;
+	private TypeSearchState state;
+
+	@BeforeEach
+	public void init() {
+		JadxArgs args = new JadxArgs();
+		RootNode root = new RootNode(args);
+		root.loadClasses(Collections.emptyList());
+		root.initClassPath();
+		compare = new TypeCompare(root);
+		reset();
+	}
+
+	private void reset() {
+		sVars = new ArrayList<>();
+		candidates = new ArrayList<>();
+		state = null;
+	}
+
+	@Test
+	public void testPhiClassConflict() {
+		SSAVar r = var(INT, FLOAT);
+		SSAVar a = var(INT, BOOLEAN);
+		SSAVar b = var(FLOAT, BOOLEAN);
+		phi(r, a, b);
+		TypeConstraintSolver solver = makeSolver(1000);
+		assertThat(solver.solve()).isFalse();
+		// conflict found before search
+		assertThat(solver.getIterations()).isZero();
+	}
+
+	@Test
+	public void testPhiClassResolvedVar() {
+		SSAVar r = var(INT, FLOAT, BOOLEAN);
+		SSAVar a = var(INT, FLOAT, BOOLEAN);
+		SSAVar b = var(FLOAT);
+		phi(r, a, b);
+		TypeConstraintSolver solver = makeSolver(1000);
+		assertThat(solver.solve()).isTrue();
+		assertThat(typeOf(r)).isEqualTo(FLOAT);
+		assertThat(typeOf(a)).isEqualTo(FLOAT);
+		// only one type left for all class vars
+		assertThat(solver.getIterations()).isEqualTo(2);
+	}
+
+	@Test
+	public void testMovePropagationToEmptyDomain() {
+		// r = a, a = b: 'b' only allows primitive types, 'r' only allows objects
+		SSAVar r = var(OBJECT, STRING);
+		SSAVar a = var(STRING, INT);
+		SSAVar b = var(INT, FLOAT);
+		move(r, a);
+		move(a, b);
+		TypeConstraintSolver solver = makeSolver(1000);
+		assertThat(solver.solve()).isFalse();
+		assertThat(solver.getIterations()).isZero();
+	}
+
+	@Test
+	public void testMovePropagationPrune() {
+		// r = a: 'INT' in 'r' and 'EXCEPTION' in 'a' don't have pair in other var
+		SSAVar r = var(INT, STRING);
+		SSAVar a = var(EXCEPTION, STRING);
+		move(r, a);
+		TypeConstraintSolver solver = makeSolver(1000);
+		assertThat(solver.solve()).isTrue();
+		assertThat(typeOf(r)).isEqualTo(STRING);
+		assertThat(typeOf(a)).isEqualTo(STRING);
+		assertThat(solver.getIterations()).isEqualTo(2);
+	}
+
+	@Test
+	public void testIterationsLimit() {
+		SSAVar a = var(INT, FLOAT, BOOLEAN);
+		SSAVar b = var(INT, FLOAT, BOOLEAN);
+		SSAVar c = var(INT, FLOAT, BOOLEAN);
+		// accept only last candidates, so all 27 combinations checked
+		List<SSAVar> all = Arrays.asList(a, b, c);
+		ITypeConstraint lastOnly = new ITypeConstraint() {
+			@Override
+			public List<SSAVar> getRelatedVars() {
+				return all;
+			}
+
+			@Override
+			public boolean check(TypeSearchState state) {
+				return all.stream().allMatch(v -> {
+					TypeSearchVarInfo varInfo = state.getVarInfo(v);
+					return varInfo.getCurrentType().equals(Utils.last(varInfo.getCandidateTypes()));
+				});
+			}
+		};
+		TypeConstraintSolver limited = makeSolver(10);
+		state.getVarInfo(c).getConstraints().add(lastOnly);
+		assertThat(limited.solve()).isFalse();
+		assertThat(limited.getIterations()).isEqualTo(11);
+
+		TypeConstraintSolver solver = makeSolver(1000);
+		state.getVarInfo(c).getConstraints().add(lastOnly);
+		assertThat(solver.solve()).isTrue();
+		assertThat(solver.getIterations()).isEqualTo(3 + 9 + 27);
+		assertThat(typeOf(a)).isEqualTo(Utils.last(state.getVarInfo(a).getCandidateTypes()));
+	}
+
+	@Test
+	public void testSameResultAsEnumeration() {
+		Random rnd = new Random(42);
+		for (int i = 0; i < 500; i++) {
+			long seed = rnd.nextLong();
+			List<ArgType> expected = solveWithEnumeration(seed);
+			List<ArgType> actual = solveWithSolver(seed);
+			assertThat(actual).as("Problem with seed: %d", seed).isEqualTo(expected);
+		}
+	}
+
+	private @Nullable List<ArgType> solveWithSolver(long seed) {
+		reset();
+		buildRandomProblem(seed);
+		TypeConstraintSolver solver = makeSolver(1_000_000);
+		if (state.getUnresolvedVars().isEmpty()) {
+			// solver not used in that case
+			return collectTypes();
+		}
+		if (!solver.solve()) {
+			return null;
+		}
+		return collectTypes();
+	}
+
+	/**
+	 * Full enumeration from previous implementation of {@link TypeSearch}
+	 */
+	private @Nullable List<ArgType> solveWithEnumeration(long seed) {
+		reset();
+		buildRandomProblem(seed);
+		makeSolver(0);
+		List<TypeSearchVarInfo> vars = state.getUnresolvedVars();
+		if (!vars.isEmpty()) {
+			int len = vars.size();
+			vars.forEach(TypeSearchVarInfo::reset);
+			int i = 0;
+			while (!fullCheck(vars)) {
+				TypeSearchVarInfo first = vars.get(i);
+				if (first.nextType()) {
+					int k = i + 1;
+					if (k >= len) {
+						return null;
+					}
+					TypeSearchVarInfo next = vars.get(k);
+					while (true) {
+						if (next.nextType()) {
+							k++;
+							if (k >= len) {
+								return null;
+							}
+							next = vars.get(k);
+						} else {
+							break;
+						}
+					}
+				}
+			}
+		}
+		return collectTypes();
+	}
+
+	private boolean fullCheck(List<TypeSearchVarInfo> vars) {
+		for (TypeSearchVarInfo var : vars) {
+			for (ITypeConstraint constraint : var.getConstraints()) {
+				if (!constraint.check(state)) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	private List<ArgType> collectTypes() {
+		List<ArgType> list = new ArrayList<>();
+		for (SSAVar sVar : sVars) {
+			list.add(typeOf(sVar));
+		}
+		return list;
+	}
+
+	/**
+	 * Random vars with candidates and PHI/MOVE links to previous vars
+	 */
+	private void buildRandomProblem(long seed) {
+		Random rnd = new Random(seed);
+		int count = 2 + rnd.nextInt(5);
+		for (int i = 0; i < count; i++) {
+			List<ArgType> types = new ArrayList<>(TYPES_POOL);
+			Collections.shuffle(types, rnd);
+			int typesCount = rnd.nextInt(5) == 0 ? 1 : 2 + rnd.nextInt(3);
+			SSAVar sVar = var(types.subList(0, typesCount).toArray(new ArgType[0]));
+			if (i == 0) {
+				continue;
+			}
+			switch (rnd.nextInt(3)) {
+				case 0:
+					move(sVar, sVars.get(rnd.nextInt(i)));
+					break;
+				case 1:
+					phi(sVar, sVars.get(rnd.nextInt(i)), sVars.get(rnd.nextInt(i)));
+					break;
+				default:
+					break;
+			}
+		}
+	}
+
+	private SSAVar var(ArgType... types) {
+		int regNum = sVars.size();
+		SSAVar sVar = new SSAVar(regNum, 0, InsnArg.reg(regNum, ArgType.UNKNOWN));
+		sVars.add(sVar);
+		candidates.add(types);
+		return sVar;
+	}
+
+	private void move(SSAVar res, SSAVar arg) {
+		InsnNode insn = new InsnNode(InsnType.MOVE, 1);
+		insn.setResult(res.getAssign());
+		insn.addArg(use(arg));
+	}
+
+	private void phi(SSAVar res, SSAVar... args) {
+		InsnNode insn = new InsnNode(InsnType.PHI, args.length);
+		insn.setResult(res.getAssign());
+		for (SSAVar arg : args) {
+			insn.addArg(use(arg));
+		}
+	}
+
+	private static RegisterArg use(SSAVar sVar) {
+		RegisterArg useArg = InsnArg.reg(sVar.getRegNum(), ArgType.UNKNOWN);
+		sVar.use(useArg);
+		return useArg;
+	}
+
+	/**
+	 * Fill candidates and constraints same as in {@link TypeSearch} and create solver for unresolved vars
+	 */
+	private TypeConstraintSolver makeSolver(int iterationsLimit) {
+		MethodNode mth = mock(MethodNode.class);
+		when(mth.getSVars()).thenReturn(sVars);
+		state = new TypeSearchState(mth);
+		for (int i = 0; i < sVars.size(); i++) {
+			TypeSearchVarInfo varInfo = state.getVarInfo(sVars.get(i));
+			ArgType[] types = candidates.get(i);
+			if (types.length == 1) {
+				varInfo.markResolved(types[0]);
+			} else {
+				List<ArgType> list = new ArrayList<>(Arrays.asList(types));
+				list.sort(compare.getReversedComparator());
+				varInfo.setTypeResolved(false);
+				varInfo.setCurrentType(ArgType.UNKNOWN);
+				varInfo.setCandidateTypes(Collections.unmodifiableList(list));
+			}
+		}
+		for (SSAVar sVar : sVars) {
+			TypeSearchVarInfo varInfo = state.getVarInfo(sVar);
+			List<ITypeConstraint> constraints = new ArrayList<>();
+			if (!varInfo.isTypeResolved()) {
+				addConstraint(constraints, sVar.getAssign());
+				for (RegisterArg useArg : sVar.getUseList()) {
+					addConstraint(constraints, useArg);
+				}
+			}
+			varInfo.setConstraints(constraints);
+		}
+		return new TypeConstraintSolver(state, compare, state.getUnresolvedVars(), iterationsLimit);
+	}
+
+	private void addConstraint(List<ITypeConstraint> constraints, RegisterArg arg) {
+		ITypeConstraint constraint = TypeSearch.makeConstraint(compare, arg);
+		if (constraint != null) {
+			constraints.add(constraint);
+		}
+	}
+
+	private ArgType typeOf(SSAVar sVar) {
+		return state.getVarInfo(sVar).getCurrentType();
+	}
+}
@@ -1,5 +1,8 @@
 package jadx.tests.functional;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -7,6 +10,7 @@
 import jadx.core.dex.attributes.AType;
 import jadx.core.dex.attributes.AttributeStorage;
 
+import static jadx.core.dex.attributes.AFlag.DONT_RENAME;
 import static jadx.core.dex.attributes.AFlag.SYNTHETIC;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
@@ -70,4 +74,48 @@ public void testRemoveOtherAttribute() {
 		assertThat(storage.contains(TEST), is(true));
 		assertThat(storage.get(TEST), is(attr));
 	}
+
+	@Test
+	public void testFlags() {
+		storage.add(SYNTHETIC);
+		storage.add(DONT_RENAME);
+		storage.remove(SYNTHETIC);
+
+		assertThat(storage.contains(SYNTHETIC), is(false));
+		assertThat(storage.contains(DONT_RENAME), is(true));
+		storage.clearFlags();
+		assertThat(storage.isEmpty(), is(true));
+	}
+
+	@Test
+	public void testManyAttributes() {
+		// more attributes than fit into inline array
+		List<TestAttrWithType> attrs = new ArrayList<>();
+		for (int i = 0; i < 20; i++) {
+			TestAttrWithType attr = new TestAttrWithType(new AType<>());
+			attrs.add(attr);
+			storage.add(attr);
+		}
+		for (TestAttrWithType attr : attrs) {
+			assertThat(storage.get(attr.getAttrType()), is(attr));
+		}
+		for (TestAttrWithType attr : attrs) {
+			storage.remove(attr);
+			assertThat(storage.contains(attr.getAttrType()), is(false));
+		}
+		assertThat(storage.isEmpty(), is(true));
+	}
+
+	public static class TestAttrWithType implements IJadxAttribute {
+		private final AType<TestAttrWithType> type;
+
+		public TestAttrWithType(AType<TestAttrWithType> type) {
+			this.type = type;
+		}
+
+		@Override
+		public AType<TestAttrWithType> getAttrType() {
+			return type;
+		}
+	}
 }
@@ -0,0 +1,55 @@
+package jadx.tests.integration.deobf;
+
+import org.junit.jupiter.api.Test;
+
+import jadx.tests.api.IntegrationTest;
+
+import static jadx.tests.api.utils.assertj.JadxAssertions.assertThat;
+
+public class TestParallelDeobf extends IntegrationTest {
+
+	public static class TestCls {
+
+		public interface I {
+			int call();
+		}
+
+		public static class A implements I {
+			private int value;
+
+			@Override
+			public int call() {
+				return value;
+			}
+
+			public static class Inner extends A {
+				@Override
+				public int call() {
+					return 2;
+				}
+			}
+		}
+
+		public static class B implements I, Runnable {
+			@Override
+			public int call() {
+				return 3;
+			}
+
+			@Override
+			public void run() {
+			}
+		}
+	}
+
+	@Test
+	public void test() {
+		enableDeobfuscation();
+		args.setDeobfuscationMinLength(100); // rename everything
+		String code = getClassNode(TestCls.class).getCode().getCodeStr();
+
+		args.setDeobfuscationParallel(true);
+		String parallelCode = getClassNode(TestCls.class).getCode().getCodeStr();
+		assertThat(parallelCode).isEqualTo(code);
+	}
+}
@@ -0,0 +1,85 @@
+package jadx.tests.integration.loops;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import jadx.core.dex.nodes.ClassNode;
+import jadx.tests.api.SmaliTest;
+
+import static jadx.tests.api.utils.assertj.JadxAssertions.assertThat;
+
+/**
+ * Check blocks tree processing in big method:
+ * generated method contains many loops and more than 10k blocks after loops modifications.
+ */
+public class TestLargeMethodLoops extends SmaliTest {
+	private static final int LOOPS_COUNT = 1500;
+	private static final String CLS_NAME = "loops.TestLargeMethodLoops";
+	private static final String CLS_TYPE = "Lloops/TestLargeMethodLoops;";
+
+	@TempDir
+	Path tempDir;
+
+	@Test
+	public void test() throws IOException {
+		disableCompilation();
+		Path smaliFile = tempDir.resolve("TestLargeMethodLoops.smali");
+		Files.write(smaliFile, buildSmali().getBytes(StandardCharsets.UTF_8));
+
+		ClassNode cls = getClassNodeFromFiles(Collections.singletonList(smaliFile.toFile()), CLS_NAME);
+		assertThat(cls)
+				.code()
+				.countString(LOOPS_COUNT, "while (check(");
+	}
+
+	private static String buildSmali() {
+		StringBuilder sb = new StringBuilder();
+		sb.append(".class public ").append(CLS_TYPE).append('\n');
+		sb.append(".super Ljava/lang/Object;\n\n");
+
+		sb.append(".method public static check(I)Z\n");
+		sb.append("    .registers 2\n");
+		sb.append("    if-lez p0, :cond_0\n");
+		sb.append("    const/4 v0, 0x1\n");
+		sb.append("    return v0\n");
+		sb.append("    :cond_0\n");
+		sb.append("    const/4 v0, 0x0\n");
+		sb.append("    return v0\n");
+		sb.append(".end method\n\n");
+
+		sb.append(".method public static call(I)V\n");
+		sb.append("    .registers 1\n");
+		sb.append("    return-void\n");
+		sb.append(".end method\n\n");
+
+		// while (check(i)) { if (check(-i)) break; call(i); }
+		sb.append(".method public static test()V\n");
+		sb.append("    .registers 1\n");
+		for (int i = 0; i < LOOPS_COUNT; i++) {
+			sb.append("    :loop_").append(i).append('\n');
+			appendInvoke(sb, i, "check(I)Z");
+			sb.append("    move-result v0\n");
+			sb.append("    if-eqz v0, :end_").append(i).append('\n');
+			appendInvoke(sb, -i, "check(I)Z");
+			sb.append("    move-result v0\n");
+			sb.append("    if-nez v0, :end_").append(i).append('\n');
+			appendInvoke(sb, i, "call(I)V");
+			sb.append("    goto :loop_").append(i).append('\n');
+			sb.append("    :end_").append(i).append('\n');
+		}
+		sb.append("    return-void\n");
+		sb.append(".end method\n");
+		return sb.toString();
+	}
+
+	private static void appendInvoke(StringBuilder sb, int arg, String mth) {
+		sb.append("    const v0, ").append(arg).append('\n');
+		sb.append("    invoke-static {v0}, ").append(CLS_TYPE).append("->").append(mth).append('\n');
+	}
+}
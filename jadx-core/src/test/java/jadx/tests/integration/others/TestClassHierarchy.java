@@ -0,0 +1,86 @@
+package jadx.tests.integration.others;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import jadx.core.dex.nodes.ClassNode;
+import jadx.core.dex.nodes.MethodNode;
+import jadx.core.dex.nodes.utils.ClassHierarchy;
+import jadx.tests.api.IntegrationTest;
+
+import static jadx.tests.api.utils.assertj.JadxAssertions.assertThat;
+
+public class TestClassHierarchy extends IntegrationTest {
+
+	public static class TestCls {
+		public interface I {
+			int a();
+		}
+
+		public abstract static class Base implements I {
+			public abstract int b(String s);
+		}
+
+		public static class Impl extends Base {
+			@Override
+			public int a() {
+				return 1;
+			}
+
+			@Override
+			public int b(String s) {
+				return s.length();
+			}
+		}
+
+		public static class Impl2 extends Impl {
+			@Override
+			public int a() {
+				return 2;
+			}
+		}
+	}
+
+	@Test
+	public void test() {
+		ClassNode cls = getClassNode(TestCls.class);
+		ClassHierarchy hierarchy = cls.root().getClassHierarchy();
+		ClassNode iface = searchInnerCls(cls, "I");
+		ClassNode base = searchInnerCls(cls, "Base");
+		ClassNode impl = searchInnerCls(cls, "Impl");
+		ClassNode impl2 = searchInnerCls(cls, "Impl2");
+
+		ClassHierarchy.SuperTypes superTypes = hierarchy.getSuperTypes(impl2);
+		assertThat(superTypes).isNotNull();
+		assertThat(superTypes.getList()).containsExactly(impl.getType(), base.getType(), iface.getType());
+		assertThat(superTypes.getEndTypes()).containsExactly(iface.getType().getObject());
+		assertThat(hierarchy.getSuperTypes(iface)).isNull();
+
+		assertThat(hierarchy.getSubTypes(iface)).containsExactlyInAnyOrder(base, impl, impl2);
+		assertThat(hierarchy.getSubTypes(impl)).containsExactly(impl2);
+
+		MethodNode ifaceMth = iface.searchMethodByShortName("a");
+		assertThat(ifaceMth).isNotNull();
+		List<MethodNode> overriding = hierarchy.getOverridingMethods(ifaceMth);
+		assertThat(overriding).containsExactlyInAnyOrder(
+				impl.searchMethodByShortName("a"),
+				impl2.searchMethodByShortName("a"));
+
+		ClassHierarchy.MethodsTable methodsTable = hierarchy.getMethodsTable(impl);
+		assertThat(methodsTable.getByShortId("b(Ljava/lang/String;)I")).isSameAs(impl.searchMethodByShortName("b"));
+		assertThat(methodsTable.getBySignature("b(Ljava/lang/String;)")).hasSize(1);
+		assertThat(methodsTable.getBySignature("b(I)")).isEmpty();
+
+		assertThat(impl2.getCode().getCodeStr()).contains("@Override");
+	}
+
+	private static ClassNode searchInnerCls(ClassNode cls, String shortName) {
+		for (ClassNode innerCls : cls.getInnerClasses()) {
+			if (innerCls.getShortName().equals(shortName)) {
+				return innerCls;
+			}
+		}
+		throw new AssertionError("Inner class not found: " + shortName);
+	}
+}
@@ -0,0 +1,56 @@
+package jadx.tests.integration.others;
+
+import java.io.StringWriter;
+
+import org.junit.jupiter.api.Test;
+
+import jadx.api.metrics.ClassMetrics;
+import jadx.api.metrics.DecompileMetrics;
+import jadx.core.dex.nodes.ClassNode;
+import jadx.tests.api.IntegrationTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TestDecompileMetrics extends IntegrationTest {
+
+	public static class TestCls {
+		public int test(int a) {
+			return a * 2;
+		}
+
+		public static class Inner {
+			public String run(String s) {
+				return s + "run";
+			}
+		}
+	}
+
+	@Test
+	public void test() throws Exception {
+		disableCompilation();
+		ClassNode cls = getClassNode(TestCls.class);
+		String code = cls.getCode().getCodeStr();
+
+		DecompileMetrics metrics = cls.root().getMetrics();
+		ClassMetrics clsMetrics = metrics.get(cls.getRawName());
+		assertThat(clsMetrics).isNotNull();
+		assertThat(clsMetrics.getDecompileCount()).isGreaterThanOrEqualTo(1);
+		assertThat(clsMetrics.getInsnsCount()).isGreaterThan(0);
+		assertThat(clsMetrics.getOutputSize()).isEqualTo(code.length());
+		assertThat(clsMetrics.getPassFailuresCount()).isZero();
+
+		// inner class metrics merged into top class
+		assertThat(metrics.get(cls.getInnerClasses().get(0).getRawName())).isNull();
+
+		cls.reloadCode();
+		assertThat(clsMetrics.getReloadCount()).isEqualTo(1);
+
+		StringWriter csv = new StringWriter();
+		metrics.writeCsv(csv);
+		assertThat(csv.toString()).startsWith("class,").contains(cls.getRawName() + ',');
+
+		StringWriter json = new StringWriter();
+		metrics.writeJson(json);
+		assertThat(json.toString()).contains("\"class\": \"" + cls.getRawName() + '"');
+	}
+}
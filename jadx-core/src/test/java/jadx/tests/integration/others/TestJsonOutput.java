@@ -11,6 +11,7 @@
 import static jadx.tests.api.utils.JadxMatchers.containsOne;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
 
 public class TestJsonOutput extends IntegrationTest {
 
@@ -59,4 +60,18 @@ public void testFallback() {
 		assertThat(code, containsString("\"offset\": \"0x"));
 		assertThat(code, containsOne("public static class Inner implements java.lang.Runnable"));
 	}
+
+	@Test
+	public void testCompact() {
+		disableCompilation();
+		args.setOutputFormat(JadxArgs.OutputFormatEnum.JSON);
+		args.setJsonCompact(true);
+
+		ClassNode cls = getClassNode(TestCls.class);
+		String code = cls.getCode().toString();
+
+		assertThat(code, containsString("\"offset\":\"0x"));
+		assertThat(code, not(containsString("\n  \"")));
+		assertThat(code, containsOne("public static class Inner implements Runnable"));
+	}
 }
@@ -0,0 +1,108 @@
+package jadx.tests.integration.others;
+
+import java.util.concurrent.Callable;
+
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+
+import jadx.api.override.IOverrideInfoCache;
+import jadx.api.override.OverrideInfoData;
+import jadx.core.dex.attributes.AType;
+import jadx.core.dex.nodes.ClassNode;
+import jadx.core.dex.nodes.MethodNode;
+import jadx.core.dex.nodes.RootNode;
+import jadx.tests.api.IntegrationTest;
+
+import static jadx.tests.api.utils.assertj.JadxAssertions.assertThat;
+
+public class TestOverrideInfoCache extends IntegrationTest {
+
+	public static class TestCls {
+		public abstract static class Base<T> {
+			public abstract T get();
+
+			public abstract void set(T value);
+		}
+
+		public static class Impl extends Base<String> implements Callable<String> {
+			private String value;
+
+			@Override
+			public String get() {
+				return value;
+			}
+
+			@Override
+			public void set(String value) {
+				this.value = value;
+			}
+
+			@Override
+			public String call() {
+				return get();
+			}
+		}
+	}
+
+	@Test
+	public void test() {
+		TestOverrideCache cache = new TestOverrideCache();
+		args.setOverrideInfoCache(cache);
+		String code = getClassNode(TestCls.class).getCode().getCodeStr();
+		assertThat(cache.data).isNotNull();
+		assertThat(cache.data.getMethods()).isNotEmpty();
+		assertThat(cache.restored).isFalse();
+
+		// second load should use saved data and produce same code
+		cache.restore = true;
+		String restoredCode = getClassNode(TestCls.class).getCode().getCodeStr();
+		assertThat(cache.restored).isTrue();
+		assertThat(restoredCode).isEqualTo(code);
+	}
+
+	@Test
+	public void testReload() {
+		args.setOverrideInfoCache(new TestOverrideCache());
+		ClassNode cls = getClassNode(TestCls.class);
+		String code = cls.getCode().getCodeStr();
+		assertThat(code).contains("@Override");
+
+		// deep unload clear attributes, override pass should run again
+		String reloadedCode = cls.reloadCode().getCodeStr();
+		assertThat(reloadedCode).isEqualTo(code);
+		ClassNode implCls = cls.getInnerClasses().stream()
+				.filter(c -> c.getShortName().equals("Impl"))
+				.findFirst().orElse(null);
+		assertThat(implCls).isNotNull();
+		MethodNode getMth = implCls.searchMethodByShortName("get");
+		assertThat(getMth).isNotNull();
+		assertThat(getMth.get(AType.METHOD_OVERRIDE)).isNotNull();
+	}
+
+	/**
+	 * Return saved data for any root node to emulate restore from disk
+	 */
+	private static class TestOverrideCache implements IOverrideInfoCache {
+		private OverrideInfoData data;
+		private boolean restore;
+		private boolean restored;
+
+		@Override
+		public @Nullable OverrideInfoData get(RootNode root) {
+			if (restore && data != null) {
+				restored = true;
+				return data;
+			}
+			return null;
+		}
+
+		@Override
+		public void set(RootNode root, OverrideInfoData data) {
+			this.data = data;
+		}
+
+		@Override
+		public void close() {
+		}
+	}
+}
@@ -1,5 +1,6 @@
 package jadx.gui;
 
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -27,10 +28,15 @@
 import jadx.core.dex.nodes.ProcessState;
 import jadx.core.dex.nodes.RootNode;
 import jadx.core.utils.exceptions.JadxRuntimeException;
+import jadx.gui.cache.code.CodeCacheMode;
 import jadx.gui.cache.code.CodeStringCache;
 import jadx.gui.cache.code.disk.BufferCodeCache;
 import jadx.gui.cache.code.disk.DiskCodeCache;
+import jadx.gui.cache.overrides.OverrideInfoCache;
+import jadx.gui.cache.resources.ResourcesTextCache;
+import jadx.gui.cache.smali.SmaliCache;
 import jadx.gui.cache.usage.UsageInfoCache;
+import jadx.gui.device.debugger.DbgUtils;
 import jadx.gui.plugins.context.CommonGuiPluginsContext;
 import jadx.gui.plugins.context.GuiPluginContext;
 import jadx.gui.settings.JadxProject;
@@ -71,6 +77,8 @@ public void open() {
 				initUsageCache(jadxArgs);
 				decompiler.load();
 				initCodeCache();
+				initSmaliCache();
+				initResourcesTextCache();
 			}
 		} catch (Exception e) {
 			LOG.error("Jadx decompiler wrapper init error", e);
@@ -78,6 +86,24 @@ public void open() {
 		}
 	}
 
+	/**
+	 * Apply changes from updated input files to loaded classes
+	 *
+	 * @return updated top level classes or {@code null} if full reload is required
+	 */
+	public @Nullable List<JavaClass> reloadChangedClasses() {
+		synchronized (DECOMPILER_UPDATE_SYNC) {
+			List<JavaClass> updated = getDecompiler().reloadChangedClasses();
+			SmaliCache smaliCache = mainWindow.getCacheObject().getSmaliCache();
+			if (updated != null && smaliCache != null) {
+				for (JavaClass cls : updated) {
+					smaliCache.invalidate(cls.getClassNode());
+				}
+			}
+			return updated;
+		}
+	}
+
 	// TODO: check and move into core package
 	public void unloadClasses() {
 		for (ClassNode cls : getDecompiler().getRoot().getClasses()) {
@@ -102,6 +128,7 @@ public void close() {
 		} catch (Exception e) {
 			LOG.error("Jadx decompiler close error", e);
 		} finally {
+			DbgUtils.setSmaliCache(null);
 			mainWindow.getCacheObject().reset();
 		}
 	}
@@ -120,6 +147,20 @@ private void initCodeCache() {
 		}
 	}
 
+	private void initSmaliCache() {
+		// store smali on disk only if code also stored on disk
+		Path cacheDir = getSettings().getCodeCacheMode() == CodeCacheMode.MEMORY ? null : getProject().getCacheDir();
+		SmaliCache smaliCache = new SmaliCache(getDecompiler().getRoot(), cacheDir);
+		mainWindow.getCacheObject().setSmaliCache(smaliCache);
+		DbgUtils.setSmaliCache(smaliCache);
+	}
+
+	private void initResourcesTextCache() {
+		Path cacheDir = getSettings().getCodeCacheMode() == CodeCacheMode.MEMORY ? null : getProject().getCacheDir();
+		ResourcesTextCache resourcesTextCache = new ResourcesTextCache(getDecompiler().getRoot(), cacheDir);
+		mainWindow.getCacheObject().setResourcesTextCache(resourcesTextCache);
+	}
+
 	private BufferCodeCache buildBufferedDiskCache() {
 		DiskCodeCache diskCache = new DiskCodeCache(getDecompiler().getRoot(), getProject().getCacheDir());
 		return new BufferCodeCache(diskCache);
@@ -135,6 +176,8 @@ private void initUsageCache(JadxArgs jadxArgs) {
 				break;
 			case DISK:
 				jadxArgs.setUsageInfoCache(new UsageInfoCache(getProject().getCacheDir(), jadxArgs.getInputFiles()));
+				// override data stored with usage data to skip whole hierarchy processing on project reopen
+				jadxArgs.setOverrideInfoCache(new OverrideInfoCache(getProject().getCacheDir(), jadxArgs.getInputFiles()));
 				break;
 		}
 	}
@@ -0,0 +1,288 @@
+package jadx.gui.cache.overrides;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import jadx.api.override.MthOverrideInfo;
+import jadx.api.override.OverrideInfoData;
+import jadx.api.override.OverrideMthRef;
+import jadx.core.Jadx;
+import jadx.core.dex.instructions.args.ArgType;
+import jadx.core.dex.nodes.RootNode;
+import jadx.core.utils.files.FileUtils;
+import jadx.gui.cache.code.disk.adapters.ArgTypeAdapter;
+import jadx.gui.cache.code.disk.adapters.DataAdapterHelper;
+
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+public class OverrideFileAdapter extends DataAdapterHelper {
+	private static final Logger LOG = LoggerFactory.getLogger(OverrideFileAdapter.class);
+
+	private static final int OVERRIDE_DATA_VERSION = 1;
+	private static final byte[] JADX_OVERRIDE_HEADER = "jadx.override".getBytes(StandardCharsets.US_ASCII);
+
+	private static final int FLAG_OVERRIDE = 1;
+	private static final int FLAG_DONT_RENAME = 1 << 1;
+	private static final int FLAG_RETURN_TYPE = 1 << 2;
+	private static final int FLAG_ARG_TYPES = 1 << 3;
+	private static final int FLAG_BRIDGE = 1 << 4;
+	private static final int FLAG_COLLISION_ALIAS = 1 << 5;
+	private static final int FLAG_COLLISION_WARN = 1 << 6;
+
+	public static synchronized @Nullable OverrideInfoData load(Path file, RootNode root, List<File> inputs) {
+		if (!Files.isRegularFile(file)) {
+			return null;
+		}
+		long start = System.currentTimeMillis();
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+			byte[] header = new byte[JADX_OVERRIDE_HEADER.length];
+			in.readFully(header);
+			if (!Arrays.equals(header, JADX_OVERRIDE_HEADER) || in.readInt() != OVERRIDE_DATA_VERSION) {
+				LOG.debug("Found old override data format");
+				FileUtils.deleteFileIfExists(file);
+				return null;
+			}
+			if (!in.readUTF().equals(buildKey(root, inputs))) {
+				LOG.debug("Found override data for different inputs or options");
+				FileUtils.deleteFileIfExists(file);
+				return null;
+			}
+			OverrideInfoData data = readData(in);
+			if (LOG.isDebugEnabled()) {
+				LOG.debug("Loaded override data from disk cache, methods count: {}, time: {}ms, file: {}",
+						data.getMethods().size(), System.currentTimeMillis() - start, file);
+			}
+			return data;
+		} catch (Exception e) {
+			try {
+				FileUtils.deleteFileIfExists(file);
+			} catch (IOException ex) {
+				// ignore
+			}
+			LOG.error("Failed to load override data file", e);
+			return null;
+		}
+	}
+
+	public static synchronized void save(OverrideInfoData data, Path file, RootNode root, List<File> inputs) {
+		long start = System.currentTimeMillis();
+		FileUtils.makeDirsForFile(file);
+		try (OutputStream fileOutput = Files.newOutputStream(file, WRITE, CREATE, TRUNCATE_EXISTING);
+				DataOutputStream out = new DataOutputStream(new BufferedOutputStream(fileOutput))) {
+			out.write(JADX_OVERRIDE_HEADER);
+			out.writeInt(OVERRIDE_DATA_VERSION);
+			out.writeUTF(buildKey(root, inputs));
+			writeData(out, data);
+		} catch (Exception e) {
+			LOG.error("Failed to save override data file", e);
+			try {
+				FileUtils.deleteFileIfExists(file);
+			} catch (IOException ex) {
+				LOG.error("Failed to delete override data file: {}", file, ex);
+			}
+		}
+		if (LOG.isDebugEnabled()) {
+			LOG.debug("Override data saved, time: {}ms, file: {}", System.currentTimeMillis() - start, file);
+		}
+	}
+
+	private static String buildKey(RootNode root, List<File> inputs) {
+		List<Path> paths = inputs.stream()
+				.filter(f -> !f.getName().endsWith(".jadx.kts"))
+				.map(File::toPath)
+				.collect(Collectors.toList());
+		return Jadx.getVersion()
+				+ ":" + root.getArgs().makeCodeArgsHash(root.getDecompiler())
+				+ ":" + FileUtils.buildInputsHash(paths);
+	}
+
+	private static OverrideInfoData readData(DataInputStream in) throws IOException {
+		int clsCount = readUVInt(in);
+		String[] classes = new String[clsCount];
+		for (int i = 0; i < clsCount; i++) {
+			classes[i] = in.readUTF();
+		}
+		int refsCount = readUVInt(in);
+		OverrideMthRef[] refs = new OverrideMthRef[refsCount];
+		for (int i = 0; i < refsCount; i++) {
+			String cls = classes[readUVInt(in)];
+			String shortId = in.readUTF();
+			boolean clsp = in.readBoolean();
+			refs[i] = new OverrideMthRef(cls, shortId, clsp);
+		}
+		int groupsCount = readUVInt(in);
+		List<List<OverrideMthRef>> groups = new ArrayList<>(groupsCount);
+		for (int i = 0; i < groupsCount; i++) {
+			groups.add(readRefsList(in, refs));
+		}
+		int mthCount = readUVInt(in);
+		List<MthOverrideInfo> methods = new ArrayList<>(mthCount);
+		for (int i = 0; i < mthCount; i++) {
+			MthOverrideInfo info = new MthOverrideInfo(refs[readUVInt(in)]);
+			int flags = in.readUnsignedByte();
+			if ((flags & FLAG_OVERRIDE) != 0) {
+				List<OverrideMthRef> overrideList = readRefsList(in, refs);
+				List<OverrideMthRef> baseMethods = readRefsList(in, refs);
+				info.setOverride(overrideList, baseMethods, readUVInt(in));
+			}
+			info.setDontRename((flags & FLAG_DONT_RENAME) != 0);
+			if ((flags & FLAG_RETURN_TYPE) != 0) {
+				info.setReturnType(ArgTypeAdapter.INSTANCE.read(in));
+			}
+			if ((flags & FLAG_ARG_TYPES) != 0) {
+				int argsCount = readUVInt(in);
+				List<ArgType> argTypes = new ArrayList<>(argsCount);
+				for (int a = 0; a < argsCount; a++) {
+					argTypes.add(ArgTypeAdapter.INSTANCE.read(in));
+				}
+				info.setArgTypes(argTypes);
+			}
+			if ((flags & FLAG_BRIDGE) != 0) {
+				info.setBridgeMth(refs[readUVInt(in)]);
+			}
+			if ((flags & FLAG_COLLISION_ALIAS) != 0) {
+				info.setCollisionAlias(in.readUTF());
+			}
+			info.setCollisionWarn((flags & FLAG_COLLISION_WARN) != 0);
+			int commentsCount = readUVInt(in);
+			if (commentsCount != 0) {
+				List<String> comments = new ArrayList<>(commentsCount);
+				for (int c = 0; c < commentsCount; c++) {
+					comments.add(in.readUTF());
+				}
+				info.setDebugComments(comments);
+			}
+			methods.add(info);
+		}
+		return new OverrideInfoData(methods, groups);
+	}
+
+	private static void writeData(DataOutputStream out, OverrideInfoData data) throws IOException {
+		Map<OverrideMthRef, Integer> refsMap = new HashMap<>();
+		List<OverrideMthRef> refs = new ArrayList<>();
+		for (List<OverrideMthRef> group : data.getRelatedGroups()) {
+			addRefs(refsMap, refs, group);
+		}
+		for (MthOverrideInfo info : data.getMethods()) {
+			addRefs(refsMap, refs, Collections.singletonList(info.getMth()));
+			if (info.getOverrideList() != null) {
+				addRefs(refsMap, refs, info.getOverrideList());
+				addRefs(refsMap, refs, info.getBaseMethods());
+			}
+			if (info.getBridgeMth() != null) {
+				addRefs(refsMap, refs, Collections.singletonList(info.getBridgeMth()));
+			}
+		}
+		Map<String, Integer> clsMap = new HashMap<>();
+		List<String> classes = new ArrayList<>();
+		for (OverrideMthRef ref : refs) {
+			clsMap.computeIfAbsent(ref.getCls(), cls -> {
+				classes.add(cls);
+				return classes.size() - 1;
+			});
+		}
+		writeUVInt(out, classes.size());
+		for (String cls : classes) {
+			out.writeUTF(cls);
+		}
+		writeUVInt(out, refs.size());
+		for (OverrideMthRef ref : refs) {
+			writeUVInt(out, clsMap.get(ref.getCls()));
+			out.writeUTF(ref.getShortId());
+			out.writeBoolean(ref.isClsp());
+		}
+		writeUVInt(out, data.getRelatedGroups().size());
+		for (List<OverrideMthRef> group : data.getRelatedGroups()) {
+			writeRefsList(out, refsMap, group);
+		}
+		writeUVInt(out, data.getMethods().size());
+		for (MthOverrideInfo info : data.getMethods()) {
+			writeUVInt(out, refsMap.get(info.getMth()));
+			List<OverrideMthRef> overrideList = info.getOverrideList();
+			List<ArgType> argTypes = info.getArgTypes();
+			int flags = 0;
+			flags |= overrideList != null ? FLAG_OVERRIDE : 0;
+			flags |= info.isDontRename() ? FLAG_DONT_RENAME : 0;
+			flags |= info.getReturnType() != null ? FLAG_RETURN_TYPE : 0;
+			flags |= argTypes != null ? FLAG_ARG_TYPES : 0;
+			flags |= info.getBridgeMth() != null ? FLAG_BRIDGE : 0;
+			flags |= info.getCollisionAlias() != null ? FLAG_COLLISION_ALIAS : 0;
+			flags |= info.isCollisionWarn() ? FLAG_COLLISION_WARN : 0;
+			out.writeByte(flags);
+			if (overrideList != null) {
+				writeRefsList(out, refsMap, overrideList);
+				writeRefsList(out, refsMap, info.getBaseMethods());
+				writeUVInt(out, info.getRelatedGroup());
+			}
+			if (info.getReturnType() != null) {
+				ArgTypeAdapter.INSTANCE.write(out, info.getReturnType());
+			}
+			if (argTypes != null) {
+				writeUVInt(out, argTypes.size());
+				for (ArgType argType : argTypes) {
+					ArgTypeAdapter.INSTANCE.write(out, argType);
+				}
+			}
+			if (info.getBridgeMth() != null) {
+				writeUVInt(out, refsMap.get(info.getBridgeMth()));
+			}
+			if (info.getCollisionAlias() != null) {
+				out.writeUTF(info.getCollisionAlias());
+			}
+			writeUVInt(out, info.getDebugComments().size());
+			for (String comment : info.getDebugComments()) {
+				out.writeUTF(comment);
+			}
+		}
+	}
+
+	private static void addRefs(Map<OverrideMthRef, Integer> refsMap, List<OverrideMthRef> refs, List<OverrideMthRef> list) {
+		for (OverrideMthRef ref : list) {
+			refsMap.computeIfAbsent(ref, r -> {
+				refs.add(r);
+				return refs.size() - 1;
+			});
+		}
+	}
+
+	private static List<OverrideMthRef> readRefsList(DataInputStream in, OverrideMthRef[] refs) throws IOException {
+		int count = readUVInt(in);
+		if (count == 0) {
+			return Collections.emptyList();
+		}
+		List<OverrideMthRef> list = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			list.add(refs[readUVInt(in)]);
+		}
+		return list;
+	}
+
+	private static void writeRefsList(DataOutputStream out, Map<OverrideMthRef, Integer> refsMap,
+			List<OverrideMthRef> list) throws IOException {
+		writeUVInt(out, list.size());
+		for (OverrideMthRef ref : list) {
+			writeUVInt(out, refsMap.get(ref));
+		}
+	}
+}
@@ -0,0 +1,52 @@
+package jadx.gui.cache.overrides;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.jetbrains.annotations.Nullable;
+
+import jadx.api.override.IOverrideInfoCache;
+import jadx.api.override.OverrideInfoData;
+import jadx.api.override.impl.InMemoryOverrideInfoCache;
+import jadx.core.dex.nodes.RootNode;
+
+/**
+ * Store methods override data in project cache dir,
+ * so class hierarchy traversal can be skipped on project reopen.
+ */
+public class OverrideInfoCache implements IOverrideInfoCache {
+
+	private final Path overridesFile;
+	private final List<File> inputs;
+	private final InMemoryOverrideInfoCache memCache = new InMemoryOverrideInfoCache();
+
+	public OverrideInfoCache(Path cacheDir, List<File> inputFiles) {
+		overridesFile = cacheDir.resolve("overrides");
+		inputs = inputFiles;
+	}
+
+	@Override
+	public synchronized @Nullable OverrideInfoData get(RootNode root) {
+		OverrideInfoData memData = memCache.get(root);
+		if (memData != null) {
+			return memData;
+		}
+		OverrideInfoData data = OverrideFileAdapter.load(overridesFile, root, inputs);
+		if (data != null) {
+			memCache.set(root, data);
+		}
+		return data;
+	}
+
+	@Override
+	public synchronized void set(RootNode root, OverrideInfoData data) {
+		memCache.set(root, data);
+		OverrideFileAdapter.save(data, overridesFile, root, inputs);
+	}
+
+	@Override
+	public synchronized void close() {
+		memCache.close();
+	}
+}
@@ -0,0 +1,366 @@
+package jadx.gui.cache.resources;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.lang.ref.SoftReference;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import jadx.core.Jadx;
+import jadx.core.dex.nodes.RootNode;
+import jadx.core.utils.files.FileUtils;
+
+/**
+ * Decoded resources text cache with trigram index for resource search.
+ * <br>
+ * Text of every resource is decoded only once: kept in memory (soft references)
+ * and optionally saved on disk to not decode resources again on project reopen.
+ * Index allows to skip resources without a possible match without loading them.
+ * <br>
+ * Index is case-insensitive and contains only trigrams of ASCII chars,
+ * so it can be used only to exclude resources, final check must be done on resource text.
+ */
+public class ResourcesTextCache implements Closeable {
+	private static final Logger LOG = LoggerFactory.getLogger(ResourcesTextCache.class);
+
+	private static final int DATA_FORMAT_VERSION = 1;
+	private static final String INDEX_FILE = "index.bin";
+
+	private final Map<String, SoftReference<String>> textMap = new ConcurrentHashMap<>();
+
+	/**
+	 * Resource name to id (also used for disk file name)
+	 */
+	private final Map<String, Integer> idMap = new HashMap<>();
+	private final List<String> names = new ArrayList<>();
+
+	/**
+	 * Trigram to sorted list of resource ids
+	 */
+	private final Map<Long, PostingList> index = new HashMap<>();
+
+	private final @Nullable Path baseDir;
+	private final @Nullable ExecutorService writePool;
+	private boolean indexChanged;
+
+	/**
+	 * @param projectCacheDir disk cache dir, {@code null} to disable disk cache
+	 */
+	public ResourcesTextCache(RootNode root, @Nullable Path projectCacheDir) {
+		if (projectCacheDir != null && initDiskCache(root, projectCacheDir.resolve("resources"))) {
+			this.baseDir = projectCacheDir.resolve("resources");
+			this.writePool = Executors.newSingleThreadExecutor();
+			loadIndex();
+		} else {
+			this.baseDir = null;
+			this.writePool = null;
+		}
+	}
+
+	/**
+	 * @return {@code true} if texts also saved on disk, otherwise texts kept only in memory
+	 */
+	public boolean isDiskBacked() {
+		return baseDir != null;
+	}
+
+	/**
+	 * Get resource text from cache or load with provided supplier and add into cache and index
+	 */
+	public String getText(String resName, Supplier<String> loader) {
+		SoftReference<String> ref = textMap.get(resName);
+		if (ref != null) {
+			String text = ref.get();
+			if (text != null) {
+				return text;
+			}
+		}
+		String diskText = readFromDisk(resName);
+		if (diskText != null) {
+			textMap.put(resName, new SoftReference<>(diskText));
+			return diskText;
+		}
+		String text = loader.get();
+		textMap.put(resName, new SoftReference<>(text));
+		int id = addToIndex(resName, text);
+		writeToDisk(resName, id, text);
+		return text;
+	}
+
+	/**
+	 * Check if indexed resource can contain search string.
+	 *
+	 * @return {@code false} only if resource is indexed and definitely don't contain search string
+	 */
+	public synchronized boolean mayContain(String resName, String searchStr) {
+		Integer id = idMap.get(resName);
+		if (id == null) {
+			return true;
+		}
+		int len = searchStr.length();
+		for (int i = 0; i + 2 < len; i++) {
+			long trigram = trigram(searchStr, i);
+			if (trigram == -1) {
+				continue;
+			}
+			PostingList postingList = index.get(trigram);
+			if (postingList == null || !postingList.contains(id)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private synchronized int addToIndex(String resName, String text) {
+		Integer prevId = idMap.get(resName);
+		if (prevId != null) {
+			return prevId;
+		}
+		int id = names.size();
+		names.add(resName);
+		idMap.put(resName, id);
+		for (long trigram : collectTrigrams(text)) {
+			index.computeIfAbsent(trigram, k -> new PostingList()).add(id);
+		}
+		indexChanged = true;
+		return id;
+	}
+
+	static Set<Long> collectTrigrams(String text) {
+		Set<Long> set = new HashSet<>();
+		int len = text.length();
+		for (int i = 0; i + 2 < len; i++) {
+			long trigram = trigram(text, i);
+			if (trigram != -1) {
+				set.add(trigram);
+			}
+		}
+		return set;
+	}
+
+	/**
+	 * Pack 3 lower-cased ASCII chars into one number
+	 *
+	 * @return -1 if any char is not ASCII
+	 */
+	static long trigram(String str, int start) {
+		long result = 0;
+		for (int i = start; i < start + 3; i++) {
+			char c = str.charAt(i);
+			if (c > 0x7F) {
+				return -1;
+			}
+			if (c >= 'A' && c <= 'Z') {
+				c = (char) (c + ('a' - 'A'));
+			}
+			result = result << 8 | c;
+		}
+		return result;
+	}
+
+	private static boolean initDiskCache(RootNode root, Path dir) {
+		try {
+			Path versionFile = dir.resolve("resources-version");
+			String version = buildVersion(root);
+			// text files without saved index can't be reused
+			if (Files.exists(versionFile) && Files.exists(dir.resolve(INDEX_FILE))
+					&& FileUtils.readFile(versionFile).equals(version)) {
+				return true;
+			}
+			LOG.debug("Resetting disk resources cache, dir: {}", dir.toAbsolutePath());
+			FileUtils.deleteDirIfExists(dir);
+			FileUtils.makeDirs(dir);
+			FileUtils.writeFile(versionFile, version);
+			return true;
+		} catch (Exception e) {
+			LOG.warn("Failed to init disk resources cache, dir: {}", dir, e);
+			return false;
+		}
+	}
+
+	private static String buildVersion(RootNode root) {
+		return DATA_FORMAT_VERSION
+				+ ":" + Jadx.getVersion()
+				+ ":" + root.getArgs().makeCodeArgsHash(root.getDecompiler())
+				+ ":" + FileUtils.buildInputsHash(FileUtils.toPaths(root.getArgs().getInputFiles()));
+	}
+
+	private synchronized void loadIndex() {
+		Path file = baseDir.resolve(INDEX_FILE);
+		if (!Files.exists(file)) {
+			return;
+		}
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+			int namesCount = in.readInt();
+			for (int i = 0; i < namesCount; i++) {
+				String name = in.readUTF();
+				names.add(name);
+				idMap.put(name, i);
+			}
+			int trigramsCount = in.readInt();
+			for (int i = 0; i < trigramsCount; i++) {
+				long trigram = in.readLong();
+				int size = in.readInt();
+				int[] ids = new int[size];
+				for (int j = 0; j < size; j++) {
+					ids[j] = in.readInt();
+				}
+				index.put(trigram, new PostingList(ids));
+			}
+		} catch (Exception e) {
+			LOG.warn("Failed to load resources index, rebuilding", e);
+			names.clear();
+			idMap.clear();
+			index.clear();
+			try {
+				FileUtils.deleteDirIfExists(baseDir);
+				FileUtils.makeDirs(baseDir);
+			} catch (Exception ex) {
+				LOG.warn("Failed to reset disk resources cache", ex);
+			}
+		}
+	}
+
+	private synchronized void saveIndex() {
+		if (baseDir == null || !indexChanged) {
+			return;
+		}
+		Path file = baseDir.resolve(INDEX_FILE);
+		Path tmpFile = file.resolveSibling(INDEX_FILE + ".tmp");
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmpFile)))) {
+			out.writeInt(names.size());
+			for (String name : names) {
+				out.writeUTF(name);
+			}
+			out.writeInt(index.size());
+			for (Map.Entry<Long, PostingList> entry : index.entrySet()) {
+				PostingList postingList = entry.getValue();
+				out.writeLong(entry.getKey());
+				out.writeInt(postingList.size);
+				for (int i = 0; i < postingList.size; i++) {
+					out.writeInt(postingList.ids[i]);
+				}
+			}
+		} catch (Exception e) {
+			LOG.warn("Failed to save resources index", e);
+			return;
+		}
+		try {
+			Files.move(tmpFile, file, StandardCopyOption.REPLACE_EXISTING);
+			indexChanged = false;
+		} catch (Exception e) {
+			LOG.warn("Failed to save resources index", e);
+		}
+	}
+
+	private @Nullable String readFromDisk(String resName) {
+		Integer id;
+		synchronized (this) {
+			id = idMap.get(resName);
+		}
+		if (id == null) {
+			return null;
+		}
+		Path file = getFile(id);
+		if (file == null || !Files.exists(file)) {
+			return null;
+		}
+		try {
+			return FileUtils.readFile(file);
+		} catch (Exception e) {
+			LOG.warn("Failed to read resources cache for: {}", resName, e);
+			return null;
+		}
+	}
+
+	private void writeToDisk(String resName, int id, String text) {
+		Path file = getFile(id);
+		if (file == null || writePool == null) {
+			return;
+		}
+		writePool.execute(() -> {
+			try {
+				// write into temp file to not expose partial content to readers
+				Path tmpFile = file.resolveSibling(file.getFileName() + ".tmp");
+				FileUtils.makeDirsForFile(tmpFile);
+				FileUtils.writeFile(tmpFile, text);
+				Files.move(tmpFile, file, StandardCopyOption.REPLACE_EXISTING);
+			} catch (Exception e) {
+				LOG.warn("Failed to write resources cache for: {}", resName, e);
+			}
+		});
+	}
+
+	private @Nullable Path getFile(int id) {
+		if (baseDir == null) {
+			return null;
+		}
+		// all resources divided between 256 top level folders
+		return baseDir.resolve(Paths.get(FileUtils.byteToHex(id), FileUtils.intToHex(id) + ".txt"));
+	}
+
+	@Override
+	public void close() {
+		textMap.clear();
+		if (writePool != null) {
+			try {
+				writePool.shutdown();
+				if (!writePool.awaitTermination(1, TimeUnit.MINUTES)) {
+					LOG.warn("Disk resources cache closing terminated by timeout");
+				}
+			} catch (InterruptedException e) {
+				LOG.error("Failed to close disk resources cache", e);
+			}
+			saveIndex();
+		}
+	}
+
+	/**
+	 * Growable sorted ids list, ids always added in increasing order
+	 */
+	private static final class PostingList {
+		private int[] ids;
+		private int size;
+
+		PostingList() {
+			this.ids = new int[4];
+		}
+
+		PostingList(int[] ids) {
+			this.ids = ids;
+			this.size = ids.length;
+		}
+
+		void add(int id) {
+			if (size == ids.length) {
+				ids = Arrays.copyOf(ids, size * 2);
+			}
+			ids[size++] = id;
+		}
+
+		boolean contains(int id) {
+			return Arrays.binarySearch(ids, 0, size, id) >= 0;
+		}
+	}
+}
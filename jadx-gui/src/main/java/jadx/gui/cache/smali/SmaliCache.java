@@ -0,0 +1,262 @@
+package jadx.gui.cache.smali;
+
+import java.io.Closeable;
+import java.lang.ref.SoftReference;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import jadx.api.impl.SimpleCodeWriter;
+import jadx.api.plugins.input.data.IClassData;
+import jadx.core.Jadx;
+import jadx.core.dex.nodes.ClassNode;
+import jadx.core.dex.nodes.RootNode;
+import jadx.core.utils.Utils;
+import jadx.core.utils.files.FileUtils;
+import jadx.gui.device.debugger.smali.Smali;
+
+/**
+ * Smali code cache for smali view and debugger.
+ * <br>
+ * Class disassembly don't depend on renames, so it is stored for every class separately
+ * and combined with actual class names on request.
+ * Disassembled code kept in memory (soft references) and optionally saved on disk
+ * to not redo disassembly on project reopen.
+ * <br>
+ * Debugger disassembly (with line to code offset mapping) kept only in memory.
+ */
+public class SmaliCache implements Closeable {
+	private static final Logger LOG = LoggerFactory.getLogger(SmaliCache.class);
+
+	private static final int DATA_FORMAT_VERSION = 1;
+
+	private final RootNode root;
+	private final Map<String, SoftReference<String>> rawCodeMap = new ConcurrentHashMap<>();
+	private final Map<String, SoftReference<Smali>> dbgSmaliMap = new ConcurrentHashMap<>();
+
+	private final @Nullable Path baseDir;
+	private final @Nullable ExecutorService writePool;
+	private final Map<String, Integer> clsIdMap;
+
+	/**
+	 * @param projectCacheDir disk cache dir, {@code null} to disable disk cache
+	 */
+	public SmaliCache(RootNode root, @Nullable Path projectCacheDir) {
+		this.root = root;
+		this.clsIdMap = buildClassIdMap(root.getClasses());
+		if (projectCacheDir != null && initDiskCache(projectCacheDir.resolve("smali"))) {
+			this.baseDir = projectCacheDir.resolve("smali");
+			this.writePool = Executors.newSingleThreadExecutor();
+		} else {
+			this.baseDir = null;
+			this.writePool = null;
+		}
+	}
+
+	/**
+	 * Smali code for top class with all inner and inlined classes
+	 */
+	public String getSmaliCode(ClassNode cls) {
+		ClassNode topCls = cls.getTopParentClass();
+		SimpleCodeWriter code = new SimpleCodeWriter(root.getArgs());
+		appendClassCode(code, topCls);
+		Set<ClassNode> allInlinedClasses = new LinkedHashSet<>();
+		topCls.getInnerAndInlinedClassesRecursive(allInlinedClasses);
+		for (ClassNode innerClass : allInlinedClasses) {
+			appendClassCode(code, innerClass);
+		}
+		return code.finish().getCodeStr();
+	}
+
+	/**
+	 * Disassembled top class with code offsets info for debugger
+	 */
+	public Smali getDebugSmali(ClassNode cls) {
+		ClassNode topCls = cls.getTopParentClass();
+		String rawName = topCls.getRawName();
+		SoftReference<Smali> ref = dbgSmaliMap.get(rawName);
+		if (ref != null) {
+			Smali smali = ref.get();
+			if (smali != null) {
+				return smali;
+			}
+		}
+		Smali smali = disassembleForDebug(topCls);
+		dbgSmaliMap.put(rawName, new SoftReference<>(smali));
+		return smali;
+	}
+
+	/**
+	 * Remove cached code for top class with all inner classes (i.e. after class data update)
+	 */
+	public void invalidate(ClassNode cls) {
+		ClassNode topCls = cls.getTopParentClass();
+		dbgSmaliMap.remove(topCls.getRawName());
+		Set<ClassNode> classes = new LinkedHashSet<>();
+		classes.add(topCls);
+		topCls.getInnerAndInlinedClassesRecursive(classes);
+		for (ClassNode clsNode : classes) {
+			String rawName = clsNode.getRawName();
+			rawCodeMap.remove(rawName);
+			Path file = getFile(rawName);
+			if (file != null && writePool != null) {
+				// run in write pool to not race with pending write
+				writePool.execute(() -> {
+					try {
+						Files.deleteIfExists(file);
+					} catch (Exception e) {
+						LOG.warn("Failed to remove smali cache for class: {}", rawName, e);
+					}
+				});
+			}
+		}
+	}
+
+	private static Smali disassembleForDebug(ClassNode topCls) {
+		// disassembler use shared instructions decoder
+		synchronized (Smali.class) {
+			return Smali.disassemble(topCls);
+		}
+	}
+
+	private void appendClassCode(SimpleCodeWriter code, ClassNode cls) {
+		IClassData clsData = cls.getClsData();
+		if (clsData == null) {
+			code.startLine(String.format("###### Class %s is created by jadx", cls.getFullName()));
+			return;
+		}
+		code.startLine(String.format("###### Class %s (%s)", cls.getFullName(), cls.getRawName()));
+		try {
+			code.startLine(getRawCode(cls, clsData));
+		} catch (Throwable e) {
+			code.startLine("Failed to disassemble class:");
+			code.startLine(Utils.getStackTrace(e));
+		}
+	}
+
+	private String getRawCode(ClassNode cls, IClassData clsData) {
+		String rawName = cls.getRawName();
+		SoftReference<String> ref = rawCodeMap.get(rawName);
+		if (ref != null) {
+			String code = ref.get();
+			if (code != null) {
+				return code;
+			}
+		}
+		String diskCode = readFromDisk(rawName);
+		if (diskCode != null) {
+			rawCodeMap.put(rawName, new SoftReference<>(diskCode));
+			return diskCode;
+		}
+		String code = clsData.getDisassembledCode();
+		rawCodeMap.put(rawName, new SoftReference<>(code));
+		writeToDisk(rawName, code);
+		return code;
+	}
+
+	private boolean initDiskCache(Path dir) {
+		try {
+			Path versionFile = dir.resolve("smali-version");
+			String version = buildVersion();
+			if (Files.exists(versionFile) && FileUtils.readFile(versionFile).equals(version)) {
+				return true;
+			}
+			LOG.debug("Resetting disk smali cache, dir: {}", dir.toAbsolutePath());
+			FileUtils.deleteDirIfExists(dir);
+			FileUtils.makeDirs(dir);
+			FileUtils.writeFile(versionFile, version);
+			return true;
+		} catch (Exception e) {
+			LOG.warn("Failed to init disk smali cache, dir: {}", dir, e);
+			return false;
+		}
+	}
+
+	private String buildVersion() {
+		return DATA_FORMAT_VERSION
+				+ ":" + Jadx.getVersion()
+				+ ":" + FileUtils.buildInputsHash(FileUtils.toPaths(root.getArgs().getInputFiles()));
+	}
+
+	private @Nullable String readFromDisk(String rawName) {
+		Path file = getFile(rawName);
+		if (file == null || !Files.exists(file)) {
+			return null;
+		}
+		try {
+			return FileUtils.readFile(file);
+		} catch (Exception e) {
+			LOG.warn("Failed to read smali cache for class: {}", rawName, e);
+			return null;
+		}
+	}
+
+	private void writeToDisk(String rawName, String code) {
+		Path file = getFile(rawName);
+		if (file == null || writePool == null) {
+			return;
+		}
+		writePool.execute(() -> {
+			try {
+				// write into temp file to not expose partial content to readers
+				Path tmpFile = file.resolveSibling(file.getFileName() + ".tmp");
+				FileUtils.makeDirsForFile(tmpFile);
+				FileUtils.writeFile(tmpFile, code);
+				Files.move(tmpFile, file, StandardCopyOption.REPLACE_EXISTING);
+			} catch (Exception e) {
+				LOG.warn("Failed to write smali cache for class: {}", rawName, e);
+			}
+		});
+	}
+
+	private @Nullable Path getFile(String rawName) {
+		if (baseDir == null) {
+			return null;
+		}
+		Integer clsId = clsIdMap.get(rawName);
+		if (clsId == null) {
+			return null;
+		}
+		// all classes divided between 256 top level folders
+		return baseDir.resolve(Paths.get(FileUtils.byteToHex(clsId), FileUtils.intToHex(clsId) + ".smali"));
+	}
+
+	private static Map<String, Integer> buildClassIdMap(List<ClassNode> classes) {
+		int clsCount = classes.size();
+		Map<String, Integer> map = new HashMap<>(clsCount);
+		for (int i = 0; i < clsCount; i++) {
+			map.put(classes.get(i).getRawName(), i);
+		}
+		return map;
+	}
+
+	@Override
+	public void close() {
+		rawCodeMap.clear();
+		dbgSmaliMap.clear();
+		if (writePool != null) {
+			try {
+				writePool.shutdown();
+				if (!writePool.awaitTermination(1, TimeUnit.MINUTES)) {
+					LOG.warn("Disk smali cache closing terminated by timeout");
+				}
+			} catch (InterruptedException e) {
+				LOG.error("Failed to close disk smali cache", e);
+			}
+		}
+	}
+}
@@ -1,9 +1,6 @@
 package jadx.gui.device.debugger;
 
-import java.util.Collections;
 import java.util.EnumSet;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.Map.Entry;
 
 import org.jetbrains.annotations.Nullable;
@@ -13,11 +10,11 @@
 import jadx.api.JadxDecompiler;
 import jadx.api.JavaClass;
 import jadx.core.deobf.NameMapper;
-import jadx.core.dex.info.ClassInfo;
 import jadx.core.dex.nodes.ClassNode;
 import jadx.core.utils.android.AndroidManifestParser;
 import jadx.core.utils.android.AppAttribute;
 import jadx.core.utils.android.ApplicationParams;
+import jadx.gui.cache.smali.SmaliCache;
 import jadx.gui.device.debugger.smali.Smali;
 import jadx.gui.treemodel.JClass;
 import jadx.gui.ui.MainWindow;
@@ -27,14 +24,18 @@
 public class DbgUtils {
 	private static final Logger LOG = LoggerFactory.getLogger(DbgUtils.class);
 
-	private static Map<ClassInfo, Smali> smaliCache = Collections.emptyMap();
+	private static @Nullable SmaliCache smaliCache;
+
+	public static void setSmaliCache(@Nullable SmaliCache cache) {
+		smaliCache = cache;
+	}
 
 	protected static Smali getSmali(ClassNode topCls) {
-		if (smaliCache == Collections.EMPTY_MAP) {
-			smaliCache = new HashMap<>();
+		SmaliCache cache = smaliCache;
+		if (cache == null) {
+			return Smali.disassemble(topCls);
 		}
-		return smaliCache.computeIfAbsent(topCls.getTopParentClass().getClassInfo(),
-				c -> Smali.disassemble(topCls));
+		return cache.getDebugSmali(topCls);
 	}
 
 	public static String getSmaliCode(ClassNode topCls) {
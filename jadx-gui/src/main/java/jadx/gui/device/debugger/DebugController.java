@@ -531,23 +531,25 @@ private void updateAllThreads() {
 		}
 		debuggerPanel.refreshThreadBox(threadEleList);
 		lazyQueue.execute(() -> {
-			for (ThreadBoxElement ele : threadEleList) { // get thread names
-				try {
-					ele.setName(debugger.getThreadNameSync(ele.getThreadID()));
-				} catch (SmaliDebuggerException e) {
-					logErr(e);
+			try { // get all thread names in one round trip
+				List<String> names = debugger.getThreadNamesSync(threads);
+				for (int i = 0; i < threadEleList.size(); i++) {
+					threadEleList.get(i).setName(names.get(i));
 				}
+			} catch (SmaliDebuggerException e) {
+				logErr(e);
 			}
 			debuggerPanel.refreshThreadBox(Collections.emptyList());
 		});
 	}
 
 	private FrameNode updateAllStackFrames(long threadID) {
-		List<SmaliDebugger.Frame> frames = Collections.emptyList();
+		List<SmaliDebugger.Frame> frames;
 		try {
 			frames = debugger.getFramesSync(threadID);
 		} catch (SmaliDebuggerException e) {
 			logErr(e);
+			return null;
 		}
 		if (frames.isEmpty()) {
 			return null;
@@ -562,6 +564,11 @@ private FrameNode updateAllStackFrames(long threadID) {
 
 		debuggerPanel.refreshStackFrameList(frameEleList);
 		lazyQueue.execute(() -> { // get class & method names for frames
+			try {
+				debugger.prefetchSignaturesSync(frames.subList(1, frames.size()));
+			} catch (SmaliDebuggerException e) {
+				logErr(e);
+			}
 			for (int i = 1; i < frameEleList.size(); i++) {
 				fetchStackFrameNames(frameEleList.get(i));
 			}
@@ -667,16 +674,58 @@ private void updateAllRegisters(FrameNode frame) {
 
 	private void fetchAllRegisters(FrameNode frame) {
 		List<SmaliRegister> regs = cur.regAdapter.getInitializedList(frame.getCodeOffset());
+		List<RegTreeNode> typedRegs = new ArrayList<>(regs.size());
+		List<RegTreeNode> otherRegs = new ArrayList<>(regs.size());
 		for (SmaliRegister reg : regs) {
 			RuntimeVarInfo info = cur.regAdapter.getInfo(reg.getRuntimeRegNum(), frame.getCodeOffset());
 			RegTreeNode regNode = frame.getRegNodes().get(reg.getRegNum());
 			if (info != null) {
 				applyDbgInfo(regNode, info);
 			}
+			if (regNode.isAbsoluteType()) {
+				typedRegs.add(regNode);
+			} else {
+				otherRegs.add(regNode);
+			}
+		}
+		if (!fetchRegistersBatch(typedRegs)) {
+			otherRegs.addAll(typedRegs);
+		}
+		for (RegTreeNode regNode : otherRegs) {
 			updateRegister(regNode, null, true);
 		}
 	}
 
+	/**
+	 * Read registers with known types in one request.
+	 *
+	 * @return false if request failed (i.e. some type is mismatched), registers should be read one by one
+	 */
+	private boolean fetchRegistersBatch(List<RegTreeNode> regNodes) {
+		if (regNodes.size() < 2) {
+			return false;
+		}
+		List<Integer> regNums = new ArrayList<>(regNodes.size());
+		List<RuntimeType> types = new ArrayList<>(regNodes.size());
+		for (RegTreeNode regNode : regNodes) {
+			regNums.add(regNode.getRuntimeRegNum());
+			types.add(castType(regNode.getType()));
+		}
+		List<RuntimeRegister> registers;
+		try {
+			registers = debugger.getRegistersSync(cur.frame.getThreadID(), cur.frame.getFrame().getID(), regNums, types);
+		} catch (SmaliDebuggerException e) {
+			return false;
+		}
+		for (int i = 0; i < regNodes.size(); i++) {
+			RegTreeNode regNode = regNodes.get(i);
+			regNode.updateReg(registers.get(i));
+			decodeRuntimeValue(regNode);
+			debuggerPanel.updateRegTree(regNode);
+		}
+		return true;
+	}
+
 	private void applyDbgInfo(RegTreeNode rn, RuntimeVarInfo info) {
 		applyDbgInfo(rn, info.getName(), info.getType());
 	}
@@ -8,10 +8,14 @@
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
 import java.util.concurrent.SynchronousQueue;
@@ -102,6 +106,7 @@ public class SmaliDebugger {
 	private final Map<Long, List<MethodsWithGenericData>> clsMethodMap = new ConcurrentHashMap<>();
 	private final Map<Long, List<FieldsWithGenericData>> clsFieldMap = new ConcurrentHashMap<>();
 	private Map<Long, Map<Long, RuntimeDebugInfo>> varMap = Collections.emptyMap(); // cls id: <mth id: var table>
+	private final Map<Long, String> typeSigMap = new ConcurrentHashMap<>(); // type id: signature
 
 	private final CountRequest oneOffEventReq;
 	private final AtomicInteger idGenerator = new AtomicInteger(1);
@@ -115,6 +120,7 @@ public class SmaliDebugger {
 	private ObjectPool<List<Long>> fieldIdPool;
 	private final Map<Integer, Thread> syncQueueMap = new ConcurrentHashMap<>();
 	private final AtomicInteger syncQueueID = new AtomicInteger(0);
+	private final Set<CompletableFuture<Packet>> pipelinedReplies = ConcurrentHashMap.newKeySet();
 
 	private static final ICommandResult SKIP_RESULT = res -> {
 	};
@@ -237,6 +243,37 @@ public RuntimeRegister getRegisterSync(long threadID, long frameID, int regNum,
 		return buildRegister(regNum, val.values.get(0).slotValue.tag, val.values.get(0).slotValue.idOrValue);
 	}
 
+	/**
+	 * Read several registers of one frame in a single request.
+	 * Whole request fails if any register type is mismatched,
+	 * in this case use {@link #getRegisterSync(long, long, int, RuntimeType)} for each register.
+	 *
+	 * @param regNums runtime register numbers, see {@link #getRegisterSync(long, long, int, RuntimeType)}
+	 */
+	public List<RuntimeRegister> getRegistersSync(long threadID, long frameID,
+			List<Integer> regNums, List<RuntimeType> types) throws SmaliDebuggerException {
+		int count = regNums.size();
+		if (count == 0) {
+			return Collections.emptyList();
+		}
+		List<GetValuesSlots> slots = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			GetValuesSlots slot = jdwp.stackFrame().cmdGetValues().newValuesSlots();
+			slot.slot = regNums.get(i);
+			slot.sigbyte = (byte) types.get(i).getTag();
+			slots.add(slot);
+		}
+		Packet res = sendCommandSync(jdwp.stackFrame().cmdGetValues().encode(threadID, frameID, slots));
+		tryThrowError(res);
+		GetValuesReplyData data = jdwp.stackFrame().cmdGetValues().decode(res.getBuf(), JDWP.PACKET_HEADER_SIZE);
+		List<RuntimeRegister> regs = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			JDWP.ValuePacket value = data.values.get(i).slotValue;
+			regs.add(buildRegister(regNums.get(i), value.tag, value.idOrValue));
+		}
+		return regs;
+	}
+
 	public long getThisID(long threadID, long frameID) throws SmaliDebuggerException {
 		Packet res = sendCommandSync(jdwp.stackFrame().cmdThisObject().encode(threadID, frameID));
 		tryThrowError(res);
@@ -286,6 +323,71 @@ public String getThreadNameSync(long threadID) throws SmaliDebuggerException {
 		return sendThreadNameReq(threadID);
 	}
 
+	/**
+	 * Get names for all threads using pipelined requests
+	 */
+	public List<String> getThreadNamesSync(List<Long> threadIDs) throws SmaliDebuggerException {
+		List<ByteBuffer> requests = new ArrayList<>(threadIDs.size());
+		for (Long threadID : threadIDs) {
+			requests.add(jdwp.threadReference().cmdName().encode(threadID));
+		}
+		List<Packet> replies = sendCommandsSync(requests);
+		List<String> names = new ArrayList<>(replies.size());
+		for (Packet res : replies) {
+			if (res.isError()) {
+				names.add(null);
+			} else {
+				names.add(jdwp.threadReference().cmdName().decode(res.getBuf(), JDWP.PACKET_HEADER_SIZE).threadName);
+			}
+		}
+		return names;
+	}
+
+	/**
+	 * Load and cache class and method signatures for all frames using pipelined requests,
+	 * so following calls of {@link #getClassSignatureSync(long)} and {@link #getMethodSignatureSync(long, long)}
+	 * will not require any requests.
+	 */
+	public void prefetchSignaturesSync(List<Frame> frames) throws SmaliDebuggerException {
+		Set<Long> unknownSigs = new LinkedHashSet<>();
+		Set<Long> unknownMethods = new LinkedHashSet<>();
+		for (Frame frame : frames) {
+			long clsID = frame.getClassID();
+			if (!classIDMap.containsKey(clsID) && !typeSigMap.containsKey(clsID)) {
+				unknownSigs.add(clsID);
+			}
+			if (!clsMethodMap.containsKey(clsID)) {
+				unknownMethods.add(clsID);
+			}
+		}
+		List<Long> sigIDs = new ArrayList<>(unknownSigs);
+		List<Long> mthIDs = new ArrayList<>(unknownMethods);
+		List<ByteBuffer> requests = new ArrayList<>(sigIDs.size() + mthIDs.size());
+		for (Long clsID : sigIDs) {
+			requests.add(jdwp.referenceType().cmdSignature().encode(clsID));
+		}
+		for (Long clsID : mthIDs) {
+			requests.add(jdwp.referenceType().cmdMethodsWithGeneric().encode(clsID));
+		}
+		List<Packet> replies = sendCommandsSync(requests);
+		for (int i = 0; i < sigIDs.size(); i++) {
+			Packet res = replies.get(i);
+			if (!res.isError()) {
+				SignatureReplyData data = jdwp.referenceType().cmdSignature().decode(res.getBuf(), JDWP.PACKET_HEADER_SIZE);
+				typeSigMap.put(sigIDs.get(i), data.signature);
+			}
+		}
+		int offset = sigIDs.size();
+		for (int i = 0; i < mthIDs.size(); i++) {
+			Packet res = replies.get(offset + i);
+			if (!res.isError()) {
+				MethodsWithGenericReplyData data =
+						jdwp.referenceType().cmdMethodsWithGeneric().decode(res.getBuf(), JDWP.PACKET_HEADER_SIZE);
+				clsMethodMap.put(mthIDs.get(i), data.declared);
+			}
+		}
+	}
+
 	@Nullable
 	public String getClassSignatureSync(long classID) throws SmaliDebuggerException {
 		return getClassSignatureInternal(classID);
@@ -444,11 +546,21 @@ public String readObjectSignatureSync(RuntimeValue val) throws SmaliDebuggerExce
 		Packet res = sendCommandSync(jdwp.objectReference().cmdReferenceType().encode(objID));
 		tryThrowError(res);
 		ReferenceTypeReplyData data = jdwp.objectReference().cmdReferenceType().decode(res.getBuf(), JDWP.PACKET_HEADER_SIZE);
+		return getTypeSignature(data.typeID);
+	}
 
-		// get signature by type reference id.
-		res = sendCommandSync(jdwp.referenceType().cmdSignature().encode(data.typeID));
+	/**
+	 * Type signature can't be changed, so cache it for whole session
+	 */
+	private String getTypeSignature(long typeID) throws SmaliDebuggerException {
+		String cachedSig = typeSigMap.get(typeID);
+		if (cachedSig != null) {
+			return cachedSig;
+		}
+		Packet res = sendCommandSync(jdwp.referenceType().cmdSignature().encode(typeID));
 		tryThrowError(res);
 		SignatureReplyData sigData = jdwp.referenceType().cmdSignature().decode(res.getBuf(), JDWP.PACKET_HEADER_SIZE);
+		typeSigMap.put(typeID, sigData.signature);
 		return sigData.signature;
 	}
 
@@ -709,7 +821,10 @@ private void sendCommand(ByteBuffer buf, ICommandResult callback) throws SmaliDe
 		int id = genID();
 		callbackMap.put(id, callback);
 		try {
-			outputStream.write(buf.setPacketID(id).getBytes());
+			// commands can be sent from several threads, don't mix packets bytes
+			synchronized (outputStream) {
+				outputStream.write(buf.setPacketID(id).getBytes());
+			}
 		} catch (IOException e) {
 			throw new SmaliDebuggerException(e);
 		}
@@ -740,6 +855,39 @@ private Packet sendCommandSync(ByteBuffer buf) throws SmaliDebuggerException {
 		}
 	}
 
+	/**
+	 * Send all commands without waiting for replies (pipelining) and wait for all replies.
+	 * Replies matched with commands by packet id in decodingLoop().
+	 * Errors not thrown, check {@link Packet#isError()} for every reply.
+	 * <br>
+	 * Do not use this method inside a ICommandResult callback, it will cause deadlock.
+	 */
+	private List<Packet> sendCommandsSync(List<ByteBuffer> bufs) throws SmaliDebuggerException {
+		if (bufs.isEmpty()) {
+			return Collections.emptyList();
+		}
+		List<CompletableFuture<Packet>> replies = new ArrayList<>(bufs.size());
+		try {
+			for (ByteBuffer buf : bufs) {
+				CompletableFuture<Packet> reply = new CompletableFuture<>();
+				pipelinedReplies.add(reply);
+				replies.add(reply);
+				sendCommand(buf, reply::complete);
+			}
+			List<Packet> results = new ArrayList<>(replies.size());
+			for (CompletableFuture<Packet> reply : replies) {
+				results.add(reply.get());
+			}
+			return results;
+		} catch (InterruptedException e) {
+			throw new SmaliDebuggerException(e);
+		} catch (ExecutionException e) {
+			throw new SmaliDebuggerException("Pipelined command failed", e);
+		} finally {
+			replies.forEach(pipelinedReplies::remove);
+		}
+	}
+
 	// called by decodingLoop() when fatal error occurred,
 	// if don't do so the store.take() may block forever.
 	private void clearWaitingSyncQueue() {
@@ -749,6 +897,8 @@ private void clearWaitingSyncQueue() {
 				t.interrupt();
 			}
 		});
+		pipelinedReplies.forEach(r -> r.completeExceptionally(new SmaliDebuggerException("Debugger connection closed")));
+		pipelinedReplies.clear();
 	}
 
 	private void printUnexpectedID(int id) throws SmaliDebuggerException {
@@ -979,14 +1129,11 @@ private List<SlotValueSetter> buildRegValueSetter(int tag, int regNum) {
 
 	private String getClassSignatureInternal(long id) throws SmaliDebuggerException {
 		AllClassesWithGenericData data = classIDMap.get(id);
-		if (data == null) {
-			getAllClasses();
-		}
-		data = classIDMap.get(id);
 		if (data != null) {
 			return data.signature;
 		}
-		return null;
+		// request only one class instead of all loaded classes
+		return getTypeSignature(id);
 	}
 
 	private String getMethodSignatureInternal(long clsID, long mthID) throws SmaliDebuggerException {
@@ -1112,19 +1259,38 @@ private void listenClassUnloadEvent() throws SmaliDebuggerException {
 						void onClassUnload(ClassUnloadEvent event) {
 							EVENT_LISTENER_QUEUE.execute(() -> {
 								System.out.printf("ClassUnloaded: %s%n", event.signature);
-								AllClassesWithGenericData clsData = classMap.remove(event.signature);
-								if (clsData != null) {
-									classIDMap.remove(clsData.typeID);
-									clsFieldMap.remove(clsData.typeID);
-									clsMethodMap.remove(clsData.typeID);
-									varMap.remove(clsData.typeID);
-								}
+								removeClassData(event.signature);
 							});
 						}
 					});
 				});
 	}
 
+	/**
+	 * Remove cached data for unloaded class.
+	 * Type signature and methods also cached for classes not tracked in {@link #classMap}
+	 * (i.e. loaded after debugger attach), so these caches searched by signature.
+	 */
+	private void removeClassData(String clsSig) {
+		AllClassesWithGenericData clsData = classMap.remove(DbgUtils.classSigToRawFullName(clsSig));
+		if (clsData != null) {
+			removeTypeData(clsData.typeID);
+		}
+		typeSigMap.forEach((typeID, sig) -> {
+			if (sig.equals(clsSig)) {
+				removeTypeData(typeID);
+			}
+		});
+	}
+
+	private void removeTypeData(long typeID) {
+		classIDMap.remove(typeID);
+		typeSigMap.remove(typeID);
+		clsFieldMap.remove(typeID);
+		clsMethodMap.remove(typeID);
+		varMap.remove(typeID);
+	}
+
 	/**
 	 * Reads a JDWP packet.
 	 */
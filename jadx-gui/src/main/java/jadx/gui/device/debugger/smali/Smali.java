@@ -77,6 +77,7 @@ public class Smali {
 
 	private ICodeInfo codeInfo;
 	private final Map<String, SmaliMethodNode> insnMap = new HashMap<>(); // fullRawId of method as key
+	private Map<Integer, Entry<String, Integer>> lineIndex = Collections.emptyMap(); // line: (fullRawId, codeOffset)
 
 	private final boolean printFileOffset = true;
 	private final boolean printBytecode = true;
@@ -93,6 +94,7 @@ public static Smali disassemble(ClassNode cls) {
 		smali.isJavaBytecode = cls.getInputFileName().endsWith(".class"); // TODO: add flag to api
 		smali.writeClass(code, cls);
 		smali.codeInfo = code.finish();
+		smali.buildLineIndex();
 		return smali;
 	}
 
@@ -134,13 +136,20 @@ public int getInsnPosByCodeOffset(String mthFullRawID, long codeOffset) {
 
 	@Nullable
 	public Entry<String, Integer> getMthFullIDAndCodeOffsetByLine(int line) {
+		return lineIndex.get(line);
+	}
+
+	/**
+	 * Merge line mappings from all methods to avoid methods scan on every lookup
+	 */
+	private void buildLineIndex() {
+		Map<Integer, Entry<String, Integer>> map = new HashMap<>();
 		for (Entry<String, SmaliMethodNode> entry : insnMap.entrySet()) {
-			Integer codeOffset = entry.getValue().getLineMapping().get(line);
-			if (codeOffset != null) {
-				return new SimpleEntry<>(entry.getKey(), codeOffset);
-			}
+			String mthRawId = entry.getKey();
+			entry.getValue().getLineMapping()
+					.forEach((line, codeOffset) -> map.putIfAbsent(line, new SimpleEntry<>(mthRawId, codeOffset)));
 		}
-		return null;
+		lineIndex = map;
 	}
 
 	public List<SmaliRegister> getRegisterList(String mthFullRawID) {
@@ -2,14 +2,17 @@
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -21,6 +24,7 @@
 import jadx.api.plugins.events.types.NodeRenamedByUser;
 import jadx.core.utils.Utils;
 import jadx.core.utils.exceptions.JadxRuntimeException;
+import jadx.gui.jobs.RefreshClassesTask;
 import jadx.gui.jobs.TaskStatus;
 import jadx.gui.settings.JadxProject;
 import jadx.gui.treemodel.JClass;
@@ -28,10 +32,7 @@
 import jadx.gui.treemodel.JRenameNode;
 import jadx.gui.ui.MainWindow;
 import jadx.gui.ui.codearea.ClassCodeContentPanel;
-import jadx.gui.ui.codearea.CodeArea;
 import jadx.gui.ui.panel.ContentPanel;
-import jadx.gui.ui.tab.TabbedPane;
-import jadx.gui.utils.CacheObject;
 import jadx.gui.utils.JNodeCache;
 import jadx.gui.utils.NLS;
 import jadx.gui.utils.UiUtils;
@@ -40,7 +41,8 @@
  * Rename service listen for user rename events.
  * For each event:
  * - add/update rename entry in project code data
- * - update code and/or invalidate cache for related classes
+ * - invalidate cache for related classes and update code in priority order
+ * (open tabs, visible in tree, direct usage, others), see {@link RefreshClassesTask}
  * - apply all needed UI updates (tabs, classes tree)
  */
 public class RenameService {
@@ -52,6 +54,7 @@ public static void init(MainWindow mainWindow) {
 	}
 
 	private final MainWindow mainWindow;
+	private @Nullable RefreshClassesTask refreshTask;
 
 	private RenameService(MainWindow mainWindow) {
 		this.mainWindow = mainWindow;
@@ -114,23 +117,27 @@ private void refreshState(JRenameNode node) {
 		node.addUpdateNodes(toUpdate);
 
 		JNodeCache nodeCache = mainWindow.getCacheObject().getNodeCache();
-		Set<JClass> updatedTopClasses = toUpdate
-				.stream()
-				.map(JavaNode::getTopParentClass)
-				.map(nodeCache::makeFrom)
-				.filter(Objects::nonNull)
-				.collect(Collectors.toSet());
-
+		Set<JClass> updatedTopClasses = toTopClasses(nodeCache, toUpdate);
 		LOG.debug("Classes to update: {}", updatedTopClasses);
 		if (updatedTopClasses.isEmpty()) {
 			return;
 		}
-		mainWindow.getBackgroundExecutor().execute("Refreshing",
-				() -> {
-					mainWindow.getWrapper().reloadCodeData();
-					UiUtils.uiRunAndWait(() -> refreshTabs(mainWindow.getTabbedPane(), updatedTopClasses));
-					refreshClasses(updatedTopClasses);
-				},
+		Map<JClass, RefreshClassesTask.Priority> classes = new HashMap<>();
+		for (JClass cls : updatedTopClasses) {
+			classes.put(cls, RefreshClassesTask.Priority.OTHER);
+		}
+		setPriority(classes, collectDirectUse(nodeCache, node), RefreshClassesTask.Priority.DIRECT_USE);
+		UiUtils.uiRunAndWait(() -> {
+			setPriority(classes, mainWindow.getVisibleTreeClasses(), RefreshClassesTask.Priority.VISIBLE_IN_TREE);
+			setPriority(classes, collectOpenTabs(), RefreshClassesTask.Priority.OPEN_TAB);
+		});
+
+		RefreshClassesTask prevTask = refreshTask;
+		if (prevTask != null) {
+			// new rename supersede previous refresh, not processed classes will be moved into new task
+			prevTask.cancel();
+		}
+		refreshTask = new RefreshClassesTask(mainWindow, classes, prevTask,
 				(status) -> {
 					if (status == TaskStatus.CANCEL_BY_MEMORY) {
 						mainWindow.showHeapUsageBar();
@@ -138,41 +145,44 @@ private void refreshState(JRenameNode node) {
 					}
 					node.reload(mainWindow);
 				});
+		mainWindow.getBackgroundExecutor().execute(refreshTask);
 	}
 
-	private void refreshClasses(Set<JClass> updatedTopClasses) {
-		CacheObject cache = mainWindow.getCacheObject();
-		if (updatedTopClasses.size() < 10) {
-			// small batch => reload
-			LOG.debug("Classes to reload: {}", updatedTopClasses.size());
-			for (JClass cls : updatedTopClasses) {
-				try {
-					cls.reload(cache);
-				} catch (Exception e) {
-					LOG.error("Failed to reload class: {}", cls.getFullName(), e);
-				}
-			}
-		} else {
-			// big batch => unload
-			LOG.debug("Classes to unload: {}", updatedTopClasses.size());
-			for (JClass cls : updatedTopClasses) {
-				try {
-					cls.unload(cache);
-				} catch (Exception e) {
-					LOG.error("Failed to unload class: {}", cls.getFullName(), e);
-				}
-			}
+	private static Set<JClass> toTopClasses(JNodeCache nodeCache, List<JavaNode> nodes) {
+		return nodes.stream()
+				.map(JavaNode::getTopParentClass)
+				.map(nodeCache::makeFrom)
+				.filter(Objects::nonNull)
+				.collect(Collectors.toSet());
+	}
+
+	private static Set<JClass> collectDirectUse(JNodeCache nodeCache, JRenameNode node) {
+		JavaNode javaNode = node.getJavaNode();
+		List<JavaNode> list = new ArrayList<>();
+		list.add(javaNode);
+		try {
+			list.addAll(javaNode.getUseIn());
+		} catch (Exception e) {
+			LOG.debug("Failed to collect usage for node: {}", javaNode, e);
 		}
+		return toTopClasses(nodeCache, list);
 	}
 
-	private void refreshTabs(TabbedPane tabbedPane, Set<JClass> updatedClasses) {
-		for (ContentPanel tab : tabbedPane.getTabs()) {
+	private Set<JClass> collectOpenTabs() {
+		Set<JClass> set = new HashSet<>();
+		for (ContentPanel tab : mainWindow.getTabbedPane().getTabs()) {
 			JClass rootClass = tab.getNode().getRootClass();
-			if (updatedClasses.remove(rootClass)) {
-				ClassCodeContentPanel contentPanel = (ClassCodeContentPanel) tab;
-				CodeArea codeArea = (CodeArea) contentPanel.getJavaCodePanel().getCodeArea();
-				codeArea.refreshClass();
+			if (rootClass != null && tab instanceof ClassCodeContentPanel) {
+				set.add(rootClass);
 			}
 		}
+		return set;
+	}
+
+	private static void setPriority(Map<JClass, RefreshClassesTask.Priority> classes,
+			Set<JClass> set, RefreshClassesTask.Priority priority) {
+		for (JClass cls : set) {
+			classes.computeIfPresent(cls, (c, p) -> priority);
+		}
 	}
 }
@@ -73,10 +73,14 @@ public List<Runnable> scheduleJobs() {
 
 	private List<Runnable> getJobs(List<List<JavaClass>> batches) {
 		ICodeCache codeCache = wrapper.getArgs().getCodeCache();
-		List<Runnable> jobs = new ArrayList<>(batches.size());
-		for (List<JavaClass> batch : batches) {
+		PrefetchDecompileQueue queue = new PrefetchDecompileQueue(batches);
+		mainWindow.setDecompileQueue(queue);
+		int batchesCount = batches.size();
+		List<Runnable> jobs = new ArrayList<>(batchesCount);
+		for (int i = 0; i < batchesCount; i++) {
+			// each job takes the batch with the highest priority at execution time
 			jobs.add(() -> {
-				for (JavaClass cls : batch) {
+				for (JavaClass cls : queue.next()) {
 					if (isCanceled()) {
 						return;
 					}
@@ -109,6 +113,7 @@ public void onDone(ITaskInfo taskInfo) {
 					+ ", status: " + taskInfo.getStatus());
 		}
 		result = new ProcessResult(skippedCls, taskInfo.getStatus(), timeLimit);
+		mainWindow.setDecompileQueue(null);
 
 		wrapper.unloadClasses();
 		processDecompilationResults();
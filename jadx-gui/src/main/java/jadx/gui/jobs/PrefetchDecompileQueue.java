@@ -0,0 +1,116 @@
+package jadx.gui.jobs;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import jadx.api.JavaClass;
+import jadx.core.dex.nodes.ClassNode;
+
+/**
+ * Decompilation batches queue ordered by user navigation.
+ * <br>
+ * Batches taken in order:
+ * <ol>
+ * <li>batches with opened class, its dependencies and usages</li>
+ * <li>batches with classes from expanded packages</li>
+ * <li>remaining batches in scheduler order</li>
+ * </ol>
+ * Priorities can be changed at any time, already taken batches are not affected.
+ */
+public class PrefetchDecompileQueue {
+	private final List<List<JavaClass>> batches;
+	private final Map<ClassNode, Integer> batchIdxMap;
+	private final boolean[] taken;
+
+	private final Deque<Integer> openedQueue = new ArrayDeque<>();
+	private final Deque<Integer> expandedQueue = new ArrayDeque<>();
+	private int nextIdx;
+	private int remaining;
+
+	public PrefetchDecompileQueue(List<List<JavaClass>> batches) {
+		this.batches = batches;
+		this.taken = new boolean[batches.size()];
+		this.remaining = batches.size();
+		this.batchIdxMap = new HashMap<>();
+		int idx = 0;
+		for (List<JavaClass> batch : batches) {
+			for (JavaClass cls : batch) {
+				batchIdxMap.put(cls.getClassNode(), idx);
+			}
+			idx++;
+		}
+	}
+
+	/**
+	 * Take next batch with the highest priority.
+	 *
+	 * @return empty list if all batches already taken
+	 */
+	public synchronized List<JavaClass> next() {
+		if (remaining == 0) {
+			return Collections.emptyList();
+		}
+		int idx = pollQueue(openedQueue);
+		if (idx == -1) {
+			idx = pollQueue(expandedQueue);
+		}
+		if (idx == -1) {
+			while (taken[nextIdx]) {
+				nextIdx++;
+			}
+			idx = nextIdx;
+		}
+		taken[idx] = true;
+		remaining--;
+		return batches.get(idx);
+	}
+
+	/**
+	 * Move opened class with dependencies and usages to the front of the queue.
+	 * Replace previously opened class, so only current user location is prioritized.
+	 */
+	public synchronized void prioritizeOpened(JavaClass cls) {
+		openedQueue.clear();
+		ClassNode topCls = cls.getClassNode().getTopParentClass();
+		add(openedQueue, topCls);
+		for (ClassNode dep : topCls.getDependencies()) {
+			add(openedQueue, dep.getTopParentClass());
+		}
+		for (ClassNode useCls : topCls.getUseIn()) {
+			add(openedQueue, useCls.getTopParentClass());
+		}
+	}
+
+	/**
+	 * Process classes from expanded package after opened class
+	 */
+	public synchronized void prioritizeExpanded(Collection<JavaClass> classes) {
+		for (JavaClass cls : classes) {
+			add(expandedQueue, cls.getClassNode().getTopParentClass());
+		}
+	}
+
+	private void add(Deque<Integer> queue, ClassNode cls) {
+		Integer idx = batchIdxMap.get(cls);
+		if (idx != null && !taken[idx]) {
+			queue.add(idx);
+		}
+	}
+
+	private int pollQueue(Deque<Integer> queue) {
+		while (true) {
+			Integer idx = queue.poll();
+			if (idx == null) {
+				return -1;
+			}
+			if (!taken[idx]) {
+				return idx;
+			}
+		}
+	}
+}
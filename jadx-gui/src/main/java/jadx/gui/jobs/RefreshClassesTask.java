@@ -0,0 +1,190 @@
+package jadx.gui.jobs;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import jadx.api.ICodeCache;
+import jadx.api.utils.tasks.ITaskExecutor;
+import jadx.core.utils.tasks.TaskExecutor;
+import jadx.gui.treemodel.JClass;
+import jadx.gui.ui.MainWindow;
+import jadx.gui.ui.codearea.ClassCodeContentPanel;
+import jadx.gui.ui.codearea.CodeArea;
+import jadx.gui.ui.panel.ContentPanel;
+import jadx.gui.utils.CacheObject;
+import jadx.gui.utils.UiUtils;
+
+/**
+ * Refresh code of classes affected by user rename.
+ * All classes invalidated first without cancel check (so cancel at any moment leave consistent state),
+ * after that code regenerated in priority order to update code cache and search strings.
+ * <br>
+ * Not processed classes from previous (superseded) task are merged into this task before scheduling.
+ */
+public class RefreshClassesTask extends CancelableBackgroundTask {
+	private static final Logger LOG = LoggerFactory.getLogger(RefreshClassesTask.class);
+
+	public enum Priority {
+		OPEN_TAB,
+		VISIBLE_IN_TREE,
+		DIRECT_USE,
+		OTHER
+	}
+
+	private final MainWindow mainWindow;
+	private final Map<JClass, Priority> pending = new ConcurrentHashMap<>();
+	private final @Nullable Consumer<TaskStatus> onFinish;
+	private @Nullable RefreshClassesTask prevTask;
+
+	public RefreshClassesTask(MainWindow mainWindow, Map<JClass, Priority> classes,
+			@Nullable RefreshClassesTask prevTask, @Nullable Consumer<TaskStatus> onFinish) {
+		this.mainWindow = mainWindow;
+		this.pending.putAll(classes);
+		this.prevTask = prevTask;
+		this.onFinish = onFinish;
+	}
+
+	/**
+	 * Merge not yet processed classes from previous (canceled) task.
+	 * Called on background executor thread, so previous task already finished.
+	 */
+	private void takePending() {
+		RefreshClassesTask task = prevTask;
+		if (task == null) {
+			return;
+		}
+		prevTask = null;
+		mergePriority(pending, task.pending);
+	}
+
+	/**
+	 * For class present in both maps the highest priority is used
+	 */
+	static <T> void mergePriority(Map<T, Priority> target, Map<T, Priority> from) {
+		from.forEach((cls, priority) -> target.merge(cls, priority,
+				(p1, p2) -> p1.compareTo(p2) <= 0 ? p1 : p2));
+	}
+
+	static <T> Map<Priority, List<T>> groupByPriority(Map<T, Priority> classes) {
+		Map<Priority, List<T>> byPriority = new EnumMap<>(Priority.class);
+		for (Priority priority : Priority.values()) {
+			byPriority.put(priority, new ArrayList<>());
+		}
+		classes.forEach((cls, priority) -> byPriority.get(priority).add(cls));
+		return byPriority;
+	}
+
+	@Override
+	public String getTitle() {
+		return "Refreshing";
+	}
+
+	@Override
+	public ITaskExecutor scheduleTasks() {
+		takePending();
+		Map<Priority, List<JClass>> byPriority = groupByPriority(pending);
+		LOG.debug("Classes to refresh: {}", pending.size());
+
+		TaskExecutor executor = new TaskExecutor();
+		executor.addSequentialTask(() -> {
+			mainWindow.getWrapper().reloadCodeData();
+			CacheObject cache = mainWindow.getCacheObject();
+			invalidate(byPriority, cls -> cls.unload(cache));
+		});
+		executor.addSequentialTask(() -> UiUtils.uiRunAndWait(() -> refreshTabs(byPriority.get(Priority.OPEN_TAB))));
+		executor.addParallelTasks(buildDecompileJobs(byPriority.get(Priority.VISIBLE_IN_TREE)));
+		executor.addParallelTasks(buildDecompileJobs(byPriority.get(Priority.DIRECT_USE)));
+		if (mainWindow.getCacheObject().isFullDecompilationFinished()) {
+			// keep code cache complete for search
+			executor.addParallelTasks(buildDecompileJobs(byPriority.get(Priority.OTHER)));
+		} else {
+			// code will be generated on first access
+			byPriority.get(Priority.OTHER).forEach(pending::remove);
+		}
+		return executor;
+	}
+
+	/**
+	 * Unload all classes except opened in tabs (will be reloaded in tabs update).
+	 * Cancel not checked here: not finished invalidation will leave stale code in caches.
+	 */
+	static <T> void invalidate(Map<Priority, List<T>> byPriority, Consumer<T> unload) {
+		byPriority.forEach((priority, list) -> {
+			if (priority == Priority.OPEN_TAB) {
+				return;
+			}
+			for (T cls : list) {
+				try {
+					unload.accept(cls);
+				} catch (Exception e) {
+					LOG.error("Failed to unload class: {}", cls, e);
+				}
+			}
+		});
+	}
+
+	private void refreshTabs(List<JClass> classes) {
+		for (ContentPanel tab : mainWindow.getTabbedPane().getTabs()) {
+			JClass rootClass = tab.getNode().getRootClass();
+			if (rootClass != null && tab instanceof ClassCodeContentPanel && classes.contains(rootClass)) {
+				ClassCodeContentPanel contentPanel = (ClassCodeContentPanel) tab;
+				CodeArea codeArea = (CodeArea) contentPanel.getJavaCodePanel().getCodeArea();
+				codeArea.refreshClass();
+			}
+		}
+		classes.forEach(pending::remove);
+	}
+
+	private List<Runnable> buildDecompileJobs(List<JClass> classes) {
+		if (classes.isEmpty()) {
+			return Collections.emptyList();
+		}
+		ICodeCache codeCache = mainWindow.getWrapper().getArgs().getCodeCache();
+		List<Runnable> jobs = new ArrayList<>(classes.size());
+		for (JClass cls : classes) {
+			jobs.add(() -> {
+				if (isCanceled()) {
+					return;
+				}
+				try {
+					// class can be already loaded by user
+					if (!codeCache.contains(cls.getCls().getRawName())) {
+						cls.getCls().decompile();
+					}
+				} catch (Throwable e) {
+					LOG.error("Failed to refresh class: {}", cls.getFullName(), e);
+				} finally {
+					pending.remove(cls);
+				}
+			});
+		}
+		return jobs;
+	}
+
+	@Override
+	public void onDone(ITaskInfo taskInfo) {
+		LOG.debug("Refresh task complete in {} ms, status: {}, not processed: {}",
+				taskInfo.getTime(), taskInfo.getStatus(), pending.size());
+	}
+
+	@Override
+	public void onFinish(ITaskInfo taskInfo) {
+		if (onFinish != null) {
+			onFinish.accept(taskInfo.getStatus());
+		}
+	}
+
+	@Override
+	public boolean checkMemoryUsage() {
+		return true;
+	}
+}
@@ -13,6 +13,7 @@ public class SearchSettings {
 	private final boolean useRegex;
 	private final boolean ignoreCase;
 
+	private boolean namePrefix;
 	private JClass activeCls;
 	private JResource activeResource;
 	private Pattern regexPattern;
@@ -50,6 +51,17 @@ public boolean isIgnoreCase() {
 		return this.ignoreCase;
 	}
 
+	/**
+	 * Match only start of class, method and field names, allow to use names index instead of full scan
+	 */
+	public boolean isNamePrefix() {
+		return namePrefix;
+	}
+
+	public void setNamePrefix(boolean namePrefix) {
+		this.namePrefix = namePrefix;
+	}
+
 	public String getSearchString() {
 		return this.searchString;
 	}
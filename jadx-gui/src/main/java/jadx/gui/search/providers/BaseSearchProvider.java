@@ -1,12 +1,18 @@
 package jadx.gui.search.providers;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
+import org.jetbrains.annotations.Nullable;
+
 import jadx.api.JadxDecompiler;
 import jadx.api.JavaClass;
 import jadx.api.JavaNode;
+import jadx.core.dex.nodes.ClassNode;
 import jadx.core.dex.nodes.ICodeNode;
+import jadx.core.dex.nodes.utils.NamesIndex;
 import jadx.gui.search.ISearchMethod;
 import jadx.gui.search.ISearchProvider;
 import jadx.gui.search.SearchSettings;
@@ -22,6 +28,14 @@ public abstract class BaseSearchProvider implements ISearchProvider {
 	protected final ISearchMethod searchMth;
 	protected final String searchStr;
 	protected final List<JavaClass> classes;
+	/**
+	 * Search string for names index lookup, {@code null} if prefix search not enabled or not possible (regex search).
+	 * If set, index results used as full search result and classes not scanned.
+	 */
+	protected final @Nullable String namePrefix;
+	protected final boolean ignoreCase;
+
+	private @Nullable Map<ClassNode, JavaClass> classesMap;
 
 	public BaseSearchProvider(MainWindow mw, SearchSettings searchSettings, List<JavaClass> classes) {
 		this.nodeCache = mw.getCacheObject().getNodeCache();
@@ -29,12 +43,37 @@ public BaseSearchProvider(MainWindow mw, SearchSettings searchSettings, List<Jav
 		this.searchMth = searchSettings.getSearchMethod();
 		this.searchStr = searchSettings.getSearchString();
 		this.classes = classes;
+		this.namePrefix = searchSettings.isNamePrefix() && !searchSettings.isUseRegex() && !searchStr.isEmpty()
+				? searchStr
+				: null;
+		this.ignoreCase = searchSettings.isIgnoreCase();
 	}
 
 	protected boolean isMatch(String str) {
 		return searchMth.find(str, searchStr, 0) != -1;
 	}
 
+	protected NamesIndex getNamesIndex() {
+		return decompiler.getRoot().getNamesIndex();
+	}
+
+	/**
+	 * Get java class for class node from searched classes list
+	 *
+	 * @return {@code null} if class not included in search
+	 */
+	protected @Nullable JavaClass getSearchedClass(ClassNode cls) {
+		Map<ClassNode, JavaClass> map = classesMap;
+		if (map == null) {
+			map = new HashMap<>(classes.size());
+			for (JavaClass javaCls : classes) {
+				map.put(javaCls.getClassNode(), javaCls);
+			}
+			classesMap = map;
+		}
+		return map.get(cls);
+	}
+
 	protected JNode convert(JavaNode node) {
 		return nodeCache.makeFrom(node);
 	}
@@ -6,6 +6,7 @@
 
 import jadx.api.JavaClass;
 import jadx.core.dex.info.ClassInfo;
+import jadx.core.dex.nodes.ClassNode;
 import jadx.gui.jobs.Cancelable;
 import jadx.gui.search.SearchSettings;
 import jadx.gui.treemodel.JNode;
@@ -15,12 +16,21 @@ public final class ClassSearchProvider extends BaseSearchProvider {
 
 	private int clsNum = 0;
 
+	/**
+	 * Classes found by name prefix using index, used instead of full scan in prefix search
+	 */
+	private @Nullable List<ClassNode> prefixMatches;
+	private int prefixNum = 0;
+
 	public ClassSearchProvider(MainWindow mw, SearchSettings searchSettings, List<JavaClass> classes) {
 		super(mw, searchSettings, classes);
 	}
 
 	@Override
 	public @Nullable JNode next(Cancelable cancelable) {
+		if (namePrefix != null) {
+			return nextByPrefix(cancelable);
+		}
 		while (true) {
 			if (cancelable.isCanceled() || clsNum >= classes.size()) {
 				return null;
@@ -32,6 +42,29 @@ public ClassSearchProvider(MainWindow mw, SearchSettings searchSettings, List<Ja
 		}
 	}
 
+	private @Nullable JNode nextByPrefix(Cancelable cancelable) {
+		List<ClassNode> matches = getPrefixMatches();
+		while (prefixNum < matches.size()) {
+			if (cancelable.isCanceled()) {
+				return null;
+			}
+			JavaClass javaCls = getSearchedClass(matches.get(prefixNum++));
+			if (javaCls != null) {
+				return convert(javaCls);
+			}
+		}
+		return null;
+	}
+
+	private synchronized List<ClassNode> getPrefixMatches() {
+		List<ClassNode> matches = prefixMatches;
+		if (matches == null) {
+			matches = getNamesIndex().searchClassesByPrefix(namePrefix, ignoreCase);
+			prefixMatches = matches;
+		}
+		return matches;
+	}
+
 	private boolean checkCls(JavaClass cls) {
 		ClassInfo clsInfo = cls.getClassNode().getClassInfo();
 		return isMatch(clsInfo.getShortName())
@@ -42,6 +75,11 @@ private boolean checkCls(JavaClass cls) {
 
 	@Override
 	public int progress() {
-		return clsNum;
+		return namePrefix != null ? prefixNum : clsNum;
+	}
+
+	@Override
+	public int total() {
+		return namePrefix != null ? getPrefixMatches().size() : super.total();
 	}
 }
@@ -1,6 +1,9 @@
 package jadx.gui.search.providers;
 
 import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
 
 import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
@@ -15,27 +18,31 @@
 import jadx.gui.JadxWrapper;
 import jadx.gui.jobs.Cancelable;
 import jadx.gui.search.SearchSettings;
-import jadx.gui.treemodel.CodeNode;
+import jadx.gui.treemodel.CodeSearchNode;
 import jadx.gui.treemodel.JClass;
 import jadx.gui.treemodel.JNode;
 import jadx.gui.ui.MainWindow;
 
-import static jadx.core.utils.Utils.getOrElse;
-
 public final class CodeSearchProvider extends BaseSearchProvider {
 	private static final Logger LOG = LoggerFactory.getLogger(CodeSearchProvider.class);
 
 	private final ICodeCache codeCache;
-	private final JadxWrapper wrapper;
+	private final CodeSearchNode.Resolver resolver;
 
 	private @Nullable String code;
 	private int clsNum = 0;
 	private int pos = 0;
 
-	public CodeSearchProvider(MainWindow mw, SearchSettings searchSettings, List<JavaClass> classes) {
+	/**
+	 * @param resolveExecutor executor for resolve of results data, shouldn't be UI thread
+	 * @param onResolve       called after result node resolved (in executor thread)
+	 */
+	public CodeSearchProvider(MainWindow mw, SearchSettings searchSettings, List<JavaClass> classes,
+			Executor resolveExecutor, Runnable onResolve) {
 		super(mw, searchSettings, classes);
 		this.codeCache = mw.getWrapper().getArgs().getCodeCache();
-		this.wrapper = mw.getWrapper();
+		this.resolver = new NodeResolver(mw.getWrapper(), codeCache, mw.getCacheObject().getNodeCache()::makeFrom,
+				resolveExecutor, onResolve);
 	}
 
 	@Override
@@ -68,31 +75,13 @@ private JNode searchNext(JavaClass javaClass, String clsCode) {
 		if (newPos == -1) {
 			return null;
 		}
-		int lineStart = 1 + CodeUtils.getNewLinePosBefore(clsCode, newPos);
 		int lineEnd = CodeUtils.getNewLinePosAfter(clsCode, newPos);
-		int end = lineEnd == -1 ? clsCode.length() : lineEnd;
-		String line = clsCode.substring(lineStart, end);
-		this.pos = end;
-		JClass rootCls = convert(javaClass);
-		JNode enclosingNode = getOrElse(getEnclosingNode(javaClass, end), rootCls);
-		return new CodeNode(rootCls, enclosingNode, line.trim(), newPos);
+		this.pos = lineEnd == -1 ? clsCode.length() : lineEnd;
+		// enclosing node and line resolved only for shown results
+		return new CodeSearchNode(convert(javaClass), newPos, resolver);
 	}
 
-	private @Nullable JNode getEnclosingNode(JavaClass javaCls, int pos) {
-		try {
-			ICodeMetadata metadata = javaCls.getCodeInfo().getCodeMetadata();
-			ICodeNodeRef nodeRef = metadata.getNodeAt(pos);
-			JavaNode encNode = wrapper.getJavaNodeByRef(nodeRef);
-			if (encNode != null) {
-				return convert(encNode);
-			}
-		} catch (Exception e) {
-			LOG.debug("Failed to resolve enclosing node", e);
-		}
-		return null;
-	}
-
-	private String getClassCode(JavaClass javaClass, ICodeCache codeCache) {
+	private static String getClassCode(JavaClass javaClass, ICodeCache codeCache) {
 		try {
 			// quick check for if code already in cache
 			String code = codeCache.getCode(javaClass.getRawName());
@@ -106,6 +95,65 @@ private String getClassCode(JavaClass javaClass, ICodeCache codeCache) {
 		}
 	}
 
+	private static final class NodeResolver implements CodeSearchNode.Resolver {
+		private final JadxWrapper wrapper;
+		private final ICodeCache codeCache;
+		private final Function<JavaNode, JNode> converter;
+		private final Executor executor;
+		private final Runnable onResolve;
+
+		private NodeResolver(JadxWrapper wrapper, ICodeCache codeCache, Function<JavaNode, JNode> converter,
+				Executor executor, Runnable onResolve) {
+			this.wrapper = wrapper;
+			this.codeCache = codeCache;
+			this.converter = converter;
+			this.executor = executor;
+			this.onResolve = onResolve;
+		}
+
+		@Override
+		public void resolveLater(CodeSearchNode node) {
+			try {
+				executor.execute(() -> {
+					JClass rootCls = node.getRootClass();
+					int pos = node.getPos();
+					String clsCode = getClassCode(rootCls.getCls(), codeCache);
+					node.setResolved(resolveEnclosingNode(rootCls, clsCode, pos), resolveLine(clsCode, pos));
+					onResolve.run();
+				});
+			} catch (RejectedExecutionException e) {
+				// search dialog closed
+			}
+		}
+
+		private JNode resolveEnclosingNode(JClass rootCls, String clsCode, int pos) {
+			try {
+				// use line end to get method for matches in method declaration
+				int lineEnd = CodeUtils.getNewLinePosAfter(clsCode, pos);
+				int end = lineEnd == -1 ? clsCode.length() : lineEnd;
+				ICodeMetadata metadata = rootCls.getCls().getCodeInfo().getCodeMetadata();
+				ICodeNodeRef nodeRef = metadata.getNodeAt(end);
+				JavaNode encNode = wrapper.getJavaNodeByRef(nodeRef);
+				if (encNode != null) {
+					return converter.apply(encNode);
+				}
+			} catch (Exception e) {
+				LOG.debug("Failed to resolve enclosing node", e);
+			}
+			return rootCls;
+		}
+
+		private static String resolveLine(String clsCode, int pos) {
+			if (pos >= clsCode.length()) {
+				return "";
+			}
+			int lineStart = 1 + CodeUtils.getNewLinePosBefore(clsCode, pos);
+			int lineEnd = CodeUtils.getNewLinePosAfter(clsCode, pos);
+			int end = lineEnd == -1 ? clsCode.length() : lineEnd;
+			return clsCode.substring(lineStart, end).trim();
+		}
+	}
+
 	@Override
 	public int progress() {
 		return clsNum;
@@ -17,12 +17,21 @@ public final class FieldSearchProvider extends BaseSearchProvider {
 	private int clsNum = 0;
 	private int fldNum = 0;
 
+	/**
+	 * Fields found by name prefix using index, used instead of full scan in prefix search
+	 */
+	private @Nullable List<FieldNode> prefixMatches;
+	private int prefixNum = 0;
+
 	public FieldSearchProvider(MainWindow mw, SearchSettings searchSettings, List<JavaClass> classes) {
 		super(mw, searchSettings, classes);
 	}
 
 	@Override
 	public @Nullable JNode next(Cancelable cancelable) {
+		if (namePrefix != null) {
+			return nextByPrefix(cancelable);
+		}
 		while (true) {
 			if (cancelable.isCanceled()) {
 				return null;
@@ -44,6 +53,29 @@ public FieldSearchProvider(MainWindow mw, SearchSettings searchSettings, List<Ja
 		}
 	}
 
+	private @Nullable JNode nextByPrefix(Cancelable cancelable) {
+		List<FieldNode> matches = getPrefixMatches();
+		while (prefixNum < matches.size()) {
+			if (cancelable.isCanceled()) {
+				return null;
+			}
+			FieldNode fld = matches.get(prefixNum++);
+			if (getSearchedClass(fld.getParentClass()) != null) {
+				return convert(fld);
+			}
+		}
+		return null;
+	}
+
+	private synchronized List<FieldNode> getPrefixMatches() {
+		List<FieldNode> matches = prefixMatches;
+		if (matches == null) {
+			matches = getNamesIndex().searchFieldsByPrefix(namePrefix, ignoreCase);
+			prefixMatches = matches;
+		}
+		return matches;
+	}
+
 	private boolean checkField(FieldInfo fieldInfo) {
 		return isMatch(fieldInfo.getName())
 				|| isMatch(fieldInfo.getAlias())
@@ -52,6 +84,11 @@ private boolean checkField(FieldInfo fieldInfo) {
 
 	@Override
 	public int progress() {
-		return clsNum;
+		return namePrefix != null ? prefixNum : clsNum;
+	}
+
+	@Override
+	public int total() {
+		return namePrefix != null ? getPrefixMatches().size() : super.total();
 	}
 }
@@ -17,12 +17,21 @@ public final class MethodSearchProvider extends BaseSearchProvider {
 	private int clsNum = 0;
 	private int mthNum = 0;
 
+	/**
+	 * Methods found by name prefix using index, used instead of full scan in prefix search
+	 */
+	private @Nullable List<MethodNode> prefixMatches;
+	private int prefixNum = 0;
+
 	public MethodSearchProvider(MainWindow mw, SearchSettings searchSettings, List<JavaClass> classes) {
 		super(mw, searchSettings, classes);
 	}
 
 	@Override
 	public @Nullable JNode next(Cancelable cancelable) {
+		if (namePrefix != null) {
+			return nextByPrefix(cancelable);
+		}
 		while (true) {
 			if (cancelable.isCanceled()) {
 				return null;
@@ -44,6 +53,29 @@ public MethodSearchProvider(MainWindow mw, SearchSettings searchSettings, List<J
 		}
 	}
 
+	private @Nullable JNode nextByPrefix(Cancelable cancelable) {
+		List<MethodNode> matches = getPrefixMatches();
+		while (prefixNum < matches.size()) {
+			if (cancelable.isCanceled()) {
+				return null;
+			}
+			MethodNode mth = matches.get(prefixNum++);
+			if (getSearchedClass(mth.getParentClass()) != null) {
+				return convert(mth);
+			}
+		}
+		return null;
+	}
+
+	private synchronized List<MethodNode> getPrefixMatches() {
+		List<MethodNode> matches = prefixMatches;
+		if (matches == null) {
+			matches = getNamesIndex().searchMethodsByPrefix(namePrefix, ignoreCase);
+			prefixMatches = matches;
+		}
+		return matches;
+	}
+
 	private boolean checkMth(MethodInfo mthInfo) {
 		return isMatch(mthInfo.getShortId())
 				|| isMatch(mthInfo.getAlias())
@@ -53,6 +85,11 @@ private boolean checkMth(MethodInfo mthInfo) {
 
 	@Override
 	public int progress() {
-		return clsNum;
+		return namePrefix != null ? prefixNum : clsNum;
+	}
+
+	@Override
+	public int total() {
+		return namePrefix != null ? getPrefixMatches().size() : super.total();
 	}
 }
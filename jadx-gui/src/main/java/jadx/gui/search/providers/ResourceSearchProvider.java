@@ -17,6 +17,7 @@
 import jadx.api.ResourceType;
 import jadx.api.plugins.utils.CommonFileUtils;
 import jadx.api.utils.CodeUtils;
+import jadx.gui.cache.resources.ResourcesTextCache;
 import jadx.gui.jobs.Cancelable;
 import jadx.gui.search.ISearchProvider;
 import jadx.gui.search.SearchSettings;
@@ -37,6 +38,15 @@ public class ResourceSearchProvider implements ISearchProvider {
 	private final int sizeLimit;
 	private boolean anyExt;
 
+	/**
+	 * Decoded resources cache with index, {@code null} if not available
+	 */
+	private final @Nullable ResourcesTextCache textCache;
+	/**
+	 * String for index check, {@code null} if index can't be used (regex search)
+	 */
+	private final @Nullable String indexQuery;
+
 	/**
 	 * Resources queue for process. Using UI nodes to reuse loading cache
 	 */
@@ -51,6 +61,8 @@ public ResourceSearchProvider(MainWindow mw, SearchSettings searchSettings, Sear
 		this.sizeLimit = mw.getSettings().getSrhResourceSkipSize() * 1048576;
 		this.extSet = buildAllowedFilesExtensions(mw.getSettings().getSrhResourceFileExt());
 		this.searchDialog = searchDialog;
+		this.textCache = mw.getCacheObject().getResourcesTextCache();
+		this.indexQuery = searchSettings.isUseRegex() ? null : searchSettings.getSearchString();
 		JResource activeResource = searchSettings.getActiveResource();
 		if (activeResource != null) {
 			this.resQueue = new ArrayDeque<>(Collections.singleton(activeResource));
@@ -85,7 +97,7 @@ public ResourceSearchProvider(MainWindow mw, SearchSettings searchSettings, Sear
 	private JNode search(JResource resNode) {
 		String content;
 		try {
-			content = resNode.getCodeInfo().getCodeStr();
+			content = getContent(resNode);
 		} catch (Exception e) {
 			LOG.error("Failed to load resource node content", e);
 			return null;
@@ -103,6 +115,13 @@ private JNode search(JResource resNode) {
 		return new JResSearchNode(resNode, line.trim(), newPos);
 	}
 
+	private String getContent(JResource resNode) {
+		if (textCache == null || isResTable(resNode)) {
+			return resNode.getCodeInfo().getCodeStr();
+		}
+		return textCache.getText(resNode.getName(), () -> resNode.loadCodeInfo().getCodeStr());
+	}
+
 	private @Nullable JResource getNextResFile(Cancelable cancelable) {
 		while (true) {
 			JResource node = resQueue.peekLast();
@@ -110,7 +129,7 @@ private JNode search(JResource resNode) {
 				return null;
 			}
 			if (node.getType() == JResource.JResType.FILE) {
-				if (shouldProcess(node) && loadResNode(node)) {
+				if (shouldProcess(node) && !skipByIndex(node) && loadResFile(node)) {
 					return node;
 				}
 				resQueue.removeLast();
@@ -137,6 +156,29 @@ private void updateProgressInfo() {
 		searchDialog.updateProgressLabel(sb.toString());
 	}
 
+	/**
+	 * Skip already indexed resource if it can't contain search string
+	 */
+	private boolean skipByIndex(JResource node) {
+		if (textCache == null || indexQuery == null || isResTable(node)) {
+			return false;
+		}
+		return !textCache.mayContain(node.getName(), indexQuery);
+	}
+
+	private boolean loadResFile(JResource node) {
+		if (textCache != null && !isResTable(node)) {
+			// content will be loaded through cache
+			return true;
+		}
+		return loadResNode(node);
+	}
+
+	private static boolean isResTable(JResource node) {
+		ResourceFile resFile = node.getResFile();
+		return resFile != null && resFile.getType() == ResourceType.ARSC;
+	}
+
 	private boolean loadResNode(JResource node) {
 		try {
 			node.loadNode();
@@ -184,7 +226,7 @@ private Set<String> buildAllowedFilesExtensions(String srhResourceFileExt) {
 
 	private boolean shouldProcess(JResource resNode) {
 		ResourceFile resFile = resNode.getResFile();
-		if (resFile.getType() == ResourceType.ARSC) {
+		if (isResTable(resNode)) {
 			// don't check size of generated resource table, it will also skip all sub files
 			return anyExt || extSet.contains("xml");
 		}
@@ -197,11 +239,12 @@ private boolean shouldProcess(JResource resNode) {
 				return false;
 			}
 		}
-		if (sizeLimit <= 0) {
+		if (sizeLimit <= 0 || textCache != null && textCache.isDiskBacked()) {
+			// text saved on disk and only softly kept in memory, so big resources don't need to be skipped
 			return true;
 		}
 		try {
-			int charsCount = resNode.getCodeInfo().getCodeStr().length();
+			int charsCount = getContent(resNode).length();
 			long size = charsCount * 8L;
 			if (size > sizeLimit) {
 				LOG.info("Resource search skipped because of size limit. Resource '{}' size {} bytes, limit: {}",
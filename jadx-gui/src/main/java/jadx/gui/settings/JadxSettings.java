@@ -58,7 +58,8 @@ public class JadxSettings extends JadxCLIArgs {
 	private static final Font DEFAULT_FONT = new RSyntaxTextArea().getFont();
 
 	static final Set<String> SKIP_FIELDS = new HashSet<>(Arrays.asList(
-			"files", "input", "outDir", "outDirSrc", "outDirRes", "outputFormat",
+			"files", "input", "outDir", "outDirSrc", "outDirRes", "outputFormat", "jsonCompact", "codeCacheDir",
+			"libSignatures", "saveLibSignatures", "metricsFile",
 			"deobfuscationMapFile",
 			"verbose", "quiet", "logLevel",
 			"printVersion", "printHelp"));
@@ -0,0 +1,157 @@
+package jadx.gui.treemodel;
+
+import java.lang.ref.SoftReference;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.swing.Icon;
+
+import jadx.api.JavaNode;
+import jadx.gui.utils.NLS;
+
+/**
+ * Compact code search result: only class and match position are stored.
+ * Enclosing node and code line resolved in background on first request (i.e. on results table row render),
+ * so big results lists don't hold code lines and UI thread not blocked by code loading.
+ * Until resolve finished class node and placeholder line are shown.
+ */
+public class CodeSearchNode extends JNode {
+	private static final long serialVersionUID = -2427612479251296231L;
+
+	public interface Resolver {
+		/**
+		 * Resolve enclosing node and code line in background thread,
+		 * results should be applied by {@link CodeSearchNode#setResolved(JNode, String)}
+		 */
+		void resolveLater(CodeSearchNode node);
+	}
+
+	private final transient JClass rootCls;
+	private final transient int pos;
+	private final transient Resolver resolver;
+	private final transient AtomicBoolean resolving = new AtomicBoolean(false);
+
+	private transient volatile JNode enclosingNode;
+	private transient volatile SoftReference<String> lineRef;
+
+	public CodeSearchNode(JClass rootCls, int pos, Resolver resolver) {
+		this.rootCls = rootCls;
+		this.pos = pos;
+		this.resolver = resolver;
+	}
+
+	public void setResolved(JNode enclosingNode, String line) {
+		this.enclosingNode = enclosingNode;
+		this.lineRef = new SoftReference<>(line);
+		resolving.set(false);
+	}
+
+	private void requestResolve() {
+		if (resolving.compareAndSet(false, true)) {
+			resolver.resolveLater(this);
+		}
+	}
+
+	private JNode getEnclosingNode() {
+		JNode node = enclosingNode;
+		if (node == null) {
+			requestResolve();
+			return rootCls;
+		}
+		return node;
+	}
+
+	private String getLine() {
+		SoftReference<String> ref = lineRef;
+		if (ref != null) {
+			String line = ref.get();
+			if (line != null) {
+				return line;
+			}
+		}
+		requestResolve();
+		return NLS.str("progress.load") + "...";
+	}
+
+	@Override
+	public Icon getIcon() {
+		return getEnclosingNode().getIcon();
+	}
+
+	@Override
+	public JavaNode getJavaNode() {
+		return getEnclosingNode().getJavaNode();
+	}
+
+	@Override
+	public JClass getJParent() {
+		return getRootClass();
+	}
+
+	@Override
+	public JClass getRootClass() {
+		return rootCls;
+	}
+
+	@Override
+	public String makeDescString() {
+		return getLine();
+	}
+
+	@Override
+	public boolean hasDescString() {
+		return true;
+	}
+
+	@Override
+	public String makeString() {
+		return getEnclosingNode().makeString();
+	}
+
+	@Override
+	public String makeStringHtml() {
+		return getEnclosingNode().makeStringHtml();
+	}
+
+	@Override
+	public String makeLongString() {
+		return getEnclosingNode().makeLongString();
+	}
+
+	@Override
+	public String makeLongStringHtml() {
+		return getEnclosingNode().makeLongStringHtml();
+	}
+
+	@Override
+	public boolean disableHtml() {
+		return getEnclosingNode().disableHtml();
+	}
+
+	@Override
+	public String getSyntaxName() {
+		return rootCls.getSyntaxName();
+	}
+
+	@Override
+	public int getPos() {
+		return pos;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (!(o instanceof CodeSearchNode)) {
+			return false;
+		}
+		CodeSearchNode other = (CodeSearchNode) o;
+		return pos == other.pos && rootCls.equals(other.rootCls);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(rootCls, pos);
+	}
+}
@@ -151,6 +151,17 @@ public synchronized ICodeInfo getCodeInfo() {
 		return codeInfo;
 	}
 
+	/**
+	 * Load content without saving it in this node.
+	 * Resource table content always saved because sub nodes built from it.
+	 */
+	public synchronized ICodeInfo loadCodeInfo() {
+		if (loaded || (resFile != null && resFile.getType() == ResourceType.ARSC)) {
+			return getCodeInfo();
+		}
+		return loadContent();
+	}
+
 	private ICodeInfo loadContent() {
 		if (resFile == null || type != JResType.FILE) {
 			return ICodeInfo.EMPTY;
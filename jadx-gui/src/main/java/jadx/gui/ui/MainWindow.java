@@ -30,8 +30,13 @@
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.EnumSet;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 import java.util.Timer;
 import java.util.TimerTask;
 import java.util.concurrent.atomic.AtomicReference;
@@ -103,6 +108,8 @@
 import jadx.gui.jobs.BackgroundExecutor;
 import jadx.gui.jobs.DecompileTask;
 import jadx.gui.jobs.ExportTask;
+import jadx.gui.jobs.PrefetchDecompileQueue;
+import jadx.gui.jobs.RefreshClassesTask;
 import jadx.gui.jobs.TaskStatus;
 import jadx.gui.logs.LogCollector;
 import jadx.gui.logs.LogOptions;
@@ -124,11 +131,13 @@
 import jadx.gui.ui.action.JadxGuiAction;
 import jadx.gui.ui.codearea.AbstractCodeArea;
 import jadx.gui.ui.codearea.AbstractCodeContentPanel;
+import jadx.gui.ui.codearea.ClassCodeContentPanel;
 import jadx.gui.ui.codearea.EditorTheme;
 import jadx.gui.ui.codearea.EditorViewState;
 import jadx.gui.ui.dialog.ADBDialog;
 import jadx.gui.ui.dialog.AboutDialog;
 import jadx.gui.ui.dialog.LogViewerDialog;
+import jadx.gui.ui.dialog.MetricsDialog;
 import jadx.gui.ui.dialog.SearchDialog;
 import jadx.gui.ui.filedialog.FileDialogWrapper;
 import jadx.gui.ui.filedialog.FileOpenMode;
@@ -150,6 +159,7 @@
 import jadx.gui.utils.CacheObject;
 import jadx.gui.utils.FontUtils;
 import jadx.gui.utils.ILoadListener;
+import jadx.gui.utils.JNodeCache;
 import jadx.gui.utils.LafManager;
 import jadx.gui.utils.Link;
 import jadx.gui.utils.NLS;
@@ -212,6 +222,7 @@ public class MainWindow extends JFrame {
 	private TabbedPane tabbedPane;
 	private HeapUsageBar heapUsageBar;
 	private transient boolean treeReloading;
+	private transient volatile @Nullable PrefetchDecompileQueue decompileQueue;
 
 	private boolean isFlattenPackage;
 	private JToggleButton flatPkgButton;
@@ -492,6 +503,49 @@ public void reopen() {
 		}
 	}
 
+	/**
+	 * Apply changes from updated input files.
+	 * Only changed classes and its users are reloaded, full reopen used if changes can't be applied.
+	 */
+	public void reloadChanged() {
+		if (!wrapper.getCurrentDecompiler().isPresent()) {
+			reopen();
+			return;
+		}
+		AtomicReference<List<JavaClass>> result = new AtomicReference<>();
+		backgroundExecutor.execute(NLS.str("progress.load"),
+				() -> result.set(wrapper.reloadChangedClasses()),
+				status -> {
+					List<JavaClass> updated = result.get();
+					if (status != TaskStatus.COMPLETE || updated == null) {
+						LOG.debug("Incremental reload not possible, reopen project");
+						reopen();
+						return;
+					}
+					if (!updated.isEmpty()) {
+						refreshUpdatedClasses(updated);
+					}
+				});
+	}
+
+	private void refreshUpdatedClasses(List<JavaClass> updated) {
+		JNodeCache nodeCache = cacheObject.getNodeCache();
+		Map<JClass, RefreshClassesTask.Priority> classes = new HashMap<>();
+		for (JavaClass cls : updated) {
+			classes.put(nodeCache.makeFrom(cls), RefreshClassesTask.Priority.DIRECT_USE);
+		}
+		for (JClass cls : getVisibleTreeClasses()) {
+			classes.computeIfPresent(cls, (c, p) -> RefreshClassesTask.Priority.VISIBLE_IN_TREE);
+		}
+		for (ContentPanel tab : tabbedPane.getTabs()) {
+			JClass rootClass = tab.getNode().getRootClass();
+			if (rootClass != null && tab instanceof ClassCodeContentPanel) {
+				classes.computeIfPresent(rootClass, (c, p) -> RefreshClassesTask.Priority.OPEN_TAB);
+			}
+		}
+		backgroundExecutor.execute(new RefreshClassesTask(this, classes, null, null));
+	}
+
 	private void openProject(Path path, Runnable onFinish) {
 		LOG.debug("Loading project: {}", path);
 		JadxProject jadxProject = JadxProject.load(this, path);
@@ -721,6 +775,57 @@ public void requestFullDecompilation() {
 		backgroundExecutor.execute(new DecompileTask(this));
 	}
 
+	/**
+	 * Set queue of running full decompilation to reorder it by user navigation.
+	 * Opened tab and expanded packages added at start.
+	 */
+	public void setDecompileQueue(@Nullable PrefetchDecompileQueue queue) {
+		this.decompileQueue = queue;
+		if (queue != null) {
+			UiUtils.uiRun(() -> {
+				prefetchExpandedPackages(queue);
+				prefetchSelectedTab();
+			});
+		}
+	}
+
+	private void prefetchSelectedTab() {
+		PrefetchDecompileQueue queue = decompileQueue;
+		if (queue == null) {
+			return;
+		}
+		ContentPanel panel = tabbedPane.getSelectedContentPanel();
+		if (panel != null) {
+			JClass jCls = panel.getNode().getRootClass();
+			if (jCls != null) {
+				queue.prioritizeOpened(jCls.getCls());
+			}
+		}
+	}
+
+	private void prefetchPackage(JPackage pkg) {
+		PrefetchDecompileQueue queue = decompileQueue;
+		if (queue != null) {
+			queue.prioritizeExpanded(ListUtils.map(pkg.getClasses(), JClass::getCls));
+		}
+	}
+
+	private void prefetchExpandedPackages(PrefetchDecompileQueue queue) {
+		if (treeRoot == null) {
+			return;
+		}
+		Enumeration<TreePath> expanded = tree.getExpandedDescendants(new TreePath(treeRoot.getPath()));
+		if (expanded == null) {
+			return;
+		}
+		while (expanded.hasMoreElements()) {
+			Object node = expanded.nextElement().getLastPathComponent();
+			if (node instanceof JPackage) {
+				queue.prioritizeExpanded(ListUtils.map(((JPackage) node).getClasses(), JClass::getCls));
+			}
+		}
+	}
+
 	public void resetCodeCache() {
 		backgroundExecutor.execute(
 				NLS.str("preferences.cache.task.delete"),
@@ -910,6 +1015,30 @@ private JNode getJNodeUnderMouse(MouseEvent mouseEvent) {
 		return null;
 	}
 
+	/**
+	 * Collect root classes for nodes currently visible in classes tree.
+	 * Should be called from UI thread.
+	 */
+	public Set<JClass> getVisibleTreeClasses() {
+		Rectangle visibleRect = tree.getVisibleRect();
+		int first = tree.getClosestRowForLocation(visibleRect.x, visibleRect.y);
+		int last = tree.getClosestRowForLocation(visibleRect.x, visibleRect.y + visibleRect.height);
+		if (first == -1 || last == -1) {
+			return Collections.emptySet();
+		}
+		Set<JClass> set = new HashSet<>();
+		for (int row = first; row <= last; row++) {
+			TreePath path = tree.getPathForRow(row);
+			if (path != null && path.getLastPathComponent() instanceof JNode) {
+				JClass rootClass = ((JNode) path.getLastPathComponent()).getRootClass();
+				if (rootClass != null) {
+					set.add(rootClass);
+				}
+			}
+		}
+		return set;
+	}
+
 	public void syncWithEditor() {
 		ContentPanel selectedContentPanel = tabbedPane.getSelectedContentPanel();
 		if (selectedContentPanel == null) {
@@ -1057,6 +1186,8 @@ private void initMenuAndToolbar() {
 		JadxGuiAction forwardVariantAction = new JadxGuiAction(ActionModel.FORWARD_V, tabbedPane::navForward);
 		JadxGuiAction quarkAction = new JadxGuiAction(ActionModel.QUARK,
 				() -> new QuarkDialog(MainWindow.this).setVisible(true));
+		JadxGuiAction showMetricsAction = new JadxGuiAction(ActionModel.SHOW_METRICS,
+				() -> new MetricsDialog(MainWindow.this).setVisible(true));
 		JadxGuiAction openDeviceAction = new JadxGuiAction(ActionModel.OPEN_DEVICE,
 				() -> new ADBDialog(MainWindow.this).setVisible(true));
 
@@ -1112,6 +1243,7 @@ private void initMenuAndToolbar() {
 		tools.add(deobfMenuItem);
 		tools.add(quarkAction);
 		tools.add(openDeviceAction);
+		tools.add(showMetricsAction);
 
 		JMenu help = new JadxMenu(NLS.str("menu.help"), shortcutsController);
 		help.setMnemonic(KeyEvent.VK_H);
@@ -1202,6 +1334,7 @@ public void actionPerformed(ActionEvent e) {
 			decompileAllAction.setEnabled(loaded);
 			deobfAction.setEnabled(loaded);
 			quarkAction.setEnabled(loaded);
+			showMetricsAction.setEnabled(loaded);
 			resetCacheAction.setEnabled(loaded);
 			return false;
 		});
@@ -1277,6 +1410,9 @@ public void treeWillExpand(TreeExpansionEvent event) {
 				if (node instanceof JLoadableNode) {
 					((JLoadableNode) node).loadNode();
 				}
+				if (node instanceof JPackage) {
+					prefetchPackage((JPackage) node);
+				}
 				if (!treeReloading) {
 					project.addTreeExpansion(getPathExpansion(event.getPath()));
 					update();
@@ -1309,6 +1445,7 @@ public void treeWillCollapse(TreeExpansionEvent event) {
 
 		tabbedPane = new TabbedPane(this);
 		tabbedPane.setMinimumSize(new Dimension(150, 150));
+		tabbedPane.addChangeListener(e -> prefetchSelectedTab());
 		new TabDndController(tabbedPane, settings);
 
 		rightSplitPane = new JSplitPane(JSplitPane.VERTICAL_SPLIT);
@@ -71,6 +71,8 @@ public enum ActionModel {
 			Shortcut.none()),
 	QUARK(MENU_TOOLBAR, "menu.quark", "menu.quark", "ui/quark",
 			Shortcut.none()),
+	SHOW_METRICS(MENU_TOOLBAR, "menu.metrics", "menu.metrics", null,
+			Shortcut.none()),
 	OPEN_DEVICE(MENU_TOOLBAR, "debugger.process_selector", "debugger.process_selector", "ui/startDebugger",
 			Shortcut.none()),
 
@@ -0,0 +1,29 @@
+package jadx.gui.ui.codearea;
+
+public class ArrayByteSource implements HexByteSource {
+	private final byte[] bytes;
+
+	public ArrayByteSource(byte[] bytes) {
+		this.bytes = bytes;
+	}
+
+	@Override
+	public long size() {
+		return bytes.length;
+	}
+
+	@Override
+	public int read(long pos, byte[] buf, int off, int len) {
+		if (pos >= bytes.length) {
+			return 0;
+		}
+		int count = (int) Math.min(len, bytes.length - pos);
+		System.arraycopy(bytes, (int) pos, buf, off, count);
+		return count;
+	}
+
+	@Override
+	public byte get(long pos) {
+		return bytes[(int) pos];
+	}
+}
@@ -7,15 +7,25 @@
 import javax.swing.JTabbedPane;
 import javax.swing.border.EmptyBorder;
 
+import org.jetbrains.annotations.Nullable;
+
+import jadx.api.ResourceFile;
 import jadx.gui.settings.JadxSettings;
 import jadx.gui.settings.LineNumbersMode;
 import jadx.gui.treemodel.JNode;
+import jadx.gui.treemodel.JResource;
 import jadx.gui.ui.tab.TabbedPane;
 
 public class BinaryContentPanel extends AbstractCodeContentPanel {
+	/**
+	 * Resources bigger than this size shown only in virtualized hex viewer
+	 */
+	private static final long LARGE_DATA_SIZE = 4 * 1024 * 1024;
+
 	private final transient CodePanel textCodePanel;
 	private final transient CodePanel hexCodePanel;
 	private final transient HexConfigurationPanel hexConfigurationPanel;
+	private final transient @Nullable HexViewerPanel hexViewerPanel;
 	private final transient JTabbedPane areaTabbedPane;
 
 	public BinaryContentPanel(TabbedPane panel, JNode jnode) {
@@ -26,7 +36,8 @@ public BinaryContentPanel(TabbedPane panel, JNode jnode, boolean supportsText) {
 		super(panel, jnode);
 		setLayout(new BorderLayout());
 		setBorder(new EmptyBorder(0, 0, 0, 0));
-		if (supportsText) {
+		boolean largeData = isLargeData(jnode);
+		if (supportsText && !largeData) {
 			textCodePanel = new CodePanel(new CodeArea(this, jnode));
 		} else {
 			textCodePanel = null;
@@ -35,14 +46,28 @@ public BinaryContentPanel(TabbedPane panel, JNode jnode, boolean supportsText) {
 		hexConfigurationPanel = new HexConfigurationPanel(hexArea.getConfiguration());
 		hexArea.setConfigurationPanel(hexConfigurationPanel);
 		hexCodePanel = new CodePanel(hexArea);
+		if (largeData) {
+			hexViewerPanel = new HexViewerPanel(panel.getMainWindow(), hexArea.getConfiguration(), hexConfigurationPanel);
+		} else {
+			hexViewerPanel = null;
+		}
 		areaTabbedPane = buildTabbedPane();
 		add(areaTabbedPane);
 
-		getSelectedPanel().load();
+		loadSelectedPanel();
+	}
+
+	private static boolean isLargeData(JNode jnode) {
+		if (jnode instanceof JResource) {
+			ResourceFile resFile = ((JResource) jnode).getResFile();
+			return resFile != null && HexByteSource.getResourceSize(resFile) > LARGE_DATA_SIZE;
+		}
+		return false;
 	}
 
 	private JTabbedPane buildTabbedPane() {
-		JSplitPane hexSplitPanel = new JSplitPane(JSplitPane.HORIZONTAL_SPLIT, hexCodePanel, hexConfigurationPanel);
+		Component hexPanel = hexViewerPanel != null ? hexViewerPanel : hexCodePanel;
+		JSplitPane hexSplitPanel = new JSplitPane(JSplitPane.HORIZONTAL_SPLIT, hexPanel, hexConfigurationPanel);
 		hexSplitPanel.setResizeWeight(0.8);
 
 		JTabbedPane tabbedPane = new JTabbedPane(JTabbedPane.BOTTOM);
@@ -52,9 +77,7 @@ private JTabbedPane buildTabbedPane() {
 			tabbedPane.add(textCodePanel, "Text");
 		}
 		tabbedPane.add(hexSplitPanel, "Hex");
-		tabbedPane.addChangeListener(e -> {
-			getSelectedPanel().load();
-		});
+		tabbedPane.addChangeListener(e -> loadSelectedPanel());
 		return tabbedPane;
 	}
 
@@ -73,9 +96,28 @@ public void loadSettings() {
 			textCodePanel.loadSettings();
 		}
 		hexCodePanel.loadSettings();
+		if (hexViewerPanel != null) {
+			hexViewerPanel.loadSettings();
+		}
 		updateUI();
 	}
 
+	@Override
+	public void dispose() {
+		if (hexViewerPanel != null) {
+			hexViewerPanel.dispose();
+		}
+		super.dispose();
+	}
+
+	private void loadSelectedPanel() {
+		if (hexViewerPanel != null && areaTabbedPane.getSelectedComponent() instanceof JSplitPane) {
+			hexViewerPanel.load(((JResource) getNode()).getResFile());
+			return;
+		}
+		getSelectedPanel().load();
+	}
+
 	@Override
 	public JadxSettings getSettings() {
 		JadxSettings settings = super.getSettings();
@@ -0,0 +1,73 @@
+package jadx.gui.ui.codearea;
+
+import java.io.Closeable;
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+import jadx.api.ResourceFile;
+import jadx.api.ResourcesLoader;
+import jadx.core.utils.exceptions.JadxException;
+import jadx.core.utils.files.FileUtils;
+
+/**
+ * Random access to binary data shown in hex views
+ */
+public interface HexByteSource extends Closeable {
+
+	long size();
+
+	/**
+	 * Read up to {@code len} bytes starting from {@code pos}
+	 *
+	 * @return count of read bytes, can be less than {@code len} only at end of data
+	 */
+	int read(long pos, byte[] buf, int off, int len);
+
+	default byte get(long pos) {
+		byte[] buf = new byte[1];
+		read(pos, buf, 0, 1);
+		return buf[0];
+	}
+
+	@Override
+	default void close() {
+	}
+
+	/**
+	 * Get size of resource data without loading it
+	 *
+	 * @return size in bytes or -1 if unknown
+	 */
+	static long getResourceSize(ResourceFile resFile) {
+		if (resFile.getZipRef() == null) {
+			return new File(resFile.getOriginalName()).length();
+		}
+		try {
+			Long size = ResourcesLoader.decodeStream(resFile, (dataSize, is) -> dataSize);
+			return size == null ? -1 : size;
+		} catch (JadxException e) {
+			return -1;
+		}
+	}
+
+	/**
+	 * Open resource data without loading into memory:
+	 * files are memory-mapped, zip entries unpacked into temp file and mapped.
+	 * Temp file removed on source close.
+	 */
+	static HexByteSource openResource(ResourceFile resFile) throws Exception {
+		if (resFile.getZipRef() == null) {
+			return new MappedFileByteSource(new File(resFile.getOriginalName()).toPath());
+		}
+		Path tmpFile = FileUtils.createTempFile(".bin");
+		try {
+			ResourcesLoader.decodeStream(resFile, (size, is) -> Files.copy(is, tmpFile, StandardCopyOption.REPLACE_EXISTING));
+			return new MappedFileByteSource(tmpFile, true);
+		} catch (Exception e) {
+			Files.deleteIfExists(tmpFile);
+			throw e;
+		}
+	}
+}
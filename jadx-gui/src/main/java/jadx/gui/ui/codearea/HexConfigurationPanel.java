@@ -21,8 +21,8 @@ public class HexConfigurationPanel extends JPanel {
 
 	private final HexAreaConfiguration config;
 
-	private byte[] bytes = null;
-	private Integer offset = null;
+	private HexByteSource source = null;
+	private long offset = -1;
 
 	private int row = 0;
 
@@ -60,17 +60,21 @@ public HexConfigurationPanel(HexAreaConfiguration configuration) {
 		add(new JLabel(" "), constraints);
 	}
 
-	public void setOffset(int offset) {
+	public void setOffset(long offset) {
 		this.offset = offset;
 		reloadOffset();
 	}
 
 	public void setBytes(byte[] bytes) {
-		this.bytes = bytes;
+		setSource(new ArrayByteSource(bytes));
+	}
+
+	public void setSource(HexByteSource source) {
+		this.source = source;
 	}
 
 	private void reloadOffset() {
-		if (bytes == null || offset == null) {
+		if (source == null || offset == -1) {
 			return;
 		}
 
@@ -109,11 +113,11 @@ private void addValueFormat(String name, int dataSize, Function<ByteBuffer, Stri
 		add(textField, constraints);
 	}
 
-	private boolean canDisplay(int offset, int size) {
-		return offset + size <= bytes.length;
+	private boolean canDisplay(long offset, int size) {
+		return offset + size <= source.size();
 	}
 
-	private ByteBuffer decodeByteArray(int offset, int size) {
+	private ByteBuffer decodeByteArray(long offset, int size) {
 		byte[] chunk = sliceBytes(offset, size);
 		if (config.littleEndian) {
 			ArrayUtils.reverse(chunk);
@@ -121,9 +125,9 @@ private ByteBuffer decodeByteArray(int offset, int size) {
 		return ByteBuffer.wrap(chunk);
 	}
 
-	private byte[] sliceBytes(int offset, int size) {
+	private byte[] sliceBytes(long offset, int size) {
 		byte[] slice = new byte[size];
-		System.arraycopy(bytes, offset, slice, 0, size);
+		source.read(offset, slice, 0, size);
 		return slice;
 	}
 
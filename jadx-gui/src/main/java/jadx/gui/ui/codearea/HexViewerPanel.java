@@ -0,0 +1,552 @@
+package jadx.gui.ui.codearea;
+
+import java.awt.BorderLayout;
+import java.awt.Color;
+import java.awt.FlowLayout;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics;
+import java.awt.event.ComponentAdapter;
+import java.awt.event.ComponentEvent;
+import java.awt.event.FocusAdapter;
+import java.awt.event.FocusEvent;
+import java.awt.event.KeyAdapter;
+import java.awt.event.KeyEvent;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.awt.event.MouseWheelEvent;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.swing.JButton;
+import javax.swing.JCheckBox;
+import javax.swing.JComponent;
+import javax.swing.JLabel;
+import javax.swing.JPanel;
+import javax.swing.JScrollBar;
+import javax.swing.JTextField;
+import javax.swing.border.EmptyBorder;
+
+import org.fife.ui.rsyntaxtextarea.SyntaxScheme;
+import org.fife.ui.rsyntaxtextarea.Theme;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import jadx.api.ResourceFile;
+import jadx.gui.jobs.TaskStatus;
+import jadx.gui.ui.MainWindow;
+import jadx.gui.utils.NLS;
+import jadx.gui.utils.UiUtils;
+
+/**
+ * Hex view for large binary data.
+ * <br>
+ * Only visible rows are rendered, data read directly from {@link HexByteSource}
+ * (memory-mapped file), so opening, seeking and scrolling don't depend on data size.
+ */
+public class HexViewerPanel extends JPanel {
+	private static final long serialVersionUID = -2861538211640377574L;
+
+	private static final Logger LOG = LoggerFactory.getLogger(HexViewerPanel.class);
+
+	private static final char[] HEX_CHARS = "0123456789ABCDEF".toCharArray();
+	private static final int SEARCH_CHUNK_SIZE = 4 * 1024 * 1024;
+	private static final int MAX_COPY_SIZE = 1024 * 1024;
+
+	private final transient MainWindow mainWindow;
+	private final transient HexAreaConfiguration config;
+	private final transient HexConfigurationPanel configPanel;
+	private final RowsView rowsView;
+	private final JScrollBar scrollBar;
+	private final JTextField gotoField;
+	private final JTextField searchField;
+	private final JCheckBox hexSearchCheckBox;
+	private final JLabel statusLabel;
+
+	private transient HexByteSource source = new ArrayByteSource(new byte[0]);
+	private boolean loadStarted;
+	private volatile boolean disposed;
+	private long caret;
+	private long mark;
+
+	public HexViewerPanel(MainWindow mainWindow, HexAreaConfiguration config, HexConfigurationPanel configPanel) {
+		this.mainWindow = mainWindow;
+		this.config = config;
+		this.configPanel = configPanel;
+		this.rowsView = new RowsView();
+		this.scrollBar = new JScrollBar(JScrollBar.VERTICAL);
+		this.gotoField = new JTextField(12);
+		this.searchField = new JTextField(20);
+		this.hexSearchCheckBox = new JCheckBox(NLS.str("hex_viewer.hex"));
+		this.statusLabel = new JLabel();
+
+		scrollBar.addAdjustmentListener(e -> rowsView.repaint());
+		gotoField.addActionListener(e -> gotoOffset());
+		searchField.addActionListener(e -> searchNext());
+		JButton findBtn = new JButton(NLS.str("search.next"));
+		findBtn.addActionListener(e -> searchNext());
+
+		JPanel toolbar = new JPanel(new FlowLayout(FlowLayout.LEFT, 5, 2));
+		toolbar.add(new JLabel(NLS.str("hex_viewer.offset")));
+		toolbar.add(gotoField);
+		toolbar.add(new JLabel(NLS.str("hex_viewer.find")));
+		toolbar.add(searchField);
+		toolbar.add(hexSearchCheckBox);
+		toolbar.add(findBtn);
+		toolbar.add(statusLabel);
+
+		setLayout(new BorderLayout());
+		setBorder(new EmptyBorder(0, 0, 0, 0));
+		add(toolbar, BorderLayout.NORTH);
+		add(rowsView, BorderLayout.CENTER);
+		add(scrollBar, BorderLayout.EAST);
+		loadSettings();
+	}
+
+	/**
+	 * Open resource data in background, can be called several times
+	 */
+	public void load(ResourceFile resFile) {
+		if (loadStarted || disposed) {
+			return;
+		}
+		loadStarted = true;
+		statusLabel.setText(NLS.str("progress.load"));
+		HexByteSource[] result = new HexByteSource[1];
+		mainWindow.getBackgroundExecutor().execute(NLS.str("progress.load"), () -> {
+			if (disposed) {
+				return;
+			}
+			try {
+				result[0] = HexByteSource.openResource(resFile);
+			} catch (Exception e) {
+				LOG.error("Failed to open binary data: {}", resFile.getDeobfName(), e);
+			}
+		}, status -> {
+			if (disposed) {
+				// panel closed while data opening, release new source (and remove temp file)
+				if (result[0] != null) {
+					result[0].close();
+				}
+				return;
+			}
+			if (result[0] != null) {
+				setSource(result[0]);
+				statusLabel.setText(NLS.str("hex_viewer.size", source.size()));
+			} else {
+				statusLabel.setText(NLS.str("error_dialog.title"));
+			}
+		});
+	}
+
+	public void setSource(HexByteSource newSource) {
+		source.close();
+		source = newSource;
+		configPanel.setSource(newSource);
+		caret = 0;
+		mark = 0;
+		updateScrollBar();
+		moveCaret(0, false);
+	}
+
+	public void loadSettings() {
+		Font font = mainWindow.getSettings().getSmaliFont();
+		Theme theme = mainWindow.getEditorTheme();
+		rowsView.applyTheme(theme, font);
+		updateScrollBar();
+	}
+
+	public void dispose() {
+		disposed = true;
+		source.close();
+	}
+
+	private long getRowsCount() {
+		return (source.size() + config.bytesPerLine - 1) / config.bytesPerLine;
+	}
+
+	private void updateScrollBar() {
+		int rows = (int) Math.min(getRowsCount(), Integer.MAX_VALUE);
+		int visible = Math.max(1, rowsView.getFullVisibleRows());
+		int value = Math.max(0, Math.min(scrollBar.getValue(), rows - visible));
+		scrollBar.setValues(value, Math.min(visible, rows), 0, rows);
+		scrollBar.setBlockIncrement(visible);
+		scrollBar.setUnitIncrement(1);
+		rowsView.repaint();
+	}
+
+	private long getFirstRow() {
+		return scrollBar.getValue();
+	}
+
+	private void moveCaret(long pos, boolean extendSelection) {
+		long size = source.size();
+		caret = size == 0 ? 0 : Math.max(0, Math.min(pos, size - 1));
+		if (!extendSelection) {
+			mark = caret;
+		}
+		ensureVisible(caret);
+		configPanel.setOffset(size == 0 ? -1 : caret);
+		rowsView.repaint();
+	}
+
+	private void select(long start, long end) {
+		moveCaret(end, false);
+		mark = start;
+		rowsView.repaint();
+	}
+
+	private void ensureVisible(long pos) {
+		long row = pos / config.bytesPerLine;
+		long first = getFirstRow();
+		int visible = Math.max(1, rowsView.getFullVisibleRows());
+		if (row < first) {
+			scrollBar.setValue((int) row);
+		} else if (row >= first + visible) {
+			scrollBar.setValue((int) (row - visible + 1));
+		}
+	}
+
+	private void gotoOffset() {
+		String text = gotoField.getText().trim();
+		try {
+			long offset;
+			if (text.startsWith("0x") || text.startsWith("0X")) {
+				offset = Long.parseLong(text.substring(2), 16);
+			} else {
+				offset = Long.parseLong(text);
+			}
+			if (offset < 0 || offset >= source.size()) {
+				statusLabel.setText(NLS.str("hex_viewer.offset_out_of_range"));
+				return;
+			}
+			statusLabel.setText("");
+			moveCaret(offset, false);
+			rowsView.requestFocusInWindow();
+		} catch (NumberFormatException e) {
+			statusLabel.setText(NLS.str("hex_viewer.invalid_offset"));
+		}
+	}
+
+	private void searchNext() {
+		byte[] pattern = getSearchPattern();
+		if (pattern == null || pattern.length == 0) {
+			statusLabel.setText(NLS.str("hex_viewer.invalid_pattern"));
+			return;
+		}
+		HexByteSource searchSource = source;
+		long start = Math.min(caret, mark) + 1;
+		AtomicLong result = new AtomicLong(-1);
+		statusLabel.setText("");
+		mainWindow.getBackgroundExecutor().execute(NLS.str("search.next"),
+				() -> result.set(search(searchSource, pattern, start)),
+				status -> {
+					long found = result.get();
+					if (searchSource != source) {
+						return;
+					}
+					if (found != -1) {
+						select(found + pattern.length - 1, found);
+						statusLabel.setText(NLS.str("hex_viewer.found_at", Long.toHexString(found)));
+					} else if (status == TaskStatus.COMPLETE) {
+						statusLabel.setText(NLS.str("hex_viewer.not_found"));
+					}
+				});
+	}
+
+	private byte[] getSearchPattern() {
+		String text = searchField.getText();
+		if (!hexSearchCheckBox.isSelected()) {
+			return text.getBytes(StandardCharsets.UTF_8);
+		}
+		String hex = text.replace(" ", "");
+		if (hex.length() % 2 != 0) {
+			return null;
+		}
+		byte[] bytes = new byte[hex.length() / 2];
+		for (int i = 0; i < bytes.length; i++) {
+			int hi = Character.digit(hex.charAt(i * 2), 16);
+			int lo = Character.digit(hex.charAt(i * 2 + 1), 16);
+			if (hi == -1 || lo == -1) {
+				return null;
+			}
+			bytes[i] = (byte) (hi << 4 | lo);
+		}
+		return bytes;
+	}
+
+	/**
+	 * Search pattern by chunks, next chunk overlaps with previous by pattern length
+	 */
+	static long search(HexByteSource source, byte[] pattern, long start) {
+		long size = source.size();
+		int patternLen = pattern.length;
+		byte first = pattern[0];
+		byte[] buf = new byte[Math.max(SEARCH_CHUNK_SIZE, patternLen * 2)];
+		long pos = start;
+		while (pos + patternLen <= size) {
+			if (Thread.currentThread().isInterrupted()) {
+				return -1;
+			}
+			int len = source.read(pos, buf, 0, buf.length);
+			int last = len - patternLen;
+			for (int i = 0; i <= last; i++) {
+				if (buf[i] == first && matchAt(buf, i, pattern)) {
+					return pos + i;
+				}
+			}
+			if (pos + len >= size) {
+				break;
+			}
+			pos += last + 1;
+		}
+		return -1;
+	}
+
+	private static boolean matchAt(byte[] buf, int offset, byte[] pattern) {
+		for (int j = 1; j < pattern.length; j++) {
+			if (buf[offset + j] != pattern[j]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private void copySelection() {
+		long start = Math.min(caret, mark);
+		long len = Math.abs(caret - mark) + 1;
+		if (len > MAX_COPY_SIZE) {
+			statusLabel.setText(NLS.str("hex_viewer.selection_too_big"));
+			return;
+		}
+		byte[] bytes = new byte[(int) len];
+		int count = source.read(start, bytes, 0, bytes.length);
+		char[] chars = new char[count * 2];
+		for (int i = 0; i < count; i++) {
+			int v = bytes[i] & 0xFF;
+			chars[i * 2] = HEX_CHARS[v >>> 4];
+			chars[i * 2 + 1] = HEX_CHARS[v & 0x0F];
+		}
+		UiUtils.copyToClipboard(new String(chars));
+	}
+
+	private final class RowsView extends JComponent {
+		private static final long serialVersionUID = 5094398461270412813L;
+
+		private static final int PAD = 4;
+
+		private Color bgColor = Color.WHITE;
+		private Color fgColor = Color.BLACK;
+		private Color addrColor = Color.GRAY;
+		private Color selectionColor = Color.YELLOW;
+
+		private byte[] rowsBuf = new byte[0];
+
+		RowsView() {
+			setFocusable(true);
+			setOpaque(true);
+			MouseAdapter mouseAdapter = new MouseAdapter() {
+				@Override
+				public void mousePressed(MouseEvent e) {
+					requestFocusInWindow();
+					long pos = getOffsetAt(e.getX(), e.getY());
+					if (pos != -1) {
+						moveCaret(pos, e.isShiftDown());
+					}
+				}
+
+				@Override
+				public void mouseDragged(MouseEvent e) {
+					long pos = getOffsetAt(e.getX(), e.getY());
+					if (pos != -1) {
+						moveCaret(pos, true);
+					}
+				}
+
+				@Override
+				public void mouseWheelMoved(MouseWheelEvent e) {
+					scrollBar.setValue(scrollBar.getValue() + e.getUnitsToScroll());
+				}
+			};
+			addMouseListener(mouseAdapter);
+			addMouseMotionListener(mouseAdapter);
+			addMouseWheelListener(mouseAdapter);
+			addKeyListener(new KeyAdapter() {
+				@Override
+				public void keyPressed(KeyEvent e) {
+					processKey(e);
+				}
+			});
+			addFocusListener(new FocusAdapter() {
+				@Override
+				public void focusGained(FocusEvent e) {
+					repaint();
+				}
+
+				@Override
+				public void focusLost(FocusEvent e) {
+					repaint();
+				}
+			});
+			addComponentListener(new ComponentAdapter() {
+				@Override
+				public void componentResized(ComponentEvent e) {
+					updateScrollBar();
+				}
+			});
+		}
+
+		void applyTheme(Theme theme, Font font) {
+			setFont(font);
+			bgColor = theme.bgColor;
+			fgColor = theme.scheme.getStyle(SyntaxScheme.IDENTIFIER).foreground;
+			addrColor = theme.lineNumberColor;
+			selectionColor = theme.selectionBG;
+			repaint();
+		}
+
+		private void processKey(KeyEvent e) {
+			int bpl = config.bytesPerLine;
+			int pageSize = Math.max(1, getFullVisibleRows()) * bpl;
+			boolean shift = e.isShiftDown();
+			switch (e.getKeyCode()) {
+				case KeyEvent.VK_LEFT:
+					moveCaret(caret - 1, shift);
+					break;
+				case KeyEvent.VK_RIGHT:
+					moveCaret(caret + 1, shift);
+					break;
+				case KeyEvent.VK_UP:
+					moveCaret(caret - bpl, shift);
+					break;
+				case KeyEvent.VK_DOWN:
+					moveCaret(caret + bpl, shift);
+					break;
+				case KeyEvent.VK_PAGE_UP:
+					moveCaret(caret - pageSize, shift);
+					break;
+				case KeyEvent.VK_PAGE_DOWN:
+					moveCaret(caret + pageSize, shift);
+					break;
+				case KeyEvent.VK_HOME:
+					moveCaret(e.isControlDown() ? 0 : caret - caret % bpl, shift);
+					break;
+				case KeyEvent.VK_END:
+					moveCaret(e.isControlDown() ? source.size() - 1 : caret - caret % bpl + bpl - 1, shift);
+					break;
+				case KeyEvent.VK_C:
+					if (UiUtils.isCtrlDown(e)) {
+						copySelection();
+					}
+					return;
+				default:
+					return;
+			}
+			e.consume();
+		}
+
+		private int getLineHeight() {
+			return Math.max(1, getFontMetrics(getFont()).getHeight());
+		}
+
+		int getFullVisibleRows() {
+			return getHeight() / getLineHeight();
+		}
+
+		private int getAddrDigits() {
+			int digits = (64 - Long.numberOfLeadingZeros(Math.max(1, source.size() - 1)) + 3) / 4;
+			return Math.max(8, digits);
+		}
+
+		private int getHexStartX(int charWidth) {
+			return PAD + (getAddrDigits() + 2) * charWidth;
+		}
+
+		private int getAsciiStartX(int charWidth) {
+			return getHexStartX(charWidth) + (config.bytesPerLine * 3 + 1) * charWidth;
+		}
+
+		private long getOffsetAt(int x, int y) {
+			if (source.size() == 0) {
+				return -1;
+			}
+			int charWidth = getFontMetrics(getFont()).charWidth('0');
+			int bpl = config.bytesPerLine;
+			int hexStart = getHexStartX(charWidth);
+			int asciiStart = getAsciiStartX(charWidth);
+			int col;
+			if (x >= asciiStart) {
+				col = (x - asciiStart) / charWidth;
+			} else {
+				col = Math.max(0, x - hexStart) / (3 * charWidth);
+			}
+			col = Math.min(col, bpl - 1);
+			long row = getFirstRow() + Math.max(0, y) / getLineHeight();
+			return Math.min(row * bpl + col, source.size() - 1);
+		}
+
+		@Override
+		protected void paintComponent(Graphics g) {
+			g.setColor(bgColor);
+			g.fillRect(0, 0, getWidth(), getHeight());
+			g.setFont(getFont());
+			FontMetrics fm = g.getFontMetrics();
+			int lineHeight = fm.getHeight();
+			int ascent = fm.getAscent();
+			int charWidth = fm.charWidth('0');
+			int bpl = config.bytesPerLine;
+			int addrDigits = getAddrDigits();
+			int hexStart = getHexStartX(charWidth);
+			int asciiStart = getAsciiStartX(charWidth);
+
+			long size = source.size();
+			long firstRow = getFirstRow();
+			int rows = getHeight() / lineHeight + 1;
+			long startPos = firstRow * bpl;
+			int len = (int) Math.max(0, Math.min((long) rows * bpl, size - startPos));
+			if (rowsBuf.length < len) {
+				rowsBuf = new byte[len];
+			}
+			int count = len == 0 ? 0 : source.read(startPos, rowsBuf, 0, len);
+
+			long selStart = Math.min(caret, mark);
+			long selEnd = Math.max(caret, mark);
+			char[] addrChars = new char[addrDigits];
+			char[] hexChars = new char[bpl * 3];
+			char[] asciiChars = new char[bpl];
+			for (int r = 0; r * bpl < count; r++) {
+				int y = r * lineHeight;
+				long rowPos = startPos + (long) r * bpl;
+				int rowLen = Math.min(bpl, count - r * bpl);
+				long addr = rowPos;
+				for (int i = addrDigits - 1; i >= 0; i--) {
+					addrChars[i] = HEX_CHARS[(int) (addr & 0xF)];
+					addr >>>= 4;
+				}
+				for (int i = 0; i < rowLen; i++) {
+					int v = rowsBuf[r * bpl + i] & 0xFF;
+					hexChars[i * 3] = HEX_CHARS[v >>> 4];
+					hexChars[i * 3 + 1] = HEX_CHARS[v & 0x0F];
+					hexChars[i * 3 + 2] = ' ';
+					asciiChars[i] = v <= 0x1f || v >= 0x7f ? '.' : (char) v;
+					long pos = rowPos + i;
+					if (pos >= selStart && pos <= selEnd) {
+						g.setColor(selectionColor);
+						g.fillRect(hexStart + i * 3 * charWidth, y, 2 * charWidth, lineHeight);
+						g.fillRect(asciiStart + i * charWidth, y, charWidth, lineHeight);
+					}
+				}
+				if (isFocusOwner() && caret >= rowPos && caret < rowPos + rowLen) {
+					int i = (int) (caret - rowPos);
+					g.setColor(fgColor);
+					g.drawRect(hexStart + i * 3 * charWidth, y, 2 * charWidth - 1, lineHeight - 1);
+				}
+				g.setColor(addrColor);
+				g.drawChars(addrChars, 0, addrDigits, PAD, y + ascent);
+				g.setColor(fgColor);
+				g.drawChars(hexChars, 0, rowLen * 3, hexStart, y + ascent);
+				g.drawChars(asciiChars, 0, rowLen, asciiStart, y + ascent);
+			}
+		}
+	}
+}
@@ -0,0 +1,87 @@
+package jadx.gui.ui.codearea;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Memory-mapped file, mapped by segments to support files larger than 2GB.
+ * Data not copied into heap, so opening of huge files is instant.
+ */
+public class MappedFileByteSource implements HexByteSource {
+	private static final Logger LOG = LoggerFactory.getLogger(MappedFileByteSource.class);
+
+	private static final int SEGMENT_SHIFT = 30;
+	private static final long SEGMENT_SIZE = 1L << SEGMENT_SHIFT;
+
+	private final Path file;
+	private final boolean tempFile;
+	private final long size;
+	private final MappedByteBuffer[] segments;
+
+	public MappedFileByteSource(Path file) throws IOException {
+		this(file, false);
+	}
+
+	/**
+	 * @param tempFile delete file on close
+	 */
+	public MappedFileByteSource(Path file, boolean tempFile) throws IOException {
+		this.file = file;
+		this.tempFile = tempFile;
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			size = channel.size();
+			int count = (int) ((size + SEGMENT_SIZE - 1) >>> SEGMENT_SHIFT);
+			segments = new MappedByteBuffer[count];
+			for (int i = 0; i < count; i++) {
+				long start = i * SEGMENT_SIZE;
+				// mapping stays valid after channel close
+				segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(SEGMENT_SIZE, size - start));
+			}
+		}
+	}
+
+	@Override
+	public long size() {
+		return size;
+	}
+
+	@Override
+	public int read(long pos, byte[] buf, int off, int len) {
+		int total = 0;
+		long cur = pos;
+		while (total < len && cur < size) {
+			MappedByteBuffer segment = segments[(int) (cur >>> SEGMENT_SHIFT)];
+			int segPos = (int) (cur & (SEGMENT_SIZE - 1));
+			int count = Math.min(len - total, segment.limit() - segPos);
+			// absolute bulk get not available in java 11, use duplicate to keep buffer position untouched
+			segment.duplicate().position(segPos).get(buf, off + total, count);
+			total += count;
+			cur += count;
+		}
+		return total;
+	}
+
+	@Override
+	public byte get(long pos) {
+		return segments[(int) (pos >>> SEGMENT_SHIFT)].get((int) (pos & (SEGMENT_SIZE - 1)));
+	}
+
+	@Override
+	public void close() {
+		if (tempFile) {
+			try {
+				Files.deleteIfExists(file);
+			} catch (Exception e) {
+				// file can be locked by mapping (on Windows), will be removed on exit
+				LOG.debug("Failed to delete temp file: {}", file, e);
+			}
+		}
+	}
+}
@@ -36,6 +36,7 @@
 import org.slf4j.LoggerFactory;
 
 import jadx.api.ICodeInfo;
+import jadx.gui.cache.smali.SmaliCache;
 import jadx.gui.device.debugger.BreakpointManager;
 import jadx.gui.device.debugger.DbgUtils;
 import jadx.gui.settings.JadxSettings;
@@ -182,7 +183,12 @@ public NormalModel() {
 
 		@Override
 		public void load() {
-			setText(getJClass().getSmali());
+			SmaliCache smaliCache = getContentPanel().getTabbedPane().getMainWindow().getCacheObject().getSmaliCache();
+			if (smaliCache != null) {
+				setText(smaliCache.getSmaliCode(getJClass().getCls().getClassNode()));
+			} else {
+				setText(getJClass().getSmali());
+			}
 		}
 
 		@Override
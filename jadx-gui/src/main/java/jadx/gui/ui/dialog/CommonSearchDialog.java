@@ -365,6 +365,10 @@ public Object getValueAt(int row, int column) {
 		}
 	}
 
+	/**
+	 * Results list model, rows can be lazy nodes (like {@link jadx.gui.treemodel.CodeSearchNode})
+	 * which resolved only on render, so avoid iterating over all rows node data.
+	 */
 	protected static final class ResultsModel extends AbstractTableModel {
 		private static final long serialVersionUID = -7821286846923903208L;
 		private static final String[] COLUMN_NAMES = { NLS.str("search_dialog.col_node"), NLS.str("search_dialog.col_code") };
@@ -375,7 +379,7 @@ protected static final class ResultsModel extends AbstractTableModel {
 		public void addAll(Collection<? extends JNode> nodes) {
 			rows.addAll(nodes);
 			if (!addDescColumn) {
-				for (JNode row : rows) {
+				for (JNode row : nodes) {
 					if (row.hasDescString()) {
 						addDescColumn = true;
 						break;
@@ -0,0 +1,228 @@
+package jadx.gui.ui.dialog;
+
+import java.awt.BorderLayout;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+import javax.swing.BorderFactory;
+import javax.swing.Box;
+import javax.swing.BoxLayout;
+import javax.swing.JButton;
+import javax.swing.JDialog;
+import javax.swing.JFileChooser;
+import javax.swing.JLabel;
+import javax.swing.JOptionPane;
+import javax.swing.JPanel;
+import javax.swing.JScrollPane;
+import javax.swing.JTable;
+import javax.swing.WindowConstants;
+import javax.swing.table.AbstractTableModel;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import jadx.api.JadxDecompiler;
+import jadx.api.JavaNode;
+import jadx.api.metrics.ClassMetrics;
+import jadx.api.metrics.DecompileMetrics;
+import jadx.core.dex.nodes.ClassNode;
+import jadx.gui.ui.MainWindow;
+import jadx.gui.ui.filedialog.FileDialogWrapper;
+import jadx.gui.ui.filedialog.FileOpenMode;
+import jadx.gui.utils.NLS;
+import jadx.gui.utils.UiUtils;
+
+public class MetricsDialog extends JDialog {
+	private static final long serialVersionUID = 4207424623475932475L;
+
+	private static final Logger LOG = LoggerFactory.getLogger(MetricsDialog.class);
+
+	private final transient MainWindow mainWindow;
+	private final transient MetricsTableModel tableModel = new MetricsTableModel();
+	private transient JLabel summaryLabel;
+
+	public MetricsDialog(MainWindow mainWindow) {
+		super(mainWindow);
+		this.mainWindow = mainWindow;
+		initUI();
+		UiUtils.addEscapeShortCutToDispose(this);
+		refresh();
+	}
+
+	private void initUI() {
+		setTitle(NLS.str("metrics_dialog.title"));
+
+		JTable table = new JTable(tableModel);
+		table.setAutoCreateRowSorter(true);
+		table.setFillsViewportHeight(true);
+		table.getColumnModel().getColumn(0).setPreferredWidth(400);
+		table.addMouseListener(new MouseAdapter() {
+			@Override
+			public void mouseClicked(MouseEvent e) {
+				if (e.getClickCount() == 2) {
+					int row = table.rowAtPoint(e.getPoint());
+					if (row != -1) {
+						openClass(tableModel.getRow(table.convertRowIndexToModel(row)));
+					}
+				}
+			}
+		});
+
+		summaryLabel = new JLabel();
+		JButton refreshBtn = new JButton(NLS.str("metrics_dialog.refresh"));
+		refreshBtn.addActionListener(e -> refresh());
+		JButton exportBtn = new JButton(NLS.str("metrics_dialog.export"));
+		exportBtn.addActionListener(e -> export());
+		JButton closeBtn = new JButton(NLS.str("tabs.close"));
+		closeBtn.addActionListener(e -> dispose());
+
+		JPanel actionPanel = new JPanel();
+		actionPanel.setLayout(new BoxLayout(actionPanel, BoxLayout.LINE_AXIS));
+		actionPanel.add(summaryLabel);
+		actionPanel.add(Box.createHorizontalGlue());
+		actionPanel.add(refreshBtn);
+		actionPanel.add(exportBtn);
+		actionPanel.add(closeBtn);
+
+		JPanel mainPane = new JPanel(new BorderLayout(5, 5));
+		mainPane.add(new JScrollPane(table), BorderLayout.CENTER);
+		mainPane.add(actionPanel, BorderLayout.SOUTH);
+		mainPane.setBorder(BorderFactory.createEmptyBorder(10, 10, 10, 10));
+
+		getContentPane().add(mainPane);
+		pack();
+		setSize(1000, 600);
+		setLocationRelativeTo(null);
+		setDefaultCloseOperation(WindowConstants.DISPOSE_ON_CLOSE);
+		setModalityType(ModalityType.MODELESS);
+	}
+
+	private DecompileMetrics getMetrics() {
+		return mainWindow.getWrapper().getDecompiler().getMetrics();
+	}
+
+	private void refresh() {
+		List<ClassMetrics> list = getMetrics().getAll();
+		tableModel.setRows(list);
+		long totalMs = 0;
+		int failed = 0;
+		for (ClassMetrics m : list) {
+			totalMs += m.getTotalTimeMs();
+			if (m.getPassFailuresCount() != 0 || m.getCodegenFailures() != 0) {
+				failed++;
+			}
+		}
+		summaryLabel.setText(NLS.str("metrics_dialog.summary", list.size(), totalMs, failed));
+	}
+
+	private void openClass(ClassMetrics metrics) {
+		JadxDecompiler decompiler = mainWindow.getWrapper().getDecompiler();
+		ClassNode cls = decompiler.getRoot().resolveRawClass(metrics.getClsName());
+		if (cls != null) {
+			JavaNode javaNode = decompiler.getJavaNodeByRef(cls);
+			if (javaNode != null) {
+				mainWindow.getTabbedPane().codeJump(mainWindow.getCacheObject().getNodeCache().makeFrom(javaNode));
+			}
+		}
+	}
+
+	private void export() {
+		FileDialogWrapper fileDialog = new FileDialogWrapper(mainWindow, FileOpenMode.CUSTOM_SAVE);
+		fileDialog.setTitle(NLS.str("metrics_dialog.export"));
+		fileDialog.setFileExtList(Arrays.asList("json", "csv"));
+		fileDialog.setSelectionMode(JFileChooser.FILES_ONLY);
+		List<Path> selectedPaths = fileDialog.show();
+		if (selectedPaths.size() != 1) {
+			return;
+		}
+		Path savePath = selectedPaths.get(0);
+		String fileName = savePath.getFileName().toString().toLowerCase(Locale.ROOT);
+		if (!fileName.endsWith(".json") && !fileName.endsWith(".csv")) {
+			savePath = savePath.resolveSibling(savePath.getFileName() + ".json");
+		}
+		try {
+			getMetrics().save(savePath);
+		} catch (Exception e) {
+			LOG.error("Failed to export metrics", e);
+			JOptionPane.showMessageDialog(this, e.getMessage(), NLS.str("error_dialog.title"), JOptionPane.ERROR_MESSAGE);
+		}
+	}
+
+	private static final class MetricsTableModel extends AbstractTableModel {
+		private static final long serialVersionUID = -6453081532148757282L;
+
+		private static final String[] COLUMNS = {
+				"Class", "Time (ms)", "Max time (ms)", "Decompiles", "Reloads", "Instructions",
+				"Output size", "Allocated (KB)", "Pass failures", "Failed passes"
+		};
+		private static final Class<?>[] COLUMN_TYPES = {
+				String.class, Long.class, Long.class, Integer.class, Integer.class, Integer.class,
+				Integer.class, Long.class, Integer.class, String.class
+		};
+
+		private transient List<ClassMetrics> rows = Collections.emptyList();
+
+		public void setRows(List<ClassMetrics> rows) {
+			this.rows = rows;
+			fireTableDataChanged();
+		}
+
+		public ClassMetrics getRow(int row) {
+			return rows.get(row);
+		}
+
+		@Override
+		public int getRowCount() {
+			return rows.size();
+		}
+
+		@Override
+		public int getColumnCount() {
+			return COLUMNS.length;
+		}
+
+		@Override
+		public String getColumnName(int column) {
+			return COLUMNS[column];
+		}
+
+		@Override
+		public Class<?> getColumnClass(int column) {
+			return COLUMN_TYPES[column];
+		}
+
+		@Override
+		public Object getValueAt(int row, int column) {
+			ClassMetrics m = rows.get(row);
+			switch (column) {
+				case 0:
+					return m.getClsName();
+				case 1:
+					return m.getTotalTimeMs();
+				case 2:
+					return m.getMaxTimeMs();
+				case 3:
+					return m.getDecompileCount();
+				case 4:
+					return m.getReloadCount();
+				case 5:
+					return m.getInsnsCount();
+				case 6:
+					return m.getOutputSize();
+				case 7:
+					return m.getAllocatedBytes() / 1024;
+				case 8:
+					return m.getPassFailuresCount() + m.getCodegenFailures();
+				case 9:
+					return String.join(", ", m.getFailedPasses());
+				default:
+					return null;
+			}
+		}
+	}
+}
@@ -6,11 +6,13 @@
 import java.awt.FlowLayout;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.EnumSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 
@@ -53,6 +55,7 @@
 import jadx.gui.search.providers.MergedSearchProvider;
 import jadx.gui.search.providers.MethodSearchProvider;
 import jadx.gui.search.providers.ResourceSearchProvider;
+import jadx.gui.treemodel.CodeSearchNode;
 import jadx.gui.treemodel.JClass;
 import jadx.gui.treemodel.JNode;
 import jadx.gui.treemodel.JResource;
@@ -71,6 +74,7 @@
 import static jadx.gui.ui.dialog.SearchDialog.SearchOptions.FIELD;
 import static jadx.gui.ui.dialog.SearchDialog.SearchOptions.IGNORE_CASE;
 import static jadx.gui.ui.dialog.SearchDialog.SearchOptions.METHOD;
+import static jadx.gui.ui.dialog.SearchDialog.SearchOptions.NAME_PREFIX;
 import static jadx.gui.ui.dialog.SearchDialog.SearchOptions.RESOURCE;
 import static jadx.gui.ui.dialog.SearchDialog.SearchOptions.USE_REGEX;
 
@@ -121,6 +125,7 @@ public enum SearchOptions {
 
 		IGNORE_CASE,
 		USE_REGEX,
+		NAME_PREFIX,
 		ACTIVE_TAB
 	}
 
@@ -151,6 +156,11 @@ public enum SearchOptions {
 	 */
 	private final Executor searchBackgroundExecutor = Executors.newSingleThreadExecutor();
 
+	/**
+	 * Resolve lazy results data (like code line) outside of UI thread
+	 */
+	private final ExecutorService resultsResolveExecutor = Executors.newSingleThreadExecutor();
+
 	private SearchDialog(MainWindow mainWindow, SearchPreset preset, Set<SearchOptions> additionalOptions) {
 		super(mainWindow, NLS.str("menu.text_search"));
 		this.searchPreset = preset;
@@ -175,6 +185,7 @@ public void dispose() {
 			stopSearchTask();
 			unloadTempData();
 		});
+		resultsResolveExecutor.shutdownNow();
 		super.dispose();
 	}
 
@@ -276,6 +287,7 @@ private void initUI() {
 		searchOptions.setBorder(BorderFactory.createTitledBorder(NLS.str("search_dialog.options")));
 		searchOptions.add(makeOptionsCheckBox(NLS.str("search_dialog.ignorecase"), IGNORE_CASE));
 		searchOptions.add(makeOptionsCheckBox(NLS.str("search_dialog.regex"), USE_REGEX));
+		searchOptions.add(makeOptionsCheckBox(NLS.str("search_dialog.name_prefix"), NAME_PREFIX));
 		searchOptions.add(makeOptionsCheckBox(NLS.str("search_dialog.active_tab"), SearchOptions.ACTIVE_TAB));
 
 		JPanel optionsPanel = new JPanel(new WrapLayout(WrapLayout.LEFT, 0, 0));
@@ -428,6 +440,7 @@ private SearchTask prepareSearch(String text) {
 		boolean ignoreCase = options.contains(IGNORE_CASE);
 		boolean useRegex = options.contains(USE_REGEX);
 		SearchSettings searchSettings = new SearchSettings(text, ignoreCase, useRegex);
+		searchSettings.setNamePrefix(options.contains(NAME_PREFIX));
 		String error = searchSettings.prepare();
 		if (error == null) {
 			if (Objects.equals(searchField.getBackground(), SEARCH_FIELD_ERROR_COLOR)) {
@@ -487,7 +500,8 @@ private boolean buildSearch(SearchTask newSearchTask, String text, SearchSetting
 		if (options.contains(CODE)) {
 			int clsCount = allClasses.size();
 			if (clsCount == 1) {
-				newSearchTask.addProviderJob(new CodeSearchProvider(mainWindow, searchSettings, allClasses));
+				newSearchTask.addProviderJob(new CodeSearchProvider(mainWindow, searchSettings, allClasses,
+						resultsResolveExecutor, resultsTable::repaint));
 			} else if (clsCount > 1) {
 				List<List<JavaClass>> batches = mainWindow.getCacheObject().getDecompileBatches();
 				if (batches == null) {
@@ -496,7 +510,8 @@ private boolean buildSearch(SearchTask newSearchTask, String text, SearchSetting
 					mainWindow.getCacheObject().setDecompileBatches(batches);
 				}
 				for (List<JavaClass> batch : batches) {
-					newSearchTask.addProviderJob(new CodeSearchProvider(mainWindow, searchSettings, batch));
+					newSearchTask.addProviderJob(new CodeSearchProvider(mainWindow, searchSettings, batch,
+							resultsResolveExecutor, resultsTable::repaint));
 				}
 			}
 		}
@@ -583,10 +598,24 @@ private void addSearchResult(JNode node) {
 		}
 	}
 
+	/**
+	 * Same as natural nodes order, but for lazy code search nodes use only class and offset to avoid resolving
+	 */
+	private static final Comparator<JNode> RESULTS_ORDER = Comparator
+			.comparing(SearchDialog::getResultOrderName)
+			.thenComparingInt(JNode::getPos);
+
+	private static String getResultOrderName(JNode node) {
+		if (node instanceof CodeSearchNode) {
+			return node.getRootClass().makeLongString();
+		}
+		return node.makeLongString();
+	}
+
 	private void updateTable() {
 		synchronized (pendingResults) {
 			UiUtils.uiThreadGuard();
-			Collections.sort(pendingResults);
+			pendingResults.sort(RESULTS_ORDER);
 			resultsModel.addAll(pendingResults);
 			pendingResults.clear();
 			resultsTable.updateTable();
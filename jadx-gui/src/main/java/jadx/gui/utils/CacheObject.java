@@ -8,6 +8,8 @@
 import org.jetbrains.annotations.Nullable;
 
 import jadx.api.JavaClass;
+import jadx.gui.cache.resources.ResourcesTextCache;
+import jadx.gui.cache.smali.SmaliCache;
 import jadx.gui.ui.dialog.SearchDialog;
 import jadx.gui.utils.pkgs.PackageHelper;
 
@@ -19,6 +21,8 @@ public class CacheObject {
 
 	private List<List<JavaClass>> decompileBatches;
 	private PackageHelper packageHelper;
+	private @Nullable SmaliCache smaliCache;
+	private @Nullable ResourcesTextCache resourcesTextCache;
 
 	private volatile boolean fullDecompilationFinished;
 
@@ -33,6 +37,14 @@ public void reset() {
 		decompileBatches = null;
 		packageHelper = null;
 		fullDecompilationFinished = false;
+		if (smaliCache != null) {
+			smaliCache.close();
+			smaliCache = null;
+		}
+		if (resourcesTextCache != null) {
+			resourcesTextCache.close();
+			resourcesTextCache = null;
+		}
 	}
 
 	@Nullable
@@ -68,6 +80,22 @@ public void setPackageHelper(PackageHelper packageHelper) {
 		this.packageHelper = packageHelper;
 	}
 
+	public @Nullable SmaliCache getSmaliCache() {
+		return smaliCache;
+	}
+
+	public void setSmaliCache(@Nullable SmaliCache smaliCache) {
+		this.smaliCache = smaliCache;
+	}
+
+	public @Nullable ResourcesTextCache getResourcesTextCache() {
+		return resourcesTextCache;
+	}
+
+	public void setResourcesTextCache(@Nullable ResourcesTextCache resourcesTextCache) {
+		this.resourcesTextCache = resourcesTextCache;
+	}
+
 	public boolean isFullDecompilationFinished() {
 		return fullDecompilationFinished;
 	}
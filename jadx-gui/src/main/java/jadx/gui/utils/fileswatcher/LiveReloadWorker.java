@@ -31,7 +31,7 @@ public LiveReloadWorker(MainWindow mainWindow) {
 				.debounce(1, TimeUnit.SECONDS)
 				.subscribe(path -> {
 					LOG.debug("Reload triggered");
-					UiUtils.uiRun(mainWindow::reopen);
+					UiUtils.uiRun(mainWindow::reloadChanged);
 				});
 	}
 
@@ -0,0 +1,95 @@
+package jadx.gui.device.debugger;
+
+import java.io.File;
+import java.net.ServerSocket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jadx.gui.device.debugger.SmaliDebugger.Frame;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Check pipelined requests against local JVM started with JDWP agent
+ */
+class SmaliDebuggerTest {
+
+	public static class JdwpTarget {
+		public static void main(String[] args) throws InterruptedException {
+			Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+		}
+	}
+
+	private Process process;
+	private SmaliDebugger debugger;
+
+	@BeforeEach
+	public void start() throws Exception {
+		int port;
+		try (ServerSocket socket = new ServerSocket(0)) {
+			port = socket.getLocalPort();
+		}
+		String java = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+		process = new ProcessBuilder(java,
+				"-agentlib:jdwp=transport=dt_socket,server=y,suspend=n,address=localhost:" + port,
+				"-cp", System.getProperty("java.class.path"),
+				JdwpTarget.class.getName())
+				.redirectErrorStream(true)
+				.start();
+		// wait for agent start message
+		process.getInputStream().read();
+		debugger = SmaliDebugger.attach("localhost", port, info -> {
+		});
+		debugger.suspend();
+	}
+
+	@AfterEach
+	public void stop() throws Exception {
+		if (debugger != null) {
+			debugger.exit();
+		}
+		if (process != null) {
+			process.destroyForcibly();
+		}
+	}
+
+	@Test
+	public void threadNames() throws Exception {
+		List<Long> threads = debugger.getAllThreadsSync();
+		assertThat(threads).isNotEmpty();
+
+		List<String> sequential = new ArrayList<>();
+		for (Long thread : threads) {
+			sequential.add(debugger.getThreadNameSync(thread));
+		}
+		assertThat(debugger.getThreadNamesSync(threads)).isEqualTo(sequential).contains("main");
+	}
+
+	@Test
+	public void frameSignatures() throws Exception {
+		long mainThread = findMainThread();
+		List<Frame> frames = debugger.getFramesSync(mainThread);
+		assertThat(frames).isNotEmpty();
+
+		debugger.prefetchSignaturesSync(frames);
+		List<String> clsSigs = new ArrayList<>();
+		for (Frame frame : frames) {
+			clsSigs.add(debugger.getClassSignatureSync(frame.getClassID()));
+			assertThat(debugger.getMethodSignatureSync(frame.getClassID(), frame.getMethodID())).isNotNull();
+		}
+		assertThat(clsSigs).anyMatch(sig -> sig.contains("JdwpTarget"));
+	}
+
+	private long findMainThread() throws Exception {
+		List<Long> threads = debugger.getAllThreadsSync();
+		List<String> names = debugger.getThreadNamesSync(threads);
+		int idx = names.indexOf("main");
+		assertThat(idx).isNotNegative();
+		return threads.get(idx);
+	}
+}
@@ -0,0 +1,111 @@
+package jadx.gui.jobs;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jadx.api.JavaClass;
+import jadx.core.dex.nodes.ClassNode;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class PrefetchDecompileQueueTest {
+	private List<JavaClass> classes;
+	private List<List<JavaClass>> batches;
+
+	@BeforeEach
+	public void init() {
+		classes = new ArrayList<>();
+		batches = new ArrayList<>();
+		for (int i = 0; i < 5; i++) {
+			JavaClass cls = makeClass("c" + i, null);
+			classes.add(cls);
+			batches.add(Collections.singletonList(cls));
+		}
+	}
+
+	@Test
+	public void testPriorityOrder() {
+		setDependencies(3, 1);
+		PrefetchDecompileQueue queue = new PrefetchDecompileQueue(batches);
+		queue.prioritizeExpanded(Collections.singletonList(classes.get(2)));
+		// opened inner class, batch with top class should be used
+		queue.prioritizeOpened(makeClass("c3$Inner", classes.get(3)));
+
+		assertThat(takeAll(queue)).containsExactly(
+				batches.get(3), batches.get(1), // opened tab with dependencies
+				batches.get(2), // expanded tree nodes
+				batches.get(0), batches.get(4)); // remaining
+	}
+
+	@Test
+	public void testSkipTaken() {
+		setUseIn(3, 2);
+		PrefetchDecompileQueue queue = new PrefetchDecompileQueue(batches);
+		queue.prioritizeExpanded(Arrays.asList(classes.get(2), classes.get(1)));
+		queue.prioritizeOpened(classes.get(3));
+
+		assertThat(queue.next()).isEqualTo(batches.get(3));
+		assertThat(queue.next()).isEqualTo(batches.get(2));
+		// already taken batches not added to queues
+		queue.prioritizeOpened(classes.get(2));
+		queue.prioritizeExpanded(Collections.singletonList(classes.get(3)));
+		// batch 2 from expanded queue already taken
+		assertThat(queue.next()).isEqualTo(batches.get(1));
+		// batches taken by priority skipped in remaining batches order
+		assertThat(queue.next()).isEqualTo(batches.get(0));
+		assertThat(queue.next()).isEqualTo(batches.get(4));
+		assertThat(queue.next()).isEmpty();
+	}
+
+	@Test
+	public void testTabSwitch() {
+		setDependencies(1, 2);
+		PrefetchDecompileQueue queue = new PrefetchDecompileQueue(batches);
+		queue.prioritizeOpened(classes.get(1));
+		assertThat(queue.next()).isEqualTo(batches.get(1));
+
+		// dependencies of previous tab not prioritized anymore
+		queue.prioritizeOpened(classes.get(3));
+		assertThat(takeAll(queue)).containsExactly(
+				batches.get(3),
+				batches.get(0), batches.get(2), batches.get(4));
+	}
+
+	private static List<List<JavaClass>> takeAll(PrefetchDecompileQueue queue) {
+		List<List<JavaClass>> list = new ArrayList<>();
+		while (true) {
+			List<JavaClass> batch = queue.next();
+			if (batch.isEmpty()) {
+				return list;
+			}
+			list.add(batch);
+		}
+	}
+
+	private void setDependencies(int clsIdx, int depIdx) {
+		ClassNode clsNode = classes.get(clsIdx).getClassNode();
+		when(clsNode.getDependencies()).thenReturn(Collections.singletonList(classes.get(depIdx).getClassNode()));
+	}
+
+	private void setUseIn(int clsIdx, int useIdx) {
+		ClassNode clsNode = classes.get(clsIdx).getClassNode();
+		when(clsNode.getUseIn()).thenReturn(Collections.singletonList(classes.get(useIdx).getClassNode()));
+	}
+
+	private static JavaClass makeClass(String name, JavaClass topCls) {
+		ClassNode clsNode = mock(ClassNode.class, name);
+		when(clsNode.getTopParentClass()).thenReturn(topCls == null ? clsNode : topCls.getClassNode());
+		when(clsNode.getDependencies()).thenReturn(Collections.emptyList());
+		when(clsNode.getUseIn()).thenReturn(Collections.emptyList());
+		JavaClass cls = mock(JavaClass.class, name);
+		when(cls.getClassNode()).thenReturn(clsNode);
+		return cls;
+	}
+}
@@ -0,0 +1,67 @@
+package jadx.gui.jobs;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import jadx.gui.jobs.RefreshClassesTask.Priority;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RefreshClassesTaskTest {
+
+	@Test
+	public void testMergePriority() {
+		Map<String, Priority> pending = new HashMap<>();
+		pending.put("a", Priority.OTHER);
+		pending.put("b", Priority.OPEN_TAB);
+
+		Map<String, Priority> prevPending = new HashMap<>();
+		prevPending.put("a", Priority.VISIBLE_IN_TREE);
+		prevPending.put("b", Priority.DIRECT_USE);
+		prevPending.put("c", Priority.OTHER);
+
+		RefreshClassesTask.mergePriority(pending, prevPending);
+		assertThat(pending)
+				.containsEntry("a", Priority.VISIBLE_IN_TREE)
+				.containsEntry("b", Priority.OPEN_TAB)
+				.containsEntry("c", Priority.OTHER)
+				.hasSize(3);
+	}
+
+	@Test
+	public void testGroupByPriority() {
+		Map<String, Priority> classes = new HashMap<>();
+		classes.put("a", Priority.OTHER);
+		classes.put("b", Priority.OPEN_TAB);
+		classes.put("c", Priority.OTHER);
+
+		Map<Priority, List<String>> byPriority = RefreshClassesTask.groupByPriority(classes);
+		assertThat(byPriority).containsOnlyKeys(Priority.values());
+		assertThat(byPriority.get(Priority.OTHER)).containsExactlyInAnyOrder("a", "c");
+		assertThat(byPriority.get(Priority.OPEN_TAB)).containsExactly("b");
+		assertThat(byPriority.get(Priority.DIRECT_USE)).isEmpty();
+	}
+
+	@Test
+	public void testInvalidate() {
+		Map<String, Priority> classes = new HashMap<>();
+		classes.put("tab", Priority.OPEN_TAB);
+		classes.put("tree", Priority.VISIBLE_IN_TREE);
+		classes.put("fail", Priority.DIRECT_USE);
+		classes.put("other", Priority.OTHER);
+
+		List<String> unloaded = new ArrayList<>();
+		RefreshClassesTask.invalidate(RefreshClassesTask.groupByPriority(classes), cls -> {
+			if (cls.equals("fail")) {
+				throw new RuntimeException("unload failed");
+			}
+			unloaded.add(cls);
+		});
+		// opened tabs reloaded separately, unload error don't stop invalidation
+		assertThat(unloaded).containsExactlyInAnyOrder("tree", "other");
+	}
+}
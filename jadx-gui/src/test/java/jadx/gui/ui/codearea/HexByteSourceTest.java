@@ -0,0 +1,63 @@
+package jadx.gui.ui.codearea;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class HexByteSourceTest {
+
+	@TempDir
+	Path tempDir;
+
+	@Test
+	public void testMappedRead() throws Exception {
+		byte[] data = new byte[10_000];
+		for (int i = 0; i < data.length; i++) {
+			data[i] = (byte) i;
+		}
+		Path file = tempDir.resolve("data.bin");
+		Files.write(file, data);
+
+		try (HexByteSource source = new MappedFileByteSource(file)) {
+			assertThat(source.size()).isEqualTo(data.length);
+			assertThat(source.get(300)).isEqualTo(data[300]);
+
+			byte[] buf = new byte[16];
+			assertThat(source.read(9_990, buf, 0, buf.length)).isEqualTo(10);
+			assertThat(buf[0]).isEqualTo(data[9_990]);
+			assertThat(buf[9]).isEqualTo(data[9_999]);
+		}
+	}
+
+	@Test
+	public void testTempFileDeleteOnClose() throws Exception {
+		Path file = tempDir.resolve("temp.bin");
+		Files.write(file, new byte[] { 1, 2, 3 });
+
+		HexByteSource source = new MappedFileByteSource(file, true);
+		assertThat(source.get(2)).isEqualTo((byte) 3);
+		source.close();
+		assertThat(file).doesNotExist();
+	}
+
+	@Test
+	public void testSearch() {
+		byte[] data = new byte[100];
+		data[50] = 1;
+		data[51] = 2;
+		data[52] = 3;
+		data[80] = 1;
+		data[81] = 2;
+		data[82] = 3;
+		HexByteSource source = new ArrayByteSource(data);
+		byte[] pattern = { 1, 2, 3 };
+		assertThat(HexViewerPanel.search(source, pattern, 0)).isEqualTo(50);
+		assertThat(HexViewerPanel.search(source, pattern, 51)).isEqualTo(80);
+		assertThat(HexViewerPanel.search(source, pattern, 81)).isEqualTo(-1);
+		assertThat(HexViewerPanel.search(source, new byte[] { 3, 4 }, 0)).isEqualTo(-1);
+	}
+}
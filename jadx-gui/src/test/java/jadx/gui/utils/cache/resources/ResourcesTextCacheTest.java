@@ -0,0 +1,53 @@
+package jadx.gui.utils.cache.resources;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import jadx.core.dex.nodes.RootNode;
+import jadx.gui.cache.resources.ResourcesTextCache;
+import jadx.tests.api.IntegrationTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+class ResourcesTextCacheTest extends IntegrationTest {
+
+	@TempDir
+	public Path tempDir;
+
+	@Test
+	public void test() {
+		disableCompilation();
+		RootNode root = getClassNode(ResourcesTextCacheTest.class).root();
+
+		ResourcesTextCache cache = new ResourcesTextCache(root, tempDir);
+		assertThat(cache.isDiskBacked()).isTrue();
+		assertThat(cache.mayContain("res/layout/main.xml", "anything")).isTrue();
+
+		String text = "<TextView android:text=\"Hello World\"/>";
+		assertThat(cache.getText("res/layout/main.xml", () -> text)).isEqualTo(text);
+		assertThat(cache.getText("res/values/strings.xml", () -> "<string>Привет</string>")).isNotEmpty();
+
+		assertThat(cache.mayContain("res/layout/main.xml", "hello")).isTrue();
+		assertThat(cache.mayContain("res/layout/main.xml", "TEXTVIEW")).isTrue();
+		assertThat(cache.mayContain("res/layout/main.xml", "ImageView")).isFalse();
+		assertThat(cache.mayContain("res/values/strings.xml", "Hello")).isFalse();
+		// non-ASCII and short strings can't be checked by index
+		assertThat(cache.mayContain("res/values/strings.xml", "Привет")).isTrue();
+		assertThat(cache.mayContain("res/values/strings.xml", "ab")).isTrue();
+		cache.close();
+
+		// reopen and check that index and texts loaded from disk
+		ResourcesTextCache reopened = new ResourcesTextCache(root, tempDir);
+		assertThat(reopened.mayContain("res/layout/main.xml", "ImageView")).isFalse();
+		assertThat(reopened.mayContain("res/layout/main.xml", "World")).isTrue();
+		assertThat(reopened.getText("res/layout/main.xml", () -> fail("Text should be loaded from disk"))).isEqualTo(text);
+		reopened.close();
+
+		ResourcesTextCache memoryCache = new ResourcesTextCache(root, null);
+		assertThat(memoryCache.isDiskBacked()).isFalse();
+		memoryCache.close();
+	}
+}
@@ -21,6 +21,8 @@
 import jadx.api.plugins.utils.ZipSecurity;
 import jadx.plugins.input.dex.sections.DexConsts;
 import jadx.plugins.input.dex.utils.DexCheckSum;
+import jadx.plugins.input.dex.utils.IDexData;
+import jadx.plugins.input.dex.utils.SimpleDexData;
 
 public class DexFileLoader {
 	private static final Logger LOG = LoggerFactory.getLogger(DexFileLoader.class);
@@ -29,11 +31,16 @@ public class DexFileLoader {
 	private static int dexUniqId = 1;
 
 	private final DexInputOptions options;
+	private int threadsCount = 1;
 
 	public DexFileLoader(DexInputOptions options) {
 		this.options = options;
 	}
 
+	public void setThreadsCount(int threadsCount) {
+		this.threadsCount = Math.max(1, threadsCount);
+	}
+
 	public List<DexReader> collectDexFiles(List<Path> pathsList) {
 		return pathsList.stream()
 				.map(Path::toFile)
@@ -84,19 +91,48 @@ public DexReader loadDexReader(String fileName, byte[] content) {
 	}
 
 	private List<DexReader> collectDexFromZip(File file) {
-		List<DexReader> result = new ArrayList<>();
 		try {
-			ZipSecurity.readZipEntries(file, (entry, in) -> {
+			// entries inflated and verified in parallel,
+			// readers created in zip entries order to keep ids stable
+			List<IDexData> dexList = ZipSecurity.readZipEntriesParallel(file, threadsCount, (entry, in) -> {
 				try {
-					result.addAll(load(null, in, entry.getName()));
+					return readDexData(in, entry.getName());
 				} catch (Exception e) {
 					LOG.error("Failed to read zip entry: {}", entry, e);
+					return null;
 				}
 			});
+			List<DexReader> result = new ArrayList<>(dexList.size());
+			for (IDexData dexData : dexList) {
+				result.add(new DexReader(getNextUniqId(), dexData.getFileName(), dexData.getContent()));
+			}
+			return result;
 		} catch (Exception e) {
 			LOG.error("Failed to process zip file: {}", file.getAbsolutePath(), e);
+			return Collections.emptyList();
+		}
+	}
+
+	/**
+	 * Read and verify dex file content, return null if stream not a dex file
+	 */
+	private @Nullable IDexData readDexData(InputStream inputStream, String fileName) throws IOException {
+		try (InputStream in = inputStream.markSupported() ? inputStream : new BufferedInputStream(inputStream)) {
+			byte[] magic = new byte[DexConsts.MAX_MAGIC_SIZE];
+			in.mark(magic.length);
+			if (in.read(magic) != magic.length) {
+				return null;
+			}
+			if (!isStartWithBytes(magic, DexConsts.DEX_FILE_MAGIC) && !fileName.endsWith(".dex")) {
+				return null;
+			}
+			in.reset();
+			byte[] content = readAllBytes(in);
+			if (options.isVerifyChecksum()) {
+				DexCheckSum.verify(content, fileName);
+			}
+			return new SimpleDexData(fileName, content);
 		}
-		return result;
 	}
 
 	private static boolean isStartWithBytes(byte[] fileMagic, byte[] expectedBytes) {
@@ -32,6 +32,7 @@ public JadxPluginInfo getPluginInfo() {
 	public void init(JadxPluginContext context) {
 		context.registerOptions(options);
 		context.addCodeInput(this::loadFiles);
+		loader.setThreadsCount(context.getArgs().getThreadsCount());
 	}
 
 	public ICodeLoader loadFiles(List<Path> input) {
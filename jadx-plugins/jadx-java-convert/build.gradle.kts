@@ -6,6 +6,7 @@
 	api(project(":jadx-core"))
 
 	implementation(project(":jadx-plugins:jadx-dex-input"))
+	implementation(project(":jadx-commons:jadx-app-commons"))
 	implementation("com.jakewharton.android.repackaged:dalvik-dx:14.0.0_r21")
 	implementation("com.android.tools:r8:8.3.37")
 
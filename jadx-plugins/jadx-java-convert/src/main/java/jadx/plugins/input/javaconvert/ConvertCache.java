@@ -0,0 +1,212 @@
+package jadx.plugins.input.javaconvert;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.android.tools.r8.Version;
+
+import jadx.commons.app.JadxCommonFiles;
+import jadx.core.utils.files.FileUtils;
+
+/**
+ * Persistent cache for converted dex files.
+ * <br>
+ * Key build from jar content hash and converter options,
+ * so unchanged jar can be loaded without conversion on next open.
+ * Cache entries are shared between projects and written atomically (whole entry dir moved into place).
+ * <br>
+ * Cache size is limited: after all inputs loaded, least recently used entries removed
+ * until total size fit into limit. Entry use time stored as entry dir modification time.
+ */
+public class ConvertCache {
+	private static final Logger LOG = LoggerFactory.getLogger(ConvertCache.class);
+
+	private static final int DATA_FORMAT_VERSION = 1;
+	private static final long DEFAULT_MAX_SIZE = 512L * 1024 * 1024;
+	private static final String TMP_DIR_MARKER = "-tmp-";
+
+	private final Path baseDir;
+	private final long maxSize;
+
+	public ConvertCache() {
+		this(JadxCommonFiles.getCacheDir().resolve("java-convert"), DEFAULT_MAX_SIZE);
+	}
+
+	/**
+	 * @param maxSize max total size of cached files in bytes
+	 */
+	public ConvertCache(Path baseDir, long maxSize) {
+		this.baseDir = baseDir;
+		this.maxSize = maxSize;
+	}
+
+	public String buildKey(Path jar, JavaConvertOptions options) throws IOException {
+		try {
+			MessageDigest md = MessageDigest.getInstance("SHA-256");
+			try (InputStream in = Files.newInputStream(jar)) {
+				byte[] buffer = new byte[64 * 1024];
+				int len;
+				while ((len = in.read(buffer)) != -1) {
+					md.update(buffer, 0, len);
+				}
+			}
+			String optionsStr = DATA_FORMAT_VERSION
+					+ ":" + options.getMode()
+					+ ":" + options.isD8Desugar()
+					+ ":" + Version.getVersionString();
+			md.update(optionsStr.getBytes(StandardCharsets.UTF_8));
+			return FileUtils.bytesToHex(md.digest());
+		} catch (NoSuchAlgorithmException e) {
+			throw new IOException("Failed to build hash for file: " + jar, e);
+		}
+	}
+
+	/**
+	 * @return cached dex files or {@code null} if not found
+	 */
+	public @Nullable List<Path> get(String key) {
+		Path entryDir = baseDir.resolve(key);
+		if (!Files.isDirectory(entryDir)) {
+			return null;
+		}
+		try {
+			List<Path> dexFiles = collectDexFiles(entryDir);
+			markUsed(entryDir);
+			return dexFiles;
+		} catch (Exception e) {
+			LOG.warn("Failed to read java convert cache entry: {}", entryDir, e);
+			return null;
+		}
+	}
+
+	/**
+	 * Copy converted dex files into cache
+	 *
+	 * @return dex files in cache or {@code null} if failed to save
+	 */
+	public @Nullable List<Path> put(String key, List<Path> dexFiles) {
+		Path entryDir = baseDir.resolve(key);
+		Path tmpDir = null;
+		try {
+			FileUtils.makeDirs(baseDir);
+			tmpDir = Files.createTempDirectory(baseDir, key + TMP_DIR_MARKER);
+			for (Path dexFile : dexFiles) {
+				Files.copy(dexFile, tmpDir.resolve(dexFile.getFileName()));
+			}
+			try {
+				Files.move(tmpDir, entryDir, StandardCopyOption.ATOMIC_MOVE);
+				tmpDir = null;
+			} catch (IOException e) {
+				if (!Files.isDirectory(entryDir)) {
+					throw e;
+				}
+				// already saved by another process
+			}
+			markUsed(entryDir);
+			return collectDexFiles(entryDir);
+		} catch (Exception e) {
+			LOG.warn("Failed to save java convert cache entry: {}", entryDir, e);
+			return null;
+		} finally {
+			if (tmpDir != null) {
+				FileUtils.deleteDirIfExists(tmpDir);
+			}
+		}
+	}
+
+	private static void markUsed(Path entryDir) {
+		try {
+			Files.setLastModifiedTime(entryDir, FileTime.fromMillis(System.currentTimeMillis()));
+		} catch (Exception e) {
+			LOG.debug("Failed to update java convert cache entry time: {}", entryDir, e);
+		}
+	}
+
+	/**
+	 * Remove least recently used entries until cache size fit into limit.
+	 * Should be called after dex files from cache loaded.
+	 *
+	 * @param usedKeys keys of entries used in current load, these entries never removed
+	 */
+	public void evict(Set<String> usedKeys) {
+		try {
+			List<Path> dirs;
+			try (Stream<Path> pathStream = Files.list(baseDir)) {
+				dirs = pathStream
+						.filter(p -> Files.isDirectory(p, LinkOption.NOFOLLOW_LINKS))
+						.filter(p -> !p.getFileName().toString().contains(TMP_DIR_MARKER))
+						.collect(Collectors.toList());
+			}
+			List<CacheEntry> entries = new ArrayList<>(dirs.size());
+			long totalSize = 0;
+			for (Path dir : dirs) {
+				CacheEntry entry = new CacheEntry(dir);
+				entries.add(entry);
+				totalSize += entry.size;
+			}
+			if (totalSize <= maxSize) {
+				return;
+			}
+			entries.sort(Comparator.comparing(e -> e.lastUsed));
+			for (CacheEntry entry : entries) {
+				if (totalSize <= maxSize) {
+					break;
+				}
+				if (!usedKeys.contains(entry.dir.getFileName().toString())) {
+					LOG.debug("Remove java convert cache entry: {}", entry.dir);
+					FileUtils.deleteDirIfExists(entry.dir);
+					totalSize -= entry.size;
+				}
+			}
+		} catch (Exception e) {
+			LOG.warn("Failed to clean up java convert cache: {}", baseDir, e);
+		}
+	}
+
+	private static final class CacheEntry {
+		private final Path dir;
+		private final FileTime lastUsed;
+		private final long size;
+
+		private CacheEntry(Path dir) throws IOException {
+			this.dir = dir;
+			this.lastUsed = Files.getLastModifiedTime(dir);
+			long sum = 0;
+			for (Path file : collectDexFiles(dir)) {
+				sum += Files.size(file);
+			}
+			this.size = sum;
+		}
+	}
+
+	static List<Path> collectDexFiles(Path dir) throws IOException {
+		PathMatcher dexMatcher = FileSystems.getDefault().getPathMatcher("glob:**.dex");
+		try (Stream<Path> pathStream = Files.walk(dir, 1)) {
+			return pathStream
+					.filter(p -> Files.isRegularFile(p, LinkOption.NOFOLLOW_LINKS))
+					.filter(dexMatcher::matches)
+					.sorted()
+					.collect(Collectors.toList());
+		}
+	}
+}
@@ -23,11 +23,11 @@ public List<Path> getConverted() {
 		return converted;
 	}
 
-	public void addConvertedFiles(List<Path> paths) {
+	public synchronized void addConvertedFiles(List<Path> paths) {
 		converted.addAll(paths);
 	}
 
-	public void addTempPath(Path path) {
+	public synchronized void addTempPath(Path path) {
 		tmpPaths.add(path);
 	}
 
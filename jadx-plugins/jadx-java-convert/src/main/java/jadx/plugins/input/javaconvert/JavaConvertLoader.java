@@ -7,13 +7,21 @@
 import java.nio.file.Path;
 import java.nio.file.PathMatcher;
 import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.jar.JarEntry;
 import java.util.jar.JarOutputStream;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -24,33 +32,48 @@ public class JavaConvertLoader {
 	private static final Logger LOG = LoggerFactory.getLogger(JavaConvertLoader.class);
 
 	private final JavaConvertOptions options;
+	private int threadsCount = 1;
+	private @Nullable ConvertCache cache;
+	private boolean cacheInitFailed;
 
 	public JavaConvertLoader(JavaConvertOptions options) {
 		this.options = options;
 	}
 
+	public void setThreadsCount(int threadsCount) {
+		this.threadsCount = Math.max(1, threadsCount);
+	}
+
 	public ConvertResult process(List<Path> input) {
 		ConvertResult result = new ConvertResult();
-		processJars(input, result);
-		processAars(input, result);
-		processClassFiles(input, result);
+		// collect jars first (repack if needed) and convert all of them at once
+		List<Path> jars = new ArrayList<>();
+		processJars(input, result, jars);
+		processAars(input, result, jars);
+		processClassFiles(input, result, jars);
+		Set<String> usedCacheKeys = ConcurrentHashMap.newKeySet();
+		convertJars(result, jars, usedCacheKeys);
+		if (!usedCacheKeys.isEmpty()) {
+			// cache files from current load still not read, keep them
+			Objects.requireNonNull(getCache()).evict(usedCacheKeys);
+		}
 		return result;
 	}
 
-	private void processJars(List<Path> input, ConvertResult result) {
+	private void processJars(List<Path> input, ConvertResult result, List<Path> jars) {
 		PathMatcher jarMatcher = FileSystems.getDefault().getPathMatcher("glob:**.jar");
 		input.stream()
 				.filter(jarMatcher::matches)
 				.forEach(path -> {
 					try {
-						convertJar(result, path);
+						convertJar(result, jars, path);
 					} catch (Exception e) {
 						LOG.error("Failed to convert file: {}", path.toAbsolutePath(), e);
 					}
 				});
 	}
 
-	private void processClassFiles(List<Path> input, ConvertResult result) {
+	private void processClassFiles(List<Path> input, ConvertResult result, List<Path> jars) {
 		PathMatcher jarMatcher = FileSystems.getDefault().getPathMatcher("glob:**.class");
 		List<Path> clsFiles = input.stream()
 				.filter(jarMatcher::matches)
@@ -72,13 +95,13 @@ private void processClassFiles(List<Path> input, ConvertResult result) {
 			}
 			result.addTempPath(jarFile);
 			LOG.debug("Packed {} class files into jar: {}", clsFiles.size(), jarFile);
-			convertJar(result, jarFile);
+			convertJar(result, jars, jarFile);
 		} catch (Exception e) {
 			LOG.error("Error process class files", e);
 		}
 	}
 
-	private void processAars(List<Path> input, ConvertResult result) {
+	private void processAars(List<Path> input, ConvertResult result, List<Path> jars) {
 		PathMatcher aarMatcher = FileSystems.getDefault().getPathMatcher("glob:**.aar");
 		input.stream()
 				.filter(aarMatcher::matches)
@@ -89,7 +112,7 @@ private void processAars(List<Path> input, ConvertResult result) {
 							Path tempJar = CommonFileUtils.saveToTempFile(in, ".jar");
 							result.addTempPath(tempJar);
 							LOG.debug("Loading jar: {} ...", entryName);
-							convertJar(result, tempJar);
+							convertJar(result, jars, tempJar);
 						}
 					} catch (Exception e) {
 						LOG.error("Failed to process zip entry: {}", entry, e);
@@ -97,14 +120,14 @@ private void processAars(List<Path> input, ConvertResult result) {
 				}));
 	}
 
-	private void convertJar(ConvertResult result, Path path) throws Exception {
-		if (repackAndConvertJar(result, path)) {
+	private void convertJar(ConvertResult result, List<Path> jars, Path path) throws Exception {
+		if (repackAndConvertJar(result, jars, path)) {
 			return;
 		}
-		convertSimpleJar(result, path);
+		jars.add(path);
 	}
 
-	private boolean repackAndConvertJar(ConvertResult result, Path path) throws Exception {
+	private boolean repackAndConvertJar(ConvertResult result, List<Path> jars, Path path) throws Exception {
 		// check if jar need a full repackage
 		Boolean repackNeeded = ZipSecurity.visitZipEntries(path.toFile(), (zipFile, zipEntry) -> {
 			String entryName = zipEntry.getName();
@@ -149,25 +172,101 @@ private boolean repackAndConvertJar(ConvertResult result, Path path) throws Exce
 					} else if (entryName.endsWith(".jar")) {
 						Path tempJar = CommonFileUtils.saveToTempFile(in, ".jar");
 						result.addTempPath(tempJar);
-						convertJar(result, tempJar);
+						convertJar(result, jars, tempJar);
 					}
 				} catch (Exception e) {
 					LOG.error("Failed to process jar entry: {} in {}", entry, path, e);
 				}
 			});
 		}
-		convertSimpleJar(result, jarFile);
+		jars.add(jarFile);
 		return true;
 	}
 
-	private void convertSimpleJar(ConvertResult result, Path path) throws Exception {
-		Path tempDirectory = Files.createTempDirectory("jadx-");
-		result.addTempPath(tempDirectory);
-		LOG.debug("Converting to dex ...");
-		convert(path, tempDirectory);
-		List<Path> dexFiles = collectFilesInDir(tempDirectory);
-		LOG.debug("Converted {} to {} dex", path.toAbsolutePath(), dexFiles.size());
-		result.addConvertedFiles(dexFiles);
+	/**
+	 * Convert jars in parallel, result dex files added in jars order
+	 */
+	private void convertJars(ConvertResult result, List<Path> jars, Set<String> usedCacheKeys) {
+		int count = jars.size();
+		if (count == 0) {
+			return;
+		}
+		int threads = Math.min(count, threadsCount);
+		if (threads == 1) {
+			for (Path jar : jars) {
+				result.addConvertedFiles(convertSimpleJar(result, jar, usedCacheKeys));
+			}
+			return;
+		}
+		LOG.debug("Converting {} jars using {} threads ...", count, threads);
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try {
+			List<Future<List<Path>>> futures = new ArrayList<>(count);
+			for (Path jar : jars) {
+				futures.add(executor.submit(() -> convertSimpleJar(result, jar, usedCacheKeys)));
+			}
+			for (int i = 0; i < count; i++) {
+				try {
+					result.addConvertedFiles(futures.get(i).get());
+				} catch (ExecutionException e) {
+					// skip only failed jar, results for other jars still used
+					LOG.error("Failed to convert file: {}", jars.get(i).toAbsolutePath(), e.getCause());
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			LOG.warn("Jars conversion interrupted");
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private List<Path> convertSimpleJar(ConvertResult result, Path path, Set<String> usedCacheKeys) {
+		try {
+			ConvertCache convertCache = getCache();
+			String cacheKey = null;
+			if (convertCache != null) {
+				cacheKey = convertCache.buildKey(path, options);
+				usedCacheKeys.add(cacheKey);
+				List<Path> cachedFiles = convertCache.get(cacheKey);
+				if (cachedFiles != null) {
+					LOG.debug("Loaded {} dex from cache for {}", cachedFiles.size(), path.toAbsolutePath());
+					return cachedFiles;
+				}
+			}
+			Path tempDirectory = Files.createTempDirectory("jadx-");
+			result.addTempPath(tempDirectory);
+			LOG.debug("Converting to dex ...");
+			convert(path, tempDirectory);
+			List<Path> dexFiles = ConvertCache.collectDexFiles(tempDirectory);
+			LOG.debug("Converted {} to {} dex", path.toAbsolutePath(), dexFiles.size());
+			if (cacheKey != null && !dexFiles.isEmpty()) {
+				List<Path> savedFiles = convertCache.put(cacheKey, dexFiles);
+				if (savedFiles != null) {
+					return savedFiles;
+				}
+			}
+			return dexFiles;
+		} catch (Exception e) {
+			LOG.error("Failed to convert file: {}", path.toAbsolutePath(), e);
+			return Collections.emptyList();
+		}
+	}
+
+	private synchronized @Nullable ConvertCache getCache() {
+		if (!options.isCache() || cacheInitFailed) {
+			return null;
+		}
+		if (cache == null) {
+			try {
+				cache = new ConvertCache();
+			} catch (Throwable e) {
+				LOG.warn("Failed to init java convert cache, conversion will not be cached", e);
+				cacheInitFailed = true;
+				return null;
+			}
+		}
+		return cache;
 	}
 
 	private void convert(Path path, Path tempDirectory) {
@@ -204,16 +303,6 @@ private void convert(Path path, Path tempDirectory) {
 		}
 	}
 
-	private static List<Path> collectFilesInDir(Path tempDirectory) throws IOException {
-		PathMatcher dexMatcher = FileSystems.getDefault().getPathMatcher("glob:**.dex");
-		try (Stream<Path> pathStream = Files.walk(tempDirectory, 1)) {
-			return pathStream
-					.filter(p -> Files.isRegularFile(p, LinkOption.NOFOLLOW_LINKS))
-					.filter(dexMatcher::matches)
-					.collect(Collectors.toList());
-		}
-	}
-
 	private static void addFileToJar(JarOutputStream jar, Path source, String entryName) throws IOException {
 		byte[] fileContent = Files.readAllBytes(source);
 		FileTime lastModifiedTime = Files.getLastModifiedTime(source, LinkOption.NOFOLLOW_LINKS);
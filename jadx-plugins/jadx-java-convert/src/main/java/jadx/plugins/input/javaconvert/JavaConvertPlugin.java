@@ -35,6 +35,7 @@ public void init(JadxPluginContext context) {
 		dexInput = context.plugins().getById(DexInputPlugin.PLUGIN_ID);
 		context.registerOptions(options);
 		context.addCodeInput(this);
+		loader.setThreadsCount(context.getArgs().getThreadsCount());
 	}
 
 	@Override
@@ -0,0 +1,79 @@
+package jadx.plugins.input.javaconvert;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConvertCacheTest {
+
+	@TempDir
+	Path tempDir;
+
+	@Test
+	void testPutAndGet() throws IOException {
+		ConvertCache cache = new ConvertCache(tempDir.resolve("cache"), 1024);
+		assertThat(cache.get("key")).isNull();
+
+		List<Path> saved = cache.put("key", Collections.singletonList(makeDex("classes.dex", 100)));
+		assertThat(saved).hasSize(1);
+		assertThat(cache.get("key")).isEqualTo(saved);
+	}
+
+	@Test
+	void testEvictLeastRecentlyUsed() throws IOException {
+		Path cacheDir = tempDir.resolve("cache");
+		ConvertCache cache = new ConvertCache(cacheDir, 250);
+		cache.put("old", Collections.singletonList(makeDex("old.dex", 100)));
+		cache.put("used", Collections.singletonList(makeDex("used.dex", 100)));
+		setUseTime(cacheDir.resolve("old"), 1_000);
+		setUseTime(cacheDir.resolve("used"), 2_000);
+		// access update use time
+		assertThat(cache.get("old")).isNotNull();
+
+		cache.put("new", Collections.singletonList(makeDex("new.dex", 100)));
+		// limit exceeded, but entries removed only on evict call
+		assertThat(cache.get("used")).isNotNull();
+		setUseTime(cacheDir.resolve("used"), 2_000);
+
+		// least recently used entry removed
+		cache.evict(Collections.singleton("new"));
+		assertThat(cache.get("used")).isNull();
+		assertThat(cache.get("old")).isNotNull();
+		assertThat(cache.get("new")).isNotNull();
+	}
+
+	@Test
+	void testKeepUsedEntries() throws IOException {
+		Path cacheDir = tempDir.resolve("cache");
+		ConvertCache cache = new ConvertCache(cacheDir, 50);
+		List<Path> first = cache.put("first", Collections.singletonList(makeDex("first.dex", 100)));
+		List<Path> second = cache.put("second", Collections.singletonList(makeDex("second.dex", 100)));
+		cache.put("other", Collections.singletonList(makeDex("other.dex", 100)));
+		setUseTime(cacheDir.resolve("first"), 1_000);
+		setUseTime(cacheDir.resolve("second"), 2_000);
+
+		// all entries used in current load kept, even if limit still exceeded
+		cache.evict(Set.of("first", "second"));
+		assertThat(first).allMatch(Files::exists);
+		assertThat(second).allMatch(Files::exists);
+		assertThat(cache.get("other")).isNull();
+	}
+
+	private Path makeDex(String name, int size) throws IOException {
+		Path dir = Files.createDirectories(tempDir.resolve("dex-" + name));
+		return Files.write(dir.resolve(name), new byte[size]);
+	}
+
+	private static void setUseTime(Path entryDir, long time) throws IOException {
+		Files.setLastModifiedTime(entryDir, FileTime.fromMillis(time));
+	}
+}
@@ -27,6 +27,11 @@ public class JavaInputLoader {
 	private static final byte[] ZIP_FILE_MAGIC = { 0x50, 0x4B, 0x03, 0x04 };
 
 	private int classUniqId = 1;
+	private int threadsCount = 1;
+
+	public void setThreadsCount(int threadsCount) {
+		this.threadsCount = Math.max(1, threadsCount);
+	}
 
 	public List<JavaClassReader> collectFiles(List<Path> inputFiles) {
 		return inputFiles.stream()
@@ -56,26 +61,69 @@ private List<JavaClassReader> loadFromFile(File file) {
 
 	private List<JavaClassReader> loadReader(InputStream in, String name,
 			@Nullable File file, @Nullable String parentFileName) throws IOException {
+		if (file != null && isZipFile(in, name)) {
+			return buildReaders(collectFromZip(file, name));
+		}
+		List<ClassFileData> list = new ArrayList<>();
+		collectClassFiles(in, name, parentFileName, list);
+		return buildReaders(list);
+	}
+
+	/**
+	 * Create readers in collected order, so ids don't depend on threads scheduling
+	 */
+	private List<JavaClassReader> buildReaders(List<ClassFileData> list) {
+		if (list.isEmpty()) {
+			return Collections.emptyList();
+		}
+		List<JavaClassReader> readers = new ArrayList<>(list.size());
+		for (ClassFileData clsData : list) {
+			readers.add(new JavaClassReader(getNextUniqId(), clsData.getSource(), clsData.getData()));
+		}
+		return readers;
+	}
+
+	private static boolean isZipFile(InputStream in, String name) throws IOException {
+		if (CommonFileUtils.isZipFileExt(name)) {
+			return true;
+		}
+		byte[] magic = new byte[MAX_MAGIC_SIZE];
+		in.mark(magic.length);
+		int read = in.read(magic);
+		in.reset();
+		return read == magic.length && isStartWithBytes(magic, ZIP_FILE_MAGIC);
+	}
+
+	/**
+	 * Collect class files from stream, nested archives processed in memory
+	 */
+	private static void collectClassFiles(InputStream in, String name,
+			@Nullable String parentFileName, List<ClassFileData> result) throws IOException {
 		byte[] magic = new byte[MAX_MAGIC_SIZE];
 		if (in.read(magic) != magic.length) {
-			return Collections.emptyList();
+			return;
 		}
 		if (isStartWithBytes(magic, JAVA_CLASS_FILE_MAGIC) || name.endsWith(".class")) {
 			byte[] data = CommonFileUtils.loadBytes(magic, in);
-			String source = concatSource(parentFileName, name);
-			JavaClassReader reader = new JavaClassReader(getNextUniqId(), source, data);
-			return Collections.singletonList(reader);
+			result.add(new ClassFileData(concatSource(parentFileName, name), data));
+			return;
 		}
 		if (isStartWithBytes(magic, ZIP_FILE_MAGIC) || CommonFileUtils.isZipFileExt(name)) {
-			if (file != null) {
-				return collectFromZip(file, name);
-			}
-			File zipFile = CommonFileUtils.saveToTempFile(magic, in, ".zip").toFile();
-			List<JavaClassReader> readers = collectFromZip(zipFile, concatSource(parentFileName, name));
-			CommonFileUtils.safeDeleteFile(zipFile);
-			return readers;
+			byte[] zipContent = CommonFileUtils.loadBytes(magic, in);
+			String zipName = concatSource(parentFileName, name);
+			ZipSecurity.readZipEntries(zipContent, zipName, (entry, entryIn) -> {
+				String entryName = entry.getName();
+				if (entryName.startsWith("META-INF/versions/")) {
+					// skip classes for different java versions
+					return;
+				}
+				try {
+					collectClassFiles(entryIn, entryName, zipName, result);
+				} catch (Exception e) {
+					LOG.error("Failed to read zip entry: {}", entry, e);
+				}
+			});
 		}
-		return Collections.emptyList();
 	}
 
 	private static String concatSource(@Nullable String parentFileName, String name) {
@@ -85,25 +133,33 @@ private static String concatSource(@Nullable String parentFileName, String name)
 		return parentFileName + ':' + name;
 	}
 
-	private List<JavaClassReader> collectFromZip(File file, String name) {
-		List<JavaClassReader> result = new ArrayList<>();
+	/**
+	 * Entries inflated in parallel using shared zip file
+	 */
+	private List<ClassFileData> collectFromZip(File file, String name) {
 		try {
-			ZipSecurity.readZipEntries(file, (entry, in) -> {
+			List<List<ClassFileData>> entriesData = ZipSecurity.readZipEntriesParallel(file, threadsCount, (entry, in) -> {
+				String entryName = entry.getName();
+				if (entryName.startsWith("META-INF/versions/")) {
+					// skip classes for different java versions
+					return null;
+				}
 				try {
-					String entryName = entry.getName();
-					if (entryName.startsWith("META-INF/versions/")) {
-						// skip classes for different java versions
-						return;
-					}
-					result.addAll(loadReader(in, entryName, null, name));
+					List<ClassFileData> list = new ArrayList<>(1);
+					collectClassFiles(in, entryName, name, list);
+					return list;
 				} catch (Exception e) {
 					LOG.error("Failed to read zip entry: {}", entry, e);
+					return null;
 				}
 			});
+			List<ClassFileData> result = new ArrayList<>(entriesData.size());
+			entriesData.forEach(result::addAll);
+			return result;
 		} catch (Exception e) {
 			LOG.error("Failed to process zip file: {}", name, e);
+			return Collections.emptyList();
 		}
-		return result;
 	}
 
 	public static boolean isStartWithBytes(byte[] fileMagic, byte[] expectedBytes) {
@@ -122,4 +178,22 @@ public static boolean isStartWithBytes(byte[] fileMagic, byte[] expectedBytes) {
 	private int getNextUniqId() {
 		return classUniqId++;
 	}
+
+	private static final class ClassFileData {
+		private final String source;
+		private final byte[] data;
+
+		private ClassFileData(String source, byte[] data) {
+			this.source = source;
+			this.data = data;
+		}
+
+		public String getSource() {
+			return source;
+		}
+
+		public byte[] getData() {
+			return data;
+		}
+	}
 }
@@ -18,6 +18,8 @@
 
 public class JavaInputPlugin implements JadxPlugin {
 
+	private int threadsCount = 1;
+
 	@Override
 	public JadxPluginInfo getPluginInfo() {
 		return new JadxPluginInfo("java-input", "Java Input", "Load .class and .jar files");
@@ -25,7 +27,14 @@ public JadxPluginInfo getPluginInfo() {
 
 	@Override
 	public void init(JadxPluginContext context) {
-		context.addCodeInput(JavaInputPlugin::loadClassFiles);
+		threadsCount = context.getArgs().getThreadsCount();
+		context.addCodeInput(this::loadFiles);
+	}
+
+	private ICodeLoader loadFiles(List<Path> inputFiles) {
+		JavaInputLoader loader = new JavaInputLoader();
+		loader.setThreadsCount(threadsCount);
+		return wrapClassReaders(loader.collectFiles(inputFiles));
 	}
 
 	public static ICodeLoader loadClassFiles(List<Path> inputFiles) {
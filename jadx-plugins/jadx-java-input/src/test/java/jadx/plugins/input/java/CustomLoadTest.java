@@ -1,18 +1,24 @@
 package jadx.plugins.input.java;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import jadx.api.JadxArgs;
 import jadx.api.JadxDecompiler;
@@ -110,6 +116,30 @@ void load() {
 		jadx.getClassesWithInners().forEach(cls -> System.out.println(cls.getCode()));
 	}
 
+	@Test
+	void loadNestedJar(@TempDir Path tempDir) throws IOException {
+		ByteArrayOutputStream innerJar = new ByteArrayOutputStream();
+		try (ZipOutputStream zip = new ZipOutputStream(innerJar)) {
+			for (String name : Arrays.asList("HelloWorld.class", "HelloWorld$HelloInner.class")) {
+				zip.putNextEntry(new ZipEntry(name));
+				zip.write(Files.readAllBytes(getSample(name)));
+				zip.closeEntry();
+			}
+		}
+		Path outerJar = tempDir.resolve("outer.jar");
+		try (ZipOutputStream zip = new ZipOutputStream(Files.newOutputStream(outerJar))) {
+			zip.putNextEntry(new ZipEntry("libs/inner.jar"));
+			zip.write(innerJar.toByteArray());
+			zip.closeEntry();
+		}
+		ICodeLoader loadResult = JavaInputPlugin.loadClassFiles(Collections.singletonList(outerJar));
+		loadDecompiler(loadResult);
+		assertThat(jadx.getClassesWithInners())
+				.hasSize(2)
+				.satisfiesOnlyOnce(cls -> assertThat(cls.getName()).isEqualTo("HelloWorld"))
+				.satisfiesOnlyOnce(cls -> assertThat(cls.getName()).isEqualTo("HelloInner"));
+	}
+
 	public void loadDecompiler(ICodeLoader codeLoader) {
 		try {
 			jadx.addCustomCodeLoader(codeLoader);
@@ -5,6 +5,7 @@
 import jadx.api.plugins.JadxPluginInfo
 import jadx.plugins.kotlin.metadata.pass.KotlinMetadataDecompilePass
 import jadx.plugins.kotlin.metadata.pass.KotlinMetadataPreparePass
+import jadx.plugins.kotlin.metadata.utils.KotlinMetadataCache
 
 class KotlinMetadataPlugin : JadxPlugin {
 
@@ -16,11 +17,13 @@ override fun getPluginInfo(): JadxPluginInfo {
 
 	override fun init(context: JadxPluginContext) {
 		context.registerOptions(options)
-		if (options.isPreparePassNeeded()) {
-			context.addPass(KotlinMetadataPreparePass(options))
+		val cache = KotlinMetadataCache()
+		if (options.isPreparePassNeeded() || options.isDecompilePassNeeded()) {
+			// prepare pass also used to decode metadata for all classes ahead of decompilation
+			context.addPass(KotlinMetadataPreparePass(options, cache))
 		}
 		if (options.isDecompilePassNeeded()) {
-			context.addPass(KotlinMetadataDecompilePass(options))
+			context.addPass(KotlinMetadataDecompilePass(options, cache))
 		}
 	}
 
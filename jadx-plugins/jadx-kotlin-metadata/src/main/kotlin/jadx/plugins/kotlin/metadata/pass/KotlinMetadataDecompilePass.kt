@@ -13,9 +13,11 @@
 import jadx.plugins.kotlin.metadata.KotlinMetadataOptions
 import jadx.plugins.kotlin.metadata.utils.KmClassWrapper
 import jadx.plugins.kotlin.metadata.utils.KmClassWrapper.Companion.getWrapper
+import jadx.plugins.kotlin.metadata.utils.KotlinMetadataCache
 
 class KotlinMetadataDecompilePass(
 	private val options: KotlinMetadataOptions,
+	private val cache: KotlinMetadataCache,
 ) : JadxDecompilePass {
 
 	override fun getInfo(): JadxPassInfo {
@@ -32,7 +34,7 @@ override fun init(root: RootNode) {
 	override fun visit(cls: ClassNode): Boolean {
 		cls.innerClasses.forEach(::visit)
 
-		val wrapper = cls.getWrapper() ?: return false
+		val wrapper = cls.getWrapper(cache) ?: return false
 		if (options.isMethodArgs) renameMethodArgs(wrapper)
 		if (options.isFields) renameFields(wrapper)
 		if (options.isCompanion) renameCompanion(wrapper)
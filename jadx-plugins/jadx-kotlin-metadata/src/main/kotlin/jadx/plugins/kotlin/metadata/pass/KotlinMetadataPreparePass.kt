@@ -6,10 +6,12 @@
 import jadx.core.dex.attributes.AFlag
 import jadx.core.dex.nodes.RootNode
 import jadx.plugins.kotlin.metadata.KotlinMetadataOptions
+import jadx.plugins.kotlin.metadata.utils.KotlinMetadataCache
 import jadx.plugins.kotlin.metadata.utils.KotlinMetadataUtils
 
 class KotlinMetadataPreparePass(
 	private val options: KotlinMetadataOptions,
+	private val cache: KotlinMetadataCache,
 ) : JadxPreparePass {
 
 	override fun getInfo(): JadxPassInfo {
@@ -21,6 +23,9 @@ override fun getInfo(): JadxPassInfo {
 	}
 
 	override fun init(root: RootNode) {
+		// decode metadata for all classes in parallel, renames below are not thread safe
+		cache.clear()
+		cache.prefetch(root, options.isDecompilePassNeeded())
 		if (options.isClassAlias) {
 			for (cls in root.classes) {
 				if (cls.contains(AFlag.DONT_RENAME)) {
@@ -28,7 +33,7 @@ override fun init(root: RootNode) {
 				}
 
 				// rename class & package
-				val kotlinCls = KotlinMetadataUtils.getAlias(cls)
+				val kotlinCls = KotlinMetadataUtils.getAlias(cls, cache)
 				if (kotlinCls != null) {
 					cls.rename(kotlinCls.name)
 					cls.packageNode.rename(kotlinCls.pkg)
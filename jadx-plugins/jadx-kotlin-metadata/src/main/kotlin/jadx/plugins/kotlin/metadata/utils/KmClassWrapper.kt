@@ -3,7 +3,6 @@
 import jadx.core.dex.nodes.ClassNode
 import kotlinx.metadata.KmClass
 import kotlinx.metadata.isData
-import kotlinx.metadata.jvm.KotlinClassMetadata
 
 // don't expose kotlinx.metadata.* types ?
 class KmClassWrapper private constructor(
@@ -33,9 +32,8 @@ fun getGetters() =
 
 	companion object {
 
-		fun ClassNode.getWrapper(): KmClassWrapper? {
-			val metadata = getKotlinClassMetadata()
-			val kmCls = (metadata as? KotlinClassMetadata.Class)?.kmClass ?: return null
+		fun ClassNode.getWrapper(cache: KotlinMetadataCache): KmClassWrapper? {
+			val kmCls = cache.getKmClass(this) ?: return null
 			return KmClassWrapper(this, kmCls)
 		}
 	}
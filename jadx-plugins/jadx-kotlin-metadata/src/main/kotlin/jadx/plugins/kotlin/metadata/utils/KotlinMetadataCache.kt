@@ -0,0 +1,91 @@
+package jadx.plugins.kotlin.metadata.utils
+
+import jadx.core.dex.nodes.ClassNode
+import jadx.core.dex.nodes.RootNode
+import kotlinx.metadata.KmClass
+import kotlinx.metadata.jvm.KotlinClassMetadata
+import java.lang.ref.SoftReference
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+
+/**
+ * Decoded kotlin.Metadata cache shared by plugin passes.
+ *
+ * Annotation parsing and protobuf decoding done once per class (not on every class reload),
+ * decoded data kept by soft references, so it can be collected on low memory and decoded again on request.
+ */
+class KotlinMetadataCache {
+	private val entries = ConcurrentHashMap<ClassNode, SoftReference<Entry>>()
+
+	fun getMetadata(cls: ClassNode): Metadata? = get(cls).metadata
+
+	fun getKmClass(cls: ClassNode): KmClass? = get(cls).kmClass
+
+	/**
+	 * Decode metadata for all classes using all available threads
+	 */
+	fun prefetch(root: RootNode, decodeKmClass: Boolean) {
+		val classes = root.classes
+		val threads = root.args.threadsCount.coerceIn(1, classes.size.coerceAtLeast(1))
+		if (threads == 1) {
+			classes.forEach { prefetch(it, decodeKmClass) }
+			return
+		}
+		val start = System.currentTimeMillis()
+		val executor = Executors.newFixedThreadPool(threads)
+		try {
+			val batchSize = (classes.size + threads - 1) / threads
+			classes.chunked(batchSize).forEach { batch ->
+				executor.execute { batch.forEach { prefetch(it, decodeKmClass) } }
+			}
+			executor.shutdown()
+			if (!executor.awaitTermination(1, TimeUnit.HOURS)) {
+				LOG.warn("Kotlin metadata decoding terminated by timeout")
+			}
+		} catch (e: InterruptedException) {
+			LOG.warn("Kotlin metadata decoding interrupted")
+			Thread.currentThread().interrupt()
+		} finally {
+			executor.shutdownNow()
+		}
+		LOG.debug("Kotlin metadata decoded for {} classes in {}ms", classes.size, System.currentTimeMillis() - start)
+	}
+
+	fun clear() {
+		entries.clear()
+	}
+
+	private fun prefetch(cls: ClassNode, decodeKmClass: Boolean) {
+		val entry = get(cls)
+		if (decodeKmClass) {
+			entry.kmClass
+		}
+	}
+
+	private fun get(cls: ClassNode): Entry {
+		entries[cls]?.get()?.let { return it }
+		val entry = runCatchingLog("Failed to read kotlin metadata for class: $cls") {
+			cls.getMetadata()?.let(::Entry)
+		}.getOrNull() ?: EMPTY
+		entries[cls] = SoftReference(entry)
+		return entry
+	}
+
+	private class Entry(val metadata: Metadata?) {
+		val kmClass: KmClass? by lazy {
+			metadata?.let {
+				runCatchingLog("Failed to decode kotlin metadata") {
+					(KotlinClassMetadata.readLenient(it) as? KotlinClassMetadata.Class)?.kmClass
+				}.getOrNull()
+			}
+		}
+	}
+
+	private companion object {
+		/**
+		 * Shared entry for classes without metadata, always reachable, so never collected
+		 */
+		private val EMPTY = Entry(null)
+	}
+}
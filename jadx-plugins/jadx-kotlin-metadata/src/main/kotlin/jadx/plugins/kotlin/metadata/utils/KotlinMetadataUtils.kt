@@ -13,9 +13,8 @@
 
 object KotlinMetadataUtils {
 
-	@JvmStatic
-	fun getAlias(cls: ClassNode): ClassAliasRename? {
-		val annotation = cls.getMetadata() ?: return null
+	fun getAlias(cls: ClassNode, cache: KotlinMetadataCache): ClassAliasRename? {
+		val annotation = cache.getMetadata(cls) ?: return null
 		return getClassAlias(cls, annotation)
 	}
 